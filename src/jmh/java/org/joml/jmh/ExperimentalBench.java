@@ -0,0 +1,152 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_VECTOR_API__
+package org.joml.jmh;
+
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+import org.joml.experimental.Matrix4fa;
+import org.joml.experimental.Quaternionfa;
+import org.joml.experimental.Vector3fa;
+import org.joml.experimental.Vector4fa;
+import org.openjdk.jmh.annotations.*;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+
+/**
+ * Compares the array-backed, Vector API based classes in org.joml.experimental with their field-based
+ * counterparts in org.joml.
+ */
+@State(Benchmark)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = MILLISECONDS)
+@BenchmarkMode(AverageTime)
+@Fork(value = 1, jvmArgsAppend = {
+        "--enable-preview",
+        "--add-modules", "jdk.incubator.vector",
+        "-Djdk.incubator.vector.VECTOR_ACCESS_OOB_CHECK=0"})
+public class ExperimentalBench {
+    private final org.joml.Matrix4f m4a = new org.joml.Matrix4f()
+            .perspective(1.2f, 1.5f, 0.1f, 100.0f)
+            .rotateXYZ(0.1f, 0.2f, 0.3f)
+            .translate(1, 2, 3)
+            .assume(0);
+    private final org.joml.Matrix4f m4b = new org.joml.Matrix4f(m4a).transpose().assume(0);
+    private final org.joml.Matrix4f m4c = new org.joml.Matrix4f();
+    private final Matrix4fa m4aa = new Matrix4fa(m4a);
+    private final Matrix4fa m4ab = new Matrix4fa(m4b);
+    private final Matrix4fa m4ac = new Matrix4fa();
+    private final Vector4f v4 = new Vector4f(1, 2, 3, 1);
+    private final Vector4f v4d = new Vector4f();
+    private final Vector4fa v4a = new Vector4fa(1, 2, 3, 1);
+    private final Vector4fa v4ad = new Vector4fa();
+    private final Vector3f v3 = new Vector3f(1, 2, 3);
+    private final Vector3f v3b = new Vector3f(-3, 1, 2);
+    private final Vector3f v3d = new Vector3f();
+    private final Vector3fa v3a = new Vector3fa(1, 2, 3);
+    private final Vector3fa v3ab = new Vector3fa(-3, 1, 2);
+    private final Vector3fa v3ad = new Vector3fa();
+    private final Quaternionf qa = new Quaternionf().rotateXYZ(0.1f, 0.2f, 0.3f);
+    private final Quaternionf qb = new Quaternionf().rotateXYZ(0.3f, 0.2f, 0.1f);
+    private final Quaternionf qc = new Quaternionf();
+    private final Quaternionfa qaa = new Quaternionfa(qa);
+    private final Quaternionfa qab = new Quaternionfa(qb);
+    private final Quaternionfa qac = new Quaternionfa();
+
+    @Benchmark
+    public Object mul_Matrix4f() {
+        return m4a.mul(m4b, m4c);
+    }
+
+    @Benchmark
+    public Object mul_Matrix4fa() {
+        return m4aa.mul(m4ab, m4ac);
+    }
+
+    @Benchmark
+    public Object invert_Matrix4f() {
+        return m4a.invert(m4c);
+    }
+
+    @Benchmark
+    public Object invert_Matrix4fa() {
+        return m4aa.invert(m4ac);
+    }
+
+    @Benchmark
+    public Object transform_Matrix4f() {
+        return m4a.transform(v4, v4d);
+    }
+
+    @Benchmark
+    public Object transform_Matrix4fa() {
+        return m4aa.transform(v4a, v4ad);
+    }
+
+    @Benchmark
+    public Object transformPosition_Matrix4f() {
+        return m4a.transformPosition(v3, v3d);
+    }
+
+    @Benchmark
+    public Object transformPosition_Matrix4fa() {
+        return m4aa.transformPosition(v3a, v3ad);
+    }
+
+    @Benchmark
+    public Object cross_Vector3f() {
+        return v3.cross(v3b, v3d);
+    }
+
+    @Benchmark
+    public Object cross_Vector3fa() {
+        return v3a.cross(v3ab, v3ad);
+    }
+
+    @Benchmark
+    public Object mul_Quaternionf() {
+        return qa.mul(qb, qc);
+    }
+
+    @Benchmark
+    public Object mul_Quaternionfa() {
+        return qaa.mul(qab, qac);
+    }
+
+    @Benchmark
+    public Object transform_Quaternionf() {
+        return qa.transform(v4, v4d);
+    }
+
+    @Benchmark
+    public Object transform_Quaternionfa() {
+        return qaa.transform(v4a, v4ad);
+    }
+}
+//#endif
@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.jmh;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+
+/**
+ * Benchmarks the org.joml.Matrix4f methods that are routed through the Vector API kernels
+ * when jdk.incubator.vector is available.
+ * <p>
+ * {@link Matrix4fScalarBench} runs the same benchmarks with <code>-Djoml.useVectorApi=false</code>
+ * to measure the scalar path for comparison.
+ */
+@State(Benchmark)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = MILLISECONDS)
+@BenchmarkMode(AverageTime)
+@Fork(value = 1, jvmArgsAppend = {
+        "--enable-preview",
+        "--add-modules", "jdk.incubator.vector",
+        "-Djdk.incubator.vector.VECTOR_ACCESS_OOB_CHECK=0",
+        "-Djoml.useVectorApi=true"})
+public class Matrix4fVectorApiBench {
+    private final org.joml.Matrix4f m4a = new org.joml.Matrix4f()
+            .perspective(1.2f, 1.5f, 0.1f, 100.0f)
+            .rotateXYZ(0.1f, 0.2f, 0.3f)
+            .translate(1, 2, 3)
+            .assume(0);
+    private final org.joml.Matrix4f m4b = new org.joml.Matrix4f(m4a).transpose().assume(0);
+    private final org.joml.Matrix4f m4c = new org.joml.Matrix4f();
+    private final ByteBuffer bb = allocateDirect(16 << 2).order(nativeOrder());
+
+    @Benchmark
+    public Object mul_Matrix4f() {
+        return m4a.mul(m4b, m4c);
+    }
+
+    @Benchmark
+    public Object invert_Matrix4f() {
+        return m4a.invert(m4c);
+    }
+
+    @Benchmark
+    public Object transpose_Matrix4f() {
+        return m4a.transpose(m4c);
+    }
+
+    @Benchmark
+    public Object get_Matrix4f_ByteBuffer() {
+        return m4a.get(0, bb);
+    }
+}
@@ -0,0 +1,658 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * Dynamic bounding volume hierarchy of axis-aligned boxes to quickly find overlapping pairs of moving objects
+ * and the objects that intersect a query box, ray or sphere.
+ * <p>
+ * Every object is represented by a leaf node, called a proxy, whose box is the object's box enlarged by a fixed
+ * margin on all sides. Moving an object whose new box still lies within the enlarged box of its proxy does not change
+ * the tree, so that objects moving by small amounts each step rarely cause updates. When a proxy has to be
+ * reinserted, the sibling with the lowest increase in surface area is chosen and the tree is rebalanced by
+ * rotations, which keeps queries logarithmic in the number of proxies.
+ * <p>
+ * All nodes are stored in primitive arrays which only grow when the number of nodes exceeds their capacity. Removed
+ * nodes are reused by later insertions, so that inserting, moving, removing and querying allocates nothing once the
+ * tree has reached its working size.
+ * <p>
+ * This class is not thread-safe. Callbacks invoked during a query must not modify or query the same tree.
+ * <p>
+ * Reference: <a href="https://box2d.org/files/ErinCatto_DynamicBVH_GDC2019.pdf">Dynamic Bounding Volume Hierarchies</a>
+ */
+public class DynamicAabTree {
+
+    /**
+     * Callback notified about each proxy whose box satisfies a query.
+     */
+    public interface QueryCallback {
+        /**
+         * Will be called for each proxy whose enlarged box satisfies the query.
+         * 
+         * @param proxy
+         *          the identifier of the proxy as returned by {@link DynamicAabTree#insert(float, float, float, float, float, float, int) insert()}
+         * @return <code>true</code> to continue the query; <code>false</code> to stop it
+         */
+        boolean onProxy(int proxy);
+    }
+
+    /**
+     * Callback notified about each proxy whose box is intersected by a ray.
+     */
+    public interface RayCallback {
+        /**
+         * Will be called for each proxy whose enlarged box is intersected by the ray within the current maximum value
+         * of the ray parameter <i>t</i>.
+         * <p>
+         * Return <code>maxT</code> to continue the query unchanged, a smaller value to ignore all boxes entered beyond
+         * that value, for example after finding an intersection with the object at that distance, or a negative
+         * value to stop the query.
+         * 
+         * @param proxy
+         *          the identifier of the proxy as returned by {@link DynamicAabTree#insert(float, float, float, float, float, float, int) insert()}
+         * @param maxT
+         *          the current maximum value of the ray parameter <i>t</i>
+         * @return the new maximum value of the ray parameter <i>t</i>; or a negative value to stop the query
+         */
+        float onProxy(int proxy, float maxT);
+    }
+
+    /**
+     * Callback notified about each pair of proxies whose boxes overlap.
+     */
+    public interface PairCallback {
+        /**
+         * Will be called once for each pair of proxies whose enlarged boxes overlap.
+         * 
+         * @param proxyA
+         *          the identifier of the proxy with the smaller identifier
+         * @param proxyB
+         *          the identifier of the proxy with the larger identifier
+         */
+        void onPair(int proxyA, int proxyB);
+    }
+
+    /**
+     * The margin used by {@link #DynamicAabTree()}.
+     */
+    public static final float DEFAULT_MARGIN = 0.1f;
+
+    static final int NULL = -1;
+
+    private final float margin;
+
+    /* minX, minY, minZ, maxX, maxY, maxZ of each node */
+    float[] bounds;
+    /* the parent of each node, or the next free node for nodes in the free list */
+    int[] parent;
+    /* the children of each inner node; child1 is NULL for leaves */
+    int[] child1, child2;
+    /* 0 for leaves, -1 for free nodes */
+    int[] height;
+    int[] userData;
+    int root = NULL;
+
+    private int freeList = NULL;
+    private int proxyCount;
+    private int[] stack = new int[64];
+
+    /**
+     * Create a new empty {@link DynamicAabTree} which enlarges the boxes of all proxies by {@link #DEFAULT_MARGIN}.
+     */
+    public DynamicAabTree() {
+        this(DEFAULT_MARGIN);
+    }
+
+    /**
+     * Create a new empty {@link DynamicAabTree} which enlarges the boxes of all proxies by the given <code>margin</code>.
+     * <p>
+     * A larger margin avoids updates of slowly moving objects at the expense of more pairs and query results whose
+     * actual boxes do not overlap.
+     * 
+     * @param margin
+     *          the distance by which the box of each proxy is enlarged on each side
+     */
+    public DynamicAabTree(float margin) {
+        this(margin, 16);
+    }
+
+    /**
+     * Create a new empty {@link DynamicAabTree} which enlarges the boxes of all proxies by the given <code>margin</code>
+     * and has room for the given number of proxies before growing.
+     * 
+     * @param margin
+     *          the distance by which the box of each proxy is enlarged on each side
+     * @param initialCapacity
+     *          the number of proxies the tree can hold before growing its arrays
+     */
+    public DynamicAabTree(float margin, int initialCapacity) {
+        if (margin < 0.0f)
+            throw new IllegalArgumentException("margin must not be negative");
+        this.margin = margin;
+        int capacity = java.lang.Math.max(2, 2 * initialCapacity);
+        bounds = new float[6 * capacity];
+        parent = new int[capacity];
+        child1 = new int[capacity];
+        child2 = new int[capacity];
+        height = new int[capacity];
+        userData = new int[capacity];
+        linkFree(0, capacity);
+    }
+
+    private void linkFree(int from, int to) {
+        for (int i = from; i < to - 1; i++) {
+            parent[i] = i + 1;
+            height[i] = -1;
+        }
+        parent[to - 1] = freeList;
+        height[to - 1] = -1;
+        freeList = from;
+    }
+
+    private int allocateNode() {
+        if (freeList == NULL) {
+            int capacity = parent.length, newCapacity = capacity << 1;
+            float[] newBounds = new float[6 * newCapacity];
+            System.arraycopy(bounds, 0, newBounds, 0, bounds.length);
+            bounds = newBounds;
+            parent = grow(parent, newCapacity);
+            child1 = grow(child1, newCapacity);
+            child2 = grow(child2, newCapacity);
+            height = grow(height, newCapacity);
+            userData = grow(userData, newCapacity);
+            linkFree(capacity, newCapacity);
+        }
+        int node = freeList;
+        freeList = parent[node];
+        parent[node] = NULL;
+        child1[node] = NULL;
+        child2[node] = NULL;
+        height[node] = 0;
+        userData[node] = 0;
+        return node;
+    }
+    private static int[] grow(int[] array, int length) {
+        int[] newArray = new int[length];
+        System.arraycopy(array, 0, newArray, 0, array.length);
+        return newArray;
+    }
+
+    private void freeNode(int node) {
+        parent[node] = freeList;
+        height[node] = -1;
+        freeList = node;
+    }
+
+    private void checkProxy(int proxy) {
+        if (proxy < 0 || proxy >= height.length || height[proxy] != 0)
+            throw new IllegalArgumentException("invalid proxy: " + proxy);
+    }
+
+    /**
+     * @return the number of proxies in this tree
+     */
+    public int proxyCount() {
+        return proxyCount;
+    }
+
+    /**
+     * Return the height of the tree, which is <code>0</code> for a tree with at most one proxy.
+     * 
+     * @return the height of the tree
+     */
+    public int height() {
+        return root == NULL ? 0 : height[root];
+    }
+
+    /**
+     * Return the user data of the given proxy.
+     * 
+     * @param proxy
+     *          the identifier of the proxy
+     * @return the user data given when inserting the proxy
+     */
+    public int userData(int proxy) {
+        checkProxy(proxy);
+        return userData[proxy];
+    }
+
+    /**
+     * Store the enlarged box of the given proxy in <code>min</code> and <code>max</code>.
+     * 
+     * @param proxy
+     *          the identifier of the proxy
+     * @param min
+     *          will hold the minimum corner of the enlarged box
+     * @param max
+     *          will hold the maximum corner of the enlarged box
+     */
+    public void getFatAab(int proxy, Vector3f min, Vector3f max) {
+        checkProxy(proxy);
+        int b = 6 * proxy;
+        min.set(bounds[b], bounds[b + 1], bounds[b + 2]);
+        max.set(bounds[b + 3], bounds[b + 4], bounds[b + 5]);
+    }
+
+    /**
+     * Insert a new proxy for an object with the axis-aligned box given as its minimum corner <code>(minX, minY, minZ)</code>
+     * and maximum corner <code>(maxX, maxY, maxZ)</code>.
+     * 
+     * @param minX
+     *          the x coordinate of the minimum corner
+     * @param minY
+     *          the y coordinate of the minimum corner
+     * @param minZ
+     *          the z coordinate of the minimum corner
+     * @param maxX
+     *          the x coordinate of the maximum corner
+     * @param maxY
+     *          the y coordinate of the maximum corner
+     * @param maxZ
+     *          the z coordinate of the maximum corner
+     * @param userData
+     *          an arbitrary value to associate with the proxy, such as the index of the object
+     * @return the identifier of the new proxy
+     */
+    public int insert(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, int userData) {
+        int proxy = allocateNode();
+        setFatBounds(proxy, minX, minY, minZ, maxX, maxY, maxZ);
+        this.userData[proxy] = userData;
+        insertLeaf(proxy);
+        proxyCount++;
+        return proxy;
+    }
+
+    /**
+     * Remove the given proxy from this tree.
+     * <p>
+     * The identifier of the proxy may be returned by later insertions.
+     * 
+     * @param proxy
+     *          the identifier of the proxy
+     */
+    public void remove(int proxy) {
+        checkProxy(proxy);
+        removeLeaf(proxy);
+        freeNode(proxy);
+        proxyCount--;
+    }
+
+    /**
+     * Update the box of the object represented by the given proxy to the box given as its minimum corner
+     * <code>(minX, minY, minZ)</code> and maximum corner <code>(maxX, maxY, maxZ)</code>.
+     * <p>
+     * The tree is only changed if the new box is not contained in the enlarged box of the proxy.
+     * 
+     * @param proxy
+     *          the identifier of the proxy
+     * @param minX
+     *          the x coordinate of the minimum corner
+     * @param minY
+     *          the y coordinate of the minimum corner
+     * @param minZ
+     *          the z coordinate of the minimum corner
+     * @param maxX
+     *          the x coordinate of the maximum corner
+     * @param maxY
+     *          the y coordinate of the maximum corner
+     * @param maxZ
+     *          the z coordinate of the maximum corner
+     * @return <code>true</code> if the proxy was reinserted with a new enlarged box; <code>false</code> otherwise
+     */
+    public boolean move(int proxy, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        checkProxy(proxy);
+        int b = 6 * proxy;
+        if (bounds[b] <= minX && bounds[b + 1] <= minY && bounds[b + 2] <= minZ &&
+            bounds[b + 3] >= maxX && bounds[b + 4] >= maxY && bounds[b + 5] >= maxZ)
+            return false;
+        removeLeaf(proxy);
+        setFatBounds(proxy, minX, minY, minZ, maxX, maxY, maxZ);
+        insertLeaf(proxy);
+        return true;
+    }
+
+    private void setFatBounds(int node, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        int b = 6 * node;
+        bounds[b] = minX - margin;
+        bounds[b + 1] = minY - margin;
+        bounds[b + 2] = minZ - margin;
+        bounds[b + 3] = maxX + margin;
+        bounds[b + 4] = maxY + margin;
+        bounds[b + 5] = maxZ + margin;
+    }
+
+    private float area(int node) {
+        int b = 6 * node;
+        float dx = bounds[b + 3] - bounds[b], dy = bounds[b + 4] - bounds[b + 1], dz = bounds[b + 5] - bounds[b + 2];
+        return dx * dy + dy * dz + dz * dx;
+    }
+    private float unionArea(int a, int b) {
+        int i = 6 * a, j = 6 * b;
+        float dx = Math.max(bounds[i + 3], bounds[j + 3]) - Math.min(bounds[i], bounds[j]);
+        float dy = Math.max(bounds[i + 4], bounds[j + 4]) - Math.min(bounds[i + 1], bounds[j + 1]);
+        float dz = Math.max(bounds[i + 5], bounds[j + 5]) - Math.min(bounds[i + 2], bounds[j + 2]);
+        return dx * dy + dy * dz + dz * dx;
+    }
+    private void union(int dest, int a, int b) {
+        int d = 6 * dest, i = 6 * a, j = 6 * b;
+        bounds[d] = Math.min(bounds[i], bounds[j]);
+        bounds[d + 1] = Math.min(bounds[i + 1], bounds[j + 1]);
+        bounds[d + 2] = Math.min(bounds[i + 2], bounds[j + 2]);
+        bounds[d + 3] = Math.max(bounds[i + 3], bounds[j + 3]);
+        bounds[d + 4] = Math.max(bounds[i + 4], bounds[j + 4]);
+        bounds[d + 5] = Math.max(bounds[i + 5], bounds[j + 5]);
+    }
+
+    private void insertLeaf(int leaf) {
+        if (root == NULL) {
+            root = leaf;
+            parent[leaf] = NULL;
+            return;
+        }
+        /* Descend to the sibling with the lowest cost of enlarging the tree */
+        int index = root;
+        while (child1[index] != NULL) {
+            int c1 = child1[index], c2 = child2[index];
+            float area = area(index);
+            float combinedArea = unionArea(index, leaf);
+            float cost = 2.0f * combinedArea;
+            float inheritanceCost = 2.0f * (combinedArea - area);
+            float cost1 = unionArea(c1, leaf) + inheritanceCost;
+            if (child1[c1] != NULL)
+                cost1 -= area(c1);
+            float cost2 = unionArea(c2, leaf) + inheritanceCost;
+            if (child1[c2] != NULL)
+                cost2 -= area(c2);
+            if (cost < cost1 && cost < cost2)
+                break;
+            index = cost1 < cost2 ? c1 : c2;
+        }
+        int sibling = index;
+        int oldParent = parent[sibling];
+        int newParent = allocateNode();
+        parent[newParent] = oldParent;
+        union(newParent, leaf, sibling);
+        height[newParent] = height[sibling] + 1;
+        if (oldParent != NULL) {
+            if (child1[oldParent] == sibling)
+                child1[oldParent] = newParent;
+            else
+                child2[oldParent] = newParent;
+        } else {
+            root = newParent;
+        }
+        child1[newParent] = sibling;
+        child2[newParent] = leaf;
+        parent[sibling] = newParent;
+        parent[leaf] = newParent;
+        refit(parent[leaf]);
+    }
+
+    private void removeLeaf(int leaf) {
+        if (leaf == root) {
+            root = NULL;
+            return;
+        }
+        int p = parent[leaf];
+        int grandParent = parent[p];
+        int sibling = child1[p] == leaf ? child2[p] : child1[p];
+        if (grandParent != NULL) {
+            if (child1[grandParent] == p)
+                child1[grandParent] = sibling;
+            else
+                child2[grandParent] = sibling;
+            parent[sibling] = grandParent;
+            freeNode(p);
+            refit(grandParent);
+        } else {
+            root = sibling;
+            parent[sibling] = NULL;
+            freeNode(p);
+        }
+    }
+
+    /* Rebalance and update the boxes and heights of all ancestors starting at the given node */
+    private void refit(int index) {
+        while (index != NULL) {
+            index = balance(index);
+            int c1 = child1[index], c2 = child2[index];
+            height[index] = 1 + java.lang.Math.max(height[c1], height[c2]);
+            union(index, c1, c2);
+            index = parent[index];
+        }
+    }
+
+    /* Perform a left or right rotation if the subtree at node a is imbalanced and return the new root of that subtree */
+    private int balance(int a) {
+        if (child1[a] == NULL || height[a] < 2)
+            return a;
+        int b = child1[a], c = child2[a];
+        int balance = height[c] - height[b];
+        if (balance > 1)
+            return rotate(a, c, b, false);
+        if (balance < -1)
+            return rotate(a, b, c, true);
+        return a;
+    }
+    private int rotate(int a, int up, int other, boolean upIsChild1) {
+        int f = child1[up], g = child2[up];
+        child1[up] = a;
+        parent[up] = parent[a];
+        parent[a] = up;
+        int pu = parent[up];
+        if (pu != NULL) {
+            if (child1[pu] == a)
+                child1[pu] = up;
+            else
+                child2[pu] = up;
+        } else {
+            root = up;
+        }
+        /* The higher grandchild stays below the rotated node, the lower one replaces it as the child of a */
+        int keep = height[f] > height[g] ? f : g, move = keep == f ? g : f;
+        child2[up] = keep;
+        if (upIsChild1)
+            child1[a] = move;
+        else
+            child2[a] = move;
+        parent[move] = a;
+        union(a, other, move);
+        union(up, a, keep);
+        height[a] = 1 + java.lang.Math.max(height[other], height[move]);
+        height[up] = 1 + java.lang.Math.max(height[a], height[keep]);
+        return up;
+    }
+
+    private void push(int sp, int node) {
+        if (sp == stack.length)
+            stack = grow(stack, sp << 1);
+        stack[sp] = node;
+    }
+
+    /**
+     * Invoke the given callback for each proxy whose enlarged box intersects the axis-aligned box given as its minimum corner
+     * <code>(minX, minY, minZ)</code> and maximum corner <code>(maxX, maxY, maxZ)</code>.
+     * <p>
+     * The boxes are tested via {@link Intersectionf#testAabAab(float, float, float, float, float, float, float, float, float, float, float, float)}.
+     * 
+     * @param minX
+     *          the x coordinate of the minimum corner
+     * @param minY
+     *          the y coordinate of the minimum corner
+     * @param minZ
+     *          the z coordinate of the minimum corner
+     * @param maxX
+     *          the x coordinate of the maximum corner
+     * @param maxY
+     *          the y coordinate of the maximum corner
+     * @param maxZ
+     *          the z coordinate of the maximum corner
+     * @param callback
+     *          will be notified about each intersecting proxy
+     */
+    public void queryAab(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, QueryCallback callback) {
+        if (root == NULL)
+            return;
+        int sp = 0;
+        push(sp++, root);
+        while (sp > 0) {
+            int node = stack[--sp], b = 6 * node;
+            if (!Intersectionf.testAabAab(bounds[b], bounds[b + 1], bounds[b + 2], bounds[b + 3], bounds[b + 4], bounds[b + 5],
+                    minX, minY, minZ, maxX, maxY, maxZ))
+                continue;
+            if (child1[node] == NULL) {
+                if (!callback.onProxy(node))
+                    return;
+            } else {
+                push(sp++, child1[node]);
+                push(sp++, child2[node]);
+            }
+        }
+    }
+
+    /**
+     * Invoke the given callback for each proxy whose enlarged box intersects the sphere with the given <code>center</code>
+     * and <code>radius</code>.
+     * <p>
+     * The boxes are tested via {@link Intersectionf#testAabSphere(float, float, float, float, float, float, float, float, float, float)}.
+     * 
+     * @param centerX
+     *          the x coordinate of the sphere's center
+     * @param centerY
+     *          the y coordinate of the sphere's center
+     * @param centerZ
+     *          the z coordinate of the sphere's center
+     * @param radius
+     *          the radius of the sphere
+     * @param callback
+     *          will be notified about each intersecting proxy
+     */
+    public void querySphere(float centerX, float centerY, float centerZ, float radius, QueryCallback callback) {
+        if (root == NULL)
+            return;
+        float radiusSquared = radius * radius;
+        int sp = 0;
+        push(sp++, root);
+        while (sp > 0) {
+            int node = stack[--sp], b = 6 * node;
+            if (!Intersectionf.testAabSphere(bounds[b], bounds[b + 1], bounds[b + 2], bounds[b + 3], bounds[b + 4], bounds[b + 5],
+                    centerX, centerY, centerZ, radiusSquared))
+                continue;
+            if (child1[node] == NULL) {
+                if (!callback.onProxy(node))
+                    return;
+            } else {
+                push(sp++, child1[node]);
+                push(sp++, child2[node]);
+            }
+        }
+    }
+
+    /**
+     * Invoke the given callback for each proxy whose enlarged box is intersected by the ray with the origin
+     * <code>(originX, originY, originZ)</code> and direction <code>(dirX, dirY, dirZ)</code> within the parameter range
+     * <code>[0, maxT]</code> of the ray equation <i>p(t) = origin + t * dir</i>.
+     * <p>
+     * The callback can shorten the range after each proxy, see {@link RayCallback#onProxy(int, float)}.
+     * 
+     * @param originX
+     *          the x coordinate of the ray's origin
+     * @param originY
+     *          the y coordinate of the ray's origin
+     * @param originZ
+     *          the z coordinate of the ray's origin
+     * @param dirX
+     *          the x coordinate of the ray's direction
+     * @param dirY
+     *          the y coordinate of the ray's direction
+     * @param dirZ
+     *          the z coordinate of the ray's direction
+     * @param maxT
+     *          the maximum value of the ray parameter <i>t</i> to consider
+     * @param callback
+     *          will be notified about each intersected proxy
+     */
+    public void queryRay(float originX, float originY, float originZ, float dirX, float dirY, float dirZ, float maxT, RayCallback callback) {
+        if (root == NULL)
+            return;
+        /* A finite value avoids NaN when a ray with a zero direction component starts on a box's boundary plane */
+        float invDirX = dirX != 0.0f ? 1.0f / dirX : Float.MAX_VALUE;
+        float invDirY = dirY != 0.0f ? 1.0f / dirY : Float.MAX_VALUE;
+        float invDirZ = dirZ != 0.0f ? 1.0f / dirZ : Float.MAX_VALUE;
+        int sp = 0;
+        push(sp++, root);
+        while (sp > 0) {
+            int node = stack[--sp], b = 6 * node;
+            float tx1 = (bounds[b] - originX) * invDirX, tx2 = (bounds[b + 3] - originX) * invDirX;
+            float ty1 = (bounds[b + 1] - originY) * invDirY, ty2 = (bounds[b + 4] - originY) * invDirY;
+            float tz1 = (bounds[b + 2] - originZ) * invDirZ, tz2 = (bounds[b + 5] - originZ) * invDirZ;
+            float tNear = Math.max(Math.max(Math.min(tx1, tx2), Math.min(ty1, ty2)), Math.max(Math.min(tz1, tz2), 0.0f));
+            float tFar = Math.min(Math.min(Math.max(tx1, tx2), Math.max(ty1, ty2)), Math.min(Math.max(tz1, tz2), maxT));
+            if (tNear > tFar)
+                continue;
+            if (child1[node] == NULL) {
+                maxT = callback.onProxy(node, maxT);
+                if (maxT < 0.0f)
+                    return;
+            } else {
+                push(sp++, child1[node]);
+                push(sp++, child2[node]);
+            }
+        }
+    }
+
+    /**
+     * Invoke the given callback once for each pair of proxies whose enlarged boxes overlap.
+     * <p>
+     * The enlarged boxes are tested via {@link Intersectionf#testAabAab(float, float, float, float, float, float, float, float, float, float, float, float)},
+     * so callers that need exact results should test the actual boxes of the reported objects again.
+     * 
+     * @param callback
+     *          will be notified about each overlapping pair
+     */
+    public void queryPairs(PairCallback callback) {
+        if (root == NULL)
+            return;
+        for (int proxy = 0; proxy < height.length; proxy++) {
+            if (height[proxy] != 0)
+                continue;
+            int p = 6 * proxy, sp = 0;
+            push(sp++, root);
+            while (sp > 0) {
+                int node = stack[--sp], b = 6 * node;
+                if (node == proxy || !Intersectionf.testAabAab(bounds[b], bounds[b + 1], bounds[b + 2], bounds[b + 3], bounds[b + 4], bounds[b + 5],
+                        bounds[p], bounds[p + 1], bounds[p + 2], bounds[p + 3], bounds[p + 4], bounds[p + 5]))
+                    continue;
+                if (child1[node] == NULL) {
+                    if (node > proxy)
+                        callback.onPair(proxy, node);
+                } else {
+                    push(sp++, child1[node]);
+                    push(sp++, child2[node]);
+                }
+            }
+        }
+    }
+
+}
@@ -316,6 +316,63 @@ public class FrustumIntersection {
                pzX * x + pzY * y + pzZ * z + pzW >= -r;
     }
 
+    /**
+     * Test all given spheres like {@link #testSphere(float, float, float, float)} and store the results as a bitset in <code>dest</code>.
+     * <p>
+     * The spheres are given in structure-of-arrays form, so that the sphere <code>i</code> has the center
+     * <code>(x[i], y[i], z[i])</code> and the radius <code>r[i]</code>. After this method returns, bit <code>i &amp; 63</code> of
+     * <code>dest[i &gt;&gt;&gt; 6]</code> is set if and only if the sphere <code>i</code> is partly or completely inside the frustum.
+     * The bits of the last element of <code>dest</code> beyond <code>count</code> are cleared.
+     * <p>
+     * The loop over the spheres is free of data-dependent branches. When the Vector API is available and enabled via
+     * <code>-Djoml.useVectorApi</code>, whole blocks of 64 spheres are tested with vector instructions.
+     * 
+     * @param x
+     *          the x-coordinates of the sphere centers
+     * @param y
+     *          the y-coordinates of the sphere centers
+     * @param z
+     *          the z-coordinates of the sphere centers
+     * @param r
+     *          the sphere radii
+     * @param count
+     *          the number of spheres to test
+     * @param dest
+     *          will hold the visibility bitset and must have at least <code>(count + 63) / 64</code> elements
+     * @return dest
+     */
+    public long[] testSpheres(float[] x, float[] y, float[] z, float[] r, int count, long[] dest) {
+        checkBatch(count, dest);
+        int i = 0;
+//#ifdef __HAS_VECTOR_API__
+        if (VectorApiCode.canUseVectorApi)
+            i = VectorApiCode.__FrustumIntersection_testSpheres(planes, x, y, z, r, count, dest);
+//#endif
+        for (; i < count; ) {
+            int word = i >>> 6, end = java.lang.Math.min(i + 64, count);
+            long bits = 0L;
+            for (int bit = 0; i < end; i++, bit++) {
+                float cx = x[i], cy = y[i], cz = z[i], nr = -r[i];
+                boolean visible = nxX * cx + nxY * cy + nxZ * cz + nxW >= nr &
+                                  pxX * cx + pxY * cy + pxZ * cz + pxW >= nr &
+                                  nyX * cx + nyY * cy + nyZ * cz + nyW >= nr &
+                                  pyX * cx + pyY * cy + pyZ * cz + pyW >= nr &
+                                  nzX * cx + nzY * cy + nzZ * cz + nzW >= nr &
+                                  pzX * cx + pzY * cy + pzZ * cz + pzW >= nr;
+                bits |= (visible ? 1L : 0L) << bit;
+            }
+            dest[word] = bits;
+        }
+        return dest;
+    }
+
+    private static void checkBatch(int count, long[] dest) {
+        if (count < 0)
+            throw new IllegalArgumentException("count must not be negative");
+        if (dest.length < (count + 63) >>> 6)
+            throw new IllegalArgumentException("dest is too small for " + count + " bits");
+    }
+
     /**
      * Determine whether the given sphere is partly or completely within or outside of the frustum defined by <code>this</code> frustum culler.
      * <p>
@@ -438,6 +495,68 @@ public class FrustumIntersection {
                pzX * (pzX < 0 ? minX : maxX) + pzY * (pzY < 0 ? minY : maxY) + pzZ * (pzZ < 0 ? minZ : maxZ) >= -pzW;
     }
 
+    /**
+     * Test all given axis-aligned boxes like {@link #testAab(float, float, float, float, float, float)} and store the results
+     * as a bitset in <code>dest</code>.
+     * <p>
+     * The boxes are given in structure-of-arrays form, so that the box <code>i</code> has the minimum corner
+     * <code>(minX[i], minY[i], minZ[i])</code> and the maximum corner <code>(maxX[i], maxY[i], maxZ[i])</code>.
+     * After this method returns, bit <code>i &amp; 63</code> of <code>dest[i &gt;&gt;&gt; 6]</code> is set if and only if
+     * the box <code>i</code> is partly or completely inside the frustum. The bits of the last element of <code>dest</code>
+     * beyond <code>count</code> are cleared.
+     * <p>
+     * Which corner of a box is tested against each plane only depends on the plane, so it is chosen once per call and
+     * the loop over the boxes is free of data-dependent branches. When the Vector API is available and enabled via
+     * <code>-Djoml.useVectorApi</code>, whole blocks of 64 boxes are tested with vector instructions.
+     * 
+     * @param minX
+     *          the x-coordinates of the minimum corners
+     * @param minY
+     *          the y-coordinates of the minimum corners
+     * @param minZ
+     *          the z-coordinates of the minimum corners
+     * @param maxX
+     *          the x-coordinates of the maximum corners
+     * @param maxY
+     *          the y-coordinates of the maximum corners
+     * @param maxZ
+     *          the z-coordinates of the maximum corners
+     * @param count
+     *          the number of boxes to test
+     * @param dest
+     *          will hold the visibility bitset and must have at least <code>(count + 63) / 64</code> elements
+     * @return dest
+     */
+    public long[] testAabs(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int count, long[] dest) {
+        checkBatch(count, dest);
+        int i = 0;
+//#ifdef __HAS_VECTOR_API__
+        if (VectorApiCode.canUseVectorApi)
+            i = VectorApiCode.__FrustumIntersection_testAabs(planes, minX, minY, minZ, maxX, maxY, maxZ, count, dest);
+//#endif
+        float[] nxXs = nxX < 0 ? minX : maxX, nxYs = nxY < 0 ? minY : maxY, nxZs = nxZ < 0 ? minZ : maxZ;
+        float[] pxXs = pxX < 0 ? minX : maxX, pxYs = pxY < 0 ? minY : maxY, pxZs = pxZ < 0 ? minZ : maxZ;
+        float[] nyXs = nyX < 0 ? minX : maxX, nyYs = nyY < 0 ? minY : maxY, nyZs = nyZ < 0 ? minZ : maxZ;
+        float[] pyXs = pyX < 0 ? minX : maxX, pyYs = pyY < 0 ? minY : maxY, pyZs = pyZ < 0 ? minZ : maxZ;
+        float[] nzXs = nzX < 0 ? minX : maxX, nzYs = nzY < 0 ? minY : maxY, nzZs = nzZ < 0 ? minZ : maxZ;
+        float[] pzXs = pzX < 0 ? minX : maxX, pzYs = pzY < 0 ? minY : maxY, pzZs = pzZ < 0 ? minZ : maxZ;
+        for (; i < count; ) {
+            int word = i >>> 6, end = java.lang.Math.min(i + 64, count);
+            long bits = 0L;
+            for (int bit = 0; i < end; i++, bit++) {
+                boolean visible = nxX * nxXs[i] + nxY * nxYs[i] + nxZ * nxZs[i] >= -nxW &
+                                  pxX * pxXs[i] + pxY * pxYs[i] + pxZ * pxZs[i] >= -pxW &
+                                  nyX * nyXs[i] + nyY * nyYs[i] + nyZ * nyZs[i] >= -nyW &
+                                  pyX * pyXs[i] + pyY * pyYs[i] + pyZ * pyZs[i] >= -pyW &
+                                  nzX * nzXs[i] + nzY * nzYs[i] + nzZ * nzZs[i] >= -nzW &
+                                  pzX * pzXs[i] + pzY * pzYs[i] + pzZ * pzZs[i] >= -pzW;
+                bits |= (visible ? 1L : 0L) << bit;
+            }
+            dest[word] = bits;
+        }
+        return dest;
+    }
+
     /**
      * Test whether the given XY-plane (at <code>Z = 0</code>) is partly or completely within or outside of the frustum defined by <code>this</code> frustum culler.
      * The plane is specified via its <code>min</code> and <code>max</code> corner coordinates.
@@ -862,6 +981,35 @@ public class FrustumIntersection {
         return plane;
     }
 
+    /**
+     * Determine whether the given axis-aligned box is outside of any of the planes in <code>mask</code>, testing
+     * <code>startPlane</code> first, and if not, which of these planes the box intersects.
+     * <p>
+     * Unlike {@link #intersectAab(float, float, float, float, float, float, int, int)} this reports the individual
+     * planes that still need to be tested for boxes contained in the given box, so that hierarchical culling can
+     * drop the planes a parent box is completely inside of.
+     * 
+     * @return the index of the first plane that culled the box; or the bitwise complement of the mask of the planes
+     *         in <code>mask</code> that intersect the box, which is <code>~0</code> if the box is inside of all planes
+     */
+    int intersectAabPlanes(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, int mask, int startPlane) {
+        Vector4f p = planes[startPlane];
+        if ((mask & 1<<startPlane) != 0 && p.x * (p.x < 0 ? minX : maxX) + p.y * (p.y < 0 ? minY : maxY) + p.z * (p.z < 0 ? minZ : maxZ) < -p.w) {
+            return startPlane;
+        }
+        int intersecting = 0;
+        for (int i = 0; i < 6; i++) {
+            if ((mask & 1<<i) == 0)
+                continue;
+            p = planes[i];
+            if (p.x * (p.x < 0 ? minX : maxX) + p.y * (p.y < 0 ? minY : maxY) + p.z * (p.z < 0 ? minZ : maxZ) < -p.w)
+                return i;
+            if (p.x * (p.x < 0 ? maxX : minX) + p.y * (p.y < 0 ? maxY : minY) + p.z * (p.z < 0 ? maxZ : minZ) < -p.w)
+                intersecting |= 1<<i;
+        }
+        return ~intersecting;
+    }
+
     /**
      * Test whether the given line segment, defined by the end points <code>a</code> and <code>b</code>, 
      * is partly or completely within the frustum defined by <code>this</code> frustum culler.
@@ -0,0 +1,127 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * Hierarchical view frustum culling of the objects in a {@link DynamicAabTree}.
+ * <p>
+ * The tree is walked from the root and each node's box is tested against the frustum planes of a {@link FrustumIntersection}
+ * that still matter for it. A subtree whose box is outside of any plane is culled as a whole. Planes that a box is
+ * completely inside of are dropped from the plane mask passed down to its children, so that a subtree completely inside
+ * of the frustum is reported without testing any further box. The plane that last culled each node is remembered and
+ * tested first for that node during the next {@link #cull(FrustumIntersection, int[]) cull}, which exploits the temporal
+ * coherency of a moving camera as intended by the <code>startPlane</code> parameter of
+ * {@link FrustumIntersection#intersectAab(float, float, float, float, float, float, int, int)}.
+ * <p>
+ * As a result, the work per cull is proportional to the number of visible objects plus the number of nodes along the
+ * frustum boundary, rather than to the total number of objects.
+ * <p>
+ * This class is not thread-safe.
+ * <p>
+ * Reference: <a href="http://old.cescg.org/CESCG-2002/DSykoraJJelinek/">Efficient View Frustum Culling</a>
+ */
+public class HierarchicalFrustumCuller {
+
+    private static final int ALL_PLANES = FrustumIntersection.PLANE_MASK_NX | FrustumIntersection.PLANE_MASK_PX
+                                        | FrustumIntersection.PLANE_MASK_NY | FrustumIntersection.PLANE_MASK_PY
+                                        | FrustumIntersection.PLANE_MASK_NZ | FrustumIntersection.PLANE_MASK_PZ;
+
+    private final DynamicAabTree tree;
+    /* the plane that last culled each node of the tree */
+    private byte[] startPlanes = new byte[0];
+    /* pairs of node and plane mask still to visit */
+    private int[] stack = new int[128];
+
+    /**
+     * Create a new {@link HierarchicalFrustumCuller} for the objects in the given tree.
+     * <p>
+     * The tree can be modified between two culls.
+     * 
+     * @param tree
+     *          the tree whose proxies should be culled
+     */
+    public HierarchicalFrustumCuller(DynamicAabTree tree) {
+        this.tree = tree;
+    }
+
+    /**
+     * Determine all proxies of the tree whose enlarged boxes are not culled by the given frustum and store their
+     * {@link DynamicAabTree#userData(int) user data} in <code>dest</code>.
+     * <p>
+     * The test is conservative like {@link FrustumIntersection#intersectAab(float, float, float, float, float, float, int, int)}.
+     * <p>
+     * If more proxies are visible than fit into <code>dest</code>, only the first <code>dest.length</code> values are stored,
+     * but the returned count still includes all visible proxies.
+     * 
+     * @param frustum
+     *          the frustum to cull against
+     * @param dest
+     *          will hold the user data of the visible proxies in no particular order
+     * @return the number of visible proxies
+     */
+    public int cull(FrustumIntersection frustum, int[] dest) {
+        if (tree.root == DynamicAabTree.NULL)
+            return 0;
+        if (startPlanes.length < tree.height.length) {
+            byte[] newStartPlanes = new byte[tree.height.length];
+            System.arraycopy(startPlanes, 0, newStartPlanes, 0, startPlanes.length);
+            startPlanes = newStartPlanes;
+        }
+        float[] bounds = tree.bounds;
+        int[] child1 = tree.child1, child2 = tree.child2, userData = tree.userData;
+        int visible = 0, sp = 0;
+        stack[sp++] = tree.root;
+        stack[sp++] = ALL_PLANES;
+        while (sp > 0) {
+            int mask = stack[--sp], node = stack[--sp];
+            if (mask != 0) {
+                int b = 6 * node;
+                int result = frustum.intersectAabPlanes(bounds[b], bounds[b + 1], bounds[b + 2], bounds[b + 3], bounds[b + 4], bounds[b + 5],
+                        mask, startPlanes[node]);
+                if (result >= 0) {
+                    startPlanes[node] = (byte) result;
+                    continue;
+                }
+                mask = ~result;
+            }
+            if (child1[node] == DynamicAabTree.NULL) {
+                if (visible < dest.length)
+                    dest[visible] = userData[node];
+                visible++;
+                continue;
+            }
+            if (sp + 4 > stack.length) {
+                int[] newStack = new int[stack.length << 1];
+                System.arraycopy(stack, 0, newStack, 0, sp);
+                stack = newStack;
+            }
+            stack[sp++] = child1[node];
+            stack[sp++] = mask;
+            stack[sp++] = child2[node];
+            stack[sp++] = mask;
+        }
+        return visible;
+    }
+
+}
@@ -0,0 +1,495 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
+//#ifdef __HAS_NIO__
+import java.nio.ByteBuffer;
+//#endif
+
+/**
+ * Computes the std140 or std430 memory layout of a GLSL interface block (uniform or shader storage block) made of a
+ * fixed sequence of member types, and stores JOML objects into a buffer following that layout.
+ * <p>
+ * The offset of every member and the array stride of array members are computed once when the layout is created.
+ * Storing a block afterwards validates the buffer range once for the whole block and then writes each member at its
+ * precomputed offset through the <code>get()</code> methods of the JOML classes, which are backed by {@link MemUtil},
+ * without allocating.
+ * <p>
+ * Example for the block <code>layout(std140) uniform Camera { mat4 view; mat4 proj; vec3 position; float time; }</code>:
+ * <pre>
+ * InterfaceBlockLayout layout = new InterfaceBlockLayout(InterfaceBlockLayout.STD140, new int[] {
+ *     InterfaceBlockLayout.MAT4, InterfaceBlockLayout.MAT4, InterfaceBlockLayout.VEC3, InterfaceBlockLayout.FLOAT });
+ * Object[] values = { view, proj, position, new Float(time) };
+ * ByteBuffer ubo = ByteBuffer.allocateDirect(layout.size()).order(ByteOrder.nativeOrder());
+ * layout.put(values, 0, ubo);
+ * </pre>
+ * The value of a <code>FLOAT</code> or <code>INT</code> member is a {@link Number}. The value of a <code>VEC4</code>
+ * member is a {@link Vector4fc} or a {@link Quaternionfc}. The value of an array member is a <code>float[]</code> or
+ * <code>int[]</code> for scalar arrays and an array of the JOML interface type otherwise, for example a {@link Matrix4fc}[]
+ * for a <code>mat4[]</code>, and must have exactly the declared length.
+ */
+public class InterfaceBlockLayout {
+
+    /**
+     * The std140 packing rules, in which arrays and matrix columns are aligned to 16 bytes.
+     */
+    public static final int STD140 = 0;
+    /**
+     * The std430 packing rules, in which arrays and matrix columns are aligned like their element type.
+     */
+    public static final int STD430 = 1;
+
+    /**
+     * GLSL <code>float</code>.
+     */
+    public static final int FLOAT = 0;
+    /**
+     * GLSL <code>int</code>.
+     */
+    public static final int INT = 1;
+    /**
+     * GLSL <code>vec2</code>, stored from a {@link Vector2fc}.
+     */
+    public static final int VEC2 = 2;
+    /**
+     * GLSL <code>vec3</code>, stored from a {@link Vector3fc}.
+     */
+    public static final int VEC3 = 3;
+    /**
+     * GLSL <code>vec4</code>, stored from a {@link Vector4fc} or a {@link Quaternionfc}.
+     */
+    public static final int VEC4 = 4;
+    /**
+     * GLSL <code>ivec2</code>, stored from a {@link Vector2ic}.
+     */
+    public static final int IVEC2 = 5;
+    /**
+     * GLSL <code>ivec3</code>, stored from a {@link Vector3ic}.
+     */
+    public static final int IVEC3 = 6;
+    /**
+     * GLSL <code>ivec4</code>, stored from a {@link Vector4ic}.
+     */
+    public static final int IVEC4 = 7;
+    /**
+     * GLSL <code>mat2</code>, stored from a {@link Matrix2fc}.
+     */
+    public static final int MAT2 = 8;
+    /**
+     * GLSL <code>mat3</code>, stored from a {@link Matrix3fc}.
+     */
+    public static final int MAT3 = 9;
+    /**
+     * GLSL <code>mat3x2</code>, stored from a {@link Matrix3x2fc}.
+     */
+    public static final int MAT3X2 = 10;
+    /**
+     * GLSL <code>mat4</code>, stored from a {@link Matrix4fc}.
+     */
+    public static final int MAT4 = 11;
+    /**
+     * GLSL <code>mat4x3</code>, stored from a {@link Matrix4x3fc}.
+     */
+    public static final int MAT4X3 = 12;
+
+    /* Number of columns and rows of each type, indexed by type constant */
+    private static final int[] COLUMNS = { 1, 1, 1, 1, 1, 1, 1, 1, 2, 3, 3, 4, 4 };
+    private static final int[] ROWS = { 1, 1, 2, 3, 4, 2, 3, 4, 2, 3, 2, 4, 3 };
+
+    private final int packing;
+    private final int[] types;
+    private final int[] arrayLengths;
+    private final int[] offsets;
+    private final int[] arrayStrides;
+    private final int size;
+
+    /**
+     * Create a new {@link InterfaceBlockLayout} for a block whose members are not arrays.
+     * 
+     * @param packing
+     *          either {@link #STD140} or {@link #STD430}
+     * @param types
+     *          the type of each member in declaration order, such as {@link #MAT4} or {@link #VEC3}
+     */
+    public InterfaceBlockLayout(int packing, int[] types) {
+        this(packing, types, null);
+    }
+
+    /**
+     * Create a new {@link InterfaceBlockLayout} for a block with array members.
+     * 
+     * @param packing
+     *          either {@link #STD140} or {@link #STD430}
+     * @param types
+     *          the type of each member in declaration order, such as {@link #MAT4} or {@link #VEC3}
+     * @param arrayLengths
+     *          the array length of each member, or <code>0</code> for members that are not arrays.
+     *          May be <code>null</code> if no member is an array
+     */
+    public InterfaceBlockLayout(int packing, int[] types, int[] arrayLengths) {
+        if (packing != STD140 && packing != STD430)
+            throw new IllegalArgumentException("packing");
+        if (arrayLengths != null && arrayLengths.length != types.length)
+            throw new IllegalArgumentException("arrayLengths");
+        this.packing = packing;
+        this.types = (int[]) types.clone();
+        this.arrayLengths = arrayLengths != null ? (int[]) arrayLengths.clone() : new int[types.length];
+        this.offsets = new int[types.length];
+        this.arrayStrides = new int[types.length];
+        int offset = 0, blockAlignment = packing == STD140 ? 16 : 4;
+        for (int i = 0; i < types.length; i++) {
+            int type = types[i];
+            if (type < FLOAT || type > MAT4X3)
+                throw new IllegalArgumentException("types[" + i + "]");
+            if (this.arrayLengths[i] < 0)
+                throw new IllegalArgumentException("arrayLengths[" + i + "]");
+            int alignment = alignment(type);
+            int elementSize = COLUMNS[type] * columnStride(type);
+            if (COLUMNS[type] == 1)
+                elementSize = ROWS[type] << 2;
+            int memberSize = elementSize;
+            if (this.arrayLengths[i] > 0) {
+                if (packing == STD140)
+                    alignment = roundUp(alignment, 16);
+                arrayStrides[i] = roundUp(elementSize, alignment);
+                memberSize = arrayStrides[i] * this.arrayLengths[i];
+            }
+            offset = roundUp(offset, alignment);
+            offsets[i] = offset;
+            offset += memberSize;
+            blockAlignment = java.lang.Math.max(blockAlignment, alignment);
+        }
+        this.size = roundUp(offset, blockAlignment);
+    }
+
+    private int alignment(int type) {
+        if (COLUMNS[type] > 1)
+            return columnStride(type);
+        return ROWS[type] == 3 ? 16 : ROWS[type] << 2;
+    }
+    private int columnStride(int type) {
+        int vectorAlignment = ROWS[type] == 3 ? 16 : ROWS[type] << 2;
+        return packing == STD140 ? roundUp(vectorAlignment, 16) : vectorAlignment;
+    }
+    private static int roundUp(int value, int alignment) {
+        return (value + alignment - 1) / alignment * alignment;
+    }
+
+    /**
+     * @return the number of members of the block
+     */
+    public int memberCount() {
+        return types.length;
+    }
+
+    /**
+     * Return the byte offset of the given member relative to the start of the block.
+     * 
+     * @param member
+     *          the index of the member in declaration order
+     * @return the byte offset
+     */
+    public int offset(int member) {
+        return offsets[member];
+    }
+
+    /**
+     * Return the distance in bytes between two consecutive elements of the given array member.
+     * 
+     * @param member
+     *          the index of the member in declaration order
+     * @return the array stride, or <code>0</code> if the member is not an array
+     */
+    public int arrayStride(int member) {
+        return arrayStrides[member];
+    }
+
+    /**
+     * Return the size in bytes of the whole block, including the padding at its end.
+     * 
+     * @return the block size
+     */
+    public int size() {
+        return size;
+    }
+
+    private void checkValues(Object[] values) {
+        if (values.length != types.length)
+            throw new IllegalArgumentException("Expected " + types.length + " values but got " + values.length);
+    }
+    private int length(int member, Object value) {
+        int length;
+        if (value instanceof float[])
+            length = ((float[]) value).length;
+        else if (value instanceof int[])
+            length = ((int[]) value).length;
+        else
+            length = ((Object[]) value).length;
+        if (length != arrayLengths[member])
+            throw new IllegalArgumentException("Expected " + arrayLengths[member] + " elements for member " + member + " but got " + length);
+        return length;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Store the given values of all members into the supplied {@link ByteBuffer} at its current position,
+     * following this layout.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @see #put(Object[], int, ByteBuffer)
+     * 
+     * @param values
+     *          the value of each member in declaration order
+     * @param dest
+     *          will receive the block
+     * @return dest
+     */
+    public ByteBuffer put(Object[] values, ByteBuffer dest) {
+        return put(values, dest.position(), dest);
+    }
+
+    /**
+     * Store the given values of all members into the supplied {@link ByteBuffer} starting at the specified
+     * absolute buffer position/index, following this layout.
+     * <p>
+     * The range <code>[index, index + size())</code> is validated once before any member is written. Padding bytes
+     * between members are not written.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @param values
+     *          the value of each member in declaration order
+     * @param index
+     *          the absolute position of the block in the ByteBuffer
+     * @param dest
+     *          will receive the block
+     * @return dest
+     */
+    public ByteBuffer put(Object[] values, int index, ByteBuffer dest) {
+        checkValues(values);
+        if (index < 0 || index > dest.limit() - size)
+            throw new IndexOutOfBoundsException();
+        for (int i = 0; i < types.length; i++) {
+            Object value = values[i];
+            int type = types[i], position = index + offsets[i];
+            if (arrayLengths[i] == 0) {
+                put(type, value, position, dest);
+                continue;
+            }
+            int length = length(i, value), stride = arrayStrides[i];
+            for (int j = 0; j < length; j++, position += stride) {
+                if (value instanceof float[])
+                    dest.putFloat(position, ((float[]) value)[j]);
+                else if (value instanceof int[])
+                    dest.putInt(position, ((int[]) value)[j]);
+                else
+                    put(type, ((Object[]) value)[j], position, dest);
+            }
+        }
+        return dest;
+    }
+    private void put(int type, Object value, int position, ByteBuffer dest) {
+        switch (type) {
+        case FLOAT:
+            dest.putFloat(position, ((Number) value).floatValue());
+            break;
+        case INT:
+            dest.putInt(position, ((Number) value).intValue());
+            break;
+        case VEC2:
+            ((Vector2fc) value).get(position, dest);
+            break;
+        case VEC3:
+            ((Vector3fc) value).get(position, dest);
+            break;
+        case VEC4:
+            if (value instanceof Quaternionfc) {
+                Quaternionfc q = (Quaternionfc) value;
+                dest.putFloat(position, q.x()).putFloat(position + 4, q.y()).putFloat(position + 8, q.z()).putFloat(position + 12, q.w());
+            } else {
+                ((Vector4fc) value).get(position, dest);
+            }
+            break;
+        case IVEC2:
+            ((Vector2ic) value).get(position, dest);
+            break;
+        case IVEC3:
+            ((Vector3ic) value).get(position, dest);
+            break;
+        case IVEC4:
+            ((Vector4ic) value).get(position, dest);
+            break;
+        case MAT2: {
+            Matrix2fc m = (Matrix2fc) value;
+            if (packing == STD430) {
+                m.get(position, dest);
+            } else {
+                dest.putFloat(position, m.m00()).putFloat(position + 4, m.m01())
+                    .putFloat(position + 16, m.m10()).putFloat(position + 20, m.m11());
+            }
+            break;
+        }
+        case MAT3:
+            ((Matrix3fc) value).get3x4(position, dest);
+            break;
+        case MAT3X2: {
+            Matrix3x2fc m = (Matrix3x2fc) value;
+            if (packing == STD430) {
+                m.get(position, dest);
+            } else {
+                dest.putFloat(position, m.m00()).putFloat(position + 4, m.m01())
+                    .putFloat(position + 16, m.m10()).putFloat(position + 20, m.m11())
+                    .putFloat(position + 32, m.m20()).putFloat(position + 36, m.m21());
+            }
+            break;
+        }
+        case MAT4:
+            ((Matrix4fc) value).get(position, dest);
+            break;
+        default:
+            ((Matrix4x3fc) value).get4x4(position, dest);
+            break;
+        }
+    }
+//#endif
+
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    /**
+     * Store the given values of all members into the supplied {@link MemorySegment} starting at the specified
+     * byte offset, following this layout.
+     * <p>
+     * The range <code>[offset, offset + size())</code> is validated once before any member is written. Padding bytes
+     * between members are not written.
+     * 
+     * @param values
+     *          the value of each member in declaration order
+     * @param offset
+     *          the byte offset of the block in the segment
+     * @param dest
+     *          will receive the block
+     * @return dest
+     */
+    public MemorySegment put(Object[] values, long offset, MemorySegment dest) {
+        checkValues(values);
+        MemorySegment block = dest.asSlice(offset, size);
+        for (int i = 0; i < types.length; i++) {
+            Object value = values[i];
+            int type = types[i];
+            long position = offsets[i];
+            if (arrayLengths[i] == 0) {
+                put(type, value, position, block);
+                continue;
+            }
+            int length = length(i, value), stride = arrayStrides[i];
+            for (int j = 0; j < length; j++, position += stride) {
+                if (value instanceof float[])
+                    block.set(MemUtil.MemUtilFFM.FLOAT, position, ((float[]) value)[j]);
+                else if (value instanceof int[])
+                    block.set(MemUtil.MemUtilFFM.INT, position, ((int[]) value)[j]);
+                else
+                    put(type, ((Object[]) value)[j], position, block);
+            }
+        }
+        return dest;
+    }
+    private void put(int type, Object value, long position, MemorySegment dest) {
+        switch (type) {
+        case FLOAT:
+            dest.set(MemUtil.MemUtilFFM.FLOAT, position, ((Number) value).floatValue());
+            break;
+        case INT:
+            dest.set(MemUtil.MemUtilFFM.INT, position, ((Number) value).intValue());
+            break;
+        case VEC2:
+            ((Vector2fc) value).get(position, dest);
+            break;
+        case VEC3:
+            ((Vector3fc) value).get(position, dest);
+            break;
+        case VEC4:
+            if (value instanceof Quaternionfc)
+                ((Quaternionfc) value).get(position, dest);
+            else
+                ((Vector4fc) value).get(position, dest);
+            break;
+        case IVEC2:
+            ((Vector2ic) value).get(position, dest);
+            break;
+        case IVEC3:
+            ((Vector3ic) value).get(position, dest);
+            break;
+        case IVEC4:
+            ((Vector4ic) value).get(position, dest);
+            break;
+        case MAT2: {
+            Matrix2fc m = (Matrix2fc) value;
+            int columnStride = packing == STD430 ? 8 : 16;
+            putColumn(dest, position, m.m00(), m.m01());
+            putColumn(dest, position + columnStride, m.m10(), m.m11());
+            break;
+        }
+        case MAT3: {
+            Matrix3fc m = (Matrix3fc) value;
+            putColumn(dest, position, m.m00(), m.m01(), m.m02());
+            putColumn(dest, position + 16, m.m10(), m.m11(), m.m12());
+            putColumn(dest, position + 32, m.m20(), m.m21(), m.m22());
+            break;
+        }
+        case MAT3X2: {
+            Matrix3x2fc m = (Matrix3x2fc) value;
+            int columnStride = packing == STD430 ? 8 : 16;
+            putColumn(dest, position, m.m00(), m.m01());
+            putColumn(dest, position + columnStride, m.m10(), m.m11());
+            putColumn(dest, position + 2 * columnStride, m.m20(), m.m21());
+            break;
+        }
+        case MAT4:
+            ((Matrix4fc) value).get(position, dest);
+            break;
+        default: {
+            Matrix4x3fc m = (Matrix4x3fc) value;
+            putColumn(dest, position, m.m00(), m.m01(), m.m02());
+            putColumn(dest, position + 16, m.m10(), m.m11(), m.m12());
+            putColumn(dest, position + 32, m.m20(), m.m21(), m.m22());
+            putColumn(dest, position + 48, m.m30(), m.m31(), m.m32());
+            break;
+        }
+        }
+    }
+    private static void putColumn(MemorySegment dest, long position, float x, float y) {
+        dest.set(MemUtil.MemUtilFFM.FLOAT, position, x);
+        dest.set(MemUtil.MemUtilFFM.FLOAT, position + 4, y);
+    }
+    private static void putColumn(MemorySegment dest, long position, float x, float y, float z) {
+        dest.set(MemUtil.MemUtilFFM.FLOAT, position, x);
+        dest.set(MemUtil.MemUtilFFM.FLOAT, position + 4, y);
+        dest.set(MemUtil.MemUtilFFM.FLOAT, position + 8, z);
+    }
+//#endif
+
+}
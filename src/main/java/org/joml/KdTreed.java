@@ -0,0 +1,367 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * Balanced k-d tree over a fixed set of 2D or 3D points to quickly find the nearest point, the <i>k</i> nearest points
+ * or all points within a given distance of a query position.
+ * <p>
+ * The tree is built once by recursively partitioning the points around the median along the axis of their largest
+ * extent. It is stored implicitly in flat arrays holding the points in tree order, where the root of each subrange is
+ * the point in the middle of that range, so there are no node objects and no child references. Queries do not allocate.
+ * <p>
+ * For 2D trees, the <code>z</code> coordinate of all query methods is ignored.
+ * <p>
+ * This class is immutable and thread-safe and can be used in a multithreaded environment when querying concurrently.
+ */
+public class KdTreed {
+
+    private final int dimensions;
+    private final int count;
+    /* the points in tree order */
+    private final double[] coords;
+    /* the index of each point in tree order into the array given to the constructor */
+    private final int[] indices;
+    /* the split axis of the subtree rooted at each point */
+    private final byte[] axes;
+
+    /**
+     * Build a {@link KdTreed} over the first <code>count</code> points of the given array.
+     * <p>
+     * The point <code>i</code> has the coordinates <code>(points[d*i], points[d*i+1])</code> for <code>d = 2</code>
+     * or <code>(points[d*i], points[d*i+1], points[d*i+2])</code> for <code>d = 3</code> dimensions, and is reported
+     * by the queries with the index <code>i</code>. The coordinates are copied, so later changes of the array have no effect.
+     * 
+     * @param points
+     *          the point coordinates
+     * @param count
+     *          the number of points
+     * @param dimensions
+     *          the number of coordinates per point, either <code>2</code> or <code>3</code>
+     */
+    public KdTreed(double[] points, int count, int dimensions) {
+        if (dimensions != 2 && dimensions != 3)
+            throw new IllegalArgumentException("dimensions must be 2 or 3");
+        if (count < 0 || count * dimensions > points.length)
+            throw new IllegalArgumentException("count");
+        this.dimensions = dimensions;
+        this.count = count;
+        this.coords = new double[count * dimensions];
+        this.indices = new int[count];
+        this.axes = new byte[count];
+        System.arraycopy(points, 0, coords, 0, count * dimensions);
+        for (int i = 0; i < count; i++)
+            indices[i] = i;
+        /* Subranges still to partition as (lo, hi) pairs. The depth of a balanced tree over int-indexed points is below 32. */
+        int[] stack = new int[4 * 33];
+        int sp = 0;
+        stack[sp++] = 0;
+        stack[sp++] = count;
+        while (sp > 0) {
+            int hi = stack[--sp], lo = stack[--sp];
+            if (hi - lo < 1)
+                continue;
+            int mid = lo + hi >>> 1;
+            int axis = widestAxis(lo, hi);
+            select(lo, hi, mid, axis);
+            axes[mid] = (byte) axis;
+            stack[sp++] = lo;
+            stack[sp++] = mid;
+            stack[sp++] = mid + 1;
+            stack[sp++] = hi;
+        }
+    }
+
+    private int widestAxis(int lo, int hi) {
+        int axis = 0;
+        double widest = -1.0;
+        for (int a = 0; a < dimensions; a++) {
+            double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+            for (int i = lo; i < hi; i++) {
+                double v = coords[i * dimensions + a];
+                min = Math.min(min, v);
+                max = Math.max(max, v);
+            }
+            if (max - min > widest) {
+                widest = max - min;
+                axis = a;
+            }
+        }
+        return axis;
+    }
+
+    /* Partially sort [lo, hi) along the axis such that position k holds the median and smaller values come before it */
+    private void select(int lo, int hi, int k, int axis) {
+        hi--;
+        while (hi > lo) {
+            double a = coords[lo * dimensions + axis], b = coords[k * dimensions + axis], c = coords[hi * dimensions + axis];
+            double pivot = a < b ? (b < c ? b : a < c ? c : a) : (a < c ? a : b < c ? c : b);
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (coords[i * dimensions + axis] < pivot)
+                    i++;
+                while (coords[j * dimensions + axis] > pivot)
+                    j--;
+                if (i <= j)
+                    swap(i++, j--);
+            }
+            if (k <= j)
+                hi = j;
+            else if (k >= i)
+                lo = i;
+            else
+                break;
+        }
+    }
+
+    private void swap(int i, int j) {
+        for (int a = 0; a < dimensions; a++) {
+            double t = coords[i * dimensions + a];
+            coords[i * dimensions + a] = coords[j * dimensions + a];
+            coords[j * dimensions + a] = t;
+        }
+        int t = indices[i];
+        indices[i] = indices[j];
+        indices[j] = t;
+    }
+
+    /**
+     * @return the number of points in this tree
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return the number of coordinates per point, either <code>2</code> or <code>3</code>
+     */
+    public int dimensions() {
+        return dimensions;
+    }
+
+    private double distanceSquared(int i, double x, double y, double z) {
+        int o = i * dimensions;
+        double dx = coords[o] - x, dy = coords[o + 1] - y;
+        double d = dx * dx + dy * dy;
+        if (dimensions == 3) {
+            double dz = coords[o + 2] - z;
+            d += dz * dz;
+        }
+        return d;
+    }
+
+    /* Signed distance of the query position to the split plane of the subtree rooted at the point */
+    private double splitDistance(int i, double x, double y, double z) {
+        int axis = axes[i];
+        return (axis == 0 ? x : axis == 1 ? y : z) - coords[i * dimensions + axis];
+    }
+
+    /**
+     * Return the index of the point nearest to <code>p</code>.
+     * 
+     * @param p
+     *          the query position
+     * @return the index of the nearest point; or <code>-1</code> if the tree is empty
+     */
+    public int nearest(Vector2dc p) {
+        return nearest(p.x(), p.y(), 0.0, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Return the index of the point nearest to <code>p</code>.
+     * 
+     * @param p
+     *          the query position
+     * @return the index of the nearest point; or <code>-1</code> if the tree is empty
+     */
+    public int nearest(Vector3dc p) {
+        return nearest(p.x(), p.y(), p.z(), Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Return the index of the point nearest to <code>(x, y, z)</code> whose distance is at most <code>maxDistance</code>.
+     * 
+     * @param x
+     *          the x coordinate of the query position
+     * @param y
+     *          the y coordinate of the query position
+     * @param z
+     *          the z coordinate of the query position
+     * @param maxDistance
+     *          the maximum distance of the point to find
+     * @return the index of the nearest point; or <code>-1</code> if no point is within <code>maxDistance</code>
+     */
+    public int nearest(double x, double y, double z, double maxDistance) {
+        int best = nearest(0, count, x, y, z, -1, maxDistance * maxDistance);
+        return best < 0 ? -1 : indices[best];
+    }
+
+    private int nearest(int lo, int hi, double x, double y, double z, int best, double bestDistance) {
+        if (lo >= hi)
+            return best;
+        int mid = lo + hi >>> 1;
+        double d = distanceSquared(mid, x, y, z);
+        if (d <= bestDistance) {
+            best = mid;
+            bestDistance = d;
+        }
+        double split = splitDistance(mid, x, y, z);
+        int b = split < 0.0 ? nearest(lo, mid, x, y, z, best, bestDistance) : nearest(mid + 1, hi, x, y, z, best, bestDistance);
+        if (b != best) {
+            best = b;
+            bestDistance = distanceSquared(b, x, y, z);
+        }
+        if (split * split <= bestDistance)
+            best = split < 0.0 ? nearest(mid + 1, hi, x, y, z, best, bestDistance) : nearest(lo, mid, x, y, z, best, bestDistance);
+        return best;
+    }
+
+    /**
+     * Find the <code>k</code> points nearest to <code>(x, y, z)</code> and store their indices and squared distances
+     * in ascending order of distance in <code>resultIndices</code> and <code>resultDistancesSquared</code>.
+     * <p>
+     * Both arrays are used as a bounded max-heap during the search and must have room for at least <code>k</code> elements.
+     * 
+     * @param x
+     *          the x coordinate of the query position
+     * @param y
+     *          the y coordinate of the query position
+     * @param z
+     *          the z coordinate of the query position
+     * @param k
+     *          the number of points to find
+     * @param resultIndices
+     *          will hold the indices of the found points
+     * @param resultDistancesSquared
+     *          will hold the squared distances of the found points
+     * @return the number of found points, which is the minimum of <code>k</code> and {@link #size()}
+     */
+    public int nearest(double x, double y, double z, int k, int[] resultIndices, double[] resultDistancesSquared) {
+        if (k < 0 || resultIndices.length < k || resultDistancesSquared.length < k)
+            throw new IllegalArgumentException("k");
+        int n = k == 0 ? 0 : nearest(0, count, x, y, z, k, resultIndices, resultDistancesSquared, 0);
+        /* Sort ascending by repeatedly moving the farthest point to the end of the heap */
+        for (int end = n - 1; end > 0; end--) {
+            int i = resultIndices[0];
+            double d = resultDistancesSquared[0];
+            siftDown(resultIndices, resultDistancesSquared, end, resultIndices[end], resultDistancesSquared[end]);
+            resultIndices[end] = i;
+            resultDistancesSquared[end] = d;
+        }
+        for (int i = 0; i < n; i++)
+            resultIndices[i] = indices[resultIndices[i]];
+        return n;
+    }
+
+    private int nearest(int lo, int hi, double x, double y, double z, int k, int[] heap, double[] heapDistances, int size) {
+        if (lo >= hi)
+            return size;
+        int mid = lo + hi >>> 1;
+        double d = distanceSquared(mid, x, y, z);
+        if (size < k) {
+            /* Sift up */
+            int i = size++;
+            while (i > 0) {
+                int parent = i - 1 >>> 1;
+                if (heapDistances[parent] >= d)
+                    break;
+                heap[i] = heap[parent];
+                heapDistances[i] = heapDistances[parent];
+                i = parent;
+            }
+            heap[i] = mid;
+            heapDistances[i] = d;
+        } else if (d < heapDistances[0]) {
+            siftDown(heap, heapDistances, size, mid, d);
+        }
+        double split = splitDistance(mid, x, y, z);
+        size = split < 0.0 ? nearest(lo, mid, x, y, z, k, heap, heapDistances, size) : nearest(mid + 1, hi, x, y, z, k, heap, heapDistances, size);
+        if (size < k || split * split < heapDistances[0])
+            size = split < 0.0 ? nearest(mid + 1, hi, x, y, z, k, heap, heapDistances, size) : nearest(lo, mid, x, y, z, k, heap, heapDistances, size);
+        return size;
+    }
+
+    /* Replace the root of the max-heap of the given size by the given element */
+    private static void siftDown(int[] heap, double[] heapDistances, int size, int element, double distance) {
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && heapDistances[child + 1] > heapDistances[child])
+                child++;
+            if (heapDistances[child] <= distance)
+                break;
+            heap[i] = heap[child];
+            heapDistances[i] = heapDistances[child];
+            i = child;
+        }
+        heap[i] = element;
+        heapDistances[i] = distance;
+    }
+
+    /**
+     * Find all points whose distance to <code>(x, y, z)</code> is at most <code>radius</code> and store their indices in <code>dest</code>.
+     * <p>
+     * If more points are found than fit into <code>dest</code>, only the first <code>dest.length</code> indices are stored,
+     * but the returned count still includes all found points.
+     * 
+     * @param x
+     *          the x coordinate of the query position
+     * @param y
+     *          the y coordinate of the query position
+     * @param z
+     *          the z coordinate of the query position
+     * @param radius
+     *          the maximum distance of the points to find
+     * @param dest
+     *          will hold the indices of the found points in no particular order
+     * @return the number of found points
+     */
+    public int withinRadius(double x, double y, double z, double radius, int[] dest) {
+        return withinRadius(0, count, x, y, z, radius * radius, dest, 0);
+    }
+
+    private int withinRadius(int lo, int hi, double x, double y, double z, double radiusSquared, int[] dest, int found) {
+        while (lo < hi) {
+            int mid = lo + hi >>> 1;
+            if (distanceSquared(mid, x, y, z) <= radiusSquared) {
+                if (found < dest.length)
+                    dest[found] = indices[mid];
+                found++;
+            }
+            double split = splitDistance(mid, x, y, z);
+            if (split * split <= radiusSquared) {
+                found = withinRadius(lo, mid, x, y, z, radiusSquared, dest, found);
+                lo = mid + 1;
+            } else if (split < 0.0) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return found;
+    }
+
+}
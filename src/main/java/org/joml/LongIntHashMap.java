@@ -0,0 +1,147 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * Open-addressing hash map from <code>long</code> keys to <code>int</code> values using linear probing, without boxing.
+ * <p>
+ * Removals shift the following entries of the probe sequence back instead of leaving tombstones, so the table never
+ * needs to be rehashed at the same capacity. The table must not be modified while iterating over its slots.
+ */
+final class LongIntHashMap {
+    long[] keys;
+    int[] values;
+    boolean[] used;
+    private int size;
+    private int mask;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = 16;
+        while (capacity * 3 < expectedSize * 4)
+            capacity <<= 1;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long key) {
+        /* Finalizer of MurmurHash3 to spread packed coordinates over all bits */
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key & mask;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    int get(long key, int missingValue) {
+        for (int i = slot(key); used[i]; i = i + 1 & mask)
+            if (keys[i] == key)
+                return values[i];
+        return missingValue;
+    }
+
+    /**
+     * Associate <code>value</code> with <code>key</code> and return the previous value, or <code>missingValue</code>
+     * if the key was not present.
+     */
+    int put(long key, int value, int missingValue) {
+        int i = slot(key);
+        for (; used[i]; i = i + 1 & mask) {
+            if (keys[i] == key) {
+                int previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+        used[i] = true;
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 4 > keys.length * 3)
+            rehash(keys.length << 1);
+        return missingValue;
+    }
+
+    /**
+     * Remove <code>key</code> and return its value, or <code>missingValue</code> if the key was not present.
+     */
+    int remove(long key, int missingValue) {
+        int i = slot(key);
+        for (; used[i]; i = i + 1 & mask)
+            if (keys[i] == key)
+                break;
+        if (!used[i])
+            return missingValue;
+        int value = values[i];
+        /* Shift back following entries whose probe sequence passes the freed slot */
+        for (int j = i + 1 & mask; used[j]; j = j + 1 & mask) {
+            int home = slot(keys[j]);
+            if ((j - home & mask) >= (j - i & mask)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        used[i] = false;
+        size--;
+        return value;
+    }
+
+    void clear() {
+        if (size == 0)
+            return;
+        java.util.Arrays.fill(used, false);
+        size = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (!oldUsed[j])
+                continue;
+            int i = slot(oldKeys[j]);
+            while (used[i])
+                i = i + 1 & mask;
+            used[i] = true;
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+}
@@ -36,6 +36,9 @@ package org.joml;
  * </ol>
  * By default, the first algorithm is being used. In order to use the second one, start the JVM with <code>-Djoml.sinLookup</code>. The lookup table bit length of the second algorithm can also be adjusted
  * for improved accuracy via <code>-Djoml.sinLookup.bits=&lt;n&gt;</code>, where &lt;n&gt; is the number of bits of the lookup table.
+ * <p>
+ * The array variants {@link #sin(float[], float[], int)}, {@link #cos(float[], float[], int)} and {@link #sincos(float[], float[], float[], int)}
+ * always use a separate branch-free polynomial approximation that is accurate to 1 ulp and can be vectorized by the JIT.
  * 
  * @author Kai Burjack
  */
@@ -261,6 +264,158 @@ public class Math {
         return cos;
     }
 
+    /*
+     * Batch sine and cosine.
+     * 
+     * The argument is reduced to r in [-pi/4, pi/4] and a quadrant q in double precision, rounding to the nearest
+     * integer by adding and subtracting 1.5 * 2^52 instead of calling rint(). sin(r) and cos(r) are then evaluated with the
+     * minimax polynomials of Cephes' sinf/cosf, and the result for the quadrant is selected and negated arithmetically.
+     * So the loops contain no branches and can be auto-vectorized by C2.
+     * 
+     * Chunks containing an argument beyond SINCOS_LIMIT (or NaN) are computed with java.lang.Math instead,
+     * because the two-part pi/2 is only exact enough for |q| < 2^20.
+     */
+    private static final double TWO_OVER_PI = 2.0 / PI;
+    private static final double PI_OVER_2_HI = 1.57079632673412561417e+00; // first 33 bits of pi/2
+    private static final double PI_OVER_2_LO = 6.07710050650619224932e-11; // pi/2 - PI_OVER_2_HI
+    private static final double ROUND_MAGIC = 6755399441055744.0; // 1.5 * 2^52
+    private static final float SINCOS_LIMIT = 1048576.0f;
+    private static final int SINCOS_CHUNK = 1024;
+    private static final float ps1 = -1.6666654611E-1f;
+    private static final float ps2 = 8.3321608736E-3f;
+    private static final float ps3 = -1.9515295891E-4f;
+    private static final float pc1 = 4.166664568298827E-2f;
+    private static final float pc2 = -1.388731625493765E-3f;
+    private static final float pc3 = 2.443315711809948E-5f;
+
+    /**
+     * Compute the sine of the first <code>n</code> elements of <code>in</code> and store them in <code>out</code>,
+     * which may be the same array as <code>in</code>.
+     * <p>
+     * This uses a branch-free polynomial approximation regardless of {@link Options#FASTMATH}, whose results differ from
+     * <code>(float) java.lang.Math.sin(in[i])</code> by at most 1 ulp. Only the sign of zero results may differ.
+     * 
+     * @param in
+     *          the angles in radians
+     * @param out
+     *          will hold the sines
+     * @param n
+     *          the number of elements
+     */
+    public static void sin(float[] in, float[] out, int n) {
+        checkSinCos(in, out, out, n);
+        for (int i = 0; i < n; i += SINCOS_CHUNK) {
+            int end = min(n, i + SINCOS_CHUNK);
+            if (sinCosInRange(in, i, end))
+                sinKernel(in, out, i, end);
+            else
+                for (int j = i; j < end; j++)
+                    out[j] = (float) java.lang.Math.sin(in[j]);
+        }
+    }
+
+    /**
+     * Compute the cosine of the first <code>n</code> elements of <code>in</code> and store them in <code>out</code>,
+     * which may be the same array as <code>in</code>.
+     * <p>
+     * This uses a branch-free polynomial approximation regardless of {@link Options#FASTMATH}, whose results differ from
+     * <code>(float) java.lang.Math.cos(in[i])</code> by at most 1 ulp. Only the sign of zero results may differ.
+     * 
+     * @param in
+     *          the angles in radians
+     * @param out
+     *          will hold the cosines
+     * @param n
+     *          the number of elements
+     */
+    public static void cos(float[] in, float[] out, int n) {
+        checkSinCos(in, out, out, n);
+        for (int i = 0; i < n; i += SINCOS_CHUNK) {
+            int end = min(n, i + SINCOS_CHUNK);
+            if (sinCosInRange(in, i, end))
+                cosKernel(in, out, i, end);
+            else
+                for (int j = i; j < end; j++)
+                    out[j] = (float) java.lang.Math.cos(in[j]);
+        }
+    }
+
+    /**
+     * Compute both the sine and the cosine of the first <code>n</code> elements of <code>in</code> and store them in
+     * <code>sinOut</code> and <code>cosOut</code>, either of which may be the same array as <code>in</code>.
+     * <p>
+     * This has the same accuracy as {@link #sin(float[], float[], int)} and {@link #cos(float[], float[], int)}, and processes
+     * the elements in cache-sized chunks, so that the cosines are computed while the arguments are still in the cache.
+     * 
+     * @param in
+     *          the angles in radians
+     * @param sinOut
+     *          will hold the sines
+     * @param cosOut
+     *          will hold the cosines
+     * @param n
+     *          the number of elements
+     */
+    public static void sincos(float[] in, float[] sinOut, float[] cosOut, int n) {
+        checkSinCos(in, sinOut, cosOut, n);
+        for (int i = 0; i < n; i += SINCOS_CHUNK) {
+            int end = min(n, i + SINCOS_CHUNK);
+            if (sinCosInRange(in, i, end)) {
+                // two separate loops, because C2 does not vectorize a loop storing into two arrays that may alias
+                if (sinOut == in) {
+                    cosKernel(in, cosOut, i, end);
+                    sinKernel(in, sinOut, i, end);
+                } else {
+                    sinKernel(in, sinOut, i, end);
+                    cosKernel(in, cosOut, i, end);
+                }
+            } else
+                for (int j = i; j < end; j++) {
+                    float x = in[j];
+                    sinOut[j] = (float) java.lang.Math.sin(x);
+                    cosOut[j] = (float) java.lang.Math.cos(x);
+                }
+        }
+    }
+
+    private static void checkSinCos(float[] in, float[] sinOut, float[] cosOut, int n) {
+        if (n < 0 || in.length < n || sinOut.length < n || cosOut.length < n)
+            throw new IllegalArgumentException("arrays are too small for " + n + " elements");
+    }
+    private static boolean sinCosInRange(float[] in, int from, int to) {
+        float max = 0.0f;
+        for (int i = from; i < to; i++)
+            max = java.lang.Math.max(max, java.lang.Math.abs(in[i]));
+        // also false for NaN
+        return max <= SINCOS_LIMIT;
+    }
+    private static void sinKernel(float[] in, float[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double x = in[i];
+            double k = (x * TWO_OVER_PI + ROUND_MAGIC) - ROUND_MAGIC;
+            int q = (int) k;
+            double r = (x - k * PI_OVER_2_HI) - k * PI_OVER_2_LO;
+            double z = r * r;
+            double s = ((ps3 * z + ps2) * z + ps1) * z * r + r;
+            double c = ((pc3 * z + pc2) * z + pc1) * z * z - 0.5 * z + 1.0;
+            double w = q & 1;
+            out[i] = (float) ((s * (1 - w) + c * w) * (1 - (q & 2)));
+        }
+    }
+    private static void cosKernel(float[] in, float[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double x = in[i];
+            double k = (x * TWO_OVER_PI + ROUND_MAGIC) - ROUND_MAGIC;
+            int q = (int) k;
+            double r = (x - k * PI_OVER_2_HI) - k * PI_OVER_2_LO;
+            double z = r * r;
+            double s = ((ps3 * z + ps2) * z + ps1) * z * r + r;
+            double c = ((pc3 * z + pc2) * z + pc1) * z * z - 0.5 * z + 1.0;
+            double w = q & 1;
+            out[i] = (float) ((c * (1 - w) + s * w) * (1 - ((q + 1) & 2)));
+        }
+    }
+
     /* Other math functions not yet approximated */
 
     public static float sqrt(float r) {
@@ -738,12 +738,24 @@ public class Matrix2d implements Externalizable, Cloneable, Matrix2dc {
 
 //#ifdef __HAS_UNSAFE__
     public Matrix2dc getToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.put(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.put(this, address);
         return this;
     }
     public Matrix2dc getTransposedToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.putTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.putTransposed(this, address);
@@ -838,7 +850,7 @@ public class Matrix2d implements Externalizable, Cloneable, Matrix2dc {
      * Set the values of this matrix by reading 4 double values from off-heap memory in column-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -847,6 +859,12 @@ public class Matrix2d implements Externalizable, Cloneable, Matrix2dc {
      * @return this
      */
     public Matrix2d setFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.get(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.get(this, address);
@@ -856,7 +874,7 @@ public class Matrix2d implements Externalizable, Cloneable, Matrix2dc {
      * Set the values of this matrix by reading 4 double values from off-heap memory in row-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -865,6 +883,12 @@ public class Matrix2d implements Externalizable, Cloneable, Matrix2dc {
      * @return this
      */
     public Matrix2d setTransposedFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.getTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.getTransposed(this, address);
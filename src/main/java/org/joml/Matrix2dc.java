@@ -432,7 +432,7 @@ public interface Matrix2dc {
     /**
      * Store this matrix in column-major order at the given off-heap address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -444,7 +444,7 @@ public interface Matrix2dc {
     /**
      * Store this matrix in row-major order at the given off-heap address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -23,6 +23,9 @@
  */
 package org.joml;
 
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
 //#ifdef __HAS_NIO__
 import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
@@ -552,6 +555,12 @@ public class Matrix2f implements Externalizable, Cloneable, Matrix2fc {
         MemUtil.INSTANCE.put(this, index, buffer);
         return buffer;
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    public MemorySegment get(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.put(this, 0L, segment.asSlice(byteOffset, 16));
+        return segment;
+    }
+//#endif
 
     public FloatBuffer getTransposed(FloatBuffer buffer) {
         return get(buffer.position(), buffer);
@@ -573,12 +582,24 @@ public class Matrix2f implements Externalizable, Cloneable, Matrix2fc {
 //#endif
 //#ifdef __HAS_UNSAFE__
     public Matrix2fc getToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.put(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.put(this, address);
         return this;
     }
     public Matrix2fc getTransposedToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.putTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.putTransposed(this, address);
@@ -667,6 +688,25 @@ public class Matrix2f implements Externalizable, Cloneable, Matrix2fc {
         MemUtil.INSTANCE.get(this, index, buffer);
         return this;
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+
+    /**
+     * Set the values of this matrix by reading 4 float values from the given {@link MemorySegment} in column-major order,
+     * starting at the specified byte offset.
+     * <p>
+     * The segment bounds are checked once for all 16 bytes before any value is accessed.
+     * 
+     * @param byteOffset
+     *          the offset in bytes into the MemorySegment
+     * @param segment
+     *          the MemorySegment to read the matrix values from in column-major order
+     * @return this
+     */
+    public Matrix2f set(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.get(this, 0L, segment.asSlice(byteOffset, 16));
+        return this;
+    }
+//#endif
 //#endif
 
 //#ifdef __HAS_UNSAFE__
@@ -674,7 +714,7 @@ public class Matrix2f implements Externalizable, Cloneable, Matrix2fc {
      * Set the values of this matrix by reading 4 float values from off-heap memory in column-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -683,6 +723,12 @@ public class Matrix2f implements Externalizable, Cloneable, Matrix2fc {
      * @return this
      */
     public Matrix2f setFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.get(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.get(this, address);
@@ -692,7 +738,7 @@ public class Matrix2f implements Externalizable, Cloneable, Matrix2fc {
      * Set the values of this matrix by reading 4 float values from off-heap memory in row-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -701,6 +747,12 @@ public class Matrix2f implements Externalizable, Cloneable, Matrix2fc {
      * @return this
      */
     public Matrix2f setTransposedFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.getTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.getTransposed(this, address);
@@ -1190,12 +1190,24 @@ public class Matrix3d implements Externalizable, Cloneable, Matrix3dc {
 
 //#ifdef __HAS_UNSAFE__
     public Matrix3dc getToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.put(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.put(this, address);
         return this;
     }
     public Matrix3dc getTransposedToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.putTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.putTransposed(this, address);
@@ -1387,7 +1399,7 @@ public class Matrix3d implements Externalizable, Cloneable, Matrix3dc {
      * Set the values of this matrix by reading 9 double values from off-heap memory in column-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      * 
@@ -1396,6 +1408,12 @@ public class Matrix3d implements Externalizable, Cloneable, Matrix3dc {
      * @return this
      */
     public Matrix3d setFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.get(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.get(this, address);
@@ -1405,7 +1423,7 @@ public class Matrix3d implements Externalizable, Cloneable, Matrix3dc {
      * Set the values of this matrix by reading 9 double values from off-heap memory in row-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -1414,6 +1432,12 @@ public class Matrix3d implements Externalizable, Cloneable, Matrix3dc {
      * @return this
      */
     public Matrix3d setTransposedFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.getTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.getTransposed(this, address);
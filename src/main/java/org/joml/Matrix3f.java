@@ -27,12 +27,16 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
 //#ifdef __HAS_NIO__
 import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
 //#endif
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.util.List;
 
 /**
  * Contains the definition of a 3x3 matrix of floats, and associated functions to transform
@@ -953,6 +957,12 @@ public class Matrix3f implements Externalizable, Cloneable, Matrix3fc {
         MemUtil.INSTANCE.put(this, index, buffer);
         return buffer;
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    public MemorySegment get(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.put(this, 0L, segment.asSlice(byteOffset, 36));
+        return segment;
+    }
+//#endif
 
     public FloatBuffer get3x4(FloatBuffer buffer) {
         return get3x4(buffer.position(), buffer);
@@ -972,6 +982,68 @@ public class Matrix3f implements Externalizable, Cloneable, Matrix3fc {
         return buffer;
     }
 
+    /**
+     * Store <code>count</code> matrices of <code>src</code>, starting at array index <code>from</code>, as 3x4 matrices in column-major order
+     * into the supplied {@link ByteBuffer}, the first one at the current buffer position and each following one
+     * <code>byteStride</code> bytes after the previous one.
+     * <p>
+     * The array range and the buffer range are validated once for all matrices before any value is written.
+     * <p>
+     * Each column is padded with a zero to 16 bytes. With a <code>byteStride</code> of 48 this is the std140 and std430 layout of a
+     * GLSL <code>mat3[]</code>.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @param src
+     *          the matrices to store
+     * @param from
+     *          the index of the first matrix in <code>src</code>
+     * @param count
+     *          the number of matrices to store
+     * @param dst
+     *          will receive the matrix values
+     * @param byteStride
+     *          the distance in bytes between the first elements of two consecutive matrices in <code>dst</code>
+     * @return dst
+     */
+    public static ByteBuffer getAll3x4(Matrix3fc[] src, int from, int count, ByteBuffer dst, int byteStride) {
+        int index = dst.position();
+        MemUtil.checkPutAll(src.length, from, count, index, dst.limit(), byteStride, 12 << 2);
+        MemUtil.INSTANCE.putAll3x4(src, from, count, index, dst, byteStride);
+        return dst;
+    }
+
+    /**
+     * Store <code>count</code> matrices of the list <code>src</code>, starting at list index <code>from</code>, in the same layout as
+     * {@link #getAll3x4(Matrix3fc[], int, int, ByteBuffer, int)}.
+     * <p>
+     * The list range and the buffer range are validated once for all matrices before any value is written. The range of the list is
+     * then copied into an array and stored in one call, so this method allocates an array of <code>count</code> references.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @param src
+     *          the list of {@link Matrix3fc} instances to store
+     * @param from
+     *          the index of the first matrix in <code>src</code>
+     * @param count
+     *          the number of matrices to store
+     * @param dst
+     *          will receive the matrix values
+     * @param byteStride
+     *          the distance in bytes between the first elements of two consecutive matrices in <code>dst</code>
+     * @return dst
+     * @throws ArrayStoreException
+     *          if an element of the range is not a {@link Matrix3fc}
+     */
+    public static ByteBuffer getAll3x4(List src, int from, int count, ByteBuffer dst, int byteStride) {
+        int index = dst.position();
+        MemUtil.checkPutAll(src.size(), from, count, index, dst.limit(), byteStride, 12 << 2);
+        Matrix3fc[] matrices = (Matrix3fc[]) src.subList(from, from + count).toArray(new Matrix3fc[count]);
+        MemUtil.INSTANCE.putAll3x4(matrices, 0, count, index, dst, byteStride);
+        return dst;
+    }
+
     public FloatBuffer getTransposed(FloatBuffer buffer) {
         return getTransposed(buffer.position(), buffer);
     }
@@ -993,12 +1065,24 @@ public class Matrix3f implements Externalizable, Cloneable, Matrix3fc {
 
 //#ifdef __HAS_UNSAFE__
     public Matrix3fc getToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.put(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.put(this, address);
         return this;
     }
     public Matrix3fc getTransposedToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.putTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.putTransposed(this, address);
@@ -1087,13 +1171,32 @@ public class Matrix3f implements Externalizable, Cloneable, Matrix3fc {
         MemUtil.INSTANCE.get(this, index, buffer);
         return this;
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+
+    /**
+     * Set the values of this matrix by reading 9 float values from the given {@link MemorySegment} in column-major order,
+     * starting at the specified byte offset.
+     * <p>
+     * The segment bounds are checked once for all 36 bytes before any value is accessed.
+     * 
+     * @param byteOffset
+     *          the offset in bytes into the MemorySegment
+     * @param segment
+     *          the MemorySegment to read the matrix values from in column-major order
+     * @return this
+     */
+    public Matrix3f set(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.get(this, 0L, segment.asSlice(byteOffset, 36));
+        return this;
+    }
+//#endif
 //#endif
 //#ifdef __HAS_UNSAFE__
     /**
      * Set the values of this matrix by reading 9 float values from off-heap memory in column-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      * 
@@ -1102,6 +1205,12 @@ public class Matrix3f implements Externalizable, Cloneable, Matrix3fc {
      * @return this
      */
     public Matrix3f setFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.get(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.get(this, address);
@@ -1111,7 +1220,7 @@ public class Matrix3f implements Externalizable, Cloneable, Matrix3fc {
      * Set the values of this matrix by reading 9 float values from off-heap memory in row-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -1120,6 +1229,12 @@ public class Matrix3f implements Externalizable, Cloneable, Matrix3fc {
      * @return this
      */
     public Matrix3f setTransposedFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.getTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.getTransposed(this, address);
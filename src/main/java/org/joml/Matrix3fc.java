@@ -23,6 +23,9 @@
  */
 package org.joml;
 
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
 //#ifdef __HAS_NIO__
 import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
@@ -313,6 +316,22 @@ public interface Matrix3fc {
      * @return the passed in buffer
      */
     ByteBuffer get(int index, ByteBuffer buffer);
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+
+    /**
+     * Store this matrix in column-major order into the supplied {@link MemorySegment} starting at the specified
+     * byte offset.
+     * <p>
+     * The segment bounds are checked once for all 36 bytes before any value is accessed.
+     * 
+     * @param byteOffset
+     *          the offset in bytes into the MemorySegment
+     * @param segment
+     *          will receive the values of this matrix in column-major order
+     * @return the passed in segment
+     */
+    MemorySegment get(long byteOffset, MemorySegment segment);
+//#endif
 
     /**
      * Store this matrix as 3x4 matrix in column-major order into the supplied {@link FloatBuffer} at the current
@@ -447,7 +466,7 @@ public interface Matrix3fc {
     /**
      * Store this matrix in column-major order at the given off-heap address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      * 
@@ -459,7 +478,7 @@ public interface Matrix3fc {
     /**
      * Store this matrix in row-major order at the given off-heap address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
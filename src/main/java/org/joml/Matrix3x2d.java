@@ -1110,12 +1110,24 @@ public class Matrix3x2d implements Matrix3x2dc, Cloneable, Externalizable {
 
 //#ifdef __HAS_UNSAFE__
     public Matrix3x2dc getToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.put(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.put(this, address);
         return this;
     }
     public Matrix3x2dc getTransposedToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.putTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.putTransposed(this, address);
@@ -1290,7 +1302,7 @@ public class Matrix3x2d implements Matrix3x2dc, Cloneable, Externalizable {
      * Set the values of this matrix by reading 6 double values from off-heap memory in column-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      * 
@@ -1299,6 +1311,12 @@ public class Matrix3x2d implements Matrix3x2dc, Cloneable, Externalizable {
      * @return this
      */
     public Matrix3x2d setFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.get(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.get(this, address);
@@ -1308,7 +1326,7 @@ public class Matrix3x2d implements Matrix3x2dc, Cloneable, Externalizable {
      * Set the values of this matrix by reading 6 double values from off-heap memory in row-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -1317,6 +1335,12 @@ public class Matrix3x2d implements Matrix3x2dc, Cloneable, Externalizable {
      * @return this
      */
     public Matrix3x2d setTransposedFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.getTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.getTransposed(this, address);
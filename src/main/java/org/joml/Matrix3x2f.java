@@ -27,6 +27,9 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
 //#ifdef __HAS_NIO__
 import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
@@ -862,6 +865,12 @@ public class Matrix3x2f implements Matrix3x2fc, Externalizable, Cloneable {
         MemUtil.INSTANCE.put(this, index, buffer);
         return buffer;
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    public MemorySegment get(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.put(this, 0L, segment.asSlice(byteOffset, 24));
+        return segment;
+    }
+//#endif
 
     /**
      * Store this matrix as an equivalent 3x3 matrix in column-major order into the supplied {@link FloatBuffer} at the current
@@ -1017,12 +1026,24 @@ public class Matrix3x2f implements Matrix3x2fc, Externalizable, Cloneable {
 //#endif
 //#ifdef __HAS_UNSAFE__
     public Matrix3x2fc getToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.put(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.put(this, address);
         return this;
     }
     public Matrix3x2fc getTransposedToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.putTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.putTransposed(this, address);
@@ -1189,6 +1210,25 @@ public class Matrix3x2f implements Matrix3x2fc, Externalizable, Cloneable {
         MemUtil.INSTANCE.get(this, index, buffer);
         return this;
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+
+    /**
+     * Set the values of this matrix by reading 6 float values from the given {@link MemorySegment} in column-major order,
+     * starting at the specified byte offset.
+     * <p>
+     * The segment bounds are checked once for all 24 bytes before any value is accessed.
+     * 
+     * @param byteOffset
+     *          the offset in bytes into the MemorySegment
+     * @param segment
+     *          the MemorySegment to read the matrix values from in column-major order
+     * @return this
+     */
+    public Matrix3x2f set(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.get(this, 0L, segment.asSlice(byteOffset, 24));
+        return this;
+    }
+//#endif
 //#endif
 
 //#ifdef __HAS_UNSAFE__
@@ -1196,7 +1236,7 @@ public class Matrix3x2f implements Matrix3x2fc, Externalizable, Cloneable {
      * Set the values of this matrix by reading 6 float values from off-heap memory in column-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      * 
@@ -1205,6 +1245,12 @@ public class Matrix3x2f implements Matrix3x2fc, Externalizable, Cloneable {
      * @return this
      */
     public Matrix3x2f setFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.get(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.get(this, address);
@@ -1214,7 +1260,7 @@ public class Matrix3x2f implements Matrix3x2fc, Externalizable, Cloneable {
      * Set the values of this matrix by reading 6 float values from off-heap memory in row-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -1223,6 +1269,12 @@ public class Matrix3x2f implements Matrix3x2fc, Externalizable, Cloneable {
      * @return this
      */
     public Matrix3x2f setTransposedFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.getTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.getTransposed(this, address);
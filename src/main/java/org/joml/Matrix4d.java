@@ -2756,7 +2756,7 @@ public class Matrix4d implements Externalizable, Cloneable, Matrix4dc {
      * Set the values of this matrix by reading 16 double values from off-heap memory in column-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      * 
@@ -2765,6 +2765,12 @@ public class Matrix4d implements Externalizable, Cloneable, Matrix4dc {
      * @return this
      */
     public Matrix4d setFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.get(this, address);
+            return determineProperties();
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.get(this, address);
@@ -2774,7 +2780,7 @@ public class Matrix4d implements Externalizable, Cloneable, Matrix4dc {
      * Set the values of this matrix by reading 16 double values from off-heap memory in row-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -2783,6 +2789,12 @@ public class Matrix4d implements Externalizable, Cloneable, Matrix4dc {
      * @return this
      */
     public Matrix4d setTransposedFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.getTransposed(this, address);
+            return determineProperties();
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.getTransposed(this, address);
@@ -3512,12 +3524,24 @@ public class Matrix4d implements Externalizable, Cloneable, Matrix4dc {
 //#endif
 //#ifdef __HAS_UNSAFE__
     public Matrix4dc getToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.put(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.put(this, address);
         return this;
     }
     public Matrix4dc getTransposedToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.putTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.putTransposed(this, address);
@@ -4347,6 +4371,103 @@ public class Matrix4d implements Externalizable, Cloneable, Matrix4dc {
         return dest;
     }
 
+    public double[] transformPositions(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        if ((properties & PROPERTY_IDENTITY) != 0)
+            return copyPositions(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        if ((properties & PROPERTY_TRANSLATION) != 0)
+            return transformPositionsTranslation(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        return transformPositionsGeneric(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+    private double[] copyPositions(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        if (src == dest && srcOffset == destOffset && srcStride == destStride)
+            return dest;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            dest[d] = x;
+            dest[d + 1] = y;
+            dest[d + 2] = z;
+        }
+        return dest;
+    }
+    private double[] transformPositionsTranslation(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        double m30 = this.m30, m31 = this.m31, m32 = this.m32;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            dest[d] = x + m30;
+            dest[d + 1] = y + m31;
+            dest[d + 2] = z + m32;
+        }
+        return dest;
+    }
+    private double[] transformPositionsGeneric(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        double m00 = this.m00, m01 = this.m01, m02 = this.m02;
+        double m10 = this.m10, m11 = this.m11, m12 = this.m12;
+        double m20 = this.m20, m21 = this.m21, m22 = this.m22;
+        double m30 = this.m30, m31 = this.m31, m32 = this.m32;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            dest[d] = m00 * x + m10 * y + m20 * z + m30;
+            dest[d + 1] = m01 * x + m11 * y + m21 * z + m31;
+            dest[d + 2] = m02 * x + m12 * y + m22 * z + m32;
+        }
+        return dest;
+    }
+
+    public double[] transformPositions(double[] xyz, int offset, int count) {
+        return transformPositions(xyz, offset, 3, xyz, offset, 3, count);
+    }
+
+    public double[] transformDirections(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        if ((properties & (PROPERTY_IDENTITY | PROPERTY_TRANSLATION)) != 0)
+            return copyPositions(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        return transformDirectionsGeneric(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+    private double[] transformDirectionsGeneric(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        double m00 = this.m00, m01 = this.m01, m02 = this.m02;
+        double m10 = this.m10, m11 = this.m11, m12 = this.m12;
+        double m20 = this.m20, m21 = this.m21, m22 = this.m22;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            dest[d] = m00 * x + m10 * y + m20 * z;
+            dest[d + 1] = m01 * x + m11 * y + m21 * z;
+            dest[d + 2] = m02 * x + m12 * y + m22 * z;
+        }
+        return dest;
+    }
+
+    public double[] transformDirections(double[] xyz, int offset, int count) {
+        return transformDirections(xyz, offset, 3, xyz, offset, 3, count);
+    }
+
+    public double[] transformProject(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        if ((properties & PROPERTY_IDENTITY) != 0)
+            return copyPositions(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        if ((properties & PROPERTY_TRANSLATION) != 0)
+            return transformPositionsTranslation(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        if ((properties & PROPERTY_AFFINE) != 0)
+            return transformPositionsGeneric(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        return transformProjectGeneric(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+    private double[] transformProjectGeneric(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        double m00 = this.m00, m01 = this.m01, m02 = this.m02;
+        double m10 = this.m10, m11 = this.m11, m12 = this.m12;
+        double m20 = this.m20, m21 = this.m21, m22 = this.m22;
+        double m30 = this.m30, m31 = this.m31, m32 = this.m32;
+        double m03 = this.m03, m13 = this.m13, m23 = this.m23, m33 = this.m33;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            double invW = 1.0 / (m03 * x + m13 * y + m23 * z + m33);
+            dest[d] = (m00 * x + m10 * y + m20 * z + m30) * invW;
+            dest[d + 1] = (m01 * x + m11 * y + m21 * z + m31) * invW;
+            dest[d + 2] = (m02 * x + m12 * y + m22 * z + m32) * invW;
+        }
+        return dest;
+    }
+
+    public double[] transformProject(double[] xyz, int offset, int count) {
+        return transformProject(xyz, offset, 3, xyz, offset, 3, count);
+    }
+
     public Vector4d transformAffine(Vector4d dest) {
         return dest.mulAffine(this, dest);
     }
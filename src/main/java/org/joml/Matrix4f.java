@@ -23,6 +23,9 @@
  */
 package org.joml;
 
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
 import org.intellij.lang.annotations.MagicConstant;
 
 import java.io.Externalizable;
@@ -35,6 +38,7 @@ import java.nio.FloatBuffer;
 //#endif
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.util.List;
 
 /**
  * Contains the definition of a 4x4 matrix of floats, and associated functions to transform
@@ -1161,6 +1165,14 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
             dest.properties = properties & mright.properties & (PROPERTY_AFFINE | PROPERTY_ORTHONORMAL);
             return dest;
         }
+//#endif
+//#ifdef __HAS_VECTOR_API__
+        else if (VectorApiCode.canUseVectorApi && right instanceof Matrix4f) {
+            Matrix4f mright = (Matrix4f) right;
+            VectorApiCode.__Matrix4f_mul(this, mright, dest);
+            dest.properties = properties & mright.properties & (PROPERTY_AFFINE | PROPERTY_ORTHONORMAL);
+            return dest;
+        }
 //#endif
         else if ((properties & PROPERTY_TRANSLATION) != 0 && (right.properties() & PROPERTY_AFFINE) != 0)
             return mulTranslationAffine(right, dest);
@@ -2419,6 +2431,25 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
         MemUtil.INSTANCE.get(this, index, buffer);
         return determineProperties();
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+
+    /**
+     * Set the values of this matrix by reading 16 float values from the given {@link MemorySegment} in column-major order,
+     * starting at the specified byte offset.
+     * <p>
+     * The segment bounds are checked once for all 64 bytes before any value is accessed.
+     * 
+     * @param byteOffset
+     *          the offset in bytes into the MemorySegment
+     * @param segment
+     *          the MemorySegment to read the matrix values from in column-major order
+     * @return this
+     */
+    public Matrix4f set(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.get(this, 0L, segment.asSlice(byteOffset, 64));
+        return determineProperties();
+    }
+//#endif
 
     /**
      * Set the values of this matrix by reading 16 float values from the given {@link FloatBuffer} in row-major order,
@@ -2460,7 +2491,7 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
      * Set the values of this matrix by reading 16 float values from off-heap memory in column-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      * 
@@ -2469,6 +2500,12 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
      * @return this
      */
     public Matrix4f setFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.get(this, address);
+            return determineProperties();
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.get(this, address);
@@ -2479,7 +2516,7 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
      * Set the values of this matrix by reading 16 float values from off-heap memory in row-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      * 
@@ -2488,6 +2525,12 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
      * @return this
      */
     public Matrix4f setTransposedFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.getTransposed(this, address);
+            return determineProperties();
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.getTransposed(this, address);
@@ -2565,6 +2608,13 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
             dest.properties = properties & PROPERTY_AFFINE;
             return dest;
         }
+//#endif
+//#ifdef __HAS_VECTOR_API__
+        else if (VectorApiCode.canUseVectorApi) {
+            VectorApiCode.__Matrix4f_invert(this, dest);
+            dest.properties = properties & PROPERTY_AFFINE;
+            return dest;
+        }
 //#endif
         else if ((properties & PROPERTY_AFFINE) != 0)
             return invertAffine(dest);
@@ -2974,6 +3024,13 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
             dest.properties = PROPERTY_UNKNOWN;
             return dest;
         }
+//#endif
+//#ifdef __HAS_VECTOR_API__
+        else if (VectorApiCode.canUseVectorApi) {
+            VectorApiCode.__Matrix4f_transpose(this, dest);
+            dest.properties = PROPERTY_UNKNOWN;
+            return dest;
+        }
 //#endif
         else if (this != dest)
             return transposeNonThisGeneric(dest);
@@ -3293,14 +3350,27 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
     }
 
     public ByteBuffer get(ByteBuffer buffer) {
-        MemUtil.INSTANCE.put(this, buffer.position(), buffer);
-        return buffer;
+        return get(buffer.position(), buffer);
     }
 
     public ByteBuffer get(int index, ByteBuffer buffer) {
+//#ifdef __HAS_VECTOR_API__
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (VectorApiCode.canUseVectorApi && !buffer.isReadOnly() && index >= buffer.position()) {
+            VectorApiCode.__Matrix4f_get(this, index, buffer);
+            return buffer;
+        }
+//#endif
+//#endif
         MemUtil.INSTANCE.put(this, index, buffer);
         return buffer;
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    public MemorySegment get(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.put(this, 0L, segment.asSlice(byteOffset, 64));
+        return segment;
+    }
+//#endif
 
     public FloatBuffer get4x3(FloatBuffer buffer) {
         MemUtil.INSTANCE.put4x3(this, buffer.position(), buffer);
@@ -3362,6 +3432,128 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
         return buffer;
     }
 
+    /**
+     * Store <code>count</code> matrices of <code>src</code>, starting at array index <code>from</code>, in column-major order
+     * into the supplied {@link ByteBuffer}, the first one at the current buffer position and each following one
+     * <code>byteStride</code> bytes after the previous one.
+     * <p>
+     * The array range and the buffer range are validated once for all matrices before any value is written.
+     * <p>
+     * With a <code>byteStride</code> of 64 this is the std140 and std430 layout of a GLSL <code>mat4[]</code>.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @param src
+     *          the matrices to store
+     * @param from
+     *          the index of the first matrix in <code>src</code>
+     * @param count
+     *          the number of matrices to store
+     * @param dst
+     *          will receive the matrix values
+     * @param byteStride
+     *          the distance in bytes between the first elements of two consecutive matrices in <code>dst</code>
+     * @return dst
+     */
+    public static ByteBuffer getAll(Matrix4fc[] src, int from, int count, ByteBuffer dst, int byteStride) {
+        int index = dst.position();
+        MemUtil.checkPutAll(src.length, from, count, index, dst.limit(), byteStride, 16 << 2);
+        MemUtil.INSTANCE.putAll(src, from, count, index, dst, byteStride);
+        return dst;
+    }
+
+    /**
+     * Store <code>count</code> matrices of the list <code>src</code>, starting at list index <code>from</code>, in the same layout as
+     * {@link #getAll(Matrix4fc[], int, int, ByteBuffer, int)}.
+     * <p>
+     * The list range and the buffer range are validated once for all matrices before any value is written. The range of the list is
+     * then copied into an array and stored in one call, so this method allocates an array of <code>count</code> references.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @param src
+     *          the list of {@link Matrix4fc} instances to store
+     * @param from
+     *          the index of the first matrix in <code>src</code>
+     * @param count
+     *          the number of matrices to store
+     * @param dst
+     *          will receive the matrix values
+     * @param byteStride
+     *          the distance in bytes between the first elements of two consecutive matrices in <code>dst</code>
+     * @return dst
+     * @throws ArrayStoreException
+     *          if an element of the range is not a {@link Matrix4fc}
+     */
+    public static ByteBuffer getAll(List src, int from, int count, ByteBuffer dst, int byteStride) {
+        int index = dst.position();
+        MemUtil.checkPutAll(src.size(), from, count, index, dst.limit(), byteStride, 16 << 2);
+        Matrix4fc[] matrices = (Matrix4fc[]) src.subList(from, from + count).toArray(new Matrix4fc[count]);
+        MemUtil.INSTANCE.putAll(matrices, 0, count, index, dst, byteStride);
+        return dst;
+    }
+
+    /**
+     * Store <code>count</code> matrices of <code>src</code>, starting at array index <code>from</code>, in row-major order
+     * into the supplied {@link ByteBuffer}, the first one at the current buffer position and each following one
+     * <code>byteStride</code> bytes after the previous one.
+     * <p>
+     * The array range and the buffer range are validated once for all matrices before any value is written.
+     * <p>
+     * With a <code>byteStride</code> of 64 this is the std140 and std430 layout of a GLSL <code>mat4[]</code> declared <code>row_major</code>.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @param src
+     *          the matrices to store
+     * @param from
+     *          the index of the first matrix in <code>src</code>
+     * @param count
+     *          the number of matrices to store
+     * @param dst
+     *          will receive the matrix values
+     * @param byteStride
+     *          the distance in bytes between the first elements of two consecutive matrices in <code>dst</code>
+     * @return dst
+     */
+    public static ByteBuffer getAllTransposed(Matrix4fc[] src, int from, int count, ByteBuffer dst, int byteStride) {
+        int index = dst.position();
+        MemUtil.checkPutAll(src.length, from, count, index, dst.limit(), byteStride, 16 << 2);
+        MemUtil.INSTANCE.putAllTransposed(src, from, count, index, dst, byteStride);
+        return dst;
+    }
+
+    /**
+     * Store <code>count</code> matrices of the list <code>src</code>, starting at list index <code>from</code>, in the same layout as
+     * {@link #getAllTransposed(Matrix4fc[], int, int, ByteBuffer, int)}.
+     * <p>
+     * The list range and the buffer range are validated once for all matrices before any value is written. The range of the list is
+     * then copied into an array and stored in one call, so this method allocates an array of <code>count</code> references.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @param src
+     *          the list of {@link Matrix4fc} instances to store
+     * @param from
+     *          the index of the first matrix in <code>src</code>
+     * @param count
+     *          the number of matrices to store
+     * @param dst
+     *          will receive the matrix values
+     * @param byteStride
+     *          the distance in bytes between the first elements of two consecutive matrices in <code>dst</code>
+     * @return dst
+     * @throws ArrayStoreException
+     *          if an element of the range is not a {@link Matrix4fc}
+     */
+    public static ByteBuffer getAllTransposed(List src, int from, int count, ByteBuffer dst, int byteStride) {
+        int index = dst.position();
+        MemUtil.checkPutAll(src.size(), from, count, index, dst.limit(), byteStride, 16 << 2);
+        Matrix4fc[] matrices = (Matrix4fc[]) src.subList(from, from + count).toArray(new Matrix4fc[count]);
+        MemUtil.INSTANCE.putAllTransposed(matrices, 0, count, index, dst, byteStride);
+        return dst;
+    }
+
     public FloatBuffer get4x3Transposed(FloatBuffer buffer) {
         MemUtil.INSTANCE.put4x3Transposed(this, buffer.position(), buffer);
         return buffer;
@@ -3384,12 +3576,24 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
 //#endif
 //#ifdef __HAS_UNSAFE__
     public Matrix4fc getToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.put(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.put(this, address);
         return this;
     }
     public Matrix4fc getTransposedToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.putTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.putTransposed(this, address);
@@ -4693,6 +4897,133 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
         return dest.set(x, y, z).mulDirection(this);
     }
 
+    public float[] transformPositions(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        if ((properties & PROPERTY_IDENTITY) != 0)
+            return copyPositions(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        if ((properties & PROPERTY_TRANSLATION) != 0)
+            return transformPositionsTranslation(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        return transformPositionsGeneric(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+    private float[] copyPositions(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        if (src == dest && srcOffset == destOffset && srcStride == destStride)
+            return dest;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            float x = src[s], y = src[s + 1], z = src[s + 2];
+            dest[d] = x;
+            dest[d + 1] = y;
+            dest[d + 2] = z;
+        }
+        return dest;
+    }
+    private float[] transformPositionsTranslation(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        float m30 = this.m30, m31 = this.m31, m32 = this.m32;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            float x = src[s], y = src[s + 1], z = src[s + 2];
+            dest[d] = x + m30;
+            dest[d + 1] = y + m31;
+            dest[d + 2] = z + m32;
+        }
+        return dest;
+    }
+    private float[] transformPositionsGeneric(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        float m00 = this.m00, m01 = this.m01, m02 = this.m02;
+        float m10 = this.m10, m11 = this.m11, m12 = this.m12;
+        float m20 = this.m20, m21 = this.m21, m22 = this.m22;
+        float m30 = this.m30, m31 = this.m31, m32 = this.m32;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            float x = src[s], y = src[s + 1], z = src[s + 2];
+            dest[d] = Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30)));
+            dest[d + 1] = Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31)));
+            dest[d + 2] = Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32)));
+        }
+        return dest;
+    }
+
+    public float[] transformPositions(float[] xyz, int offset, int count) {
+        return transformPositions(xyz, offset, 3, xyz, offset, 3, count);
+    }
+
+    public float[] transformDirections(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        if ((properties & (PROPERTY_IDENTITY | PROPERTY_TRANSLATION)) != 0)
+            return copyPositions(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        return transformDirectionsGeneric(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+    private float[] transformDirectionsGeneric(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        float m00 = this.m00, m01 = this.m01, m02 = this.m02;
+        float m10 = this.m10, m11 = this.m11, m12 = this.m12;
+        float m20 = this.m20, m21 = this.m21, m22 = this.m22;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            float x = src[s], y = src[s + 1], z = src[s + 2];
+            dest[d] = Math.fma(m00, x, Math.fma(m10, y, m20 * z));
+            dest[d + 1] = Math.fma(m01, x, Math.fma(m11, y, m21 * z));
+            dest[d + 2] = Math.fma(m02, x, Math.fma(m12, y, m22 * z));
+        }
+        return dest;
+    }
+
+    public float[] transformDirections(float[] xyz, int offset, int count) {
+        return transformDirections(xyz, offset, 3, xyz, offset, 3, count);
+    }
+
+    public float[] transformProject(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        if ((properties & PROPERTY_IDENTITY) != 0)
+            return copyPositions(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        if ((properties & PROPERTY_TRANSLATION) != 0)
+            return transformPositionsTranslation(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        if ((properties & PROPERTY_AFFINE) != 0)
+            return transformPositionsGeneric(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        return transformProjectGeneric(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+    private float[] transformProjectGeneric(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        float m00 = this.m00, m01 = this.m01, m02 = this.m02;
+        float m10 = this.m10, m11 = this.m11, m12 = this.m12;
+        float m20 = this.m20, m21 = this.m21, m22 = this.m22;
+        float m30 = this.m30, m31 = this.m31, m32 = this.m32;
+        float m03 = this.m03, m13 = this.m13, m23 = this.m23, m33 = this.m33;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            float x = src[s], y = src[s + 1], z = src[s + 2];
+            float invW = 1.0f / Math.fma(m03, x, Math.fma(m13, y, Math.fma(m23, z, m33)));
+            dest[d] = Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))) * invW;
+            dest[d + 1] = Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))) * invW;
+            dest[d + 2] = Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))) * invW;
+        }
+        return dest;
+    }
+
+    public float[] transformProject(float[] xyz, int offset, int count) {
+        return transformProject(xyz, offset, 3, xyz, offset, 3, count);
+    }
+
+//#ifdef __HAS_NIO__
+    public FloatBuffer transformPositions(FloatBuffer src, FloatBuffer dest, int count, int stride) {
+        if ((properties & PROPERTY_IDENTITY) != 0 && src == dest)
+            return dest;
+        MemUtil.INSTANCE.transform(this, 1.0f, src.position(), src, dest.position(), dest, count, stride);
+        return dest;
+    }
+
+    public ByteBuffer transformPositions(ByteBuffer src, ByteBuffer dest, int count, int stride) {
+        if ((properties & PROPERTY_IDENTITY) != 0 && src == dest)
+            return dest;
+        MemUtil.INSTANCE.transform(this, 1.0f, src.position(), src, dest.position(), dest, count, stride);
+        return dest;
+    }
+
+    public FloatBuffer transformDirections(FloatBuffer src, FloatBuffer dest, int count, int stride) {
+        if ((properties & PROPERTY_IDENTITY) != 0 && src == dest)
+            return dest;
+        MemUtil.INSTANCE.transform(this, 0.0f, src.position(), src, dest.position(), dest, count, stride);
+        return dest;
+    }
+
+    public ByteBuffer transformDirections(ByteBuffer src, ByteBuffer dest, int count, int stride) {
+        if ((properties & PROPERTY_IDENTITY) != 0 && src == dest)
+            return dest;
+        MemUtil.INSTANCE.transform(this, 0.0f, src.position(), src, dest.position(), dest, count, stride);
+        return dest;
+    }
+//#endif
+
     public Vector4f transformAffine(Vector4f v) {
         return v.mulAffine(this, v);
     }
@@ -0,0 +1,1702 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+package org.joml;
+
+import java.lang.foreign.MemorySegment;
+//#ifdef __HAS_NIO__
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+//#endif
+import java.util.*;
+
+/**
+ * A flyweight {@link Matrix4fc} whose 16 float elements live in a {@link MemorySegment}, stored in column-major
+ * order starting at a byte offset.
+ * <p>
+ * Element accessors and setters read and write the segment directly. All other operations of {@link Matrix4fc}
+ * first load the matrix into an internal {@link Matrix4f} and then delegate to it, so a single instance must not
+ * be used by multiple threads at the same time.
+ * <p>
+ * {@link #reposition(long)} moves the view to another matrix in the same segment, which allows iterating over
+ * large arrays of matrices without allocating a Matrix4f for each of them:
+ * <pre>
+ * Matrix4fView view = new Matrix4fView(segment, 0L);
+ * for (long offset = 0L; offset &lt; segment.byteSize(); offset += 64)
+ *     view.reposition(offset).mul(transform);
+ * </pre>
+ */
+public class Matrix4fView implements Matrix4fc {
+
+    private final MemorySegment segment;
+    private long offset;
+    private final Matrix4f tmp = new Matrix4f();
+
+    /**
+     * Create a new {@link Matrix4fView} over the 64 bytes of the given segment starting at <code>offset</code>.
+     * 
+     * @param segment
+     *          the segment holding the matrix elements in column-major order
+     * @param offset
+     *          the byte offset of the first matrix element
+     */
+    public Matrix4fView(MemorySegment segment, long offset) {
+        this.segment = segment;
+        reposition(offset);
+    }
+
+    /**
+     * @return the segment this view reads from and writes to
+     */
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    /**
+     * @return the byte offset of the first matrix element in {@link #segment()}
+     */
+    public long offset() {
+        return offset;
+    }
+
+    /**
+     * Move this view to the matrix starting at the given byte offset of the same segment.
+     * 
+     * @param offset
+     *          the byte offset of the first matrix element
+     * @return this
+     * @throws IndexOutOfBoundsException
+     *          if the 64 bytes starting at <code>offset</code> do not lie within the segment
+     */
+    public Matrix4fView reposition(long offset) {
+        this.offset = Objects.checkFromIndexSize(offset, 64L, segment.byteSize());
+        return this;
+    }
+
+    private Matrix4f load() {
+        MemUtil.MemUtilFFM.get(tmp, offset, segment);
+        return tmp.determineProperties();
+    }
+    private Matrix4fView store(Matrix4f m) {
+        MemUtil.MemUtilFFM.put(m, offset, segment);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 0 and row 0.
+     * 
+     * @param m00
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m00(float m00) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset, m00);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 0 and row 1.
+     * 
+     * @param m01
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m01(float m01) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 4, m01);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 0 and row 2.
+     * 
+     * @param m02
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m02(float m02) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 8, m02);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 0 and row 3.
+     * 
+     * @param m03
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m03(float m03) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 12, m03);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 1 and row 0.
+     * 
+     * @param m10
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m10(float m10) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 16, m10);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 1 and row 1.
+     * 
+     * @param m11
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m11(float m11) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 20, m11);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 1 and row 2.
+     * 
+     * @param m12
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m12(float m12) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 24, m12);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 1 and row 3.
+     * 
+     * @param m13
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m13(float m13) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 28, m13);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 2 and row 0.
+     * 
+     * @param m20
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m20(float m20) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 32, m20);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 2 and row 1.
+     * 
+     * @param m21
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m21(float m21) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 36, m21);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 2 and row 2.
+     * 
+     * @param m22
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m22(float m22) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 40, m22);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 2 and row 3.
+     * 
+     * @param m23
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m23(float m23) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 44, m23);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 3 and row 0.
+     * 
+     * @param m30
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m30(float m30) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 48, m30);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 3 and row 1.
+     * 
+     * @param m31
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m31(float m31) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 52, m31);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 3 and row 2.
+     * 
+     * @param m32
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m32(float m32) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 56, m32);
+        return this;
+    }
+
+    /**
+     * Set the value of the matrix element at column 3 and row 3.
+     * 
+     * @param m33
+     *          the new value
+     * @return this
+     */
+    public Matrix4fView m33(float m33) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + 60, m33);
+        return this;
+    }
+
+    /**
+     * Set the matrix element at the given column and row to the specified value.
+     * 
+     * @param column
+     *          the colum index in <code>[0..3]</code>
+     * @param row
+     *          the row index in <code>[0..3]</code>
+     * @param value
+     *          the value
+     * @return this
+     */
+    public Matrix4fView set(int column, int row, float value) {
+        segment.set(MemUtil.MemUtilFFM.FLOAT, offset + (index(column, row) << 2), value);
+        return this;
+    }
+    private static int index(int column, int row) {
+        return (Objects.checkIndex(column, 4) << 2) + Objects.checkIndex(row, 4);
+    }
+
+    /**
+     * Store the values of the given matrix <code>m</code> in the viewed memory.
+     * 
+     * @param m
+     *          the matrix to copy the values from
+     * @return this
+     */
+    public Matrix4fView set(Matrix4fc m) {
+        if (m instanceof Matrix4f)
+            return store((Matrix4f) m);
+        return store(tmp.set(m));
+    }
+
+    /**
+     * Store the identity matrix in the viewed memory.
+     * 
+     * @return this
+     */
+    public Matrix4fView identity() {
+        return store(tmp.identity());
+    }
+
+    /**
+     * Multiply the viewed matrix by the supplied <code>right</code> matrix and store the result in the viewed memory.
+     * 
+     * @see Matrix4f#mul(Matrix4fc)
+     * 
+     * @param right
+     *          the right operand of the matrix multiplication
+     * @return this
+     */
+    public Matrix4fView mul(Matrix4fc right) {
+        return store(load().mul(right));
+    }
+
+    /**
+     * Pre-multiply the viewed matrix by the supplied <code>left</code> matrix and store the result in the viewed memory.
+     * 
+     * @see Matrix4f#mulLocal(Matrix4fc)
+     * 
+     * @param left
+     *          the left operand of the matrix multiplication
+     * @return this
+     */
+    public Matrix4fView mulLocal(Matrix4fc left) {
+        return store(load().mulLocal(left));
+    }
+
+    /**
+     * Apply a translation to the viewed matrix and store the result in the viewed memory.
+     * 
+     * @see Matrix4f#translate(float, float, float)
+     * 
+     * @param x
+     *          the offset to translate in x
+     * @param y
+     *          the offset to translate in y
+     * @param z
+     *          the offset to translate in z
+     * @return this
+     */
+    public Matrix4fView translate(float x, float y, float z) {
+        return store(load().translate(x, y, z));
+    }
+
+    /**
+     * Apply scaling to the viewed matrix and store the result in the viewed memory.
+     * 
+     * @see Matrix4f#scale(float, float, float)
+     * 
+     * @param x
+     *          the factor of the x component
+     * @param y
+     *          the factor of the y component
+     * @param z
+     *          the factor of the z component
+     * @return this
+     */
+    public Matrix4fView scale(float x, float y, float z) {
+        return store(load().scale(x, y, z));
+    }
+
+    /**
+     * Invert the viewed matrix and store the result in the viewed memory.
+     * 
+     * @see Matrix4f#invert()
+     * 
+     * @return this
+     */
+    public Matrix4fView invert() {
+        return store(load().invert());
+    }
+
+    public int properties() {
+        return PROPERTY_UNKNOWN;
+    }
+
+    public float m00() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset);
+    }
+
+    public float m01() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 4);
+    }
+
+    public float m02() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 8);
+    }
+
+    public float m03() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 12);
+    }
+
+    public float m10() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 16);
+    }
+
+    public float m11() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 20);
+    }
+
+    public float m12() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 24);
+    }
+
+    public float m13() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 28);
+    }
+
+    public float m20() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 32);
+    }
+
+    public float m21() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 36);
+    }
+
+    public float m22() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 40);
+    }
+
+    public float m23() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 44);
+    }
+
+    public float m30() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 48);
+    }
+
+    public float m31() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 52);
+    }
+
+    public float m32() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 56);
+    }
+
+    public float m33() {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + 60);
+    }
+
+    public Matrix4f mul(Matrix4fc right, Matrix4f dest) {
+        return load().mul(right, dest);
+    }
+
+    public Matrix4f mul0(Matrix4fc right, Matrix4f dest) {
+        return load().mul0(right, dest);
+    }
+
+    public Matrix4f mul(float r00, float r01, float r02, float r03, float r10, float r11, float r12, float r13, float r20, float r21, float r22, float r23, float r30, float r31, float r32, float r33, Matrix4f dest) {
+        return load().mul(r00, r01, r02, r03, r10, r11, r12, r13, r20, r21, r22, r23, r30, r31, r32, r33, dest);
+    }
+
+    public Matrix4f mul3x3(float r00, float r01, float r02, float r10, float r11, float r12, float r20, float r21, float r22, Matrix4f dest) {
+        return load().mul3x3(r00, r01, r02, r10, r11, r12, r20, r21, r22, dest);
+    }
+
+    public Matrix4f mulLocal(Matrix4fc left, Matrix4f dest) {
+        return load().mulLocal(left, dest);
+    }
+
+    public Matrix4f mulLocalAffine(Matrix4fc left, Matrix4f dest) {
+        return load().mulLocalAffine(left, dest);
+    }
+
+    public Matrix4f mul(Matrix3x2fc right, Matrix4f dest) {
+        return load().mul(right, dest);
+    }
+
+    public Matrix4f mul(Matrix4x3fc right, Matrix4f dest) {
+        return load().mul(right, dest);
+    }
+
+    public Matrix4f mulPerspectiveAffine(Matrix4fc view, Matrix4f dest) {
+        return load().mulPerspectiveAffine(view, dest);
+    }
+
+    public Matrix4f mulPerspectiveAffine(Matrix4x3fc view, Matrix4f dest) {
+        return load().mulPerspectiveAffine(view, dest);
+    }
+
+    public Matrix4f mulAffineR(Matrix4fc right, Matrix4f dest) {
+        return load().mulAffineR(right, dest);
+    }
+
+    public Matrix4f mulAffine(Matrix4fc right, Matrix4f dest) {
+        return load().mulAffine(right, dest);
+    }
+
+    public Matrix4f mulTranslationAffine(Matrix4fc right, Matrix4f dest) {
+        return load().mulTranslationAffine(right, dest);
+    }
+
+    public Matrix4f mulOrthoAffine(Matrix4fc view, Matrix4f dest) {
+        return load().mulOrthoAffine(view, dest);
+    }
+
+    public Matrix4f fma4x3(Matrix4fc other, float otherFactor, Matrix4f dest) {
+        return load().fma4x3(other, otherFactor, dest);
+    }
+
+    public Matrix4f add(Matrix4fc other, Matrix4f dest) {
+        return load().add(other, dest);
+    }
+
+    public Matrix4f sub(Matrix4fc subtrahend, Matrix4f dest) {
+        return load().sub(subtrahend, dest);
+    }
+
+    public Matrix4f mulComponentWise(Matrix4fc other, Matrix4f dest) {
+        return load().mulComponentWise(other, dest);
+    }
+
+    public Matrix4f add4x3(Matrix4fc other, Matrix4f dest) {
+        return load().add4x3(other, dest);
+    }
+
+    public Matrix4f sub4x3(Matrix4fc subtrahend, Matrix4f dest) {
+        return load().sub4x3(subtrahend, dest);
+    }
+
+    public Matrix4f mul4x3ComponentWise(Matrix4fc other, Matrix4f dest) {
+        return load().mul4x3ComponentWise(other, dest);
+    }
+
+    public float determinant() {
+        return load().determinant();
+    }
+
+    public float determinant3x3() {
+        return load().determinant3x3();
+    }
+
+    public float determinantAffine() {
+        return load().determinantAffine();
+    }
+
+    public Matrix4f invert(Matrix4f dest) {
+        return load().invert(dest);
+    }
+
+    public Matrix4f invertPerspective(Matrix4f dest) {
+        return load().invertPerspective(dest);
+    }
+
+    public Matrix4f invertFrustum(Matrix4f dest) {
+        return load().invertFrustum(dest);
+    }
+
+    public Matrix4f invertOrtho(Matrix4f dest) {
+        return load().invertOrtho(dest);
+    }
+
+    public Matrix4f invertPerspectiveView(Matrix4fc view, Matrix4f dest) {
+        return load().invertPerspectiveView(view, dest);
+    }
+
+    public Matrix4f invertPerspectiveView(Matrix4x3fc view, Matrix4f dest) {
+        return load().invertPerspectiveView(view, dest);
+    }
+
+    public Matrix4f invertAffine(Matrix4f dest) {
+        return load().invertAffine(dest);
+    }
+
+    public Matrix4f transpose(Matrix4f dest) {
+        return load().transpose(dest);
+    }
+
+    public Matrix4f transpose3x3(Matrix4f dest) {
+        return load().transpose3x3(dest);
+    }
+
+    public Matrix3f transpose3x3(Matrix3f dest) {
+        return load().transpose3x3(dest);
+    }
+
+    public Vector3f getTranslation(Vector3f dest) {
+        return load().getTranslation(dest);
+    }
+
+    public Vector3f getScale(Vector3f dest) {
+        return load().getScale(dest);
+    }
+
+    public Matrix4f get(Matrix4f dest) {
+        MemUtil.MemUtilFFM.get(dest, offset, segment);
+        return dest.determineProperties();
+    }
+
+    public Matrix4x3f get4x3(Matrix4x3f dest) {
+        return load().get4x3(dest);
+    }
+
+    public Matrix4d get(Matrix4d dest) {
+        return load().get(dest);
+    }
+
+    public Matrix3f get3x3(Matrix3f dest) {
+        return load().get3x3(dest);
+    }
+
+    public Matrix3d get3x3(Matrix3d dest) {
+        return load().get3x3(dest);
+    }
+
+    public AxisAngle4f getRotation(AxisAngle4f dest) {
+        return load().getRotation(dest);
+    }
+
+    public AxisAngle4d getRotation(AxisAngle4d dest) {
+        return load().getRotation(dest);
+    }
+
+    public Quaternionf getUnnormalizedRotation(Quaternionf dest) {
+        return load().getUnnormalizedRotation(dest);
+    }
+
+    public Quaternionf getNormalizedRotation(Quaternionf dest) {
+        return load().getNormalizedRotation(dest);
+    }
+
+    public Quaterniond getUnnormalizedRotation(Quaterniond dest) {
+        return load().getUnnormalizedRotation(dest);
+    }
+
+    public Quaterniond getNormalizedRotation(Quaterniond dest) {
+        return load().getNormalizedRotation(dest);
+    }
+
+//#ifdef __HAS_NIO__
+    public FloatBuffer get(FloatBuffer buffer) {
+        return load().get(buffer);
+    }
+
+    public FloatBuffer get(int index, FloatBuffer buffer) {
+        return load().get(index, buffer);
+    }
+
+    public ByteBuffer get(ByteBuffer buffer) {
+        return load().get(buffer);
+    }
+
+    public ByteBuffer get(int index, ByteBuffer buffer) {
+        return load().get(index, buffer);
+    }
+
+    public MemorySegment get(long byteOffset, MemorySegment segment) {
+        MemorySegment.copy(this.segment, offset, segment, byteOffset, 64);
+        return segment;
+    }
+
+    public FloatBuffer get4x3(FloatBuffer buffer) {
+        return load().get4x3(buffer);
+    }
+
+    public FloatBuffer get4x3(int index, FloatBuffer buffer) {
+        return load().get4x3(index, buffer);
+    }
+
+    public ByteBuffer get4x3(ByteBuffer buffer) {
+        return load().get4x3(buffer);
+    }
+
+    public ByteBuffer get4x3(int index, ByteBuffer buffer) {
+        return load().get4x3(index, buffer);
+    }
+
+    public FloatBuffer get3x4(FloatBuffer buffer) {
+        return load().get3x4(buffer);
+    }
+
+    public FloatBuffer get3x4(int index, FloatBuffer buffer) {
+        return load().get3x4(index, buffer);
+    }
+
+    public ByteBuffer get3x4(ByteBuffer buffer) {
+        return load().get3x4(buffer);
+    }
+
+    public ByteBuffer get3x4(int index, ByteBuffer buffer) {
+        return load().get3x4(index, buffer);
+    }
+
+    public FloatBuffer getTransposed(FloatBuffer buffer) {
+        return load().getTransposed(buffer);
+    }
+
+    public FloatBuffer getTransposed(int index, FloatBuffer buffer) {
+        return load().getTransposed(index, buffer);
+    }
+
+    public ByteBuffer getTransposed(ByteBuffer buffer) {
+        return load().getTransposed(buffer);
+    }
+
+    public ByteBuffer getTransposed(int index, ByteBuffer buffer) {
+        return load().getTransposed(index, buffer);
+    }
+
+    public FloatBuffer get4x3Transposed(FloatBuffer buffer) {
+        return load().get4x3Transposed(buffer);
+    }
+
+    public FloatBuffer get4x3Transposed(int index, FloatBuffer buffer) {
+        return load().get4x3Transposed(index, buffer);
+    }
+
+    public ByteBuffer get4x3Transposed(ByteBuffer buffer) {
+        return load().get4x3Transposed(buffer);
+    }
+
+    public ByteBuffer get4x3Transposed(int index, ByteBuffer buffer) {
+        return load().get4x3Transposed(index, buffer);
+    }
+//#endif
+//#ifdef __HAS_UNSAFE__
+    public Matrix4fc getToAddress(long address) {
+        load().getToAddress(address);
+        return this;
+    }
+
+    public Matrix4fc getTransposedToAddress(long address) {
+        load().getTransposedToAddress(address);
+        return this;
+    }
+//#endif
+    public float[] get(float[] arr, int offset) {
+        return load().get(arr, offset);
+    }
+
+    public float[] get(float[] arr) {
+        return load().get(arr);
+    }
+
+    public Vector4f transform(Vector4f v) {
+        return load().transform(v);
+    }
+
+    public Vector4f transform(Vector4fc v, Vector4f dest) {
+        return load().transform(v, dest);
+    }
+
+    public Vector4f transform(float x, float y, float z, float w, Vector4f dest) {
+        return load().transform(x, y, z, w, dest);
+    }
+
+    public Vector4f transformTranspose(Vector4f v) {
+        return load().transformTranspose(v);
+    }
+
+    public Vector4f transformTranspose(Vector4fc v, Vector4f dest) {
+        return load().transformTranspose(v, dest);
+    }
+
+    public Vector4f transformTranspose(float x, float y, float z, float w, Vector4f dest) {
+        return load().transformTranspose(x, y, z, w, dest);
+    }
+
+    public Vector4f transformProject(Vector4f v) {
+        return load().transformProject(v);
+    }
+
+    public Vector4f transformProject(Vector4fc v, Vector4f dest) {
+        return load().transformProject(v, dest);
+    }
+
+    public Vector4f transformProject(float x, float y, float z, float w, Vector4f dest) {
+        return load().transformProject(x, y, z, w, dest);
+    }
+
+    public Vector3f transformProject(Vector3f v) {
+        return load().transformProject(v);
+    }
+
+    public Vector3f transformProject(Vector3fc v, Vector3f dest) {
+        return load().transformProject(v, dest);
+    }
+
+    public Vector3f transformProject(Vector4fc v, Vector3f dest) {
+        return load().transformProject(v, dest);
+    }
+
+    public Vector3f transformProject(float x, float y, float z, Vector3f dest) {
+        return load().transformProject(x, y, z, dest);
+    }
+
+    public Vector3f transformProject(float x, float y, float z, float w, Vector3f dest) {
+        return load().transformProject(x, y, z, w, dest);
+    }
+
+    public Vector3f transformPosition(Vector3f v) {
+        return load().transformPosition(v);
+    }
+
+    public Vector3f transformPosition(Vector3fc v, Vector3f dest) {
+        return load().transformPosition(v, dest);
+    }
+
+    public Vector3f transformPosition(float x, float y, float z, Vector3f dest) {
+        return load().transformPosition(x, y, z, dest);
+    }
+
+    public Vector3f transformDirection(Vector3f v) {
+        return load().transformDirection(v);
+    }
+
+    public Vector3f transformDirection(Vector3fc v, Vector3f dest) {
+        return load().transformDirection(v, dest);
+    }
+
+    public Vector3f transformDirection(float x, float y, float z, Vector3f dest) {
+        return load().transformDirection(x, y, z, dest);
+    }
+
+    public float[] transformPositions(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        return load().transformPositions(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+
+    public float[] transformPositions(float[] xyz, int offset, int count) {
+        return load().transformPositions(xyz, offset, count);
+    }
+
+    public float[] transformDirections(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        return load().transformDirections(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+
+    public float[] transformDirections(float[] xyz, int offset, int count) {
+        return load().transformDirections(xyz, offset, count);
+    }
+
+    public float[] transformProject(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        return load().transformProject(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+
+    public float[] transformProject(float[] xyz, int offset, int count) {
+        return load().transformProject(xyz, offset, count);
+    }
+
+//#ifdef __HAS_NIO__
+    public FloatBuffer transformPositions(FloatBuffer src, FloatBuffer dest, int count, int stride) {
+        return load().transformPositions(src, dest, count, stride);
+    }
+
+    public ByteBuffer transformPositions(ByteBuffer src, ByteBuffer dest, int count, int stride) {
+        return load().transformPositions(src, dest, count, stride);
+    }
+
+    public FloatBuffer transformDirections(FloatBuffer src, FloatBuffer dest, int count, int stride) {
+        return load().transformDirections(src, dest, count, stride);
+    }
+
+    public ByteBuffer transformDirections(ByteBuffer src, ByteBuffer dest, int count, int stride) {
+        return load().transformDirections(src, dest, count, stride);
+    }
+//#endif
+    public Vector4f transformAffine(Vector4f v) {
+        return load().transformAffine(v);
+    }
+
+    public Vector4f transformAffine(Vector4fc v, Vector4f dest) {
+        return load().transformAffine(v, dest);
+    }
+
+    public Vector4f transformAffine(float x, float y, float z, float w, Vector4f dest) {
+        return load().transformAffine(x, y, z, w, dest);
+    }
+
+    public Matrix4f scale(Vector3fc xyz, Matrix4f dest) {
+        return load().scale(xyz, dest);
+    }
+
+    public Matrix4f scale(float xyz, Matrix4f dest) {
+        return load().scale(xyz, dest);
+    }
+
+    public Matrix4f scaleXY(float x, float y, Matrix4f dest) {
+        return load().scaleXY(x, y, dest);
+    }
+
+    public Matrix4f scale(float x, float y, float z, Matrix4f dest) {
+        return load().scale(x, y, z, dest);
+    }
+
+    public Matrix4f scaleAround(float sx, float sy, float sz, float ox, float oy, float oz, Matrix4f dest) {
+        return load().scaleAround(sx, sy, sz, ox, oy, oz, dest);
+    }
+
+    public Matrix4f scaleAround(float factor, float ox, float oy, float oz, Matrix4f dest) {
+        return load().scaleAround(factor, ox, oy, oz, dest);
+    }
+
+    public Matrix4f scaleLocal(float xyz, Matrix4f dest) {
+        return load().scaleLocal(xyz, dest);
+    }
+
+    public Matrix4f scaleLocal(float x, float y, float z, Matrix4f dest) {
+        return load().scaleLocal(x, y, z, dest);
+    }
+
+    public Matrix4f scaleAroundLocal(float sx, float sy, float sz, float ox, float oy, float oz, Matrix4f dest) {
+        return load().scaleAroundLocal(sx, sy, sz, ox, oy, oz, dest);
+    }
+
+    public Matrix4f scaleAroundLocal(float factor, float ox, float oy, float oz, Matrix4f dest) {
+        return load().scaleAroundLocal(factor, ox, oy, oz, dest);
+    }
+
+    public Matrix4f rotateX(float ang, Matrix4f dest) {
+        return load().rotateX(ang, dest);
+    }
+
+    public Matrix4f rotateY(float ang, Matrix4f dest) {
+        return load().rotateY(ang, dest);
+    }
+
+    public Matrix4f rotateZ(float ang, Matrix4f dest) {
+        return load().rotateZ(ang, dest);
+    }
+
+    public Matrix4f rotateTowardsXY(float dirX, float dirY, Matrix4f dest) {
+        return load().rotateTowardsXY(dirX, dirY, dest);
+    }
+
+    public Matrix4f rotateXYZ(float angleX, float angleY, float angleZ, Matrix4f dest) {
+        return load().rotateXYZ(angleX, angleY, angleZ, dest);
+    }
+
+    public Matrix4f rotateAffineXYZ(float angleX, float angleY, float angleZ, Matrix4f dest) {
+        return load().rotateAffineXYZ(angleX, angleY, angleZ, dest);
+    }
+
+    public Matrix4f rotateZYX(float angleZ, float angleY, float angleX, Matrix4f dest) {
+        return load().rotateZYX(angleZ, angleY, angleX, dest);
+    }
+
+    public Matrix4f rotateAffineZYX(float angleZ, float angleY, float angleX, Matrix4f dest) {
+        return load().rotateAffineZYX(angleZ, angleY, angleX, dest);
+    }
+
+    public Matrix4f rotateYXZ(float angleY, float angleX, float angleZ, Matrix4f dest) {
+        return load().rotateYXZ(angleY, angleX, angleZ, dest);
+    }
+
+    public Matrix4f rotateAffineYXZ(float angleY, float angleX, float angleZ, Matrix4f dest) {
+        return load().rotateAffineYXZ(angleY, angleX, angleZ, dest);
+    }
+
+    public Matrix4f rotate(float ang, float x, float y, float z, Matrix4f dest) {
+        return load().rotate(ang, x, y, z, dest);
+    }
+
+    public Matrix4f rotateTranslation(float ang, float x, float y, float z, Matrix4f dest) {
+        return load().rotateTranslation(ang, x, y, z, dest);
+    }
+
+    public Matrix4f rotateAffine(float ang, float x, float y, float z, Matrix4f dest) {
+        return load().rotateAffine(ang, x, y, z, dest);
+    }
+
+    public Matrix4f rotateLocal(float ang, float x, float y, float z, Matrix4f dest) {
+        return load().rotateLocal(ang, x, y, z, dest);
+    }
+
+    public Matrix4f rotateLocalX(float ang, Matrix4f dest) {
+        return load().rotateLocalX(ang, dest);
+    }
+
+    public Matrix4f rotateLocalY(float ang, Matrix4f dest) {
+        return load().rotateLocalY(ang, dest);
+    }
+
+    public Matrix4f rotateLocalZ(float ang, Matrix4f dest) {
+        return load().rotateLocalZ(ang, dest);
+    }
+
+    public Matrix4f translate(Vector3fc offset, Matrix4f dest) {
+        return load().translate(offset, dest);
+    }
+
+    public Matrix4f translate(float x, float y, float z, Matrix4f dest) {
+        return load().translate(x, y, z, dest);
+    }
+
+    public Matrix4f translateLocal(Vector3fc offset, Matrix4f dest) {
+        return load().translateLocal(offset, dest);
+    }
+
+    public Matrix4f translateLocal(float x, float y, float z, Matrix4f dest) {
+        return load().translateLocal(x, y, z, dest);
+    }
+
+    public Matrix4f ortho(float left, float right, float bottom, float top, float zNear, float zFar, boolean zZeroToOne, Matrix4f dest) {
+        return load().ortho(left, right, bottom, top, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4f ortho(float left, float right, float bottom, float top, float zNear, float zFar, Matrix4f dest) {
+        return load().ortho(left, right, bottom, top, zNear, zFar, dest);
+    }
+
+    public Matrix4f orthoLH(float left, float right, float bottom, float top, float zNear, float zFar, boolean zZeroToOne, Matrix4f dest) {
+        return load().orthoLH(left, right, bottom, top, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4f orthoLH(float left, float right, float bottom, float top, float zNear, float zFar, Matrix4f dest) {
+        return load().orthoLH(left, right, bottom, top, zNear, zFar, dest);
+    }
+
+    public Matrix4f orthoSymmetric(float width, float height, float zNear, float zFar, boolean zZeroToOne, Matrix4f dest) {
+        return load().orthoSymmetric(width, height, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4f orthoSymmetric(float width, float height, float zNear, float zFar, Matrix4f dest) {
+        return load().orthoSymmetric(width, height, zNear, zFar, dest);
+    }
+
+    public Matrix4f orthoSymmetricLH(float width, float height, float zNear, float zFar, boolean zZeroToOne, Matrix4f dest) {
+        return load().orthoSymmetricLH(width, height, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4f orthoSymmetricLH(float width, float height, float zNear, float zFar, Matrix4f dest) {
+        return load().orthoSymmetricLH(width, height, zNear, zFar, dest);
+    }
+
+    public Matrix4f ortho2D(float left, float right, float bottom, float top, Matrix4f dest) {
+        return load().ortho2D(left, right, bottom, top, dest);
+    }
+
+    public Matrix4f ortho2DLH(float left, float right, float bottom, float top, Matrix4f dest) {
+        return load().ortho2DLH(left, right, bottom, top, dest);
+    }
+
+    public Matrix4f lookAlong(Vector3fc dir, Vector3fc up, Matrix4f dest) {
+        return load().lookAlong(dir, up, dest);
+    }
+
+    public Matrix4f lookAlong(float dirX, float dirY, float dirZ, float upX, float upY, float upZ, Matrix4f dest) {
+        return load().lookAlong(dirX, dirY, dirZ, upX, upY, upZ, dest);
+    }
+
+    public Matrix4f lookAt(Vector3fc eye, Vector3fc center, Vector3fc up, Matrix4f dest) {
+        return load().lookAt(eye, center, up, dest);
+    }
+
+    public Matrix4f lookAt(float eyeX, float eyeY, float eyeZ, float centerX, float centerY, float centerZ, float upX, float upY, float upZ, Matrix4f dest) {
+        return load().lookAt(eyeX, eyeY, eyeZ, centerX, centerY, centerZ, upX, upY, upZ, dest);
+    }
+
+    public Matrix4f lookAtPerspective(float eyeX, float eyeY, float eyeZ, float centerX, float centerY, float centerZ, float upX, float upY, float upZ, Matrix4f dest) {
+        return load().lookAtPerspective(eyeX, eyeY, eyeZ, centerX, centerY, centerZ, upX, upY, upZ, dest);
+    }
+
+    public Matrix4f lookAtLH(Vector3fc eye, Vector3fc center, Vector3fc up, Matrix4f dest) {
+        return load().lookAtLH(eye, center, up, dest);
+    }
+
+    public Matrix4f lookAtLH(float eyeX, float eyeY, float eyeZ, float centerX, float centerY, float centerZ, float upX, float upY, float upZ, Matrix4f dest) {
+        return load().lookAtLH(eyeX, eyeY, eyeZ, centerX, centerY, centerZ, upX, upY, upZ, dest);
+    }
+
+    public Matrix4f lookAtPerspectiveLH(float eyeX, float eyeY, float eyeZ, float centerX, float centerY, float centerZ, float upX, float upY, float upZ, Matrix4f dest) {
+        return load().lookAtPerspectiveLH(eyeX, eyeY, eyeZ, centerX, centerY, centerZ, upX, upY, upZ, dest);
+    }
+
+    public Matrix4f tile(int x, int y, int w, int h, Matrix4f dest) {
+        return load().tile(x, y, w, h, dest);
+    }
+
+    public Matrix4f perspective(float fovy, float aspect, float zNear, float zFar, boolean zZeroToOne, Matrix4f dest) {
+        return load().perspective(fovy, aspect, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4f perspective(float fovy, float aspect, float zNear, float zFar, Matrix4f dest) {
+        return load().perspective(fovy, aspect, zNear, zFar, dest);
+    }
+
+    public Matrix4f perspectiveRect(float width, float height, float zNear, float zFar, boolean zZeroToOne, Matrix4f dest) {
+        return load().perspectiveRect(width, height, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4f perspectiveRect(float width, float height, float zNear, float zFar, Matrix4f dest) {
+        return load().perspectiveRect(width, height, zNear, zFar, dest);
+    }
+
+    public Matrix4f perspectiveOffCenter(float fovy, float offAngleX, float offAngleY, float aspect, float zNear, float zFar, boolean zZeroToOne, Matrix4f dest) {
+        return load().perspectiveOffCenter(fovy, offAngleX, offAngleY, aspect, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4f perspectiveOffCenter(float fovy, float offAngleX, float offAngleY, float aspect, float zNear, float zFar, Matrix4f dest) {
+        return load().perspectiveOffCenter(fovy, offAngleX, offAngleY, aspect, zNear, zFar, dest);
+    }
+
+    public Matrix4f perspectiveOffCenterFov(float angleLeft, float angleRight, float angleDown, float angleUp, float zNear, float zFar, boolean zZeroToOne, Matrix4f dest) {
+        return load().perspectiveOffCenterFov(angleLeft, angleRight, angleDown, angleUp, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4f perspectiveOffCenterFov(float angleLeft, float angleRight, float angleDown, float angleUp, float zNear, float zFar, Matrix4f dest) {
+        return load().perspectiveOffCenterFov(angleLeft, angleRight, angleDown, angleUp, zNear, zFar, dest);
+    }
+
+    public Matrix4f perspectiveOffCenterFovLH(float angleLeft, float angleRight, float angleDown, float angleUp, float zNear, float zFar, boolean zZeroToOne, Matrix4f dest) {
+        return load().perspectiveOffCenterFovLH(angleLeft, angleRight, angleDown, angleUp, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4f perspectiveOffCenterFovLH(float angleLeft, float angleRight, float angleDown, float angleUp, float zNear, float zFar, Matrix4f dest) {
+        return load().perspectiveOffCenterFovLH(angleLeft, angleRight, angleDown, angleUp, zNear, zFar, dest);
+    }
+
+    public Matrix4f perspectiveLH(float fovy, float aspect, float zNear, float zFar, boolean zZeroToOne, Matrix4f dest) {
+        return load().perspectiveLH(fovy, aspect, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4f perspectiveLH(float fovy, float aspect, float zNear, float zFar, Matrix4f dest) {
+        return load().perspectiveLH(fovy, aspect, zNear, zFar, dest);
+    }
+
+    public Matrix4f frustum(float left, float right, float bottom, float top, float zNear, float zFar, boolean zZeroToOne, Matrix4f dest) {
+        return load().frustum(left, right, bottom, top, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4f frustum(float left, float right, float bottom, float top, float zNear, float zFar, Matrix4f dest) {
+        return load().frustum(left, right, bottom, top, zNear, zFar, dest);
+    }
+
+    public Matrix4f frustumLH(float left, float right, float bottom, float top, float zNear, float zFar, boolean zZeroToOne, Matrix4f dest) {
+        return load().frustumLH(left, right, bottom, top, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4f frustumLH(float left, float right, float bottom, float top, float zNear, float zFar, Matrix4f dest) {
+        return load().frustumLH(left, right, bottom, top, zNear, zFar, dest);
+    }
+
+    public Matrix4f rotate(Quaternionfc quat, Matrix4f dest) {
+        return load().rotate(quat, dest);
+    }
+
+    public Matrix4f rotateAffine(Quaternionfc quat, Matrix4f dest) {
+        return load().rotateAffine(quat, dest);
+    }
+
+    public Matrix4f rotateTranslation(Quaternionfc quat, Matrix4f dest) {
+        return load().rotateTranslation(quat, dest);
+    }
+
+    public Matrix4f rotateAroundAffine(Quaternionfc quat, float ox, float oy, float oz, Matrix4f dest) {
+        return load().rotateAroundAffine(quat, ox, oy, oz, dest);
+    }
+
+    public Matrix4f rotateAround(Quaternionfc quat, float ox, float oy, float oz, Matrix4f dest) {
+        return load().rotateAround(quat, ox, oy, oz, dest);
+    }
+
+    public Matrix4f rotateLocal(Quaternionfc quat, Matrix4f dest) {
+        return load().rotateLocal(quat, dest);
+    }
+
+    public Matrix4f rotateAroundLocal(Quaternionfc quat, float ox, float oy, float oz, Matrix4f dest) {
+        return load().rotateAroundLocal(quat, ox, oy, oz, dest);
+    }
+
+    public Matrix4f rotate(AxisAngle4f axisAngle, Matrix4f dest) {
+        return load().rotate(axisAngle, dest);
+    }
+
+    public Matrix4f rotate(float angle, Vector3fc axis, Matrix4f dest) {
+        return load().rotate(angle, axis, dest);
+    }
+
+    public Vector4f unproject(float winX, float winY, float winZ, int[] viewport, Vector4f dest) {
+        return load().unproject(winX, winY, winZ, viewport, dest);
+    }
+
+    public Vector3f unproject(float winX, float winY, float winZ, int[] viewport, Vector3f dest) {
+        return load().unproject(winX, winY, winZ, viewport, dest);
+    }
+
+    public Vector4f unproject(Vector3fc winCoords, int[] viewport, Vector4f dest) {
+        return load().unproject(winCoords, viewport, dest);
+    }
+
+    public Vector3f unproject(Vector3fc winCoords, int[] viewport, Vector3f dest) {
+        return load().unproject(winCoords, viewport, dest);
+    }
+
+    public Matrix4f unprojectRay(float winX, float winY, int[] viewport, Vector3f originDest, Vector3f dirDest) {
+        return load().unprojectRay(winX, winY, viewport, originDest, dirDest);
+    }
+
+    public Matrix4f unprojectRay(Vector2fc winCoords, int[] viewport, Vector3f originDest, Vector3f dirDest) {
+        return load().unprojectRay(winCoords, viewport, originDest, dirDest);
+    }
+
+    public Vector4f unprojectInv(Vector3fc winCoords, int[] viewport, Vector4f dest) {
+        return load().unprojectInv(winCoords, viewport, dest);
+    }
+
+    public Vector4f unprojectInv(float winX, float winY, float winZ, int[] viewport, Vector4f dest) {
+        return load().unprojectInv(winX, winY, winZ, viewport, dest);
+    }
+
+    public Matrix4f unprojectInvRay(Vector2fc winCoords, int[] viewport, Vector3f originDest, Vector3f dirDest) {
+        return load().unprojectInvRay(winCoords, viewport, originDest, dirDest);
+    }
+
+    public Matrix4f unprojectInvRay(float winX, float winY, int[] viewport, Vector3f originDest, Vector3f dirDest) {
+        return load().unprojectInvRay(winX, winY, viewport, originDest, dirDest);
+    }
+
+    public Vector3f unprojectInv(Vector3fc winCoords, int[] viewport, Vector3f dest) {
+        return load().unprojectInv(winCoords, viewport, dest);
+    }
+
+    public Vector3f unprojectInv(float winX, float winY, float winZ, int[] viewport, Vector3f dest) {
+        return load().unprojectInv(winX, winY, winZ, viewport, dest);
+    }
+
+    public Vector4f project(float x, float y, float z, int[] viewport, Vector4f winCoordsDest) {
+        return load().project(x, y, z, viewport, winCoordsDest);
+    }
+
+    public Vector3f project(float x, float y, float z, int[] viewport, Vector3f winCoordsDest) {
+        return load().project(x, y, z, viewport, winCoordsDest);
+    }
+
+    public Vector4f project(Vector3fc position, int[] viewport, Vector4f winCoordsDest) {
+        return load().project(position, viewport, winCoordsDest);
+    }
+
+    public Vector3f project(Vector3fc position, int[] viewport, Vector3f winCoordsDest) {
+        return load().project(position, viewport, winCoordsDest);
+    }
+
+    public Matrix4f reflect(float a, float b, float c, float d, Matrix4f dest) {
+        return load().reflect(a, b, c, d, dest);
+    }
+
+    public Matrix4f reflect(float nx, float ny, float nz, float px, float py, float pz, Matrix4f dest) {
+        return load().reflect(nx, ny, nz, px, py, pz, dest);
+    }
+
+    public Matrix4f reflect(Quaternionfc orientation, Vector3fc point, Matrix4f dest) {
+        return load().reflect(orientation, point, dest);
+    }
+
+    public Matrix4f reflect(Vector3fc normal, Vector3fc point, Matrix4f dest) {
+        return load().reflect(normal, point, dest);
+    }
+
+    public Vector4f getRow(int row, Vector4f dest) throws IndexOutOfBoundsException {
+        return load().getRow(row, dest);
+    }
+
+    public Vector3f getRow(int row, Vector3f dest) throws IndexOutOfBoundsException {
+        return load().getRow(row, dest);
+    }
+
+    public Vector4f getColumn(int column, Vector4f dest) throws IndexOutOfBoundsException {
+        return load().getColumn(column, dest);
+    }
+
+    public Vector3f getColumn(int column, Vector3f dest) throws IndexOutOfBoundsException {
+        return load().getColumn(column, dest);
+    }
+
+    public float get(int column, int row) {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + (index(column, row) << 2));
+    }
+
+    public float getRowColumn(int row, int column) {
+        return segment.get(MemUtil.MemUtilFFM.FLOAT, offset + (index(column, row) << 2));
+    }
+
+    public Matrix4f normal(Matrix4f dest) {
+        return load().normal(dest);
+    }
+
+    public Matrix3f normal(Matrix3f dest) {
+        return load().normal(dest);
+    }
+
+    public Matrix3f cofactor3x3(Matrix3f dest) {
+        return load().cofactor3x3(dest);
+    }
+
+    public Matrix4f cofactor3x3(Matrix4f dest) {
+        return load().cofactor3x3(dest);
+    }
+
+    public Matrix4f normalize3x3(Matrix4f dest) {
+        return load().normalize3x3(dest);
+    }
+
+    public Matrix3f normalize3x3(Matrix3f dest) {
+        return load().normalize3x3(dest);
+    }
+
+    public Vector4f frustumPlane(int plane, Vector4f planeEquation) {
+        return load().frustumPlane(plane, planeEquation);
+    }
+
+    public Vector3f frustumCorner(int corner, Vector3f point) {
+        return load().frustumCorner(corner, point);
+    }
+
+    public Vector3f perspectiveOrigin(Vector3f origin) {
+        return load().perspectiveOrigin(origin);
+    }
+
+    public Vector3f perspectiveInvOrigin(Vector3f dest) {
+        return load().perspectiveInvOrigin(dest);
+    }
+
+    public float perspectiveFov() {
+        return load().perspectiveFov();
+    }
+
+    public float perspectiveNear() {
+        return load().perspectiveNear();
+    }
+
+    public float perspectiveFar() {
+        return load().perspectiveFar();
+    }
+
+    public Vector3f frustumRayDir(float x, float y, Vector3f dir) {
+        return load().frustumRayDir(x, y, dir);
+    }
+
+    public Vector3f positiveZ(Vector3f dir) {
+        return load().positiveZ(dir);
+    }
+
+    public Vector3f normalizedPositiveZ(Vector3f dir) {
+        return load().normalizedPositiveZ(dir);
+    }
+
+    public Vector3f positiveX(Vector3f dir) {
+        return load().positiveX(dir);
+    }
+
+    public Vector3f normalizedPositiveX(Vector3f dir) {
+        return load().normalizedPositiveX(dir);
+    }
+
+    public Vector3f positiveY(Vector3f dir) {
+        return load().positiveY(dir);
+    }
+
+    public Vector3f normalizedPositiveY(Vector3f dir) {
+        return load().normalizedPositiveY(dir);
+    }
+
+    public Vector3f originAffine(Vector3f origin) {
+        return load().originAffine(origin);
+    }
+
+    public Vector3f origin(Vector3f origin) {
+        return load().origin(origin);
+    }
+
+    public Matrix4f shadow(Vector4f light, float a, float b, float c, float d, Matrix4f dest) {
+        return load().shadow(light, a, b, c, d, dest);
+    }
+
+    public Matrix4f shadow(float lightX, float lightY, float lightZ, float lightW, float a, float b, float c, float d, Matrix4f dest) {
+        return load().shadow(lightX, lightY, lightZ, lightW, a, b, c, d, dest);
+    }
+
+    public Matrix4f shadow(Vector4f light, Matrix4fc planeTransform, Matrix4f dest) {
+        return load().shadow(light, planeTransform, dest);
+    }
+
+    public Matrix4f shadow(float lightX, float lightY, float lightZ, float lightW, Matrix4fc planeTransform, Matrix4f dest) {
+        return load().shadow(lightX, lightY, lightZ, lightW, planeTransform, dest);
+    }
+
+    public Matrix4f pick(float x, float y, float width, float height, int[] viewport, Matrix4f dest) {
+        return load().pick(x, y, width, height, viewport, dest);
+    }
+
+    public boolean isAffine() {
+        return load().isAffine();
+    }
+
+    public Matrix4f arcball(float radius, float centerX, float centerY, float centerZ, float angleX, float angleY, Matrix4f dest) {
+        return load().arcball(radius, centerX, centerY, centerZ, angleX, angleY, dest);
+    }
+
+    public Matrix4f arcball(float radius, Vector3fc center, float angleX, float angleY, Matrix4f dest) {
+        return load().arcball(radius, center, angleX, angleY, dest);
+    }
+
+    public Matrix4f frustumAabb(Vector3f min, Vector3f max) {
+        return load().frustumAabb(min, max);
+    }
+
+    public Matrix4f projectedGridRange(Matrix4fc projector, float sLower, float sUpper, Matrix4f dest) {
+        return load().projectedGridRange(projector, sLower, sUpper, dest);
+    }
+
+    public Matrix4f perspectiveFrustumSlice(float near, float far, Matrix4f dest) {
+        return load().perspectiveFrustumSlice(near, far, dest);
+    }
+
+    public Matrix4f orthoCrop(Matrix4fc view, Matrix4f dest) {
+        return load().orthoCrop(view, dest);
+    }
+
+    public Matrix4f transformAab(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, Vector3f outMin, Vector3f outMax) {
+        return load().transformAab(minX, minY, minZ, maxX, maxY, maxZ, outMin, outMax);
+    }
+
+    public Matrix4f transformAab(Vector3fc min, Vector3fc max, Vector3f outMin, Vector3f outMax) {
+        return load().transformAab(min, max, outMin, outMax);
+    }
+
+    public Matrix4f lerp(Matrix4fc other, float t, Matrix4f dest) {
+        return load().lerp(other, t, dest);
+    }
+
+    public Matrix4f rotateTowards(Vector3fc dir, Vector3fc up, Matrix4f dest) {
+        return load().rotateTowards(dir, up, dest);
+    }
+
+    public Matrix4f rotateTowards(float dirX, float dirY, float dirZ, float upX, float upY, float upZ, Matrix4f dest) {
+        return load().rotateTowards(dirX, dirY, dirZ, upX, upY, upZ, dest);
+    }
+
+    public Vector3f getEulerAnglesXYZ(Vector3f dest) {
+        return load().getEulerAnglesXYZ(dest);
+    }
+
+    public Vector3f getEulerAnglesZYX(Vector3f dest) {
+        return load().getEulerAnglesZYX(dest);
+    }
+
+    public Vector3f getEulerAnglesYXZ(Vector3f dest) {
+        return load().getEulerAnglesYXZ(dest);
+    }
+
+    public boolean testPoint(float x, float y, float z) {
+        return load().testPoint(x, y, z);
+    }
+
+    public boolean testSphere(float x, float y, float z, float r) {
+        return load().testSphere(x, y, z, r);
+    }
+
+    public boolean testAab(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        return load().testAab(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    public Matrix4f obliqueZ(float a, float b, Matrix4f dest) {
+        return load().obliqueZ(a, b, dest);
+    }
+
+    public Matrix4f withLookAtUp(Vector3fc up, Matrix4f dest) {
+        return load().withLookAtUp(up, dest);
+    }
+
+    public Matrix4f withLookAtUp(float upX, float upY, float upZ, Matrix4f dest) {
+        return load().withLookAtUp(upX, upY, upZ, dest);
+    }
+
+    public Matrix4f mapXZY(Matrix4f dest) {
+        return load().mapXZY(dest);
+    }
+
+    public Matrix4f mapXZnY(Matrix4f dest) {
+        return load().mapXZnY(dest);
+    }
+
+    public Matrix4f mapXnYnZ(Matrix4f dest) {
+        return load().mapXnYnZ(dest);
+    }
+
+    public Matrix4f mapXnZY(Matrix4f dest) {
+        return load().mapXnZY(dest);
+    }
+
+    public Matrix4f mapXnZnY(Matrix4f dest) {
+        return load().mapXnZnY(dest);
+    }
+
+    public Matrix4f mapYXZ(Matrix4f dest) {
+        return load().mapYXZ(dest);
+    }
+
+    public Matrix4f mapYXnZ(Matrix4f dest) {
+        return load().mapYXnZ(dest);
+    }
+
+    public Matrix4f mapYZX(Matrix4f dest) {
+        return load().mapYZX(dest);
+    }
+
+    public Matrix4f mapYZnX(Matrix4f dest) {
+        return load().mapYZnX(dest);
+    }
+
+    public Matrix4f mapYnXZ(Matrix4f dest) {
+        return load().mapYnXZ(dest);
+    }
+
+    public Matrix4f mapYnXnZ(Matrix4f dest) {
+        return load().mapYnXnZ(dest);
+    }
+
+    public Matrix4f mapYnZX(Matrix4f dest) {
+        return load().mapYnZX(dest);
+    }
+
+    public Matrix4f mapYnZnX(Matrix4f dest) {
+        return load().mapYnZnX(dest);
+    }
+
+    public Matrix4f mapZXY(Matrix4f dest) {
+        return load().mapZXY(dest);
+    }
+
+    public Matrix4f mapZXnY(Matrix4f dest) {
+        return load().mapZXnY(dest);
+    }
+
+    public Matrix4f mapZYX(Matrix4f dest) {
+        return load().mapZYX(dest);
+    }
+
+    public Matrix4f mapZYnX(Matrix4f dest) {
+        return load().mapZYnX(dest);
+    }
+
+    public Matrix4f mapZnXY(Matrix4f dest) {
+        return load().mapZnXY(dest);
+    }
+
+    public Matrix4f mapZnXnY(Matrix4f dest) {
+        return load().mapZnXnY(dest);
+    }
+
+    public Matrix4f mapZnYX(Matrix4f dest) {
+        return load().mapZnYX(dest);
+    }
+
+    public Matrix4f mapZnYnX(Matrix4f dest) {
+        return load().mapZnYnX(dest);
+    }
+
+    public Matrix4f mapnXYnZ(Matrix4f dest) {
+        return load().mapnXYnZ(dest);
+    }
+
+    public Matrix4f mapnXZY(Matrix4f dest) {
+        return load().mapnXZY(dest);
+    }
+
+    public Matrix4f mapnXZnY(Matrix4f dest) {
+        return load().mapnXZnY(dest);
+    }
+
+    public Matrix4f mapnXnYZ(Matrix4f dest) {
+        return load().mapnXnYZ(dest);
+    }
+
+    public Matrix4f mapnXnYnZ(Matrix4f dest) {
+        return load().mapnXnYnZ(dest);
+    }
+
+    public Matrix4f mapnXnZY(Matrix4f dest) {
+        return load().mapnXnZY(dest);
+    }
+
+    public Matrix4f mapnXnZnY(Matrix4f dest) {
+        return load().mapnXnZnY(dest);
+    }
+
+    public Matrix4f mapnYXZ(Matrix4f dest) {
+        return load().mapnYXZ(dest);
+    }
+
+    public Matrix4f mapnYXnZ(Matrix4f dest) {
+        return load().mapnYXnZ(dest);
+    }
+
+    public Matrix4f mapnYZX(Matrix4f dest) {
+        return load().mapnYZX(dest);
+    }
+
+    public Matrix4f mapnYZnX(Matrix4f dest) {
+        return load().mapnYZnX(dest);
+    }
+
+    public Matrix4f mapnYnXZ(Matrix4f dest) {
+        return load().mapnYnXZ(dest);
+    }
+
+    public Matrix4f mapnYnXnZ(Matrix4f dest) {
+        return load().mapnYnXnZ(dest);
+    }
+
+    public Matrix4f mapnYnZX(Matrix4f dest) {
+        return load().mapnYnZX(dest);
+    }
+
+    public Matrix4f mapnYnZnX(Matrix4f dest) {
+        return load().mapnYnZnX(dest);
+    }
+
+    public Matrix4f mapnZXY(Matrix4f dest) {
+        return load().mapnZXY(dest);
+    }
+
+    public Matrix4f mapnZXnY(Matrix4f dest) {
+        return load().mapnZXnY(dest);
+    }
+
+    public Matrix4f mapnZYX(Matrix4f dest) {
+        return load().mapnZYX(dest);
+    }
+
+    public Matrix4f mapnZYnX(Matrix4f dest) {
+        return load().mapnZYnX(dest);
+    }
+
+    public Matrix4f mapnZnXY(Matrix4f dest) {
+        return load().mapnZnXY(dest);
+    }
+
+    public Matrix4f mapnZnXnY(Matrix4f dest) {
+        return load().mapnZnXnY(dest);
+    }
+
+    public Matrix4f mapnZnYX(Matrix4f dest) {
+        return load().mapnZnYX(dest);
+    }
+
+    public Matrix4f mapnZnYnX(Matrix4f dest) {
+        return load().mapnZnYnX(dest);
+    }
+
+    public Matrix4f negateX(Matrix4f dest) {
+        return load().negateX(dest);
+    }
+
+    public Matrix4f negateY(Matrix4f dest) {
+        return load().negateY(dest);
+    }
+
+    public Matrix4f negateZ(Matrix4f dest) {
+        return load().negateZ(dest);
+    }
+
+    public boolean equals(Matrix4fc m, float delta) {
+        return load().equals(m, delta);
+    }
+
+    public boolean isFinite() {
+        return load().isFinite();
+    }
+
+    public String toString() {
+        return load().toString();
+    }
+
+}
+//#endif
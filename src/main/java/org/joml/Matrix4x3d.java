@@ -1655,7 +1655,7 @@ public class Matrix4x3d implements Externalizable, Cloneable, Matrix4x3dc {
      * Set the values of this matrix by reading 12 double values from off-heap memory in column-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      * 
@@ -1664,6 +1664,12 @@ public class Matrix4x3d implements Externalizable, Cloneable, Matrix4x3dc {
      * @return this
      */
     public Matrix4x3d setFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.get(this, address);
+            return determineProperties();
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.get(this, address);
@@ -1673,7 +1679,7 @@ public class Matrix4x3d implements Externalizable, Cloneable, Matrix4x3dc {
      * Set the values of this matrix by reading 12 double values from off-heap memory in row-major order,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -1682,6 +1688,12 @@ public class Matrix4x3d implements Externalizable, Cloneable, Matrix4x3dc {
      * @return this
      */
     public Matrix4x3d setTransposedFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.getTransposed(this, address);
+            return determineProperties();
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.getTransposed(this, address);
@@ -2057,12 +2069,24 @@ public class Matrix4x3d implements Externalizable, Cloneable, Matrix4x3dc {
 //#endif
 //#ifdef __HAS_UNSAFE__
     public Matrix4x3dc getToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.put(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.put(this, address);
         return this;
     }
     public Matrix4x3dc getTransposedToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.putTransposed(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.putTransposed(this, address);
@@ -2827,6 +2851,74 @@ public class Matrix4x3d implements Externalizable, Cloneable, Matrix4x3dc {
         return dest;
     }
 
+    public double[] transformPositions(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        if ((properties & PROPERTY_IDENTITY) != 0)
+            return copyPositions(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        if ((properties & PROPERTY_TRANSLATION) != 0)
+            return transformPositionsTranslation(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        return transformPositionsGeneric(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+    private double[] copyPositions(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        if (src == dest && srcOffset == destOffset && srcStride == destStride)
+            return dest;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            dest[d] = x;
+            dest[d + 1] = y;
+            dest[d + 2] = z;
+        }
+        return dest;
+    }
+    private double[] transformPositionsTranslation(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        double m30 = this.m30, m31 = this.m31, m32 = this.m32;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            dest[d] = x + m30;
+            dest[d + 1] = y + m31;
+            dest[d + 2] = z + m32;
+        }
+        return dest;
+    }
+    private double[] transformPositionsGeneric(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        double m00 = this.m00, m01 = this.m01, m02 = this.m02;
+        double m10 = this.m10, m11 = this.m11, m12 = this.m12;
+        double m20 = this.m20, m21 = this.m21, m22 = this.m22;
+        double m30 = this.m30, m31 = this.m31, m32 = this.m32;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            dest[d] = m00 * x + m10 * y + m20 * z + m30;
+            dest[d + 1] = m01 * x + m11 * y + m21 * z + m31;
+            dest[d + 2] = m02 * x + m12 * y + m22 * z + m32;
+        }
+        return dest;
+    }
+
+    public double[] transformPositions(double[] xyz, int offset, int count) {
+        return transformPositions(xyz, offset, 3, xyz, offset, 3, count);
+    }
+
+    public double[] transformDirections(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        if ((properties & (PROPERTY_IDENTITY | PROPERTY_TRANSLATION)) != 0)
+            return copyPositions(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        return transformDirectionsGeneric(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+    private double[] transformDirectionsGeneric(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count) {
+        double m00 = this.m00, m01 = this.m01, m02 = this.m02;
+        double m10 = this.m10, m11 = this.m11, m12 = this.m12;
+        double m20 = this.m20, m21 = this.m21, m22 = this.m22;
+        for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += srcStride, d += destStride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            dest[d] = m00 * x + m10 * y + m20 * z;
+            dest[d + 1] = m01 * x + m11 * y + m21 * z;
+            dest[d + 2] = m02 * x + m12 * y + m22 * z;
+        }
+        return dest;
+    }
+
+    public double[] transformDirections(double[] xyz, int offset, int count) {
+        return transformDirections(xyz, offset, 3, xyz, offset, 3, count);
+    }
+
     /**
      * Set the left 3x3 submatrix of this {@link Matrix4x3d} to the given {@link Matrix3dc} and don't change the other elements.
      * 
@@ -686,7 +686,7 @@ public interface Matrix4x3dc {
     /**
      * Store this matrix in column-major order at the given off-heap address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      * 
@@ -699,7 +699,7 @@ public interface Matrix4x3dc {
     /**
      * Store this matrix in row-major order at the given off-heap address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -1148,6 +1148,102 @@ public interface Matrix4x3dc {
      */
     Vector3d transformDirection(Vector3dc v, Vector3d dest);
 
+    /**
+     * Transform/multiply <code>count</code> 3D-vectors stored in the array <code>src</code>, as if they were 4D-vectors with w=1, by
+     * this matrix and store the results in <code>dest</code>.
+     * <p>
+     * The <code>(x, y, z)</code> components of the <code>i</code>-th vector are read from <code>src</code> starting at the index
+     * <code>srcOffset + i * srcStride</code> and the result is written to <code>dest</code> starting at the index
+     * <code>destOffset + i * destStride</code>.
+     * <p>
+     * The {@link #properties() properties} of this matrix are only evaluated once for the whole batch, which makes this method
+     * preferable over calling {@link #transformPosition(Vector3dc, Vector3d)} for every single vector.
+     * <p>
+     * The arrays <code>src</code> and <code>dest</code> may be the same, as long as the read and write regions either
+     * coincide or do not overlap.
+     * 
+     * @param src
+     *          the array containing the positions to transform
+     * @param srcOffset
+     *          the index of the first position in <code>src</code>
+     * @param srcStride
+     *          the distance in array elements between two consecutive positions in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first result
+     * @param destStride
+     *          the distance in array elements between two consecutive results in <code>dest</code>
+     * @param count
+     *          the number of positions to transform
+     * @return dest
+     */
+    double[] transformPositions(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count);
+
+    /**
+     * Transform/multiply <code>count</code> tightly packed 3D-vectors stored in the array <code>xyz</code>, as if they were 4D-vectors with w=1, by
+     * this matrix and store the results back into <code>xyz</code>.
+     * 
+     * @see #transformPositions(double[], int, int, double[], int, int, int)
+     * 
+     * @param xyz
+     *          the array containing the positions to transform and to hold the final results
+     * @param offset
+     *          the index of the first position in <code>xyz</code>
+     * @param count
+     *          the number of positions to transform
+     * @return xyz
+     */
+    double[] transformPositions(double[] xyz, int offset, int count);
+
+    /**
+     * Transform/multiply <code>count</code> 3D-vectors stored in the array <code>src</code>, as if they were 4D-vectors with w=0, by
+     * this matrix and store the results in <code>dest</code>.
+     * <p>
+     * The <code>(x, y, z)</code> components of the <code>i</code>-th vector are read from <code>src</code> starting at the index
+     * <code>srcOffset + i * srcStride</code> and the result is written to <code>dest</code> starting at the index
+     * <code>destOffset + i * destStride</code>.
+     * <p>
+     * The {@link #properties() properties} of this matrix are only evaluated once for the whole batch, which makes this method
+     * preferable over calling {@link #transformDirection(Vector3dc, Vector3d)} for every single vector.
+     * <p>
+     * The arrays <code>src</code> and <code>dest</code> may be the same, as long as the read and write regions either
+     * coincide or do not overlap.
+     * 
+     * @param src
+     *          the array containing the directions to transform
+     * @param srcOffset
+     *          the index of the first direction in <code>src</code>
+     * @param srcStride
+     *          the distance in array elements between two consecutive directions in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first result
+     * @param destStride
+     *          the distance in array elements between two consecutive results in <code>dest</code>
+     * @param count
+     *          the number of directions to transform
+     * @return dest
+     */
+    double[] transformDirections(double[] src, int srcOffset, int srcStride, double[] dest, int destOffset, int destStride, int count);
+
+    /**
+     * Transform/multiply <code>count</code> tightly packed 3D-vectors stored in the array <code>xyz</code>, as if they were 4D-vectors with w=0, by
+     * this matrix and store the results back into <code>xyz</code>.
+     * 
+     * @see #transformDirections(double[], int, int, double[], int, int, int)
+     * 
+     * @param xyz
+     *          the array containing the directions to transform and to hold the final results
+     * @param offset
+     *          the index of the first direction in <code>xyz</code>
+     * @param count
+     *          the number of directions to transform
+     * @return xyz
+     */
+    double[] transformDirections(double[] xyz, int offset, int count);
+
     /**
      * Apply scaling to <code>this</code> matrix by scaling the base axes by the given <code>xyz.x</code>,
      * <code>xyz.y</code> and <code>xyz.z</code> factors, respectively and store the result in <code>dest</code>.
@@ -0,0 +1,497 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * A fixed-size collection of 4x3 single-precision matrices stored as a structure of arrays, with one
+ * primitive array per matrix element.
+ * <p>
+ * Compared to an array of {@link Matrix4x3f} objects this avoids the per-object header and reference, and it lets
+ * the bulk operations run as simple counted loops over primitive arrays, which the JIT compiler can auto-vectorize.
+ * A typical use is a skinning palette: build all bone matrices with
+ * {@link #translationRotateScale(Vector3fArray, QuaternionfArray, Vector3fArray)}, concatenate them with
+ * {@link #mul(Matrix4x3fArray, Matrix4x3fArray)} and transform vertices with
+ * {@link #transformPosition(Vector3fArray, Vector3fArray)}.
+ * <p>
+ * All bulk operations process the first {@link #size()} elements. A <code>dest</code> container may be
+ * <code>this</code> or one of the operands.
+ */
+public class Matrix4x3fArray {
+
+    /**
+     * The <code>m00</code> elements of all matrices.
+     */
+    public final float[] m00;
+    /**
+     * The <code>m01</code> elements of all matrices.
+     */
+    public final float[] m01;
+    /**
+     * The <code>m02</code> elements of all matrices.
+     */
+    public final float[] m02;
+    /**
+     * The <code>m10</code> elements of all matrices.
+     */
+    public final float[] m10;
+    /**
+     * The <code>m11</code> elements of all matrices.
+     */
+    public final float[] m11;
+    /**
+     * The <code>m12</code> elements of all matrices.
+     */
+    public final float[] m12;
+    /**
+     * The <code>m20</code> elements of all matrices.
+     */
+    public final float[] m20;
+    /**
+     * The <code>m21</code> elements of all matrices.
+     */
+    public final float[] m21;
+    /**
+     * The <code>m22</code> elements of all matrices.
+     */
+    public final float[] m22;
+    /**
+     * The <code>m30</code> elements of all matrices.
+     */
+    public final float[] m30;
+    /**
+     * The <code>m31</code> elements of all matrices.
+     */
+    public final float[] m31;
+    /**
+     * The <code>m32</code> elements of all matrices.
+     */
+    public final float[] m32;
+
+    /**
+     * Create a new {@link Matrix4x3fArray} holding <code>size</code> identity matrices.
+     * 
+     * @param size
+     *          the number of matrices
+     */
+    public Matrix4x3fArray(int size) {
+        this.m00 = new float[size];
+        this.m01 = new float[size];
+        this.m02 = new float[size];
+        this.m10 = new float[size];
+        this.m11 = new float[size];
+        this.m12 = new float[size];
+        this.m20 = new float[size];
+        this.m21 = new float[size];
+        this.m22 = new float[size];
+        this.m30 = new float[size];
+        this.m31 = new float[size];
+        this.m32 = new float[size];
+        identity();
+    }
+
+    /**
+     * Return the number of matrices in this container.
+     * 
+     * @return the number of matrices
+     */
+    public int size() {
+        return m00.length;
+    }
+
+    /**
+     * Store the matrix at the given index into <code>dest</code>.
+     * 
+     * @param index
+     *          the index of the matrix
+     * @param dest
+     *          will hold the matrix
+     * @return dest
+     */
+    public Matrix4x3f get(int index, Matrix4x3f dest) {
+        return dest.set(m00[index], m01[index], m02[index],
+                        m10[index], m11[index], m12[index],
+                        m20[index], m21[index], m22[index],
+                        m30[index], m31[index], m32[index]);
+    }
+
+    /**
+     * Set the matrix at the given index to the value of <code>m</code>.
+     * 
+     * @param index
+     *          the index of the matrix
+     * @param m
+     *          the new value
+     * @return this
+     */
+    public Matrix4x3fArray set(int index, Matrix4x3fc m) {
+        m00[index] = m.m00();
+        m01[index] = m.m01();
+        m02[index] = m.m02();
+        m10[index] = m.m10();
+        m11[index] = m.m11();
+        m12[index] = m.m12();
+        m20[index] = m.m20();
+        m21[index] = m.m21();
+        m22[index] = m.m22();
+        m30[index] = m.m30();
+        m31[index] = m.m31();
+        m32[index] = m.m32();
+        return this;
+    }
+
+    /**
+     * Set all matrices to the matrices of <code>src</code>.
+     * 
+     * @param src
+     *          the source matrices
+     * @return this
+     */
+    public Matrix4x3fArray set(Matrix4x3fArray src) {
+        int n = m00.length;
+        System.arraycopy(src.m00, 0, m00, 0, n);
+        System.arraycopy(src.m01, 0, m01, 0, n);
+        System.arraycopy(src.m02, 0, m02, 0, n);
+        System.arraycopy(src.m10, 0, m10, 0, n);
+        System.arraycopy(src.m11, 0, m11, 0, n);
+        System.arraycopy(src.m12, 0, m12, 0, n);
+        System.arraycopy(src.m20, 0, m20, 0, n);
+        System.arraycopy(src.m21, 0, m21, 0, n);
+        System.arraycopy(src.m22, 0, m22, 0, n);
+        System.arraycopy(src.m30, 0, m30, 0, n);
+        System.arraycopy(src.m31, 0, m31, 0, n);
+        System.arraycopy(src.m32, 0, m32, 0, n);
+        return this;
+    }
+
+    /**
+     * Set all matrices to identity.
+     * 
+     * @return this
+     */
+    public Matrix4x3fArray identity() {
+        java.util.Arrays.fill(m00, 1.0f);
+        java.util.Arrays.fill(m01, 0.0f);
+        java.util.Arrays.fill(m02, 0.0f);
+        java.util.Arrays.fill(m10, 0.0f);
+        java.util.Arrays.fill(m11, 1.0f);
+        java.util.Arrays.fill(m12, 0.0f);
+        java.util.Arrays.fill(m20, 0.0f);
+        java.util.Arrays.fill(m21, 0.0f);
+        java.util.Arrays.fill(m22, 1.0f);
+        java.util.Arrays.fill(m30, 0.0f);
+        java.util.Arrays.fill(m31, 0.0f);
+        java.util.Arrays.fill(m32, 0.0f);
+        return this;
+    }
+
+    /**
+     * Set each matrix of this container to <code>T * R * S</code>, where <code>T</code>, <code>R</code> and <code>S</code>
+     * are built from the corresponding translation of <code>translation</code>, unit quaternion of <code>quat</code>
+     * and scaling factors of <code>scale</code>.
+     * 
+     * @see Matrix4x3f#translationRotateScale(float, float, float, float, float, float, float, float, float, float)
+     * 
+     * @param translation
+     *          the translations
+     * @param quat
+     *          the unit quaternions representing the rotations
+     * @param scale
+     *          the scaling factors
+     * @return this
+     */
+    public Matrix4x3fArray translationRotateScale(Vector3fArray translation, QuaternionfArray quat, Vector3fArray scale) {
+        float[] tx = translation.x, ty = translation.y, tz = translation.z;
+        float[] qx = quat.x, qy = quat.y, qz = quat.z, qw = quat.w;
+        float[] sx = scale.x, sy = scale.y, sz = scale.z;
+        float[] a00 = m00, a01 = m01, a02 = m02, a10 = m10;
+        float[] a11 = m11, a12 = m12, a20 = m20, a21 = m21;
+        float[] a22 = m22, a30 = m30, a31 = m31, a32 = m32;
+        for (int i = 0, n = a00.length; i < n; i++) {
+            float x = qx[i], y = qy[i], z = qz[i], w = qw[i], sxi = sx[i], syi = sy[i], szi = sz[i];
+            float dqx = x + x, dqy = y + y, dqz = z + z;
+            float q00 = dqx * x, q11 = dqy * y, q22 = dqz * z;
+            float q01 = dqx * y, q02 = dqx * z, q03 = dqx * w;
+            float q12 = dqy * z, q13 = dqy * w, q23 = dqz * w;
+            a00[i] = sxi - (q11 + q22) * sxi;
+            a01[i] = (q01 + q23) * sxi;
+            a02[i] = (q02 - q13) * sxi;
+            a10[i] = (q01 - q23) * syi;
+            a11[i] = syi - (q22 + q00) * syi;
+            a12[i] = (q12 + q03) * syi;
+            a20[i] = (q02 + q13) * szi;
+            a21[i] = (q12 - q03) * szi;
+            a22[i] = szi - (q11 + q00) * szi;
+            a30[i] = tx[i];
+            a31[i] = ty[i];
+            a32[i] = tz[i];
+        }
+        return this;
+    }
+
+    /**
+     * Multiply each matrix of this container by the corresponding matrix of <code>right</code>.
+     * <p>
+     * If <code>M</code> is a matrix of <code>this</code> and <code>R</code> the corresponding <code>right</code> matrix,
+     * then the new matrix will be <code>M * R</code>.
+     * 
+     * @param right
+     *          the right operands of the matrix multiplications
+     * @return this
+     */
+    public Matrix4x3fArray mul(Matrix4x3fArray right) {
+        return mul(right, this);
+    }
+
+    /**
+     * Multiply each matrix of this container by the corresponding matrix of <code>right</code> and store the result in <code>dest</code>.
+     * <p>
+     * If <code>M</code> is a matrix of <code>this</code> and <code>R</code> the corresponding <code>right</code> matrix,
+     * then the new matrix will be <code>M * R</code>.
+     * 
+     * @param right
+     *          the right operands of the matrix multiplications
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Matrix4x3fArray mul(Matrix4x3fArray right, Matrix4x3fArray dest) {
+        float[] a00 = m00, a01 = m01, a02 = m02, a10 = m10;
+        float[] a11 = m11, a12 = m12, a20 = m20, a21 = m21;
+        float[] a22 = m22, a30 = m30, a31 = m31, a32 = m32;
+        float[] r00 = right.m00, r01 = right.m01, r02 = right.m02, r10 = right.m10;
+        float[] r11 = right.m11, r12 = right.m12, r20 = right.m20, r21 = right.m21;
+        float[] r22 = right.m22, r30 = right.m30, r31 = right.m31, r32 = right.m32;
+        float[] d00 = dest.m00, d01 = dest.m01, d02 = dest.m02, d10 = dest.m10;
+        float[] d11 = dest.m11, d12 = dest.m12, d20 = dest.m20, d21 = dest.m21;
+        float[] d22 = dest.m22, d30 = dest.m30, d31 = dest.m31, d32 = dest.m32;
+        for (int i = 0, n = a00.length; i < n; i++) {
+            float m00 = a00[i], m01 = a01[i], m02 = a02[i];
+            float m10 = a10[i], m11 = a11[i], m12 = a12[i];
+            float m20 = a20[i], m21 = a21[i], m22 = a22[i];
+            float m30 = a30[i], m31 = a31[i], m32 = a32[i];
+            float rm00 = r00[i], rm01 = r01[i], rm02 = r02[i];
+            float rm10 = r10[i], rm11 = r11[i], rm12 = r12[i];
+            float rm20 = r20[i], rm21 = r21[i], rm22 = r22[i];
+            float rm30 = r30[i], rm31 = r31[i], rm32 = r32[i];
+            d00[i] = Math.fma(m00, rm00, Math.fma(m10, rm01, m20 * rm02));
+            d01[i] = Math.fma(m01, rm00, Math.fma(m11, rm01, m21 * rm02));
+            d02[i] = Math.fma(m02, rm00, Math.fma(m12, rm01, m22 * rm02));
+            d10[i] = Math.fma(m00, rm10, Math.fma(m10, rm11, m20 * rm12));
+            d11[i] = Math.fma(m01, rm10, Math.fma(m11, rm11, m21 * rm12));
+            d12[i] = Math.fma(m02, rm10, Math.fma(m12, rm11, m22 * rm12));
+            d20[i] = Math.fma(m00, rm20, Math.fma(m10, rm21, m20 * rm22));
+            d21[i] = Math.fma(m01, rm20, Math.fma(m11, rm21, m21 * rm22));
+            d22[i] = Math.fma(m02, rm20, Math.fma(m12, rm21, m22 * rm22));
+            d30[i] = Math.fma(m00, rm30, Math.fma(m10, rm31, Math.fma(m20, rm32, m30)));
+            d31[i] = Math.fma(m01, rm30, Math.fma(m11, rm31, Math.fma(m21, rm32, m31)));
+            d32[i] = Math.fma(m02, rm30, Math.fma(m12, rm31, Math.fma(m22, rm32, m32)));
+        }
+        return dest;
+    }
+
+    /**
+     * Multiply each matrix of this container by the given matrix <code>right</code>.
+     * <p>
+     * If <code>M</code> is a matrix of <code>this</code> and <code>R</code> the <code>right</code> matrix,
+     * then the new matrix will be <code>M * R</code>.
+     * 
+     * @param right
+     *          the right operand of the matrix multiplications
+     * @return this
+     */
+    public Matrix4x3fArray mul(Matrix4x3fc right) {
+        return mul(right, this);
+    }
+
+    /**
+     * Multiply each matrix of this container by the given matrix <code>right</code> and store the result in <code>dest</code>.
+     * <p>
+     * If <code>M</code> is a matrix of <code>this</code> and <code>R</code> the <code>right</code> matrix,
+     * then the new matrix will be <code>M * R</code>.
+     * 
+     * @param right
+     *          the right operand of the matrix multiplications
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Matrix4x3fArray mul(Matrix4x3fc right, Matrix4x3fArray dest) {
+        float rm00 = right.m00(), rm01 = right.m01(), rm02 = right.m02();
+        float rm10 = right.m10(), rm11 = right.m11(), rm12 = right.m12();
+        float rm20 = right.m20(), rm21 = right.m21(), rm22 = right.m22();
+        float rm30 = right.m30(), rm31 = right.m31(), rm32 = right.m32();
+        float[] a00 = m00, a01 = m01, a02 = m02, a10 = m10;
+        float[] a11 = m11, a12 = m12, a20 = m20, a21 = m21;
+        float[] a22 = m22, a30 = m30, a31 = m31, a32 = m32;
+        float[] d00 = dest.m00, d01 = dest.m01, d02 = dest.m02, d10 = dest.m10;
+        float[] d11 = dest.m11, d12 = dest.m12, d20 = dest.m20, d21 = dest.m21;
+        float[] d22 = dest.m22, d30 = dest.m30, d31 = dest.m31, d32 = dest.m32;
+        for (int i = 0, n = a00.length; i < n; i++) {
+            float m00 = a00[i], m01 = a01[i], m02 = a02[i];
+            float m10 = a10[i], m11 = a11[i], m12 = a12[i];
+            float m20 = a20[i], m21 = a21[i], m22 = a22[i];
+            float m30 = a30[i], m31 = a31[i], m32 = a32[i];
+            d00[i] = Math.fma(m00, rm00, Math.fma(m10, rm01, m20 * rm02));
+            d01[i] = Math.fma(m01, rm00, Math.fma(m11, rm01, m21 * rm02));
+            d02[i] = Math.fma(m02, rm00, Math.fma(m12, rm01, m22 * rm02));
+            d10[i] = Math.fma(m00, rm10, Math.fma(m10, rm11, m20 * rm12));
+            d11[i] = Math.fma(m01, rm10, Math.fma(m11, rm11, m21 * rm12));
+            d12[i] = Math.fma(m02, rm10, Math.fma(m12, rm11, m22 * rm12));
+            d20[i] = Math.fma(m00, rm20, Math.fma(m10, rm21, m20 * rm22));
+            d21[i] = Math.fma(m01, rm20, Math.fma(m11, rm21, m21 * rm22));
+            d22[i] = Math.fma(m02, rm20, Math.fma(m12, rm21, m22 * rm22));
+            d30[i] = Math.fma(m00, rm30, Math.fma(m10, rm31, Math.fma(m20, rm32, m30)));
+            d31[i] = Math.fma(m01, rm30, Math.fma(m11, rm31, Math.fma(m21, rm32, m31)));
+            d32[i] = Math.fma(m02, rm30, Math.fma(m12, rm31, Math.fma(m22, rm32, m32)));
+        }
+        return dest;
+    }
+
+    /**
+     * Pre-multiply each matrix of this container by the given matrix <code>left</code>.
+     * <p>
+     * If <code>M</code> is a matrix of <code>this</code> and <code>L</code> the <code>left</code> matrix,
+     * then the new matrix will be <code>L * M</code>.
+     * 
+     * @param left
+     *          the left operand of the matrix multiplications
+     * @return this
+     */
+    public Matrix4x3fArray mulLocal(Matrix4x3fc left) {
+        return mulLocal(left, this);
+    }
+
+    /**
+     * Pre-multiply each matrix of this container by the given matrix <code>left</code> and store the result in <code>dest</code>.
+     * <p>
+     * If <code>M</code> is a matrix of <code>this</code> and <code>L</code> the <code>left</code> matrix,
+     * then the new matrix will be <code>L * M</code>.
+     * 
+     * @param left
+     *          the left operand of the matrix multiplications
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Matrix4x3fArray mulLocal(Matrix4x3fc left, Matrix4x3fArray dest) {
+        float[] a00 = m00, a01 = m01, a02 = m02, a10 = m10;
+        float[] a11 = m11, a12 = m12, a20 = m20, a21 = m21;
+        float[] a22 = m22, a30 = m30, a31 = m31, a32 = m32;
+        float m00 = left.m00(), m01 = left.m01(), m02 = left.m02();
+        float m10 = left.m10(), m11 = left.m11(), m12 = left.m12();
+        float m20 = left.m20(), m21 = left.m21(), m22 = left.m22();
+        float m30 = left.m30(), m31 = left.m31(), m32 = left.m32();
+        float[] d00 = dest.m00, d01 = dest.m01, d02 = dest.m02, d10 = dest.m10;
+        float[] d11 = dest.m11, d12 = dest.m12, d20 = dest.m20, d21 = dest.m21;
+        float[] d22 = dest.m22, d30 = dest.m30, d31 = dest.m31, d32 = dest.m32;
+        for (int i = 0, n = a00.length; i < n; i++) {
+            float rm00 = a00[i], rm01 = a01[i], rm02 = a02[i];
+            float rm10 = a10[i], rm11 = a11[i], rm12 = a12[i];
+            float rm20 = a20[i], rm21 = a21[i], rm22 = a22[i];
+            float rm30 = a30[i], rm31 = a31[i], rm32 = a32[i];
+            d00[i] = Math.fma(m00, rm00, Math.fma(m10, rm01, m20 * rm02));
+            d01[i] = Math.fma(m01, rm00, Math.fma(m11, rm01, m21 * rm02));
+            d02[i] = Math.fma(m02, rm00, Math.fma(m12, rm01, m22 * rm02));
+            d10[i] = Math.fma(m00, rm10, Math.fma(m10, rm11, m20 * rm12));
+            d11[i] = Math.fma(m01, rm10, Math.fma(m11, rm11, m21 * rm12));
+            d12[i] = Math.fma(m02, rm10, Math.fma(m12, rm11, m22 * rm12));
+            d20[i] = Math.fma(m00, rm20, Math.fma(m10, rm21, m20 * rm22));
+            d21[i] = Math.fma(m01, rm20, Math.fma(m11, rm21, m21 * rm22));
+            d22[i] = Math.fma(m02, rm20, Math.fma(m12, rm21, m22 * rm22));
+            d30[i] = Math.fma(m00, rm30, Math.fma(m10, rm31, Math.fma(m20, rm32, m30)));
+            d31[i] = Math.fma(m01, rm30, Math.fma(m11, rm31, Math.fma(m21, rm32, m31)));
+            d32[i] = Math.fma(m02, rm30, Math.fma(m12, rm31, Math.fma(m22, rm32, m32)));
+        }
+        return dest;
+    }
+
+    /**
+     * Transform each position of <code>v</code> by the corresponding matrix of this container.
+     * 
+     * @param v
+     *          the positions to transform
+     * @return v
+     */
+    public Vector3fArray transformPosition(Vector3fArray v) {
+        return transformPosition(v, v);
+    }
+
+    /**
+     * Transform each position of <code>v</code> by the corresponding matrix of this container and store the result in <code>dest</code>.
+     * 
+     * @param v
+     *          the positions to transform
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray transformPosition(Vector3fArray v, Vector3fArray dest) {
+        float[] a00 = m00, a01 = m01, a02 = m02, a10 = m10;
+        float[] a11 = m11, a12 = m12, a20 = m20, a21 = m21;
+        float[] a22 = m22, a30 = m30, a31 = m31, a32 = m32;
+        float[] vx = v.x, vy = v.y, vz = v.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = a00.length; i < n; i++) {
+            float x = vx[i], y = vy[i], z = vz[i];
+            dx[i] = Math.fma(a00[i], x, Math.fma(a10[i], y, Math.fma(a20[i], z, a30[i])));
+            dy[i] = Math.fma(a01[i], x, Math.fma(a11[i], y, Math.fma(a21[i], z, a31[i])));
+            dz[i] = Math.fma(a02[i], x, Math.fma(a12[i], y, Math.fma(a22[i], z, a32[i])));
+        }
+        return dest;
+    }
+
+    /**
+     * Transform each direction of <code>v</code> by the corresponding matrix of this container, ignoring the translation.
+     * 
+     * @param v
+     *          the directions to transform
+     * @return v
+     */
+    public Vector3fArray transformDirection(Vector3fArray v) {
+        return transformDirection(v, v);
+    }
+
+    /**
+     * Transform each direction of <code>v</code> by the corresponding matrix of this container, ignoring the translation,
+     * and store the result in <code>dest</code>.
+     * 
+     * @param v
+     *          the directions to transform
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray transformDirection(Vector3fArray v, Vector3fArray dest) {
+        float[] a00 = m00, a01 = m01, a02 = m02, a10 = m10;
+        float[] a11 = m11, a12 = m12, a20 = m20, a21 = m21;
+        float[] a22 = m22;
+        float[] vx = v.x, vy = v.y, vz = v.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = a00.length; i < n; i++) {
+            float x = vx[i], y = vy[i], z = vz[i];
+            dx[i] = Math.fma(a00[i], x, Math.fma(a10[i], y, a20[i] * z));
+            dy[i] = Math.fma(a01[i], x, Math.fma(a11[i], y, a21[i] * z));
+            dz[i] = Math.fma(a02[i], x, Math.fma(a12[i], y, a22[i] * z));
+        }
+        return dest;
+    }
+}
@@ -23,6 +23,9 @@
  */
 package org.joml;
 
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
 //#ifdef __HAS_NIO__
 import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
@@ -582,13 +585,29 @@ public interface Matrix4x3fc {
      * @return the passed in buffer
      */
     ByteBuffer get(int index, ByteBuffer buffer);
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+
+    /**
+     * Store this matrix in column-major order into the supplied {@link MemorySegment} starting at the specified
+     * byte offset.
+     * <p>
+     * The segment bounds are checked once for all 48 bytes before any value is accessed.
+     * 
+     * @param byteOffset
+     *          the offset in bytes into the MemorySegment
+     * @param segment
+     *          will receive the values of this matrix in column-major order
+     * @return the passed in segment
+     */
+    MemorySegment get(long byteOffset, MemorySegment segment);
+//#endif
 //#endif
 
 //#ifdef __HAS_UNSAFE__
     /**
      * Store this matrix in column-major order at the given off-heap address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      * 
@@ -600,7 +619,7 @@ public interface Matrix4x3fc {
     /**
      * Store this matrix in row-major order at the given off-heap address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      *
@@ -979,6 +998,220 @@ public interface Matrix4x3fc {
      */
     Vector3f transformDirection(Vector3fc v, Vector3f dest);
 
+    /**
+     * Transform/multiply <code>count</code> 3D-vectors stored in the array <code>src</code>, as if they were 4D-vectors with w=1, by
+     * this matrix and store the results in <code>dest</code>.
+     * <p>
+     * The <code>(x, y, z)</code> components of the <code>i</code>-th vector are read from <code>src</code> starting at the index
+     * <code>srcOffset + i * srcStride</code> and the result is written to <code>dest</code> starting at the index
+     * <code>destOffset + i * destStride</code>.
+     * <p>
+     * The {@link #properties() properties} of this matrix are only evaluated once for the whole batch, which makes this method
+     * preferable over calling {@link #transformPosition(Vector3fc, Vector3f)} for every single vector.
+     * <p>
+     * The arrays <code>src</code> and <code>dest</code> may be the same, as long as the read and write regions either
+     * coincide or do not overlap.
+     * 
+     * @param src
+     *          the array containing the positions to transform
+     * @param srcOffset
+     *          the index of the first position in <code>src</code>
+     * @param srcStride
+     *          the distance in array elements between two consecutive positions in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first result
+     * @param destStride
+     *          the distance in array elements between two consecutive results in <code>dest</code>
+     * @param count
+     *          the number of positions to transform
+     * @return dest
+     */
+    float[] transformPositions(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count);
+
+    /**
+     * Transform/multiply <code>count</code> tightly packed 3D-vectors stored in the array <code>xyz</code>, as if they were 4D-vectors with w=1, by
+     * this matrix and store the results back into <code>xyz</code>.
+     * 
+     * @see #transformPositions(float[], int, int, float[], int, int, int)
+     * 
+     * @param xyz
+     *          the array containing the positions to transform and to hold the final results
+     * @param offset
+     *          the index of the first position in <code>xyz</code>
+     * @param count
+     *          the number of positions to transform
+     * @return xyz
+     */
+    float[] transformPositions(float[] xyz, int offset, int count);
+
+    /**
+     * Transform/multiply <code>count</code> 3D-vectors stored in the array <code>src</code>, as if they were 4D-vectors with w=0, by
+     * this matrix and store the results in <code>dest</code>.
+     * <p>
+     * The <code>(x, y, z)</code> components of the <code>i</code>-th vector are read from <code>src</code> starting at the index
+     * <code>srcOffset + i * srcStride</code> and the result is written to <code>dest</code> starting at the index
+     * <code>destOffset + i * destStride</code>.
+     * <p>
+     * The {@link #properties() properties} of this matrix are only evaluated once for the whole batch, which makes this method
+     * preferable over calling {@link #transformDirection(Vector3fc, Vector3f)} for every single vector.
+     * <p>
+     * The arrays <code>src</code> and <code>dest</code> may be the same, as long as the read and write regions either
+     * coincide or do not overlap.
+     * 
+     * @param src
+     *          the array containing the directions to transform
+     * @param srcOffset
+     *          the index of the first direction in <code>src</code>
+     * @param srcStride
+     *          the distance in array elements between two consecutive directions in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first result
+     * @param destStride
+     *          the distance in array elements between two consecutive results in <code>dest</code>
+     * @param count
+     *          the number of directions to transform
+     * @return dest
+     */
+    float[] transformDirections(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count);
+
+    /**
+     * Transform/multiply <code>count</code> tightly packed 3D-vectors stored in the array <code>xyz</code>, as if they were 4D-vectors with w=0, by
+     * this matrix and store the results back into <code>xyz</code>.
+     * 
+     * @see #transformDirections(float[], int, int, float[], int, int, int)
+     * 
+     * @param xyz
+     *          the array containing the directions to transform and to hold the final results
+     * @param offset
+     *          the index of the first direction in <code>xyz</code>
+     * @param count
+     *          the number of directions to transform
+     * @return xyz
+     */
+    float[] transformDirections(float[] xyz, int offset, int count);
+
+//#ifdef __HAS_NIO__
+    /**
+     * Transform/multiply <code>count</code> 3D-vectors stored in the {@link FloatBuffer} <code>src</code>, as if they were 4D-vectors
+     * with w=1, by this matrix and store the results in <code>dest</code>.
+     * <p>
+     * The first vector is read from the current {@link FloatBuffer#position() position} of <code>src</code> and the first result is
+     * written to the current position of <code>dest</code>. Each subsequent vector and result is located <code>stride</code> floats
+     * after the previous one, so that the positions of an interleaved vertex layout can be transformed without touching
+     * the other vertex attributes. The <code>(x, y, z)</code> components of each vector must be stored consecutively.
+     * <p>
+     * This method will not increment the position of the given buffers.
+     * <p>
+     * If both buffers are direct and in {@link java.nio.ByteOrder#nativeOrder() native order}, and JOML is not used with
+     * <code>-Djoml.nounsafe</code>, this method transforms the vectors directly in off-heap memory without any allocation.
+     * Otherwise, it falls back to using absolute FloatBuffer get/put operations.
+     * <p>
+     * <code>src</code> and <code>dest</code> may be the same buffer to transform the vectors in-place.
+     * 
+     * @param src
+     *          the buffer containing the positions to transform
+     * @param dest
+     *          will hold the results
+     * @param count
+     *          the number of positions to transform
+     * @param stride
+     *          the distance in floats between two consecutive positions in <code>src</code> and in <code>dest</code>
+     * @return dest
+     */
+    FloatBuffer transformPositions(FloatBuffer src, FloatBuffer dest, int count, int stride);
+
+    /**
+     * Transform/multiply <code>count</code> 3D-vectors stored in the {@link ByteBuffer} <code>src</code>, as if they were 4D-vectors
+     * with w=1, by this matrix and store the results in <code>dest</code>.
+     * <p>
+     * The first vector is read from the current {@link ByteBuffer#position() position} of <code>src</code> and the first result is
+     * written to the current position of <code>dest</code>. Each subsequent vector and result is located <code>stride</code> bytes
+     * after the previous one, so that the positions of an interleaved vertex layout can be transformed without touching
+     * the other vertex attributes. The <code>(x, y, z)</code> components of each vector must be stored consecutively.
+     * <p>
+     * This method will not increment the position of the given buffers.
+     * <p>
+     * If both buffers are direct and in {@link java.nio.ByteOrder#nativeOrder() native order}, and JOML is not used with
+     * <code>-Djoml.nounsafe</code>, this method transforms the vectors directly in off-heap memory without any allocation.
+     * Otherwise, it falls back to using absolute ByteBuffer get/put operations.
+     * <p>
+     * <code>src</code> and <code>dest</code> may be the same buffer to transform the vectors in-place.
+     * 
+     * @param src
+     *          the buffer containing the positions to transform
+     * @param dest
+     *          will hold the results
+     * @param count
+     *          the number of positions to transform
+     * @param stride
+     *          the distance in bytes between two consecutive positions in <code>src</code> and in <code>dest</code>
+     * @return dest
+     */
+    ByteBuffer transformPositions(ByteBuffer src, ByteBuffer dest, int count, int stride);
+
+    /**
+     * Transform/multiply <code>count</code> 3D-vectors stored in the {@link FloatBuffer} <code>src</code>, as if they were 4D-vectors
+     * with w=0, by this matrix and store the results in <code>dest</code>.
+     * <p>
+     * The first vector is read from the current {@link FloatBuffer#position() position} of <code>src</code> and the first result is
+     * written to the current position of <code>dest</code>. Each subsequent vector and result is located <code>stride</code> floats
+     * after the previous one, so that the directions of an interleaved vertex layout can be transformed without touching
+     * the other vertex attributes. The <code>(x, y, z)</code> components of each vector must be stored consecutively.
+     * <p>
+     * This method will not increment the position of the given buffers.
+     * <p>
+     * If both buffers are direct and in {@link java.nio.ByteOrder#nativeOrder() native order}, and JOML is not used with
+     * <code>-Djoml.nounsafe</code>, this method transforms the vectors directly in off-heap memory without any allocation.
+     * Otherwise, it falls back to using absolute FloatBuffer get/put operations.
+     * <p>
+     * <code>src</code> and <code>dest</code> may be the same buffer to transform the vectors in-place.
+     * 
+     * @param src
+     *          the buffer containing the directions to transform
+     * @param dest
+     *          will hold the results
+     * @param count
+     *          the number of directions to transform
+     * @param stride
+     *          the distance in floats between two consecutive directions in <code>src</code> and in <code>dest</code>
+     * @return dest
+     */
+    FloatBuffer transformDirections(FloatBuffer src, FloatBuffer dest, int count, int stride);
+
+    /**
+     * Transform/multiply <code>count</code> 3D-vectors stored in the {@link ByteBuffer} <code>src</code>, as if they were 4D-vectors
+     * with w=0, by this matrix and store the results in <code>dest</code>.
+     * <p>
+     * The first vector is read from the current {@link ByteBuffer#position() position} of <code>src</code> and the first result is
+     * written to the current position of <code>dest</code>. Each subsequent vector and result is located <code>stride</code> bytes
+     * after the previous one, so that the directions of an interleaved vertex layout can be transformed without touching
+     * the other vertex attributes. The <code>(x, y, z)</code> components of each vector must be stored consecutively.
+     * <p>
+     * This method will not increment the position of the given buffers.
+     * <p>
+     * If both buffers are direct and in {@link java.nio.ByteOrder#nativeOrder() native order}, and JOML is not used with
+     * <code>-Djoml.nounsafe</code>, this method transforms the vectors directly in off-heap memory without any allocation.
+     * Otherwise, it falls back to using absolute ByteBuffer get/put operations.
+     * <p>
+     * <code>src</code> and <code>dest</code> may be the same buffer to transform the vectors in-place.
+     * 
+     * @param src
+     *          the buffer containing the directions to transform
+     * @param dest
+     *          will hold the results
+     * @param count
+     *          the number of directions to transform
+     * @param stride
+     *          the distance in bytes between two consecutive directions in <code>src</code> and in <code>dest</code>
+     * @return dest
+     */
+    ByteBuffer transformDirections(ByteBuffer src, ByteBuffer dest, int count, int stride);
+//#endif
+
     /**
      * Apply scaling to <code>this</code> matrix by scaling the base axes by the given <code>xyz.x</code>,
      * <code>xyz.y</code> and <code>xyz.z</code> factors, respectively and store the result in <code>dest</code>.
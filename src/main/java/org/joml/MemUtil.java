@@ -23,6 +23,10 @@
  */
 package org.joml;
 
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+//#endif
 import java.lang.reflect.Field;
 //#ifdef __HAS_NIO__
 import java.nio.*;
@@ -40,6 +44,11 @@ abstract class MemUtil {
     public static final MemUtil INSTANCE = createInstance();
     private static MemUtil createInstance() {
         MemUtil accessor;
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        accessor = createFFMInstance();
+        if (accessor != null)
+            return accessor;
+//#endif
 //#ifdef __HAS_UNSAFE__
         try {
             if (Options.NO_UNSAFE && Options.FORCE_UNSAFE)
@@ -58,6 +67,45 @@ abstract class MemUtil {
 //#endif
         return accessor;
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    private static MemUtil createFFMInstance() {
+        if (Options.NO_FFM && Options.FORCE_FFM)
+            throw new ConfigurationException("Cannot enable both -Djoml.noffm and -Djoml.forceFfm", null);
+//#ifdef __HAS_UNSAFE__
+        if (Options.FORCE_UNSAFE && Options.FORCE_FFM)
+            throw new ConfigurationException("Cannot enable both -Djoml.forceUnsafe and -Djoml.forceFfm", null);
+        if (Options.FORCE_UNSAFE)
+            return null;
+//#endif
+        if (Options.NO_FFM || !Options.FORCE_FFM && java.lang.Runtime.version().feature() < 22)
+            return null;
+        try {
+            return new MemUtilFFM();
+        } catch (Throwable e) {
+            if (Options.FORCE_FFM)
+                throw new ConfigurationException("java.lang.foreign is not supported but its use was forced via -Djoml.forceFfm", e);
+            return null;
+        }
+    }
+//#endif
+
+//#ifdef __HAS_NIO__
+    /**
+     * Validate the arguments of a bulk store of <code>count</code> elements of <code>size</code> bytes each, taken from
+     * <code>src[from..from+count)</code> and written <code>stride</code> bytes apart starting at <code>offset</code>.
+     */
+    static void checkPutAll(int length, int from, int count, int offset, int limit, int stride, int size) {
+        if (from < 0 || count < 0 || from > length - count)
+            throw new IndexOutOfBoundsException();
+        if (count == 0)
+            return;
+        if (stride < size)
+            throw new IllegalArgumentException("stride must be at least " + size);
+        /* Validate only the first and the last element, since the range in between is contiguous */
+        if (offset < 0 || offset + (long) (count - 1) * stride + size > limit)
+            throw new IndexOutOfBoundsException();
+    }
+//#endif
 
 //#ifdef __HAS_NIO__
     public abstract void put(Matrix4f m, int offset, FloatBuffer dest);
@@ -229,6 +277,16 @@ abstract class MemUtil {
     public abstract void putMatrix4f(Quaternionf q, int position, FloatBuffer dest);
     public abstract void putMatrix4x3f(Quaternionf q, int position, ByteBuffer dest);
     public abstract void putMatrix4x3f(Quaternionf q, int position, FloatBuffer dest);
+    public abstract void transform(Matrix4f m, float w, int srcOffset, FloatBuffer src, int destOffset, FloatBuffer dest, int count, int stride);
+    public abstract void transform(Matrix4f m, float w, int srcOffset, ByteBuffer src, int destOffset, ByteBuffer dest, int count, int stride);
+    public abstract void transform(Matrix4x3f m, float w, int srcOffset, FloatBuffer src, int destOffset, FloatBuffer dest, int count, int stride);
+    public abstract void transform(Matrix4x3f m, float w, int srcOffset, ByteBuffer src, int destOffset, ByteBuffer dest, int count, int stride);
+    public abstract void putAll(Matrix4fc[] src, int from, int count, int offset, ByteBuffer dest, int stride);
+    public abstract void putAllTransposed(Matrix4fc[] src, int from, int count, int offset, ByteBuffer dest, int stride);
+    public abstract void putAll(Matrix4x3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride);
+    public abstract void putAllTransposed(Matrix4x3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride);
+    public abstract void putAll4x4(Matrix4x3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride);
+    public abstract void putAll3x4(Matrix3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride);
 //#endif
 
     public abstract float get(Matrix4f m, int column, int row);
@@ -3908,6 +3966,72 @@ abstract class MemUtil {
             .put(position + 10, 0.0f)
             .put(position + 11, 0.0f);
         }
+
+        public void transform(Matrix4f m, float w, int srcOffset, FloatBuffer src, int destOffset, FloatBuffer dest, int count, int stride) {
+            transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30() * w, m.m31() * w, m.m32() * w, srcOffset, src, destOffset, dest, count, stride);
+        }
+
+        public void transform(Matrix4f m, float w, int srcOffset, ByteBuffer src, int destOffset, ByteBuffer dest, int count, int stride) {
+            transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30() * w, m.m31() * w, m.m32() * w, srcOffset, src, destOffset, dest, count, stride);
+        }
+
+        public void transform(Matrix4x3f m, float w, int srcOffset, FloatBuffer src, int destOffset, FloatBuffer dest, int count, int stride) {
+            transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30() * w, m.m31() * w, m.m32() * w, srcOffset, src, destOffset, dest, count, stride);
+        }
+
+        public void transform(Matrix4x3f m, float w, int srcOffset, ByteBuffer src, int destOffset, ByteBuffer dest, int count, int stride) {
+            transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30() * w, m.m31() * w, m.m32() * w, srcOffset, src, destOffset, dest, count, stride);
+        }
+
+        public void putAll(Matrix4fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            for (int i = from, end = from + count; i < end; i++, offset += stride)
+                src[i].get(offset, dest);
+        }
+
+        public void putAllTransposed(Matrix4fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            for (int i = from, end = from + count; i < end; i++, offset += stride)
+                src[i].getTransposed(offset, dest);
+        }
+
+        public void putAll(Matrix4x3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            for (int i = from, end = from + count; i < end; i++, offset += stride)
+                src[i].get(offset, dest);
+        }
+
+        public void putAllTransposed(Matrix4x3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            for (int i = from, end = from + count; i < end; i++, offset += stride)
+                src[i].getTransposed(offset, dest);
+        }
+
+        public void putAll4x4(Matrix4x3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            for (int i = from, end = from + count; i < end; i++, offset += stride)
+                src[i].get4x4(offset, dest);
+        }
+
+        public void putAll3x4(Matrix3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            for (int i = from, end = from + count; i < end; i++, offset += stride)
+                src[i].get3x4(offset, dest);
+        }
+
+        private static void transform(float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float m30, float m31, float m32,
+                int srcOffset, FloatBuffer src, int destOffset, FloatBuffer dest, int count, int stride) {
+            for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += stride, d += stride) {
+                float x = src.get(s), y = src.get(s + 1), z = src.get(s + 2);
+                dest.put(d,     Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))))
+                    .put(d + 1, Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))))
+                    .put(d + 2, Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))));
+            }
+        }
+
+        private static void transform(float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float m30, float m31, float m32,
+                int srcOffset, ByteBuffer src, int destOffset, ByteBuffer dest, int count, int stride) {
+            for (int i = 0, s = srcOffset, d = destOffset; i < count; i++, s += stride, d += stride) {
+                float x = src.getFloat(s), y = src.getFloat(s + 4), z = src.getFloat(s + 8);
+                dest.putFloat(d,     Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))))
+                    .putFloat(d + 4, Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))))
+                    .putFloat(d + 8, Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))));
+            }
+        }
 //#endif
     }
 
@@ -6514,7 +6638,2032 @@ abstract class MemUtil {
             else
                 super.get(dst, offset, src);
         }
+
+        public void transform(Matrix4f m, float w, int srcOffset, FloatBuffer src, int destOffset, FloatBuffer dest, int count, int stride) {
+            if (!src.isDirect() || !dest.isDirect() || src.order() != ByteOrder.nativeOrder() || dest.order() != ByteOrder.nativeOrder()) {
+                super.transform(m, w, srcOffset, src, destOffset, dest, count, stride);
+                return;
+            }
+            checkTransform(srcOffset, src.limit(), destOffset, dest.limit(), count, stride, 3);
+            transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30() * w, m.m31() * w, m.m32() * w,
+                      UNSAFE.getLong(src, ADDRESS) + ((long) srcOffset << 2), UNSAFE.getLong(dest, ADDRESS) + ((long) destOffset << 2), (long) stride << 2, count);
+        }
+
+        public void transform(Matrix4f m, float w, int srcOffset, ByteBuffer src, int destOffset, ByteBuffer dest, int count, int stride) {
+            if (!src.isDirect() || !dest.isDirect() || src.order() != ByteOrder.nativeOrder() || dest.order() != ByteOrder.nativeOrder()) {
+                super.transform(m, w, srcOffset, src, destOffset, dest, count, stride);
+                return;
+            }
+            checkTransform(srcOffset, src.limit(), destOffset, dest.limit(), count, stride, 12);
+            transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30() * w, m.m31() * w, m.m32() * w,
+                      UNSAFE.getLong(src, ADDRESS) + srcOffset, UNSAFE.getLong(dest, ADDRESS) + destOffset, stride, count);
+        }
+
+        public void transform(Matrix4x3f m, float w, int srcOffset, FloatBuffer src, int destOffset, FloatBuffer dest, int count, int stride) {
+            if (!src.isDirect() || !dest.isDirect() || src.order() != ByteOrder.nativeOrder() || dest.order() != ByteOrder.nativeOrder()) {
+                super.transform(m, w, srcOffset, src, destOffset, dest, count, stride);
+                return;
+            }
+            checkTransform(srcOffset, src.limit(), destOffset, dest.limit(), count, stride, 3);
+            transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30() * w, m.m31() * w, m.m32() * w,
+                      UNSAFE.getLong(src, ADDRESS) + ((long) srcOffset << 2), UNSAFE.getLong(dest, ADDRESS) + ((long) destOffset << 2), (long) stride << 2, count);
+        }
+
+        public void transform(Matrix4x3f m, float w, int srcOffset, ByteBuffer src, int destOffset, ByteBuffer dest, int count, int stride) {
+            if (!src.isDirect() || !dest.isDirect() || src.order() != ByteOrder.nativeOrder() || dest.order() != ByteOrder.nativeOrder()) {
+                super.transform(m, w, srcOffset, src, destOffset, dest, count, stride);
+                return;
+            }
+            checkTransform(srcOffset, src.limit(), destOffset, dest.limit(), count, stride, 12);
+            transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30() * w, m.m31() * w, m.m32() * w,
+                      UNSAFE.getLong(src, ADDRESS) + srcOffset, UNSAFE.getLong(dest, ADDRESS) + destOffset, stride, count);
+        }
+
+        public void putAll(Matrix4fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            if (dest.order() != ByteOrder.nativeOrder()) {
+                super.putAll(src, from, count, offset, dest, stride);
+                return;
+            }
+            if (!dest.isDirect())
+                throwNoDirectBufferException();
+            long address = UNSAFE.getLong(dest, ADDRESS);
+            for (int i = from, end = from + count; i < end; i++, offset += stride) {
+                Matrix4fc m = src[i];
+                if (m instanceof Matrix4f)
+                    put((Matrix4f) m, address + offset);
+                else
+                    m.get(offset, dest);
+            }
+        }
+
+        public void putAllTransposed(Matrix4fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            if (dest.order() != ByteOrder.nativeOrder()) {
+                super.putAllTransposed(src, from, count, offset, dest, stride);
+                return;
+            }
+            if (!dest.isDirect())
+                throwNoDirectBufferException();
+            long address = UNSAFE.getLong(dest, ADDRESS);
+            for (int i = from, end = from + count; i < end; i++, offset += stride) {
+                Matrix4fc m = src[i];
+                if (m instanceof Matrix4f)
+                    putTransposed((Matrix4f) m, address + offset);
+                else
+                    m.getTransposed(offset, dest);
+            }
+        }
+
+        public void putAll(Matrix4x3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            if (dest.order() != ByteOrder.nativeOrder()) {
+                super.putAll(src, from, count, offset, dest, stride);
+                return;
+            }
+            if (!dest.isDirect())
+                throwNoDirectBufferException();
+            long address = UNSAFE.getLong(dest, ADDRESS);
+            for (int i = from, end = from + count; i < end; i++, offset += stride) {
+                Matrix4x3fc m = src[i];
+                if (m instanceof Matrix4x3f)
+                    put((Matrix4x3f) m, address + offset);
+                else
+                    m.get(offset, dest);
+            }
+        }
+
+        public void putAllTransposed(Matrix4x3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            if (dest.order() != ByteOrder.nativeOrder()) {
+                super.putAllTransposed(src, from, count, offset, dest, stride);
+                return;
+            }
+            if (!dest.isDirect())
+                throwNoDirectBufferException();
+            long address = UNSAFE.getLong(dest, ADDRESS);
+            for (int i = from, end = from + count; i < end; i++, offset += stride) {
+                Matrix4x3fc m = src[i];
+                if (m instanceof Matrix4x3f)
+                    putTransposed((Matrix4x3f) m, address + offset);
+                else
+                    m.getTransposed(offset, dest);
+            }
+        }
+
+        public void putAll4x4(Matrix4x3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            if (dest.order() != ByteOrder.nativeOrder()) {
+                super.putAll4x4(src, from, count, offset, dest, stride);
+                return;
+            }
+            if (!dest.isDirect())
+                throwNoDirectBufferException();
+            long address = UNSAFE.getLong(dest, ADDRESS);
+            for (int i = from, end = from + count; i < end; i++, offset += stride) {
+                Matrix4x3fc m = src[i];
+                if (m instanceof Matrix4x3f)
+                    put4x4((Matrix4x3f) m, address + offset);
+                else
+                    m.get4x4(offset, dest);
+            }
+        }
+
+        public void putAll3x4(Matrix3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            if (dest.order() != ByteOrder.nativeOrder()) {
+                super.putAll3x4(src, from, count, offset, dest, stride);
+                return;
+            }
+            if (!dest.isDirect())
+                throwNoDirectBufferException();
+            long address = UNSAFE.getLong(dest, ADDRESS);
+            for (int i = from, end = from + count; i < end; i++, offset += stride) {
+                Matrix3fc m = src[i];
+                if (m instanceof Matrix3f)
+                    put3x4((Matrix3f) m, address + offset);
+                else
+                    m.get3x4(offset, dest);
+            }
+        }
+
+        private static void checkTransform(int srcOffset, int srcLimit, int destOffset, int destLimit, int count, int stride, int size) {
+            if (count <= 0)
+                return;
+            /*
+             * Validate only the lowest and the highest vector, since the range in between is contiguous.
+             * With a negative stride the first vector is the highest one.
+             */
+            long last = (long) (count - 1) * stride;
+            long lo = Math.min(0L, last), hi = Math.max(0L, last) + size;
+            if (srcOffset + lo < 0 || srcOffset + hi > srcLimit)
+                throw new IndexOutOfBoundsException();
+            if (destOffset + lo < 0 || destOffset + hi > destLimit)
+                throw new IndexOutOfBoundsException();
+        }
+
+        private static void transform(float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float m30, float m31, float m32,
+                long srcAddr, long destAddr, long stride, int count) {
+            sun.misc.Unsafe u = UNSAFE;
+            for (int i = 0; i < count; i++, srcAddr += stride, destAddr += stride) {
+                float x = u.getFloat(null, srcAddr), y = u.getFloat(null, srcAddr + 4), z = u.getFloat(null, srcAddr + 8);
+                u.putFloat(null, destAddr,     Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))));
+                u.putFloat(null, destAddr + 4, Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))));
+                u.putFloat(null, destAddr + 8, Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))));
+            }
+        }
+//#endif
+    }
 //#endif
+
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    /**
+     * Backend based on java.lang.foreign, which accesses NIO buffers and off-heap memory through {@link MemorySegment}
+     * using unaligned layouts in native byte order.
+     * <p>
+     * Buffers whose byte order is not the native one, read-only destination buffers and absolute indices before the
+     * buffer's position are handled by {@link MemUtilNIO}, as are all operations that do not touch memory outside of
+     * JOML objects and Java arrays.
+     */
+    public static class MemUtilFFM extends MemUtilNIO {
+        static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED;
+        static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE_UNALIGNED;
+        static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED;
+        static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED;
+        private static final ByteOrder NATIVE_ORDER = ByteOrder.nativeOrder();
+
+        /**
+         * Holds the segment spanning the whole address space, which is only created when raw addresses are used,
+         * because {@link MemorySegment#reinterpret(long)} is a restricted method.
+         */
+        private static final class NativeMemory {
+            static final MemorySegment ALL = MemorySegment.NULL.reinterpret(Long.MAX_VALUE);
+        }
+
+        private static boolean readable(Buffer buffer, ByteOrder order, int offset) {
+            return order == NATIVE_ORDER && offset >= buffer.position();
+        }
+        private static boolean writable(Buffer buffer, ByteOrder order, int offset) {
+            return !buffer.isReadOnly() && readable(buffer, order, offset);
+        }
+
+        public static void put(Matrix4f m, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, m.m03());
+            dest.set(FLOAT, offset + 16, m.m10());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m12());
+            dest.set(FLOAT, offset + 28, m.m13());
+            dest.set(FLOAT, offset + 32, m.m20());
+            dest.set(FLOAT, offset + 36, m.m21());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, m.m23());
+            dest.set(FLOAT, offset + 48, m.m30());
+            dest.set(FLOAT, offset + 52, m.m31());
+            dest.set(FLOAT, offset + 56, m.m32());
+            dest.set(FLOAT, offset + 60, m.m33());
+        }
+
+        public static void get(Matrix4f m, long offset, MemorySegment src) {
+            m._m00(src.get(FLOAT, offset))
+             ._m01(src.get(FLOAT, offset + 4))
+             ._m02(src.get(FLOAT, offset + 8))
+             ._m03(src.get(FLOAT, offset + 12))
+             ._m10(src.get(FLOAT, offset + 16))
+             ._m11(src.get(FLOAT, offset + 20))
+             ._m12(src.get(FLOAT, offset + 24))
+             ._m13(src.get(FLOAT, offset + 28))
+             ._m20(src.get(FLOAT, offset + 32))
+             ._m21(src.get(FLOAT, offset + 36))
+             ._m22(src.get(FLOAT, offset + 40))
+             ._m23(src.get(FLOAT, offset + 44))
+             ._m30(src.get(FLOAT, offset + 48))
+             ._m31(src.get(FLOAT, offset + 52))
+             ._m32(src.get(FLOAT, offset + 56))
+             ._m33(src.get(FLOAT, offset + 60));
+        }
+
+        public static void putTransposed(Matrix4f m, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m10());
+            dest.set(FLOAT, offset + 8, m.m20());
+            dest.set(FLOAT, offset + 12, m.m30());
+            dest.set(FLOAT, offset + 16, m.m01());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m21());
+            dest.set(FLOAT, offset + 28, m.m31());
+            dest.set(FLOAT, offset + 32, m.m02());
+            dest.set(FLOAT, offset + 36, m.m12());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, m.m32());
+            dest.set(FLOAT, offset + 48, m.m03());
+            dest.set(FLOAT, offset + 52, m.m13());
+            dest.set(FLOAT, offset + 56, m.m23());
+            dest.set(FLOAT, offset + 60, m.m33());
+        }
+
+        public static void getTransposed(Matrix4f m, long offset, MemorySegment src) {
+            m._m00(src.get(FLOAT, offset))
+             ._m10(src.get(FLOAT, offset + 4))
+             ._m20(src.get(FLOAT, offset + 8))
+             ._m30(src.get(FLOAT, offset + 12))
+             ._m01(src.get(FLOAT, offset + 16))
+             ._m11(src.get(FLOAT, offset + 20))
+             ._m21(src.get(FLOAT, offset + 24))
+             ._m31(src.get(FLOAT, offset + 28))
+             ._m02(src.get(FLOAT, offset + 32))
+             ._m12(src.get(FLOAT, offset + 36))
+             ._m22(src.get(FLOAT, offset + 40))
+             ._m32(src.get(FLOAT, offset + 44))
+             ._m03(src.get(FLOAT, offset + 48))
+             ._m13(src.get(FLOAT, offset + 52))
+             ._m23(src.get(FLOAT, offset + 56))
+             ._m33(src.get(FLOAT, offset + 60));
+        }
+
+        public static void put(Matrix4x3f m, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, m.m10());
+            dest.set(FLOAT, offset + 16, m.m11());
+            dest.set(FLOAT, offset + 20, m.m12());
+            dest.set(FLOAT, offset + 24, m.m20());
+            dest.set(FLOAT, offset + 28, m.m21());
+            dest.set(FLOAT, offset + 32, m.m22());
+            dest.set(FLOAT, offset + 36, m.m30());
+            dest.set(FLOAT, offset + 40, m.m31());
+            dest.set(FLOAT, offset + 44, m.m32());
+        }
+
+        public static void get(Matrix4x3f m, long offset, MemorySegment src) {
+            m._m00(src.get(FLOAT, offset))
+             ._m01(src.get(FLOAT, offset + 4))
+             ._m02(src.get(FLOAT, offset + 8))
+             ._m10(src.get(FLOAT, offset + 12))
+             ._m11(src.get(FLOAT, offset + 16))
+             ._m12(src.get(FLOAT, offset + 20))
+             ._m20(src.get(FLOAT, offset + 24))
+             ._m21(src.get(FLOAT, offset + 28))
+             ._m22(src.get(FLOAT, offset + 32))
+             ._m30(src.get(FLOAT, offset + 36))
+             ._m31(src.get(FLOAT, offset + 40))
+             ._m32(src.get(FLOAT, offset + 44));
+        }
+
+        public static void putTransposed(Matrix4x3f m, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m10());
+            dest.set(FLOAT, offset + 8, m.m20());
+            dest.set(FLOAT, offset + 12, m.m30());
+            dest.set(FLOAT, offset + 16, m.m01());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m21());
+            dest.set(FLOAT, offset + 28, m.m31());
+            dest.set(FLOAT, offset + 32, m.m02());
+            dest.set(FLOAT, offset + 36, m.m12());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, m.m32());
+        }
+
+        public static void getTransposed(Matrix4x3f m, long offset, MemorySegment src) {
+            m._m00(src.get(FLOAT, offset))
+             ._m10(src.get(FLOAT, offset + 4))
+             ._m20(src.get(FLOAT, offset + 8))
+             ._m30(src.get(FLOAT, offset + 12))
+             ._m01(src.get(FLOAT, offset + 16))
+             ._m11(src.get(FLOAT, offset + 20))
+             ._m21(src.get(FLOAT, offset + 24))
+             ._m31(src.get(FLOAT, offset + 28))
+             ._m02(src.get(FLOAT, offset + 32))
+             ._m12(src.get(FLOAT, offset + 36))
+             ._m22(src.get(FLOAT, offset + 40))
+             ._m32(src.get(FLOAT, offset + 44));
+        }
+
+        public static void put(Matrix3f m, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, m.m10());
+            dest.set(FLOAT, offset + 16, m.m11());
+            dest.set(FLOAT, offset + 20, m.m12());
+            dest.set(FLOAT, offset + 24, m.m20());
+            dest.set(FLOAT, offset + 28, m.m21());
+            dest.set(FLOAT, offset + 32, m.m22());
+        }
+
+        public static void get(Matrix3f m, long offset, MemorySegment src) {
+            m._m00(src.get(FLOAT, offset))
+             ._m01(src.get(FLOAT, offset + 4))
+             ._m02(src.get(FLOAT, offset + 8))
+             ._m10(src.get(FLOAT, offset + 12))
+             ._m11(src.get(FLOAT, offset + 16))
+             ._m12(src.get(FLOAT, offset + 20))
+             ._m20(src.get(FLOAT, offset + 24))
+             ._m21(src.get(FLOAT, offset + 28))
+             ._m22(src.get(FLOAT, offset + 32));
+        }
+
+        public static void putTransposed(Matrix3f m, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m10());
+            dest.set(FLOAT, offset + 8, m.m20());
+            dest.set(FLOAT, offset + 12, m.m01());
+            dest.set(FLOAT, offset + 16, m.m11());
+            dest.set(FLOAT, offset + 20, m.m21());
+            dest.set(FLOAT, offset + 24, m.m02());
+            dest.set(FLOAT, offset + 28, m.m12());
+            dest.set(FLOAT, offset + 32, m.m22());
+        }
+
+        public static void getTransposed(Matrix3f m, long offset, MemorySegment src) {
+            m._m00(src.get(FLOAT, offset))
+             ._m10(src.get(FLOAT, offset + 4))
+             ._m20(src.get(FLOAT, offset + 8))
+             ._m01(src.get(FLOAT, offset + 12))
+             ._m11(src.get(FLOAT, offset + 16))
+             ._m21(src.get(FLOAT, offset + 20))
+             ._m02(src.get(FLOAT, offset + 24))
+             ._m12(src.get(FLOAT, offset + 28))
+             ._m22(src.get(FLOAT, offset + 32));
+        }
+
+        public static void put(Matrix3x2f m, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m10());
+            dest.set(FLOAT, offset + 12, m.m11());
+            dest.set(FLOAT, offset + 16, m.m20());
+            dest.set(FLOAT, offset + 20, m.m21());
+        }
+
+        public static void get(Matrix3x2f m, long offset, MemorySegment src) {
+            m._m00(src.get(FLOAT, offset))
+             ._m01(src.get(FLOAT, offset + 4))
+             ._m10(src.get(FLOAT, offset + 8))
+             ._m11(src.get(FLOAT, offset + 12))
+             ._m20(src.get(FLOAT, offset + 16))
+             ._m21(src.get(FLOAT, offset + 20));
+        }
+
+        public static void putTransposed(Matrix3x2f m, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m10());
+            dest.set(FLOAT, offset + 8, m.m20());
+            dest.set(FLOAT, offset + 12, m.m01());
+            dest.set(FLOAT, offset + 16, m.m11());
+            dest.set(FLOAT, offset + 20, m.m21());
+        }
+
+        public static void getTransposed(Matrix3x2f m, long offset, MemorySegment src) {
+            m._m00(src.get(FLOAT, offset))
+             ._m10(src.get(FLOAT, offset + 4))
+             ._m20(src.get(FLOAT, offset + 8))
+             ._m01(src.get(FLOAT, offset + 12))
+             ._m11(src.get(FLOAT, offset + 16))
+             ._m21(src.get(FLOAT, offset + 20));
+        }
+
+        public static void put(Matrix2f m, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m10());
+            dest.set(FLOAT, offset + 12, m.m11());
+        }
+
+        public static void get(Matrix2f m, long offset, MemorySegment src) {
+            m._m00(src.get(FLOAT, offset))
+             ._m01(src.get(FLOAT, offset + 4))
+             ._m10(src.get(FLOAT, offset + 8))
+             ._m11(src.get(FLOAT, offset + 12));
+        }
+
+        public static void putTransposed(Matrix2f m, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m10());
+            dest.set(FLOAT, offset + 8, m.m01());
+            dest.set(FLOAT, offset + 12, m.m11());
+        }
+
+        public static void getTransposed(Matrix2f m, long offset, MemorySegment src) {
+            m._m00(src.get(FLOAT, offset))
+             ._m10(src.get(FLOAT, offset + 4))
+             ._m01(src.get(FLOAT, offset + 8))
+             ._m11(src.get(FLOAT, offset + 12));
+        }
+
+        public static void put(Matrix4d m, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, m.m02());
+            dest.set(DOUBLE, offset + 24, m.m03());
+            dest.set(DOUBLE, offset + 32, m.m10());
+            dest.set(DOUBLE, offset + 40, m.m11());
+            dest.set(DOUBLE, offset + 48, m.m12());
+            dest.set(DOUBLE, offset + 56, m.m13());
+            dest.set(DOUBLE, offset + 64, m.m20());
+            dest.set(DOUBLE, offset + 72, m.m21());
+            dest.set(DOUBLE, offset + 80, m.m22());
+            dest.set(DOUBLE, offset + 88, m.m23());
+            dest.set(DOUBLE, offset + 96, m.m30());
+            dest.set(DOUBLE, offset + 104, m.m31());
+            dest.set(DOUBLE, offset + 112, m.m32());
+            dest.set(DOUBLE, offset + 120, m.m33());
+        }
+
+        public static void get(Matrix4d m, long offset, MemorySegment src) {
+            m._m00(src.get(DOUBLE, offset))
+             ._m01(src.get(DOUBLE, offset + 8))
+             ._m02(src.get(DOUBLE, offset + 16))
+             ._m03(src.get(DOUBLE, offset + 24))
+             ._m10(src.get(DOUBLE, offset + 32))
+             ._m11(src.get(DOUBLE, offset + 40))
+             ._m12(src.get(DOUBLE, offset + 48))
+             ._m13(src.get(DOUBLE, offset + 56))
+             ._m20(src.get(DOUBLE, offset + 64))
+             ._m21(src.get(DOUBLE, offset + 72))
+             ._m22(src.get(DOUBLE, offset + 80))
+             ._m23(src.get(DOUBLE, offset + 88))
+             ._m30(src.get(DOUBLE, offset + 96))
+             ._m31(src.get(DOUBLE, offset + 104))
+             ._m32(src.get(DOUBLE, offset + 112))
+             ._m33(src.get(DOUBLE, offset + 120));
+        }
+
+        public static void putTransposed(Matrix4d m, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m10());
+            dest.set(DOUBLE, offset + 16, m.m20());
+            dest.set(DOUBLE, offset + 24, m.m30());
+            dest.set(DOUBLE, offset + 32, m.m01());
+            dest.set(DOUBLE, offset + 40, m.m11());
+            dest.set(DOUBLE, offset + 48, m.m21());
+            dest.set(DOUBLE, offset + 56, m.m31());
+            dest.set(DOUBLE, offset + 64, m.m02());
+            dest.set(DOUBLE, offset + 72, m.m12());
+            dest.set(DOUBLE, offset + 80, m.m22());
+            dest.set(DOUBLE, offset + 88, m.m32());
+            dest.set(DOUBLE, offset + 96, m.m03());
+            dest.set(DOUBLE, offset + 104, m.m13());
+            dest.set(DOUBLE, offset + 112, m.m23());
+            dest.set(DOUBLE, offset + 120, m.m33());
+        }
+
+        public static void getTransposed(Matrix4d m, long offset, MemorySegment src) {
+            m._m00(src.get(DOUBLE, offset))
+             ._m10(src.get(DOUBLE, offset + 8))
+             ._m20(src.get(DOUBLE, offset + 16))
+             ._m30(src.get(DOUBLE, offset + 24))
+             ._m01(src.get(DOUBLE, offset + 32))
+             ._m11(src.get(DOUBLE, offset + 40))
+             ._m21(src.get(DOUBLE, offset + 48))
+             ._m31(src.get(DOUBLE, offset + 56))
+             ._m02(src.get(DOUBLE, offset + 64))
+             ._m12(src.get(DOUBLE, offset + 72))
+             ._m22(src.get(DOUBLE, offset + 80))
+             ._m32(src.get(DOUBLE, offset + 88))
+             ._m03(src.get(DOUBLE, offset + 96))
+             ._m13(src.get(DOUBLE, offset + 104))
+             ._m23(src.get(DOUBLE, offset + 112))
+             ._m33(src.get(DOUBLE, offset + 120));
+        }
+
+        public static void put(Matrix4x3d m, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, m.m02());
+            dest.set(DOUBLE, offset + 24, m.m10());
+            dest.set(DOUBLE, offset + 32, m.m11());
+            dest.set(DOUBLE, offset + 40, m.m12());
+            dest.set(DOUBLE, offset + 48, m.m20());
+            dest.set(DOUBLE, offset + 56, m.m21());
+            dest.set(DOUBLE, offset + 64, m.m22());
+            dest.set(DOUBLE, offset + 72, m.m30());
+            dest.set(DOUBLE, offset + 80, m.m31());
+            dest.set(DOUBLE, offset + 88, m.m32());
+        }
+
+        public static void get(Matrix4x3d m, long offset, MemorySegment src) {
+            m._m00(src.get(DOUBLE, offset))
+             ._m01(src.get(DOUBLE, offset + 8))
+             ._m02(src.get(DOUBLE, offset + 16))
+             ._m10(src.get(DOUBLE, offset + 24))
+             ._m11(src.get(DOUBLE, offset + 32))
+             ._m12(src.get(DOUBLE, offset + 40))
+             ._m20(src.get(DOUBLE, offset + 48))
+             ._m21(src.get(DOUBLE, offset + 56))
+             ._m22(src.get(DOUBLE, offset + 64))
+             ._m30(src.get(DOUBLE, offset + 72))
+             ._m31(src.get(DOUBLE, offset + 80))
+             ._m32(src.get(DOUBLE, offset + 88));
+        }
+
+        public static void putTransposed(Matrix4x3d m, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m10());
+            dest.set(DOUBLE, offset + 16, m.m20());
+            dest.set(DOUBLE, offset + 24, m.m30());
+            dest.set(DOUBLE, offset + 32, m.m01());
+            dest.set(DOUBLE, offset + 40, m.m11());
+            dest.set(DOUBLE, offset + 48, m.m21());
+            dest.set(DOUBLE, offset + 56, m.m31());
+            dest.set(DOUBLE, offset + 64, m.m02());
+            dest.set(DOUBLE, offset + 72, m.m12());
+            dest.set(DOUBLE, offset + 80, m.m22());
+            dest.set(DOUBLE, offset + 88, m.m32());
+        }
+
+        public static void getTransposed(Matrix4x3d m, long offset, MemorySegment src) {
+            m._m00(src.get(DOUBLE, offset))
+             ._m10(src.get(DOUBLE, offset + 8))
+             ._m20(src.get(DOUBLE, offset + 16))
+             ._m30(src.get(DOUBLE, offset + 24))
+             ._m01(src.get(DOUBLE, offset + 32))
+             ._m11(src.get(DOUBLE, offset + 40))
+             ._m21(src.get(DOUBLE, offset + 48))
+             ._m31(src.get(DOUBLE, offset + 56))
+             ._m02(src.get(DOUBLE, offset + 64))
+             ._m12(src.get(DOUBLE, offset + 72))
+             ._m22(src.get(DOUBLE, offset + 80))
+             ._m32(src.get(DOUBLE, offset + 88));
+        }
+
+        public static void put(Matrix3d m, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, m.m02());
+            dest.set(DOUBLE, offset + 24, m.m10());
+            dest.set(DOUBLE, offset + 32, m.m11());
+            dest.set(DOUBLE, offset + 40, m.m12());
+            dest.set(DOUBLE, offset + 48, m.m20());
+            dest.set(DOUBLE, offset + 56, m.m21());
+            dest.set(DOUBLE, offset + 64, m.m22());
+        }
+
+        public static void get(Matrix3d m, long offset, MemorySegment src) {
+            m._m00(src.get(DOUBLE, offset))
+             ._m01(src.get(DOUBLE, offset + 8))
+             ._m02(src.get(DOUBLE, offset + 16))
+             ._m10(src.get(DOUBLE, offset + 24))
+             ._m11(src.get(DOUBLE, offset + 32))
+             ._m12(src.get(DOUBLE, offset + 40))
+             ._m20(src.get(DOUBLE, offset + 48))
+             ._m21(src.get(DOUBLE, offset + 56))
+             ._m22(src.get(DOUBLE, offset + 64));
+        }
+
+        public static void putTransposed(Matrix3d m, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m10());
+            dest.set(DOUBLE, offset + 16, m.m20());
+            dest.set(DOUBLE, offset + 24, m.m01());
+            dest.set(DOUBLE, offset + 32, m.m11());
+            dest.set(DOUBLE, offset + 40, m.m21());
+            dest.set(DOUBLE, offset + 48, m.m02());
+            dest.set(DOUBLE, offset + 56, m.m12());
+            dest.set(DOUBLE, offset + 64, m.m22());
+        }
+
+        public static void getTransposed(Matrix3d m, long offset, MemorySegment src) {
+            m._m00(src.get(DOUBLE, offset))
+             ._m10(src.get(DOUBLE, offset + 8))
+             ._m20(src.get(DOUBLE, offset + 16))
+             ._m01(src.get(DOUBLE, offset + 24))
+             ._m11(src.get(DOUBLE, offset + 32))
+             ._m21(src.get(DOUBLE, offset + 40))
+             ._m02(src.get(DOUBLE, offset + 48))
+             ._m12(src.get(DOUBLE, offset + 56))
+             ._m22(src.get(DOUBLE, offset + 64));
+        }
+
+        public static void put(Matrix3x2d m, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, m.m10());
+            dest.set(DOUBLE, offset + 24, m.m11());
+            dest.set(DOUBLE, offset + 32, m.m20());
+            dest.set(DOUBLE, offset + 40, m.m21());
+        }
+
+        public static void get(Matrix3x2d m, long offset, MemorySegment src) {
+            m._m00(src.get(DOUBLE, offset))
+             ._m01(src.get(DOUBLE, offset + 8))
+             ._m10(src.get(DOUBLE, offset + 16))
+             ._m11(src.get(DOUBLE, offset + 24))
+             ._m20(src.get(DOUBLE, offset + 32))
+             ._m21(src.get(DOUBLE, offset + 40));
+        }
+
+        public static void putTransposed(Matrix3x2d m, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m10());
+            dest.set(DOUBLE, offset + 16, m.m20());
+            dest.set(DOUBLE, offset + 24, m.m01());
+            dest.set(DOUBLE, offset + 32, m.m11());
+            dest.set(DOUBLE, offset + 40, m.m21());
+        }
+
+        public static void getTransposed(Matrix3x2d m, long offset, MemorySegment src) {
+            m._m00(src.get(DOUBLE, offset))
+             ._m10(src.get(DOUBLE, offset + 8))
+             ._m20(src.get(DOUBLE, offset + 16))
+             ._m01(src.get(DOUBLE, offset + 24))
+             ._m11(src.get(DOUBLE, offset + 32))
+             ._m21(src.get(DOUBLE, offset + 40));
+        }
+
+        public static void put(Matrix2d m, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, m.m10());
+            dest.set(DOUBLE, offset + 24, m.m11());
+        }
+
+        public static void get(Matrix2d m, long offset, MemorySegment src) {
+            m._m00(src.get(DOUBLE, offset))
+             ._m01(src.get(DOUBLE, offset + 8))
+             ._m10(src.get(DOUBLE, offset + 16))
+             ._m11(src.get(DOUBLE, offset + 24));
+        }
+
+        public static void putTransposed(Matrix2d m, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m10());
+            dest.set(DOUBLE, offset + 16, m.m01());
+            dest.set(DOUBLE, offset + 24, m.m11());
+        }
+
+        public static void getTransposed(Matrix2d m, long offset, MemorySegment src) {
+            m._m00(src.get(DOUBLE, offset))
+             ._m10(src.get(DOUBLE, offset + 8))
+             ._m01(src.get(DOUBLE, offset + 16))
+             ._m11(src.get(DOUBLE, offset + 24));
+        }
+
+        public static void put(Vector4f src, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, src.x);
+            dest.set(FLOAT, offset + 4, src.y);
+            dest.set(FLOAT, offset + 8, src.z);
+            dest.set(FLOAT, offset + 12, src.w);
+        }
+
+        public static void get(Vector4f dst, long offset, MemorySegment src) {
+            dst.x = src.get(FLOAT, offset);
+            dst.y = src.get(FLOAT, offset + 4);
+            dst.z = src.get(FLOAT, offset + 8);
+            dst.w = src.get(FLOAT, offset + 12);
+        }
+
+        public static void put(Vector3f src, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, src.x);
+            dest.set(FLOAT, offset + 4, src.y);
+            dest.set(FLOAT, offset + 8, src.z);
+        }
+
+        public static void get(Vector3f dst, long offset, MemorySegment src) {
+            dst.x = src.get(FLOAT, offset);
+            dst.y = src.get(FLOAT, offset + 4);
+            dst.z = src.get(FLOAT, offset + 8);
+        }
+
+        public static void put(Vector2f src, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, src.x);
+            dest.set(FLOAT, offset + 4, src.y);
+        }
+
+        public static void get(Vector2f dst, long offset, MemorySegment src) {
+            dst.x = src.get(FLOAT, offset);
+            dst.y = src.get(FLOAT, offset + 4);
+        }
+
+        public static void put(Vector4d src, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, src.x);
+            dest.set(DOUBLE, offset + 8, src.y);
+            dest.set(DOUBLE, offset + 16, src.z);
+            dest.set(DOUBLE, offset + 24, src.w);
+        }
+
+        public static void get(Vector4d dst, long offset, MemorySegment src) {
+            dst.x = src.get(DOUBLE, offset);
+            dst.y = src.get(DOUBLE, offset + 8);
+            dst.z = src.get(DOUBLE, offset + 16);
+            dst.w = src.get(DOUBLE, offset + 24);
+        }
+
+        public static void put(Vector3d src, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, src.x);
+            dest.set(DOUBLE, offset + 8, src.y);
+            dest.set(DOUBLE, offset + 16, src.z);
+        }
+
+        public static void get(Vector3d dst, long offset, MemorySegment src) {
+            dst.x = src.get(DOUBLE, offset);
+            dst.y = src.get(DOUBLE, offset + 8);
+            dst.z = src.get(DOUBLE, offset + 16);
+        }
+
+        public static void put(Vector2d src, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, src.x);
+            dest.set(DOUBLE, offset + 8, src.y);
+        }
+
+        public static void get(Vector2d dst, long offset, MemorySegment src) {
+            dst.x = src.get(DOUBLE, offset);
+            dst.y = src.get(DOUBLE, offset + 8);
+        }
+
+        public static void put(Vector4i src, long offset, MemorySegment dest) {
+            dest.set(INT, offset, src.x);
+            dest.set(INT, offset + 4, src.y);
+            dest.set(INT, offset + 8, src.z);
+            dest.set(INT, offset + 12, src.w);
+        }
+
+        public static void get(Vector4i dst, long offset, MemorySegment src) {
+            dst.x = src.get(INT, offset);
+            dst.y = src.get(INT, offset + 4);
+            dst.z = src.get(INT, offset + 8);
+            dst.w = src.get(INT, offset + 12);
+        }
+
+        public static void put(Vector3i src, long offset, MemorySegment dest) {
+            dest.set(INT, offset, src.x);
+            dest.set(INT, offset + 4, src.y);
+            dest.set(INT, offset + 8, src.z);
+        }
+
+        public static void get(Vector3i dst, long offset, MemorySegment src) {
+            dst.x = src.get(INT, offset);
+            dst.y = src.get(INT, offset + 4);
+            dst.z = src.get(INT, offset + 8);
+        }
+
+        public static void put(Vector2i src, long offset, MemorySegment dest) {
+            dest.set(INT, offset, src.x);
+            dest.set(INT, offset + 4, src.y);
+        }
+
+        public static void get(Vector2i dst, long offset, MemorySegment src) {
+            dst.x = src.get(INT, offset);
+            dst.y = src.get(INT, offset + 4);
+        }
+
+        public static void put(Vector4L src, long offset, MemorySegment dest) {
+            dest.set(LONG, offset, src.x);
+            dest.set(LONG, offset + 8, src.y);
+            dest.set(LONG, offset + 16, src.z);
+            dest.set(LONG, offset + 24, src.w);
+        }
+
+        public static void get(Vector4L dst, long offset, MemorySegment src) {
+            dst.x = src.get(LONG, offset);
+            dst.y = src.get(LONG, offset + 8);
+            dst.z = src.get(LONG, offset + 16);
+            dst.w = src.get(LONG, offset + 24);
+        }
+
+        public static void put(Vector3L src, long offset, MemorySegment dest) {
+            dest.set(LONG, offset, src.x);
+            dest.set(LONG, offset + 8, src.y);
+            dest.set(LONG, offset + 16, src.z);
+        }
+
+        public static void get(Vector3L dst, long offset, MemorySegment src) {
+            dst.x = src.get(LONG, offset);
+            dst.y = src.get(LONG, offset + 8);
+            dst.z = src.get(LONG, offset + 16);
+        }
+
+        public static void put(Vector2L src, long offset, MemorySegment dest) {
+            dest.set(LONG, offset, src.x);
+            dest.set(LONG, offset + 8, src.y);
+        }
+
+        public static void get(Vector2L dst, long offset, MemorySegment src) {
+            dst.x = src.get(LONG, offset);
+            dst.y = src.get(LONG, offset + 8);
+        }
+
+        public static void put4x4(Matrix4x3f m, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, 0.0f);
+            dest.set(FLOAT, offset + 16, m.m10());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m12());
+            dest.set(FLOAT, offset + 28, 0.0f);
+            dest.set(FLOAT, offset + 32, m.m20());
+            dest.set(FLOAT, offset + 36, m.m21());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, 0.0f);
+            dest.set(FLOAT, offset + 48, m.m30());
+            dest.set(FLOAT, offset + 52, m.m31());
+            dest.set(FLOAT, offset + 56, m.m32());
+            dest.set(FLOAT, offset + 60, 1.0f);
+        }
+
+        public static void put3x4(Matrix3f m, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, 0.0f);
+            dest.set(FLOAT, offset + 16, m.m10());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m12());
+            dest.set(FLOAT, offset + 28, 0.0f);
+            dest.set(FLOAT, offset + 32, m.m20());
+            dest.set(FLOAT, offset + 36, m.m21());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, 0.0f);
+        }
+
+        public static void put(Quaternionf src, long offset, MemorySegment dest) {
+            dest.set(FLOAT, offset, src.x);
+            dest.set(FLOAT, offset + 4, src.y);
+            dest.set(FLOAT, offset + 8, src.z);
+            dest.set(FLOAT, offset + 12, src.w);
+        }
+
+        public static void get(Quaternionf dst, long offset, MemorySegment src) {
+            dst.x = src.get(FLOAT, offset);
+            dst.y = src.get(FLOAT, offset + 4);
+            dst.z = src.get(FLOAT, offset + 8);
+            dst.w = src.get(FLOAT, offset + 12);
+        }
+
+        public static void put(Quaterniond src, long offset, MemorySegment dest) {
+            dest.set(DOUBLE, offset, src.x);
+            dest.set(DOUBLE, offset + 8, src.y);
+            dest.set(DOUBLE, offset + 16, src.z);
+            dest.set(DOUBLE, offset + 24, src.w);
+        }
+
+        public static void get(Quaterniond dst, long offset, MemorySegment src) {
+            dst.x = src.get(DOUBLE, offset);
+            dst.y = src.get(DOUBLE, offset + 8);
+            dst.z = src.get(DOUBLE, offset + 16);
+            dst.w = src.get(DOUBLE, offset + 24);
+        }
+
+        /*
+         * Off-heap addresses, used by getToAddress() and setFromAddress()
+         */
+
+        public static void put(Matrix4f m, long destAddr) {
+            put(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Matrix4f m, long srcAddr) {
+            get(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void putTransposed(Matrix4f m, long destAddr) {
+            putTransposed(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void getTransposed(Matrix4f m, long srcAddr) {
+            getTransposed(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Matrix4x3f m, long destAddr) {
+            put(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Matrix4x3f m, long srcAddr) {
+            get(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void putTransposed(Matrix4x3f m, long destAddr) {
+            putTransposed(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void getTransposed(Matrix4x3f m, long srcAddr) {
+            getTransposed(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Matrix3f m, long destAddr) {
+            put(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Matrix3f m, long srcAddr) {
+            get(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void putTransposed(Matrix3f m, long destAddr) {
+            putTransposed(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void getTransposed(Matrix3f m, long srcAddr) {
+            getTransposed(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Matrix3x2f m, long destAddr) {
+            put(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Matrix3x2f m, long srcAddr) {
+            get(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void putTransposed(Matrix3x2f m, long destAddr) {
+            putTransposed(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void getTransposed(Matrix3x2f m, long srcAddr) {
+            getTransposed(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Matrix2f m, long destAddr) {
+            put(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Matrix2f m, long srcAddr) {
+            get(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void putTransposed(Matrix2f m, long destAddr) {
+            putTransposed(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void getTransposed(Matrix2f m, long srcAddr) {
+            getTransposed(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Matrix4d m, long destAddr) {
+            put(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Matrix4d m, long srcAddr) {
+            get(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void putTransposed(Matrix4d m, long destAddr) {
+            putTransposed(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void getTransposed(Matrix4d m, long srcAddr) {
+            getTransposed(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Matrix4x3d m, long destAddr) {
+            put(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Matrix4x3d m, long srcAddr) {
+            get(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void putTransposed(Matrix4x3d m, long destAddr) {
+            putTransposed(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void getTransposed(Matrix4x3d m, long srcAddr) {
+            getTransposed(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Matrix3d m, long destAddr) {
+            put(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Matrix3d m, long srcAddr) {
+            get(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void putTransposed(Matrix3d m, long destAddr) {
+            putTransposed(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void getTransposed(Matrix3d m, long srcAddr) {
+            getTransposed(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Matrix3x2d m, long destAddr) {
+            put(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Matrix3x2d m, long srcAddr) {
+            get(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void putTransposed(Matrix3x2d m, long destAddr) {
+            putTransposed(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void getTransposed(Matrix3x2d m, long srcAddr) {
+            getTransposed(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Matrix2d m, long destAddr) {
+            put(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Matrix2d m, long srcAddr) {
+            get(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void putTransposed(Matrix2d m, long destAddr) {
+            putTransposed(m, destAddr, NativeMemory.ALL);
+        }
+
+        public static void getTransposed(Matrix2d m, long srcAddr) {
+            getTransposed(m, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Vector4f src, long destAddr) {
+            put(src, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Vector4f dst, long srcAddr) {
+            get(dst, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Vector3f src, long destAddr) {
+            put(src, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Vector3f dst, long srcAddr) {
+            get(dst, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Vector2f src, long destAddr) {
+            put(src, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Vector2f dst, long srcAddr) {
+            get(dst, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Vector4d src, long destAddr) {
+            put(src, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Vector4d dst, long srcAddr) {
+            get(dst, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Vector3d src, long destAddr) {
+            put(src, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Vector3d dst, long srcAddr) {
+            get(dst, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Vector2d src, long destAddr) {
+            put(src, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Vector2d dst, long srcAddr) {
+            get(dst, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Vector4i src, long destAddr) {
+            put(src, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Vector4i dst, long srcAddr) {
+            get(dst, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Vector3i src, long destAddr) {
+            put(src, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Vector3i dst, long srcAddr) {
+            get(dst, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Vector2i src, long destAddr) {
+            put(src, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Vector2i dst, long srcAddr) {
+            get(dst, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Vector4L src, long destAddr) {
+            put(src, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Vector4L dst, long srcAddr) {
+            get(dst, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Vector3L src, long destAddr) {
+            put(src, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Vector3L dst, long srcAddr) {
+            get(dst, srcAddr, NativeMemory.ALL);
+        }
+
+        public static void put(Vector2L src, long destAddr) {
+            put(src, destAddr, NativeMemory.ALL);
+        }
+
+        public static void get(Vector2L dst, long srcAddr) {
+            get(dst, srcAddr, NativeMemory.ALL);
+        }
+
+        public void put(Matrix4f m, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix4f m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix4x3f m, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix4x3f m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4f m, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4f m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4x3f m, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4x3f m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3x2f m, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3f m, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3f m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix2f m, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix2f m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void put(Matrix4d m, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix4d m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix4x3d m, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix4x3d m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4d m, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4d m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4x3d m, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4x3d m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3d m, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3d m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3x2d m, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3x2d m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix2d m, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix2d m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                putTransposed(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void put(Matrix3f m, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3f m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3d m, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3d m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3x2f m, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3x2f m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3x2d m, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3x2d m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix2f m, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix2f m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix2d m, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix2d m, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(m, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Vector4d src, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4d src, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4f src, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4f src, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4i src, int offset, IntBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4i src, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4L src, int offset, LongBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4L src, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3f src, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3f src, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3d src, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3d src, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3i src, int offset, IntBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3i src, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3L src, int offset, LongBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3L src, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2f src, int offset, FloatBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2f src, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2d src, int offset, DoubleBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2d src, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2i src, int offset, IntBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, (long) (offset - dest.position()) << 2, MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2i src, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2L src, int offset, LongBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, (long) (offset - dest.position()) << 3, MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2L src, int offset, ByteBuffer dest) {
+            if (writable(dest, dest.order(), offset))
+                put(src, offset - dest.position(), MemorySegment.ofBuffer(dest));
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void get(Matrix4f m, int offset, FloatBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, (long) (offset - src.position()) << 2, MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix4f m, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void getTransposed(Matrix4f m, int offset, FloatBuffer src) {
+            if (readable(src, src.order(), offset))
+                getTransposed(m, (long) (offset - src.position()) << 2, MemorySegment.ofBuffer(src));
+            else
+                super.getTransposed(m, offset, src);
+        }
+
+        public void getTransposed(Matrix4f m, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                getTransposed(m, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.getTransposed(m, offset, src);
+        }
+
+        public void get(Matrix4x3f m, int offset, FloatBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, (long) (offset - src.position()) << 2, MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix4x3f m, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix4d m, int offset, DoubleBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, (long) (offset - src.position()) << 3, MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix4d m, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix4x3d m, int offset, DoubleBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, (long) (offset - src.position()) << 3, MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix4x3d m, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3f m, int offset, FloatBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, (long) (offset - src.position()) << 2, MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3f m, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3d m, int offset, DoubleBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, (long) (offset - src.position()) << 3, MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3d m, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3x2f m, int offset, FloatBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, (long) (offset - src.position()) << 2, MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3x2f m, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3x2d m, int offset, DoubleBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, (long) (offset - src.position()) << 3, MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3x2d m, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix2f m, int offset, FloatBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, (long) (offset - src.position()) << 2, MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix2f m, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix2d m, int offset, DoubleBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, (long) (offset - src.position()) << 3, MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix2d m, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(m, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Vector4d dst, int offset, DoubleBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, (long) (offset - src.position()) << 3, MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4d dst, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4f dst, int offset, FloatBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, (long) (offset - src.position()) << 2, MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4f dst, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4i dst, int offset, IntBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, (long) (offset - src.position()) << 2, MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4i dst, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4L dst, int offset, LongBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, (long) (offset - src.position()) << 3, MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4L dst, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3f dst, int offset, FloatBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, (long) (offset - src.position()) << 2, MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3f dst, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3d dst, int offset, DoubleBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, (long) (offset - src.position()) << 3, MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3d dst, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3i dst, int offset, IntBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, (long) (offset - src.position()) << 2, MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3i dst, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3L dst, int offset, LongBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, (long) (offset - src.position()) << 3, MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3L dst, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2f dst, int offset, FloatBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, (long) (offset - src.position()) << 2, MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2f dst, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2d dst, int offset, DoubleBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, (long) (offset - src.position()) << 3, MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2d dst, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2i dst, int offset, IntBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, (long) (offset - src.position()) << 2, MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2i dst, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2L dst, int offset, LongBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, (long) (offset - src.position()) << 3, MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2L dst, int offset, ByteBuffer src) {
+            if (readable(src, src.order(), offset))
+                get(dst, offset - src.position(), MemorySegment.ofBuffer(src));
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void putAll(Matrix4fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            if (count == 0 || !writable(dest, dest.order(), offset)) {
+                super.putAll(src, from, count, offset, dest, stride);
+                return;
+            }
+            MemorySegment segment = slice(dest, offset, count, stride, 64);
+            long o = 0L;
+            for (int i = from, end = from + count; i < end; i++, offset += stride, o += stride) {
+                Matrix4fc m = src[i];
+                if (m instanceof Matrix4f)
+                    put((Matrix4f) m, o, segment);
+                else
+                    m.get(offset, dest);
+            }
+        }
+
+        public void putAllTransposed(Matrix4fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            if (count == 0 || !writable(dest, dest.order(), offset)) {
+                super.putAllTransposed(src, from, count, offset, dest, stride);
+                return;
+            }
+            MemorySegment segment = slice(dest, offset, count, stride, 64);
+            long o = 0L;
+            for (int i = from, end = from + count; i < end; i++, offset += stride, o += stride) {
+                Matrix4fc m = src[i];
+                if (m instanceof Matrix4f)
+                    putTransposed((Matrix4f) m, o, segment);
+                else
+                    m.getTransposed(offset, dest);
+            }
+        }
+
+        public void putAll(Matrix4x3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            if (count == 0 || !writable(dest, dest.order(), offset)) {
+                super.putAll(src, from, count, offset, dest, stride);
+                return;
+            }
+            MemorySegment segment = slice(dest, offset, count, stride, 48);
+            long o = 0L;
+            for (int i = from, end = from + count; i < end; i++, offset += stride, o += stride) {
+                Matrix4x3fc m = src[i];
+                if (m instanceof Matrix4x3f)
+                    put((Matrix4x3f) m, o, segment);
+                else
+                    m.get(offset, dest);
+            }
+        }
+
+        public void putAllTransposed(Matrix4x3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            if (count == 0 || !writable(dest, dest.order(), offset)) {
+                super.putAllTransposed(src, from, count, offset, dest, stride);
+                return;
+            }
+            MemorySegment segment = slice(dest, offset, count, stride, 48);
+            long o = 0L;
+            for (int i = from, end = from + count; i < end; i++, offset += stride, o += stride) {
+                Matrix4x3fc m = src[i];
+                if (m instanceof Matrix4x3f)
+                    putTransposed((Matrix4x3f) m, o, segment);
+                else
+                    m.getTransposed(offset, dest);
+            }
+        }
+
+        public void putAll4x4(Matrix4x3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            if (count == 0 || !writable(dest, dest.order(), offset)) {
+                super.putAll4x4(src, from, count, offset, dest, stride);
+                return;
+            }
+            MemorySegment segment = slice(dest, offset, count, stride, 64);
+            long o = 0L;
+            for (int i = from, end = from + count; i < end; i++, offset += stride, o += stride) {
+                Matrix4x3fc m = src[i];
+                if (m instanceof Matrix4x3f)
+                    put4x4((Matrix4x3f) m, o, segment);
+                else
+                    m.get4x4(offset, dest);
+            }
+        }
+
+        public void putAll3x4(Matrix3fc[] src, int from, int count, int offset, ByteBuffer dest, int stride) {
+            if (count == 0 || !writable(dest, dest.order(), offset)) {
+                super.putAll3x4(src, from, count, offset, dest, stride);
+                return;
+            }
+            MemorySegment segment = slice(dest, offset, count, stride, 48);
+            long o = 0L;
+            for (int i = from, end = from + count; i < end; i++, offset += stride, o += stride) {
+                Matrix3fc m = src[i];
+                if (m instanceof Matrix3f)
+                    put3x4((Matrix3f) m, o, segment);
+                else
+                    m.get3x4(offset, dest);
+            }
+        }
+        private static MemorySegment slice(ByteBuffer buffer, int offset, int count, int stride, int size) {
+            return MemorySegment.ofBuffer(buffer).asSlice(offset - buffer.position(), (long) (count - 1) * stride + size);
+        }
     }
 //#endif
 }
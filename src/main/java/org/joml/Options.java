@@ -52,6 +52,32 @@ public final class Options {
     public static final boolean FORCE_UNSAFE = hasOption(System.getProperty("joml.forceUnsafe", "false"));
 //#endif
 
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    /**
+     * Whether <i>not</i> to use java.lang.foreign when copying memory with MemUtil.
+     * <p>
+     * Otherwise, java.lang.foreign is preferred over sun.misc.Unsafe on JDK 22 and later.
+     */
+    public static final boolean NO_FFM = hasOption(System.getProperty("joml.noffm", "false"));
+    /**
+     * Whether to <i>force</i> the use of java.lang.foreign when copying memory with MemUtil, also on JDKs before 22
+     * where it is a preview API.
+     */
+    public static final boolean FORCE_FFM = hasOption(System.getProperty("joml.forceFfm", "false"));
+//#endif
+
+//#ifdef __HAS_VECTOR_API__
+    /**
+     * Whether to use the Vector API (jdk.incubator.vector) for Matrix4f multiplication, inversion, transposition
+     * and storing into a ByteBuffer, if the jdk.incubator.vector module is available at runtime.
+     * <p>
+     * Matrix4f stores its elements in fields, so every operation must first gather them into vectors, which
+     * can cost more than the vectorized arithmetic saves. Use the JMH benchmarks to check the effect on the target
+     * JVM and CPU before enabling this.
+     */
+    public static final boolean USE_VECTOR_API = hasOption(System.getProperty("joml.useVectorApi", "false"));
+//#endif
+
     /**
      * Whether fast approximations of some java.lang.Math operations should be used.
      */
@@ -0,0 +1,376 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+//#ifdef __HAS_NIO__
+import java.nio.FloatBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Generates large 2D and 3D grids of simplex noise in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * The samples are laid out like in {@link SimplexNoise#noiseGrid(float, float, float, float, float, float, int, int, int, FloatBuffer) SimplexNoise.noiseGrid()},
+ * with <code>x</code> varying fastest, and the results are identical to evaluating the grid in a single thread. The grid is
+ * split into tiles of contiguous samples, which are evaluated by {@link RecursiveAction}s and written directly into a shared
+ * {@link FloatBuffer}. Tiles start at buffer indices that are multiples of {@link #CACHE_LINE_FLOATS}, so that no two tiles
+ * write to the same cache line when the buffer memory is aligned to a cache line (such as a direct buffer obtained via
+ * <code>ByteBuffer.allocateDirect(size + 64).alignedSlice(64)</code>), which avoids false sharing between worker threads.
+ * <p>
+ * A generation started via {@link #submit(float, float, float, float, int, int, FloatBuffer) submit()} can be cancelled by calling
+ * {@link ForkJoinTask#cancel(boolean) cancel()} on the returned task. Tiles that have not started yet are then skipped, and tiles
+ * that are in progress stop after their current row, so the contents of the buffer are unspecified after a cancellation.
+ * <p>
+ * The configuration methods of this class are not thread-safe, but generations that are already submitted are not affected by
+ * later configuration changes.
+ */
+public class ParallelNoiseGenerator {
+    /**
+     * The number of floats in the cache line size assumed for padding tile boundaries.
+     */
+    public static final int CACHE_LINE_FLOATS = 16;
+
+    private final ForkJoinPool pool;
+    private final SeededSimplexNoise noise;
+    private int octaves;
+    private float lacunarity = 2.0f;
+    private float gain = 0.5f;
+    private boolean ridged;
+    private int tileSize = 4096;
+
+    /**
+     * Create a new {@link ParallelNoiseGenerator} that evaluates {@link SimplexNoise} on the given <code>pool</code>.
+     * 
+     * @param pool
+     *          the pool to generate the noise on
+     */
+    public ParallelNoiseGenerator(ForkJoinPool pool) {
+        this(pool, null);
+    }
+
+    /**
+     * Create a new {@link ParallelNoiseGenerator} that evaluates the given {@link SeededSimplexNoise} on the given <code>pool</code>.
+     * 
+     * @param pool
+     *          the pool to generate the noise on
+     * @param noise
+     *          the noise to evaluate; or <code>null</code> to evaluate {@link SimplexNoise}
+     */
+    public ParallelNoiseGenerator(ForkJoinPool pool, SeededSimplexNoise noise) {
+        if (pool == null)
+            throw new IllegalArgumentException("pool must not be null");
+        this.pool = pool;
+        this.noise = noise;
+    }
+
+    /**
+     * Generate plain noise, which is the default.
+     * 
+     * @return this
+     */
+    public ParallelNoiseGenerator plain() {
+        this.octaves = 0;
+        this.ridged = false;
+        return this;
+    }
+
+    /**
+     * Generate fractal Brownian motion noise with the given parameters.
+     * 
+     * @see SimplexNoise#fbm(float, float, float, int, float, float)
+     * 
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves
+     * @param gain
+     *          the amplitude multiplier between successive octaves
+     * @return this
+     */
+    public ParallelNoiseGenerator fbm(int octaves, float lacunarity, float gain) {
+        return octaves(octaves, lacunarity, gain, false);
+    }
+
+    /**
+     * Generate ridged multifractal noise with the given parameters.
+     * 
+     * @see SimplexNoise#ridged(float, float, float, int, float, float)
+     * 
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves
+     * @param gain
+     *          the amplitude multiplier between successive octaves
+     * @return this
+     */
+    public ParallelNoiseGenerator ridged(int octaves, float lacunarity, float gain) {
+        return octaves(octaves, lacunarity, gain, true);
+    }
+
+    private ParallelNoiseGenerator octaves(int octaves, float lacunarity, float gain, boolean ridged) {
+        if (octaves < 1)
+            throw new IllegalArgumentException("octaves must be at least 1");
+        this.octaves = octaves;
+        this.lacunarity = lacunarity;
+        this.gain = gain;
+        this.ridged = ridged;
+        return this;
+    }
+
+    /**
+     * Set the number of samples per tile, which is rounded up to a multiple of {@link #CACHE_LINE_FLOATS}.
+     * <p>
+     * The default is <code>4096</code>. Smaller tiles balance the load better, larger tiles have less scheduling overhead.
+     * 
+     * @param samples
+     *          the number of samples per tile
+     * @return this
+     */
+    public ParallelNoiseGenerator tileSize(int samples) {
+        if (samples < 1)
+            throw new IllegalArgumentException("samples must be positive");
+        this.tileSize = (samples + CACHE_LINE_FLOATS - 1) & ~(CACHE_LINE_FLOATS - 1);
+        return this;
+    }
+
+    /**
+     * Generate a 2D grid of <code>nx * ny</code> samples, store them in <code>dest</code> starting at its current position,
+     * and wait for the generation to complete.
+     * <p>
+     * The sample <code>(i, j)</code> is taken at <code>(x0 + i * dx, y0 + j * dy)</code> and stored at index <code>j * nx + i</code>
+     * relative to the current position of <code>dest</code>. The position of <code>dest</code> is not changed.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param dest
+     *          will hold the <code>nx * ny</code> samples
+     * @return dest
+     */
+    public FloatBuffer generate(float x0, float y0, float dx, float dy, int nx, int ny, FloatBuffer dest) {
+        pool.invoke(task(false, x0, y0, 0.0f, dx, dy, 0.0f, nx, ny, 1, dest));
+        return dest;
+    }
+
+    /**
+     * Generate a 3D grid of <code>nx * ny * nz</code> samples, store them in <code>dest</code> starting at its current position,
+     * and wait for the generation to complete.
+     * <p>
+     * The sample <code>(i, j, k)</code> is taken at <code>(x0 + i * dx, y0 + j * dy, z0 + k * dz)</code> and stored at index
+     * <code>(k * ny + j) * nx + i</code> relative to the current position of <code>dest</code>. The position of <code>dest</code>
+     * is not changed.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param z0
+     *          the z coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param dz
+     *          the distance between samples along z
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param nz
+     *          the number of samples along z
+     * @param dest
+     *          will hold the <code>nx * ny * nz</code> samples
+     * @return dest
+     */
+    public FloatBuffer generate(float x0, float y0, float z0, float dx, float dy, float dz, int nx, int ny, int nz, FloatBuffer dest) {
+        pool.invoke(task(true, x0, y0, z0, dx, dy, dz, nx, ny, nz, dest));
+        return dest;
+    }
+
+    /**
+     * Submit the generation of a 2D grid of <code>nx * ny</code> samples into <code>dest</code> to the pool and return immediately.
+     * <p>
+     * The grid is the same as the one of {@link #generate(float, float, float, float, int, int, FloatBuffer) generate()}.
+     * Use {@link ForkJoinTask#join()} on the returned task to wait for its completion and {@link ForkJoinTask#cancel(boolean)}
+     * to cancel it.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param dest
+     *          will hold the <code>nx * ny</code> samples
+     * @return the submitted task
+     */
+    public ForkJoinTask submit(float x0, float y0, float dx, float dy, int nx, int ny, FloatBuffer dest) {
+        return pool.submit(task(false, x0, y0, 0.0f, dx, dy, 0.0f, nx, ny, 1, dest));
+    }
+
+    /**
+     * Submit the generation of a 3D grid of <code>nx * ny * nz</code> samples into <code>dest</code> to the pool and return immediately.
+     * <p>
+     * The grid is the same as the one of {@link #generate(float, float, float, float, float, float, int, int, int, FloatBuffer) generate()}.
+     * Use {@link ForkJoinTask#join()} on the returned task to wait for its completion and {@link ForkJoinTask#cancel(boolean)}
+     * to cancel it.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param z0
+     *          the z coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param dz
+     *          the distance between samples along z
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param nz
+     *          the number of samples along z
+     * @param dest
+     *          will hold the <code>nx * ny * nz</code> samples
+     * @return the submitted task
+     */
+    public ForkJoinTask submit(float x0, float y0, float z0, float dx, float dy, float dz, int nx, int ny, int nz, FloatBuffer dest) {
+        return pool.submit(task(true, x0, y0, z0, dx, dy, dz, nx, ny, nz, dest));
+    }
+
+    private TileTask task(boolean is3d, float x0, float y0, float z0, float dx, float dy, float dz, int nx, int ny, int nz, FloatBuffer dest) {
+        if (nx < 0 || ny < 0 || nz < 0)
+            throw new IllegalArgumentException("grid dimensions must not be negative");
+        long count = (long) nx * ny * nz;
+        if (count > dest.remaining())
+            throw new IllegalArgumentException("dest has only " + dest.remaining() + " elements remaining, but " + count + " are needed");
+        Job job = new Job();
+        job.noise = noise;
+        job.is3d = is3d;
+        job.x0 = x0;
+        job.y0 = y0;
+        job.z0 = z0;
+        job.dx = dx;
+        job.dy = dy;
+        job.dz = dz;
+        job.nx = nx;
+        job.ny = ny;
+        job.octaves = octaves;
+        job.lacunarity = lacunarity;
+        job.gain = gain;
+        job.ridged = ridged;
+        job.amplitudeSum = octaves == 0 ? 1.0f : SimplexNoise.amplitudeSum(octaves, gain);
+        job.tileSize = tileSize;
+        job.dest = dest;
+        job.position = dest.position();
+        TileTask root = new TileTask(job, job.position, job.position + (int) count);
+        job.root = root;
+        return root;
+    }
+
+    /**
+     * The parameters of one generation, shared by all of its tiles.
+     */
+    private static final class Job {
+        SeededSimplexNoise noise;
+        boolean is3d;
+        float x0, y0, z0, dx, dy, dz;
+        int nx, ny;
+        int octaves;
+        float lacunarity, gain, amplitudeSum;
+        boolean ridged;
+        int tileSize;
+        FloatBuffer dest;
+        int position;
+        TileTask root;
+    }
+
+    /**
+     * Evaluates the samples at the buffer indices <code>[start..end)</code>, splitting them at cache line boundaries
+     * until they fit into a tile.
+     */
+    private static final class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Job job;
+        private final int start, end;
+
+        TileTask(Job job, int start, int end) {
+            this.job = job;
+            this.start = start;
+            this.end = end;
+        }
+
+        protected void compute() {
+            Job job = this.job;
+            if (job.root.isCancelled())
+                return;
+            if (end - start > job.tileSize) {
+                int mid = ((start + end) >>> 1) & ~(CACHE_LINE_FLOATS - 1);
+                if (mid > start) {
+                    invokeAll(new TileTask(job, start, mid), new TileTask(job, mid, end));
+                    return;
+                }
+            }
+            int nx = job.nx, ny = job.ny;
+            int last = end - job.position;
+            // the row is computed into [0, len) and the octaves into [len, 2 * len)
+            int len = Math.min(nx, end - start);
+            float[] row = SimplexNoise.scratch(job.octaves == 0 ? len : 2 * len);
+            FloatBuffer dest = job.dest.duplicate();
+            dest.position(start);
+            for (int r = start - job.position; r < last;) {
+                if (job.root.isCancelled())
+                    return;
+                int line = r / nx, c = r - line * nx;
+                int n = Math.min(nx - c, last - r);
+                SimplexNoise.gridRow(job.noise, job.is3d, job.x0, job.dx, c, n, job.y0 + (line % ny) * job.dy, job.z0 + (line / ny) * job.dz,
+                        job.octaves, job.lacunarity, job.gain, job.ridged, job.amplitudeSum, row, 0, row, len);
+                dest.put(row, 0, n);
+                r += n;
+            }
+        }
+    }
+
+}
+//#endif
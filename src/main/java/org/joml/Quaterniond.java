@@ -27,6 +27,9 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 
@@ -368,6 +371,12 @@ public class Quaterniond implements Externalizable, Cloneable, Quaterniondc {
     public Quaterniond get(Quaterniond dest) {
         return dest.set(this);
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    public MemorySegment get(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.put(this, 0L, segment.asSlice(byteOffset, 32));
+        return segment;
+    }
+//#endif
 
     /**
      * Set the given {@link Quaternionf} to the values of <code>this</code>.
@@ -417,6 +426,25 @@ public class Quaterniond implements Externalizable, Cloneable, Quaterniondc {
         w = q.w();
         return this;
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+
+    /**
+     * Read this quaternion from the supplied {@link MemorySegment} starting at the specified
+     * byte offset.
+     * <p>
+     * The segment bounds are checked once for all 32 bytes before any value is accessed.
+     * 
+     * @param byteOffset
+     *          the offset in bytes into the MemorySegment
+     * @param segment
+     *          values will be read in <code>x, y, z, w</code> order
+     * @return this
+     */
+    public Quaterniond set(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.get(this, 0L, segment.asSlice(byteOffset, 32));
+        return this;
+    }
+//#endif
 
     /**
      * Set this quaternion to be a copy of q.
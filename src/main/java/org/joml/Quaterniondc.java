@@ -23,6 +23,9 @@
  */
 package org.joml;
 
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
 import java.util.*;
 /**
  * Interface to a read-only view of a quaternion of double-precision floats.
@@ -206,6 +209,22 @@ public interface Quaterniondc {
      * @return the passed in destination
      */
     Quaterniond get(Quaterniond dest);
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+
+    /**
+     * Store this quaternion into the supplied {@link MemorySegment} starting at the specified
+     * byte offset.
+     * <p>
+     * The segment bounds are checked once for all 32 bytes before any value is accessed.
+     * 
+     * @param byteOffset
+     *          the offset in bytes into the MemorySegment
+     * @param segment
+     *          will receive the values of this quaternion in <code>x, y, z, w</code> order
+     * @return the passed in segment
+     */
+    MemorySegment get(long byteOffset, MemorySegment segment);
+//#endif
 
     /**
      * Set the given {@link Quaternionf} to the values of <code>this</code>.
@@ -27,6 +27,9 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
 //#ifdef __HAS_NIO__
 import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
@@ -441,6 +444,12 @@ public class Quaternionf implements Externalizable, Cloneable, Quaternionfc {
         return dest;
     }
 //#endif
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    public MemorySegment get(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.put(this, 0L, segment.asSlice(byteOffset, 16));
+        return segment;
+    }
+//#endif
 
     /**
      * Set this quaternion to the given values.
@@ -477,6 +486,25 @@ public class Quaternionf implements Externalizable, Cloneable, Quaternionfc {
         this.w = q.w();
         return this;
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+
+    /**
+     * Read this quaternion from the supplied {@link MemorySegment} starting at the specified
+     * byte offset.
+     * <p>
+     * The segment bounds are checked once for all 16 bytes before any value is accessed.
+     * 
+     * @param byteOffset
+     *          the offset in bytes into the MemorySegment
+     * @param segment
+     *          values will be read in <code>x, y, z, w</code> order
+     * @return this
+     */
+    public Quaternionf set(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.get(this, 0L, segment.asSlice(byteOffset, 16));
+        return this;
+    }
+//#endif
 
     /**
      * Set this quaternion to be a copy of <code>q</code>.
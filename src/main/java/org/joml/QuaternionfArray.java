@@ -0,0 +1,409 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * A fixed-size collection of single-precision quaternions stored as a structure of arrays, with one
+ * primitive array per component.
+ * <p>
+ * Compared to an array of {@link Quaternionf} objects this avoids the per-object header and reference, and it lets
+ * the bulk operations run as simple counted loops over primitive arrays, which the JIT compiler can auto-vectorize.
+ * <p>
+ * All bulk operations process the first {@link #size()} elements. A <code>dest</code> container may be
+ * <code>this</code> or one of the operands.
+ */
+public class QuaternionfArray {
+
+    /**
+     * The x components of all quaternions.
+     */
+    public final float[] x;
+    /**
+     * The y components of all quaternions.
+     */
+    public final float[] y;
+    /**
+     * The z components of all quaternions.
+     */
+    public final float[] z;
+    /**
+     * The w components of all quaternions.
+     */
+    public final float[] w;
+
+    /**
+     * Create a new {@link QuaternionfArray} holding <code>size</code> identity quaternions.
+     * 
+     * @param size
+     *          the number of quaternions
+     */
+    public QuaternionfArray(int size) {
+        this.x = new float[size];
+        this.y = new float[size];
+        this.z = new float[size];
+        this.w = new float[size];
+        java.util.Arrays.fill(w, 1.0f);
+    }
+
+    /**
+     * Return the number of quaternions in this container.
+     * 
+     * @return the number of quaternions
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * Store the quaternion at the given index into <code>dest</code>.
+     * 
+     * @param index
+     *          the index of the quaternion
+     * @param dest
+     *          will hold the quaternion
+     * @return dest
+     */
+    public Quaternionf get(int index, Quaternionf dest) {
+        dest.x = x[index];
+        dest.y = y[index];
+        dest.z = z[index];
+        dest.w = w[index];
+        return dest;
+    }
+
+    /**
+     * Set the quaternion at the given index to the value of <code>q</code>.
+     * 
+     * @param index
+     *          the index of the quaternion
+     * @param q
+     *          the new value
+     * @return this
+     */
+    public QuaternionfArray set(int index, Quaternionfc q) {
+        return set(index, q.x(), q.y(), q.z(), q.w());
+    }
+
+    /**
+     * Set the quaternion at the given index to <code>(x, y, z, w)</code>.
+     * 
+     * @param index
+     *          the index of the quaternion
+     * @param x
+     *          the x component
+     * @param y
+     *          the y component
+     * @param z
+     *          the z component
+     * @param w
+     *          the w component
+     * @return this
+     */
+    public QuaternionfArray set(int index, float x, float y, float z, float w) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        this.w[index] = w;
+        return this;
+    }
+
+    /**
+     * Set all quaternions to the quaternions of <code>src</code>.
+     * 
+     * @param src
+     *          the source quaternions
+     * @return this
+     */
+    public QuaternionfArray set(QuaternionfArray src) {
+        int n = x.length;
+        System.arraycopy(src.x, 0, x, 0, n);
+        System.arraycopy(src.y, 0, y, 0, n);
+        System.arraycopy(src.z, 0, z, 0, n);
+        System.arraycopy(src.w, 0, w, 0, n);
+        return this;
+    }
+
+    /**
+     * Set all quaternions to identity.
+     * 
+     * @return this
+     */
+    public QuaternionfArray identity() {
+        java.util.Arrays.fill(x, 0.0f);
+        java.util.Arrays.fill(y, 0.0f);
+        java.util.Arrays.fill(z, 0.0f);
+        java.util.Arrays.fill(w, 1.0f);
+        return this;
+    }
+
+    /**
+     * Multiply each quaternion of this container by the corresponding quaternion of <code>q</code>.
+     * <p>
+     * If <code>T</code> is <code>this</code> and <code>Q</code> is the given quaternion, then the resulting quaternion <code>R</code> is:
+     * <p>
+     * <code>R = T * Q</code>
+     * 
+     * @param q
+     *          the quaternions to multiply <code>this</code> by
+     * @return this
+     */
+    public QuaternionfArray mul(QuaternionfArray q) {
+        return mul(q, this);
+    }
+
+    /**
+     * Multiply each quaternion of this container by the corresponding quaternion of <code>q</code> and store the result in <code>dest</code>.
+     * <p>
+     * If <code>T</code> is <code>this</code> and <code>Q</code> is the given quaternion, then the resulting quaternion <code>R</code> is:
+     * <p>
+     * <code>R = T * Q</code>
+     * 
+     * @param q
+     *          the quaternions to multiply <code>this</code> by
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public QuaternionfArray mul(QuaternionfArray q, QuaternionfArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, w = this.w, qx = q.x, qy = q.y, qz = q.z, qw = q.w;
+        float[] dx = dest.x, dy = dest.y, dz = dest.z, dw = dest.w;
+        for (int i = 0, n = x.length; i < n; i++) {
+            float ax = x[i], ay = y[i], az = z[i], aw = w[i], bx = qx[i], by = qy[i], bz = qz[i], bw = qw[i];
+            dx[i] = Math.fma(aw, bx, Math.fma(ax, bw, Math.fma(ay, bz, -az * by)));
+            dy[i] = Math.fma(aw, by, Math.fma(-ax, bz, Math.fma(ay, bw, az * bx)));
+            dz[i] = Math.fma(aw, bz, Math.fma(ax, by, Math.fma(-ay, bx, az * bw)));
+            dw[i] = Math.fma(aw, bw, Math.fma(-ax, bx, Math.fma(-ay, by, -az * bz)));
+        }
+        return dest;
+    }
+
+    /**
+     * Multiply each quaternion of this container by the given quaternion <code>q</code>.
+     * <p>
+     * If <code>T</code> is <code>this</code> and <code>Q</code> is the given quaternion, then the resulting quaternion <code>R</code> is:
+     * <p>
+     * <code>R = T * Q</code>
+     * 
+     * @param q
+     *          the quaternion to multiply <code>this</code> by
+     * @return this
+     */
+    public QuaternionfArray mul(Quaternionfc q) {
+        return mul(q, this);
+    }
+
+    /**
+     * Multiply each quaternion of this container by the given quaternion <code>q</code> and store the result in <code>dest</code>.
+     * <p>
+     * If <code>T</code> is <code>this</code> and <code>Q</code> is the given quaternion, then the resulting quaternion <code>R</code> is:
+     * <p>
+     * <code>R = T * Q</code>
+     * 
+     * @param q
+     *          the quaternion to multiply <code>this</code> by
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public QuaternionfArray mul(Quaternionfc q, QuaternionfArray dest) {
+        float bx = q.x(), by = q.y(), bz = q.z(), bw = q.w();
+        float[] x = this.x, y = this.y, z = this.z, w = this.w, dx = dest.x, dy = dest.y, dz = dest.z, dw = dest.w;
+        for (int i = 0, n = x.length; i < n; i++) {
+            float ax = x[i], ay = y[i], az = z[i], aw = w[i];
+            dx[i] = Math.fma(aw, bx, Math.fma(ax, bw, Math.fma(ay, bz, -az * by)));
+            dy[i] = Math.fma(aw, by, Math.fma(-ax, bz, Math.fma(ay, bw, az * bx)));
+            dz[i] = Math.fma(aw, bz, Math.fma(ax, by, Math.fma(-ay, bx, az * bw)));
+            dw[i] = Math.fma(aw, bw, Math.fma(-ax, bx, Math.fma(-ay, by, -az * bz)));
+        }
+        return dest;
+    }
+
+    /**
+     * Pre-multiply each quaternion of this container by the given quaternion <code>q</code>.
+     * <p>
+     * If <code>T</code> is <code>this</code> and <code>Q</code> is the given quaternion, then the resulting quaternion <code>R</code> is:
+     * <p>
+     * <code>R = Q * T</code>
+     * 
+     * @param q
+     *          the quaternion to pre-multiply <code>this</code> by
+     * @return this
+     */
+    public QuaternionfArray premul(Quaternionfc q) {
+        return premul(q, this);
+    }
+
+    /**
+     * Pre-multiply each quaternion of this container by the given quaternion <code>q</code> and store the result in <code>dest</code>.
+     * <p>
+     * If <code>T</code> is <code>this</code> and <code>Q</code> is the given quaternion, then the resulting quaternion <code>R</code> is:
+     * <p>
+     * <code>R = Q * T</code>
+     * 
+     * @param q
+     *          the quaternion to pre-multiply <code>this</code> by
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public QuaternionfArray premul(Quaternionfc q, QuaternionfArray dest) {
+        float ax = q.x(), ay = q.y(), az = q.z(), aw = q.w();
+        float[] x = this.x, y = this.y, z = this.z, w = this.w, dx = dest.x, dy = dest.y, dz = dest.z, dw = dest.w;
+        for (int i = 0, n = x.length; i < n; i++) {
+            float bx = x[i], by = y[i], bz = z[i], bw = w[i];
+            dx[i] = Math.fma(aw, bx, Math.fma(ax, bw, Math.fma(ay, bz, -az * by)));
+            dy[i] = Math.fma(aw, by, Math.fma(-ax, bz, Math.fma(ay, bw, az * bx)));
+            dz[i] = Math.fma(aw, bz, Math.fma(ax, by, Math.fma(-ay, bx, az * bw)));
+            dw[i] = Math.fma(aw, bw, Math.fma(-ax, bx, Math.fma(-ay, by, -az * bz)));
+        }
+        return dest;
+    }
+
+    /**
+     * Conjugate all quaternions of this container.
+     * 
+     * @return this
+     */
+    public QuaternionfArray conjugate() {
+        return conjugate(this);
+    }
+
+    /**
+     * Conjugate all quaternions of this container and store the result in <code>dest</code>.
+     * 
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public QuaternionfArray conjugate(QuaternionfArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            dx[i] = -x[i];
+            dy[i] = -y[i];
+            dz[i] = -z[i];
+        }
+        if (dest != this)
+            System.arraycopy(w, 0, dest.w, 0, w.length);
+        return dest;
+    }
+
+    /**
+     * Normalize all quaternions of this container.
+     * 
+     * @return this
+     */
+    public QuaternionfArray normalize() {
+        return normalize(this);
+    }
+
+    /**
+     * Normalize all quaternions of this container and store the result in <code>dest</code>.
+     * 
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public QuaternionfArray normalize(QuaternionfArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, w = this.w, dx = dest.x, dy = dest.y, dz = dest.z, dw = dest.w;
+        for (int i = 0, n = x.length; i < n; i++) {
+            float qx = x[i], qy = y[i], qz = z[i], qw = w[i];
+            float invNorm = Math.invsqrt(Math.fma(qx, qx, Math.fma(qy, qy, Math.fma(qz, qz, qw * qw))));
+            dx[i] = qx * invNorm;
+            dy[i] = qy * invNorm;
+            dz[i] = qz * invNorm;
+            dw[i] = qw * invNorm;
+        }
+        return dest;
+    }
+
+    /**
+     * Interpolate between the quaternions of this container and the corresponding <i>unit</i> quaternions of <code>q</code>
+     * using non-spherical linear interpolation, and store the normalized result in <code>dest</code>.
+     * 
+     * @see Quaternionf#nlerp(Quaternionfc, float, Quaternionf)
+     * 
+     * @param q
+     *          the other quaternions
+     * @param factor
+     *          the interpolation factor, within <code>[0..1]</code>
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public QuaternionfArray nlerp(QuaternionfArray q, float factor, QuaternionfArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, w = this.w, qx = q.x, qy = q.y, qz = q.z, qw = q.w;
+        float[] dx = dest.x, dy = dest.y, dz = dest.z, dw = dest.w;
+        float scale0 = 1.0f - factor;
+        for (int i = 0, n = x.length; i < n; i++) {
+            float ax = x[i], ay = y[i], az = z[i], aw = w[i], bx = qx[i], by = qy[i], bz = qz[i], bw = qw[i];
+            float cosom = Math.fma(ax, bx, Math.fma(ay, by, Math.fma(az, bz, aw * bw)));
+            float scale1 = cosom >= 0.0f ? factor : -factor;
+            float rx = Math.fma(scale0, ax, scale1 * bx);
+            float ry = Math.fma(scale0, ay, scale1 * by);
+            float rz = Math.fma(scale0, az, scale1 * bz);
+            float rw = Math.fma(scale0, aw, scale1 * bw);
+            float s = Math.invsqrt(Math.fma(rx, rx, Math.fma(ry, ry, Math.fma(rz, rz, rw * rw))));
+            dx[i] = rx * s;
+            dy[i] = ry * s;
+            dz[i] = rz * s;
+            dw[i] = rw * s;
+        }
+        return dest;
+    }
+
+    /**
+     * Transform each vector of <code>v</code> by the corresponding quaternion of this container.
+     * 
+     * @param v
+     *          the vectors to transform
+     * @return v
+     */
+    public Vector3fArray transform(Vector3fArray v) {
+        return transform(v, v);
+    }
+
+    /**
+     * Transform each vector of <code>v</code> by the corresponding quaternion of this container and store the result in <code>dest</code>.
+     * 
+     * @param v
+     *          the vectors to transform
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray transform(Vector3fArray v, Vector3fArray dest) {
+        float[] qx = this.x, qy = this.y, qz = this.z, qw = this.w, vx = v.x, vy = v.y, vz = v.z;
+        float[] dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = qx.length; i < n; i++) {
+            float x = qx[i], y = qy[i], z = qz[i], w = qw[i], px = vx[i], py = vy[i], pz = vz[i];
+            float xx = x * x, yy = y * y, zz = z * z, ww = w * w;
+            float xy = x * y, xz = x * z, yz = y * z, xw = x * w;
+            float zw = z * w, yw = y * w, k = 1 / (xx + yy + zz + ww);
+            dx[i] = Math.fma((xx - yy - zz + ww) * k, px, Math.fma(2 * (xy - zw) * k, py, (2 * (xz + yw) * k) * pz));
+            dy[i] = Math.fma(2 * (xy + zw) * k, px, Math.fma((yy - xx - zz + ww) * k, py, (2 * (yz - xw) * k) * pz));
+            dz[i] = Math.fma(2 * (xz - yw) * k, px, Math.fma(2 * (yz + xw) * k, py, ((zz - xx - yy + ww) * k) * pz));
+        }
+        return dest;
+    }
+}
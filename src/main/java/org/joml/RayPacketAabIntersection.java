@@ -0,0 +1,250 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * Tests a packet of 4 or 8 rays against axis-aligned boxes at once.
+ * <p>
+ * The rays are stored in structure-of-arrays form together with their precomputed reciprocal directions, and each
+ * call to {@link #test(float, float, float, float, float, float) test()} performs a branch-free slab test of one box
+ * against all rays of the packet and returns a lane mask. This is most efficient for coherent rays, such as
+ * neighboring primary rays generated by a {@link FrustumRayBuilder}, which mostly visit the same nodes of a bounding
+ * volume hierarchy, so that a whole packet can be traced through the hierarchy with one box test per visited node.
+ * <p>
+ * When the Vector API is available and enabled via <code>-Djoml.useVectorApi</code>, the lanes are tested with vector
+ * instructions.
+ * <p>
+ * The test methods of this class are thread-safe and can be used to test many axis-aligned boxes against the same
+ * packet concurrently, as long as the rays are not modified at the same time.
+ */
+public class RayPacketAabIntersection {
+    private final int width;
+    private int activeLanes;
+    final float[] originX, originY, originZ;
+    final float[] invDirX, invDirY, invDirZ;
+    final float[] maxT;
+
+    /**
+     * Create a new {@link RayPacketAabIntersection} holding <code>width</code> rays, which must be either <code>4</code> or <code>8</code>.
+     * <p>
+     * Initially, all lanes are inactive. Use {@link #set(int, float, float, float, float, float, float) set()} to activate a lane
+     * with a ray.
+     * 
+     * @param width
+     *          the number of rays in the packet; either <code>4</code> or <code>8</code>
+     */
+    public RayPacketAabIntersection(int width) {
+        if (width != 4 && width != 8)
+            throw new IllegalArgumentException("width must be 4 or 8");
+        this.width = width;
+        this.originX = new float[width];
+        this.originY = new float[width];
+        this.originZ = new float[width];
+        this.invDirX = new float[width];
+        this.invDirY = new float[width];
+        this.invDirZ = new float[width];
+        this.maxT = new float[width];
+    }
+
+    /**
+     * Return the number of rays in this packet.
+     * 
+     * @return either <code>4</code> or <code>8</code>
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Return the mask of active lanes, where bit <code>i</code> is set if lane <code>i</code> holds a ray.
+     * 
+     * @return the mask of active lanes
+     */
+    public int activeLanes() {
+        return activeLanes;
+    }
+
+    /**
+     * Store the ray with origin <code>(originX, originY, originZ)</code> and direction <code>(dirX, dirY, dirZ)</code>
+     * in the given lane and activate the lane.
+     * <p>
+     * The ray extends to infinity. Use {@link #setMaxT(int, float)} to limit it, for example to the distance of the
+     * closest hit found so far.
+     * 
+     * @param lane
+     *          the lane in <code>[0..width)</code>
+     * @param originX
+     *          the x coordinate of the ray origin
+     * @param originY
+     *          the y coordinate of the ray origin
+     * @param originZ
+     *          the z coordinate of the ray origin
+     * @param dirX
+     *          the x coordinate of the ray direction
+     * @param dirY
+     *          the y coordinate of the ray direction
+     * @param dirZ
+     *          the z coordinate of the ray direction
+     * @return this
+     */
+    public RayPacketAabIntersection set(int lane, float originX, float originY, float originZ, float dirX, float dirY, float dirZ) {
+        checkLane(lane);
+        this.originX[lane] = originX;
+        this.originY[lane] = originY;
+        this.originZ[lane] = originZ;
+        this.invDirX[lane] = 1.0f / dirX;
+        this.invDirY[lane] = 1.0f / dirY;
+        this.invDirZ[lane] = 1.0f / dirZ;
+        this.maxT[lane] = Float.POSITIVE_INFINITY;
+        activeLanes |= 1 << lane;
+        return this;
+    }
+
+    /**
+     * Store the ray with the given <code>origin</code> and direction <code>dir</code> in the given lane and activate the lane.
+     * 
+     * @see #set(int, float, float, float, float, float, float)
+     * 
+     * @param lane
+     *          the lane in <code>[0..width)</code>
+     * @param origin
+     *          the ray origin
+     * @param dir
+     *          the ray direction
+     * @return this
+     */
+    public RayPacketAabIntersection set(int lane, Vector3fc origin, Vector3fc dir) {
+        return set(lane, origin.x(), origin.y(), origin.z(), dir.x(), dir.y(), dir.z());
+    }
+
+    /**
+     * Limit the ray in the given lane to the parameter range <code>[0..maxT]</code>, measured in multiples of its direction.
+     * 
+     * @param lane
+     *          the lane in <code>[0..width)</code>
+     * @param maxT
+     *          the maximum ray parameter
+     * @return this
+     */
+    public RayPacketAabIntersection setMaxT(int lane, float maxT) {
+        checkLane(lane);
+        this.maxT[lane] = maxT;
+        return this;
+    }
+
+    /**
+     * Deactivate the given lane, so that it will never be reported as intersecting.
+     * 
+     * @param lane
+     *          the lane in <code>[0..width)</code>
+     * @return this
+     */
+    public RayPacketAabIntersection clear(int lane) {
+        checkLane(lane);
+        activeLanes &= ~(1 << lane);
+        return this;
+    }
+
+    /**
+     * Deactivate all lanes.
+     * 
+     * @return this
+     */
+    public RayPacketAabIntersection clear() {
+        activeLanes = 0;
+        return this;
+    }
+
+    private void checkLane(int lane) {
+        if (lane < 0 || lane >= width)
+            throw new IllegalArgumentException("lane must be in [0.." + width + ")");
+    }
+
+    /**
+     * Test all active rays of this packet against the axis-aligned box given via its minimum corner <code>(minX, minY, minZ)</code>
+     * and its maximum corner <code>(maxX, maxY, maxZ)</code>.
+     * <p>
+     * This method is thread-safe and can be used to test many axis-aligned boxes concurrently.
+     * 
+     * @param minX
+     *          the x coordinate of the minimum corner
+     * @param minY
+     *          the y coordinate of the minimum corner
+     * @param minZ
+     *          the z coordinate of the minimum corner
+     * @param maxX
+     *          the x coordinate of the maximum corner
+     * @param maxY
+     *          the y coordinate of the maximum corner
+     * @param maxZ
+     *          the z coordinate of the maximum corner
+     * @return the lane mask, where bit <code>i</code> is set iff lane <code>i</code> is active and its ray intersects the box
+     *         within <code>[0..maxT]</code>
+     */
+    public int test(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+//#ifdef __HAS_VECTOR_API__
+        if (VectorApiCode.canUseVectorApi)
+            return VectorApiCode.__RayPacketAabIntersection_test(this, minX, minY, minZ, maxX, maxY, maxZ) & activeLanes;
+//#endif
+        /*
+         * A zero direction component yields an infinite reciprocal and thus a NaN slab distance when the origin lies
+         * exactly on that slab plane. The comparisons below are ordered such that a NaN distance never replaces the
+         * current interval bound, which makes such a slab count as containing the whole ray.
+         */
+        int mask = 0;
+        for (int i = 0; i < width; i++) {
+            float ox = originX[i], oy = originY[i], oz = originZ[i];
+            float ix = invDirX[i], iy = invDirY[i], iz = invDirZ[i];
+            float tx0 = (minX - ox) * ix, tx1 = (maxX - ox) * ix;
+            float ty0 = (minY - oy) * iy, ty1 = (maxY - oy) * iy;
+            float tz0 = (minZ - oz) * iz, tz1 = (maxZ - oz) * iz;
+            float tNear = 0.0f, tFar = maxT[i], t;
+            t = ix < 0.0f ? tx1 : tx0; tNear = t > tNear ? t : tNear;
+            t = iy < 0.0f ? ty1 : ty0; tNear = t > tNear ? t : tNear;
+            t = iz < 0.0f ? tz1 : tz0; tNear = t > tNear ? t : tNear;
+            t = ix < 0.0f ? tx0 : tx1; tFar = t < tFar ? t : tFar;
+            t = iy < 0.0f ? ty0 : ty1; tFar = t < tFar ? t : tFar;
+            t = iz < 0.0f ? tz0 : tz1; tFar = t < tFar ? t : tFar;
+            mask |= (tNear <= tFar ? 1 : 0) << i;
+        }
+        return mask & activeLanes;
+    }
+
+    /**
+     * Test all active rays of this packet against the axis-aligned box given via its minimum corner <code>min</code>
+     * and its maximum corner <code>max</code>.
+     * 
+     * @see #test(float, float, float, float, float, float)
+     * 
+     * @param min
+     *          the minimum corner of the box
+     * @param max
+     *          the maximum corner of the box
+     * @return the lane mask, where bit <code>i</code> is set iff lane <code>i</code> is active and its ray intersects the box
+     *         within <code>[0..maxT]</code>
+     */
+    public int test(Vector3fc min, Vector3fc max) {
+        return test(min.x(), min.y(), min.z(), max.x(), max.y(), max.z());
+    }
+}
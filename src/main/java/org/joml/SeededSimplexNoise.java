@@ -0,0 +1,256 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * Simplex noise for 2D, 3D and 4D input using a permutation table shuffled from a seed.
+ * <p>
+ * This computes the same noise function as {@link SimplexNoise}, but every instance has its own permutation, so that
+ * different seeds produce different, uncorrelated noise without offsetting the input coordinates. The same seed always
+ * produces the same noise.
+ * <p>
+ * The noise is evaluated by the same code as {@link SimplexNoise}, only with the permutation tables of this instance.
+ * <p>
+ * Instances are immutable and therefore thread-safe, so a single instance can be used concurrently by any number of
+ * threads.
+ */
+public class SeededSimplexNoise {
+    private final long seed;
+
+    /**
+     * The permutation, repeated once to remove the need for index wrapping, and its entries modulo <code>12</code>
+     * in the layout of the tables of {@link SimplexNoise}.
+     */
+    final byte[] perm = new byte[512];
+    final byte[] permMod12 = new byte[512];
+//#ifdef __HAS_VECTOR_API__
+    final int[] permInts = new int[512];
+    final int[] permMod12Ints = new int[512];
+//#endif
+
+    /**
+     * Create a new {@link SeededSimplexNoise} whose permutation is shuffled by a {@link Random} initialized with the
+     * given <code>seed</code>.
+     * 
+     * @param seed
+     *          the seed
+     */
+    public SeededSimplexNoise(long seed) {
+        this.seed = seed;
+        byte[] p = new byte[256];
+        for (int i = 0; i < 256; i++)
+            p[i] = (byte) i;
+        Random rnd = new Random(seed);
+        for (int i = 255; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            byte t = p[i];
+            p[i] = p[j];
+            p[j] = t;
+        }
+        SimplexNoise.initTables(p, perm, permMod12);
+//#ifdef __HAS_VECTOR_API__
+        SimplexNoise.widenTables(perm, permMod12, permInts, permMod12Ints);
+//#endif
+    }
+
+    /**
+     * Return the seed this noise was created with.
+     * 
+     * @return the seed
+     */
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Compute 2D simplex noise for the given input vector <code>(x, y)</code>.
+     * <p>
+     * The result is in the range <code>[-1..+1]</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public float noise(float x, float y) {
+        return SimplexNoise.noise(perm, permMod12, x, y);
+    }
+
+    /**
+     * Compute 3D simplex noise for the given input vector <code>(x, y, z)</code>.
+     * <p>
+     * The result is in the range <code>[-1..+1]</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public float noise(float x, float y, float z) {
+        return SimplexNoise.noise(perm, permMod12, x, y, z);
+    }
+
+    /**
+     * Compute 4D simplex noise for the given input vector <code>(x, y, z, w)</code>.
+     * <p>
+     * The result is in the range <code>[-1..+1]</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @param w
+     *          the w coordinate
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public float noise(float x, float y, float z, float w) {
+        return SimplexNoise.noise(perm, x, y, z, w);
+    }
+
+    /**
+     * Compute fractal Brownian motion (fBm) noise for the given input vector <code>(x, y)</code> by summing
+     * <code>octaves</code> layers of {@link #noise(float, float) 2D noise}.
+     * <p>
+     * See {@link SimplexNoise#fbm(float, float, int, float, float)}.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves, typically <code>2.0</code>
+     * @param gain
+     *          the amplitude multiplier between successive octaves, typically <code>0.5</code>
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public float fbm(float x, float y, int octaves, float lacunarity, float gain) {
+        float amplitudeSum = SimplexNoise.amplitudeSum(octaves, gain);
+        float sum = 0.0f, frequency = 1.0f, amplitude = 1.0f;
+        for (int o = 0; o < octaves; o++) {
+            sum += amplitude * noise(x * frequency, y * frequency);
+            frequency *= lacunarity;
+            amplitude *= gain;
+        }
+        return sum / amplitudeSum;
+    }
+
+    /**
+     * Compute fractal Brownian motion (fBm) noise for the given input vector <code>(x, y, z)</code> by summing
+     * <code>octaves</code> layers of {@link #noise(float, float, float) 3D noise}.
+     * <p>
+     * See {@link SimplexNoise#fbm(float, float, float, int, float, float)}.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves, typically <code>2.0</code>
+     * @param gain
+     *          the amplitude multiplier between successive octaves, typically <code>0.5</code>
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public float fbm(float x, float y, float z, int octaves, float lacunarity, float gain) {
+        float amplitudeSum = SimplexNoise.amplitudeSum(octaves, gain);
+        float sum = 0.0f, frequency = 1.0f, amplitude = 1.0f;
+        for (int o = 0; o < octaves; o++) {
+            sum += amplitude * noise(x * frequency, y * frequency, z * frequency);
+            frequency *= lacunarity;
+            amplitude *= gain;
+        }
+        return sum / amplitudeSum;
+    }
+
+    /**
+     * Compute ridged multifractal noise for the given input vector <code>(x, y)</code>.
+     * <p>
+     * See {@link SimplexNoise#ridged(float, float, int, float, float)}.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves, typically <code>2.0</code>
+     * @param gain
+     *          the amplitude multiplier between successive octaves, typically <code>0.5</code>
+     * @return the noise value (within <code>[0..1]</code>)
+     */
+    public float ridged(float x, float y, int octaves, float lacunarity, float gain) {
+        float amplitudeSum = SimplexNoise.amplitudeSum(octaves, gain);
+        float sum = 0.0f, frequency = 1.0f, amplitude = 1.0f;
+        for (int o = 0; o < octaves; o++) {
+            float v = 1.0f - Math.abs(noise(x * frequency, y * frequency));
+            sum += amplitude * (v * v);
+            frequency *= lacunarity;
+            amplitude *= gain;
+        }
+        return sum / amplitudeSum;
+    }
+
+    /**
+     * Compute ridged multifractal noise for the given input vector <code>(x, y, z)</code>.
+     * <p>
+     * See {@link SimplexNoise#ridged(float, float, float, int, float, float)}.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves, typically <code>2.0</code>
+     * @param gain
+     *          the amplitude multiplier between successive octaves, typically <code>0.5</code>
+     * @return the noise value (within <code>[0..1]</code>)
+     */
+    public float ridged(float x, float y, float z, int octaves, float lacunarity, float gain) {
+        float amplitudeSum = SimplexNoise.amplitudeSum(octaves, gain);
+        float sum = 0.0f, frequency = 1.0f, amplitude = 1.0f;
+        for (int o = 0; o < octaves; o++) {
+            float v = 1.0f - Math.abs(noise(x * frequency, y * frequency, z * frequency));
+            sum += amplitude * (v * v);
+            frequency *= lacunarity;
+            amplitude *= gain;
+        }
+        return sum / amplitudeSum;
+    }
+}
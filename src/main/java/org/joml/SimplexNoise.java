@@ -23,6 +23,10 @@
  */
 package org.joml;
 
+//#ifdef __HAS_NIO__
+import java.nio.FloatBuffer;
+//#endif
+
 /**
  * A simplex noise algorithm for 2D, 3D and 4D input.
  * <p>
@@ -86,6 +90,14 @@ public class SimplexNoise {
     private static final byte[] perm = new byte[512];
     private static final byte[] permMod12 = new byte[512];
     static {
+        initTables(p, perm, permMod12);
+    }
+
+    /**
+     * Fill <code>perm</code> with the 256 entries of <code>p</code> repeated once and <code>permMod12</code> with the same
+     * entries modulo <code>12</code>.
+     */
+    static void initTables(byte[] p, byte[] perm, byte[] permMod12) {
         for (int i = 0; i < 512; i++) {
             perm[i] = p[i & 255];
             permMod12[i] = (byte) ((perm[i]&0xFF) % 12);
@@ -93,10 +105,10 @@ public class SimplexNoise {
     }
 
     // Skewing and unskewing factors for 2, 3, and 4 dimensions
-    private static final float F2 = 0.3660254037844386f; // <- (float) (0.5f * (Math.sqrt(3.0f) - 1.0f));
-    private static final float G2 = 0.21132486540518713f; // <- (float) ((3.0f - Math.sqrt(3.0f)) / 6.0f);
-    private static final float F3 = 1.0f / 3.0f;
-    private static final float G3 = 1.0f / 6.0f;
+    static final float F2 = 0.3660254037844386f; // <- (float) (0.5f * (Math.sqrt(3.0f) - 1.0f));
+    static final float G2 = 0.21132486540518713f; // <- (float) ((3.0f - Math.sqrt(3.0f)) / 6.0f);
+    static final float F3 = 1.0f / 3.0f;
+    static final float G3 = 1.0f / 6.0f;
     private static final float F4 = 0.30901699437494745f; // <- (float) ((Math.sqrt(5.0f) - 1.0f) / 4.0f);
     private static final float G4 = 0.1381966011250105f; // <- (float) ((5.0f - Math.sqrt(5.0f)) / 20.0f);
 
@@ -130,6 +142,15 @@ public class SimplexNoise {
      * @return the noise value (within <code>[-1..+1]</code>)
      */
     public static float noise(float x, float y) {
+        return noise(perm, permMod12, x, y);
+    }
+
+    /**
+     * Compute 2D simplex noise for <code>(x, y)</code> with the given permutation tables.
+     * <p>
+     * <code>perm</code> holds the permutation repeated once and <code>permMod12</code> the same entries modulo <code>12</code>.
+     */
+    static float noise(byte[] perm, byte[] permMod12, float x, float y) {
         float n0, n1, n2; // Noise contributions from the three corners
         // Skew the input space to determine which simplex cell we're in
         float s = (x + y) * F2; // Hairy factor for 2D
@@ -205,6 +226,15 @@ public class SimplexNoise {
      * @return the noise value (within <code>[-1..+1]</code>)
      */
     public static float noise(float x, float y, float z) {
+        return noise(perm, permMod12, x, y, z);
+    }
+
+    /**
+     * Compute 3D simplex noise for <code>(x, y, z)</code> with the given permutation tables.
+     * <p>
+     * See {@link #noise(byte[], byte[], float, float)}.
+     */
+    static float noise(byte[] perm, byte[] permMod12, float x, float y, float z) {
         float n0, n1, n2, n3; // Noise contributions from the four corners
         // Skew the input space to determine which simplex cell we're in
         float s = (x + y + z) * F3; // Very nice and simple skew factor for 3D
@@ -344,6 +374,15 @@ public class SimplexNoise {
      * @return the noise value (within <code>[-1..+1]</code>)
      */
     public static float noise(float x, float y, float z, float w) {
+        return noise(perm, x, y, z, w);
+    }
+
+    /**
+     * Compute 4D simplex noise for <code>(x, y, z, w)</code> with the given permutation table.
+     * <p>
+     * See {@link #noise(byte[], byte[], float, float)}.
+     */
+    static float noise(byte[] perm, float x, float y, float z, float w) {
         float n0, n1, n2, n3, n4; // Noise contributions from the five corners
         // Skew the (x,y,z,w) space to determine which cell of 24 simplices we're in
         float s = (x + y + z + w) * F4; // Factor for 4D skewing
@@ -482,4 +521,968 @@ public class SimplexNoise {
         return 27.0f * (n0 + n1 + n2 + n3 + n4);
     }
 
+    /**
+     * Compute 2D simplex noise for the given input vector <code>(x, y)</code> together with its analytic gradient and store
+     * the gradient in <code>dest.x</code> and <code>dest.y</code> and the noise value in <code>dest.z</code>.
+     * <p>
+     * The noise value is identical to {@link #noise(float, float)}, and computing the gradient along with it is much cheaper
+     * and more accurate than approximating it with finite differences.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param dest
+     *          will hold the partial derivatives <code>(d/dx, d/dy)</code> in its x and y components and the noise value in its z component
+     * @return dest
+     */
+    public static Vector3f noiseWithGradient(float x, float y, Vector3f dest) {
+        // Skew the input space to determine which simplex cell we're in
+        float s = (x + y) * F2; // Hairy factor for 2D
+        int i = fastfloor(x + s);
+        int j = fastfloor(y + s);
+        float t = (i + j) * G2;
+        float X0 = i - t; // Unskew the cell origin back to (x,y) space
+        float Y0 = j - t;
+        float x0 = x - X0; // The x,y distances from the cell origin
+        float y0 = y - Y0;
+        // For the 2D case, the simplex shape is an equilateral triangle.
+        // Determine which simplex we are in.
+        int i1, j1; // Offsets for second (middle) corner of simplex in (i,j) coords
+        if (x0 > y0) {
+            i1 = 1;
+            j1 = 0;
+        } // lower triangle, XY order: (0,0)->(1,0)->(1,1)
+        else {
+            i1 = 0;
+            j1 = 1;
+        } // upper triangle, YX order: (0,0)->(0,1)->(1,1)
+          // A step of (1,0) in (i,j) means a step of (1-c,-c) in (x,y), and
+          // a step of (0,1) in (i,j) means a step of (-c,1-c) in (x,y), where
+          // c = (3-sqrt(3))/6
+        float x1 = x0 - i1 + G2; // Offsets for middle corner in (x,y) unskewed coords
+        float y1 = y0 - j1 + G2;
+        float x2 = x0 - 1.0f + 2.0f * G2; // Offsets for last corner in (x,y) unskewed coords
+        float y2 = y0 - 1.0f + 2.0f * G2;
+        // Work out the hashed gradient indices of the three simplex corners
+        int ii = i & 255;
+        int jj = j & 255;
+        int gi0 = permMod12[ii + perm[jj]&0xFF]&0xFF;
+        int gi1 = permMod12[ii + i1 + perm[jj + j1]&0xFF]&0xFF;
+        int gi2 = permMod12[ii + 1 + perm[jj + 1]&0xFF]&0xFF;
+        // Calculate the contribution from the three corners
+        dest.x = 0.0f;
+        dest.y = 0.0f;
+        float n0 = corner(0.5f - x0 * x0 - y0 * y0, grad3[gi0], x0, y0, dest);
+        float n1 = corner(0.5f - x1 * x1 - y1 * y1, grad3[gi1], x1, y1, dest);
+        float n2 = corner(0.5f - x2 * x2 - y2 * y2, grad3[gi2], x2, y2, dest);
+        dest.x *= 70.0f;
+        dest.y *= 70.0f;
+        dest.z = 70.0f * (n0 + n1 + n2);
+        return dest;
+    }
+
+    /**
+     * Compute 3D simplex noise for the given input vector <code>(x, y, z)</code> together with its analytic gradient and store
+     * the gradient in <code>dest.x</code>, <code>dest.y</code> and <code>dest.z</code> and the noise value in <code>dest.w</code>.
+     * <p>
+     * The noise value is identical to {@link #noise(float, float, float)}, and computing the gradient along with it is much cheaper
+     * and more accurate than approximating it with finite differences.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @param dest
+     *          will hold the partial derivatives <code>(d/dx, d/dy, d/dz)</code> in its x, y and z components and the noise value
+     *          in its w component
+     * @return dest
+     */
+    public static Vector4f noiseWithGradient(float x, float y, float z, Vector4f dest) {
+        // Skew the input space to determine which simplex cell we're in
+        float s = (x + y + z) * F3; // Very nice and simple skew factor for 3D
+        int i = fastfloor(x + s);
+        int j = fastfloor(y + s);
+        int k = fastfloor(z + s);
+        float t = (i + j + k) * G3;
+        float X0 = i - t; // Unskew the cell origin back to (x,y,z) space
+        float Y0 = j - t;
+        float Z0 = k - t;
+        float x0 = x - X0; // The x,y,z distances from the cell origin
+        float y0 = y - Y0;
+        float z0 = z - Z0;
+        // For the 3D case, the simplex shape is a slightly irregular tetrahedron.
+        // Determine which simplex we are in.
+        int i1, j1, k1; // Offsets for second corner of simplex in (i,j,k) coords
+        int i2, j2, k2; // Offsets for third corner of simplex in (i,j,k) coords
+        if (x0 >= y0) {
+            if (y0 >= z0) {
+                i1 = 1;
+                j1 = 0;
+                k1 = 0;
+                i2 = 1;
+                j2 = 1;
+                k2 = 0;
+            } // X Y Z order
+            else if (x0 >= z0) {
+                i1 = 1;
+                j1 = 0;
+                k1 = 0;
+                i2 = 1;
+                j2 = 0;
+                k2 = 1;
+            } // X Z Y order
+            else {
+                i1 = 0;
+                j1 = 0;
+                k1 = 1;
+                i2 = 1;
+                j2 = 0;
+                k2 = 1;
+            } // Z X Y order
+        } else { // x0<y0
+            if (y0 < z0) {
+                i1 = 0;
+                j1 = 0;
+                k1 = 1;
+                i2 = 0;
+                j2 = 1;
+                k2 = 1;
+            } // Z Y X order
+            else if (x0 < z0) {
+                i1 = 0;
+                j1 = 1;
+                k1 = 0;
+                i2 = 0;
+                j2 = 1;
+                k2 = 1;
+            } // Y Z X order
+            else {
+                i1 = 0;
+                j1 = 1;
+                k1 = 0;
+                i2 = 1;
+                j2 = 1;
+                k2 = 0;
+            } // Y X Z order
+        }
+        // A step of (1,0,0) in (i,j,k) means a step of (1-c,-c,-c) in (x,y,z),
+        // a step of (0,1,0) in (i,j,k) means a step of (-c,1-c,-c) in (x,y,z), and
+        // a step of (0,0,1) in (i,j,k) means a step of (-c,-c,1-c) in (x,y,z), where
+        // c = 1/6.
+        float x1 = x0 - i1 + G3; // Offsets for second corner in (x,y,z) coords
+        float y1 = y0 - j1 + G3;
+        float z1 = z0 - k1 + G3;
+        float x2 = x0 - i2 + 2.0f * G3; // Offsets for third corner in (x,y,z) coords
+        float y2 = y0 - j2 + 2.0f * G3;
+        float z2 = z0 - k2 + 2.0f * G3;
+        float x3 = x0 - 1.0f + 3.0f * G3; // Offsets for last corner in (x,y,z) coords
+        float y3 = y0 - 1.0f + 3.0f * G3;
+        float z3 = z0 - 1.0f + 3.0f * G3;
+        // Work out the hashed gradient indices of the four simplex corners
+        int ii = i & 255;
+        int jj = j & 255;
+        int kk = k & 255;
+        int gi0 = permMod12[ii + perm[jj + perm[kk]&0xFF]&0xFF]&0xFF;
+        int gi1 = permMod12[ii + i1 + perm[jj + j1 + perm[kk + k1]&0xFF]&0xFF]&0xFF;
+        int gi2 = permMod12[ii + i2 + perm[jj + j2 + perm[kk + k2]&0xFF]&0xFF]&0xFF;
+        int gi3 = permMod12[ii + 1 + perm[jj + 1 + perm[kk + 1]&0xFF]&0xFF]&0xFF;
+        dest.x = 0.0f;
+        dest.y = 0.0f;
+        dest.z = 0.0f;
+        float n0 = corner(0.6f - x0 * x0 - y0 * y0 - z0 * z0, grad3[gi0], x0, y0, z0, dest);
+        float n1 = corner(0.6f - x1 * x1 - y1 * y1 - z1 * z1, grad3[gi1], x1, y1, z1, dest);
+        float n2 = corner(0.6f - x2 * x2 - y2 * y2 - z2 * z2, grad3[gi2], x2, y2, z2, dest);
+        float n3 = corner(0.6f - x3 * x3 - y3 * y3 - z3 * z3, grad3[gi3], x3, y3, z3, dest);
+        dest.x *= 32.0f;
+        dest.y *= 32.0f;
+        dest.z *= 32.0f;
+        dest.w = 32.0f * (n0 + n1 + n2 + n3);
+        return dest;
+    }
+
+    /**
+     * Compute {@link #noiseWithGradient(float, float, Vector3f) 2D noise and its gradient} for the first <code>count</code>
+     * points <code>(x[i], y[i])</code> and store the noise values in <code>value</code> and the partial derivatives in
+     * <code>gradX</code> and <code>gradY</code>.
+     * 
+     * @param x
+     *          the x coordinates
+     * @param y
+     *          the y coordinates
+     * @param count
+     *          the number of points
+     * @param value
+     *          will hold the noise values
+     * @param gradX
+     *          will hold the partial derivatives along x
+     * @param gradY
+     *          will hold the partial derivatives along y
+     */
+    public static void noiseWithGradient(float[] x, float[] y, int count, float[] value, float[] gradX, float[] gradY) {
+        if (count < 0 || x.length < count || y.length < count || value.length < count || gradX.length < count || gradY.length < count)
+            throw new IllegalArgumentException("arrays are too small for " + count + " points");
+        Vector3f v = new Vector3f();
+        for (int i = 0; i < count; i++) {
+            noiseWithGradient(x[i], y[i], v);
+            value[i] = v.z;
+            gradX[i] = v.x;
+            gradY[i] = v.y;
+        }
+    }
+
+    /**
+     * Compute {@link #noiseWithGradient(float, float, float, Vector4f) 3D noise and its gradient} for the first <code>count</code>
+     * points <code>(x[i], y[i], z[i])</code> and store the noise values in <code>value</code> and the partial derivatives in
+     * <code>gradX</code>, <code>gradY</code> and <code>gradZ</code>.
+     * 
+     * @param x
+     *          the x coordinates
+     * @param y
+     *          the y coordinates
+     * @param z
+     *          the z coordinates
+     * @param count
+     *          the number of points
+     * @param value
+     *          will hold the noise values
+     * @param gradX
+     *          will hold the partial derivatives along x
+     * @param gradY
+     *          will hold the partial derivatives along y
+     * @param gradZ
+     *          will hold the partial derivatives along z
+     */
+    public static void noiseWithGradient(float[] x, float[] y, float[] z, int count, float[] value, float[] gradX, float[] gradY, float[] gradZ) {
+        if (count < 0 || x.length < count || y.length < count || z.length < count || value.length < count
+                || gradX.length < count || gradY.length < count || gradZ.length < count)
+            throw new IllegalArgumentException("arrays are too small for " + count + " points");
+        Vector4f v = new Vector4f();
+        for (int i = 0; i < count; i++) {
+            noiseWithGradient(x[i], y[i], z[i], v);
+            value[i] = v.w;
+            gradX[i] = v.x;
+            gradY[i] = v.y;
+            gradZ[i] = v.z;
+        }
+    }
+
+    /*
+     * The contribution of a corner at the offset d with the falloff t = r^2 - |d|^2 and the gradient g is t^4 (g . d),
+     * so its derivative is t^4 g - 8 t^3 (g . d) d. These add the unscaled derivative to dest and return the unscaled
+     * contribution, computed the same way as in noise().
+     */
+    private static float corner(float t, Vector3b g, float x, float y, Vector3f dest) {
+        if (t < 0.0f)
+            return 0.0f;
+        float t2 = t * t, t4 = t2 * t2;
+        float d = dot(g, x, y);
+        float f = -8.0f * t2 * t * d;
+        dest.x += t4 * g.x + f * x;
+        dest.y += t4 * g.y + f * y;
+        return t4 * d;
+    }
+    private static float corner(float t, Vector3b g, float x, float y, float z, Vector4f dest) {
+        if (t < 0.0f)
+            return 0.0f;
+        float t2 = t * t, t4 = t2 * t2;
+        float d = dot(g, x, y, z);
+        float f = -8.0f * t2 * t * d;
+        dest.x += t4 * g.x + f * x;
+        dest.y += t4 * g.y + f * y;
+        dest.z += t4 * g.z + f * z;
+        return t4 * d;
+    }
+
+    /**
+     * Compute fractal Brownian motion (fBm) noise for the given input vector <code>(x, y)</code> by summing
+     * <code>octaves</code> layers of {@link #noise(float, float) 2D noise}.
+     * <p>
+     * The octave <code>o</code> samples the noise at <code>(x, y) * lacunarity<sup>o</sup></code> and weights it with
+     * <code>gain<sup>o</sup></code>. The weighted sum is divided by the sum of the weights, so that the result is in the
+     * range <code>[-1..+1]</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves, typically <code>2.0</code>
+     * @param gain
+     *          the amplitude multiplier between successive octaves, typically <code>0.5</code>
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public static float fbm(float x, float y, int octaves, float lacunarity, float gain) {
+        float amplitudeSum = amplitudeSum(octaves, gain);
+        float sum = 0.0f, frequency = 1.0f, amplitude = 1.0f;
+        for (int o = 0; o < octaves; o++) {
+            sum += amplitude * noise(x * frequency, y * frequency);
+            frequency *= lacunarity;
+            amplitude *= gain;
+        }
+        return sum / amplitudeSum;
+    }
+
+    /**
+     * Compute fractal Brownian motion (fBm) noise for the given input vector <code>(x, y, z)</code> by summing
+     * <code>octaves</code> layers of {@link #noise(float, float, float) 3D noise}.
+     * <p>
+     * The octave <code>o</code> samples the noise at <code>(x, y, z) * lacunarity<sup>o</sup></code> and weights it with
+     * <code>gain<sup>o</sup></code>. The weighted sum is divided by the sum of the weights, so that the result is in the
+     * range <code>[-1..+1]</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves, typically <code>2.0</code>
+     * @param gain
+     *          the amplitude multiplier between successive octaves, typically <code>0.5</code>
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public static float fbm(float x, float y, float z, int octaves, float lacunarity, float gain) {
+        float amplitudeSum = amplitudeSum(octaves, gain);
+        float sum = 0.0f, frequency = 1.0f, amplitude = 1.0f;
+        for (int o = 0; o < octaves; o++) {
+            sum += amplitude * noise(x * frequency, y * frequency, z * frequency);
+            frequency *= lacunarity;
+            amplitude *= gain;
+        }
+        return sum / amplitudeSum;
+    }
+
+    /**
+     * Compute ridged multifractal noise for the given input vector <code>(x, y)</code>.
+     * <p>
+     * This works like {@link #fbm(float, float, int, float, float) fbm()}, except that each octave contributes
+     * <code>(1 - |noise|)<sup>2</sup></code>, which turns the zero crossings of the noise into sharp ridges.
+     * The result is in the range <code>[0..1]</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves, typically <code>2.0</code>
+     * @param gain
+     *          the amplitude multiplier between successive octaves, typically <code>0.5</code>
+     * @return the noise value (within <code>[0..1]</code>)
+     */
+    public static float ridged(float x, float y, int octaves, float lacunarity, float gain) {
+        float amplitudeSum = amplitudeSum(octaves, gain);
+        float sum = 0.0f, frequency = 1.0f, amplitude = 1.0f;
+        for (int o = 0; o < octaves; o++) {
+            float v = 1.0f - Math.abs(noise(x * frequency, y * frequency));
+            sum += amplitude * (v * v);
+            frequency *= lacunarity;
+            amplitude *= gain;
+        }
+        return sum / amplitudeSum;
+    }
+
+    /**
+     * Compute ridged multifractal noise for the given input vector <code>(x, y, z)</code>.
+     * <p>
+     * This works like {@link #fbm(float, float, float, int, float, float) fbm()}, except that each octave contributes
+     * <code>(1 - |noise|)<sup>2</sup></code>, which turns the zero crossings of the noise into sharp ridges.
+     * The result is in the range <code>[0..1]</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves, typically <code>2.0</code>
+     * @param gain
+     *          the amplitude multiplier between successive octaves, typically <code>0.5</code>
+     * @return the noise value (within <code>[0..1]</code>)
+     */
+    public static float ridged(float x, float y, float z, int octaves, float lacunarity, float gain) {
+        float amplitudeSum = amplitudeSum(octaves, gain);
+        float sum = 0.0f, frequency = 1.0f, amplitude = 1.0f;
+        for (int o = 0; o < octaves; o++) {
+            float v = 1.0f - Math.abs(noise(x * frequency, y * frequency, z * frequency));
+            sum += amplitude * (v * v);
+            frequency *= lacunarity;
+            amplitude *= gain;
+        }
+        return sum / amplitudeSum;
+    }
+
+    /**
+     * Evaluate {@link #noise(float, float) 2D noise} on a 2D grid of samples and store them in <code>dest</code>.
+     * <p>
+     * The sample <code>(i, j)</code> is taken at <code>(x0 + i * dx, y0 + j * dy)</code> and stored at index <code>j * nx + i</code>, so the result
+     * is the same as evaluating each sample individually.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param dest
+     *          will hold the <code>nx * ny</code> samples
+     * @return dest
+     */
+    public static float[] noiseGrid(float x0, float y0, float dx, float dy, int nx, int ny, float[] dest) {
+        return grid(false, x0, y0, 0.0f, dx, dy, 0.0f, nx, ny, 1, 0, 0.0f, 0.0f, false, dest);
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Evaluate {@link #noise(float, float) 2D noise} on a 2D grid of samples and store them in <code>dest</code>.
+     * <p>
+     * The sample <code>(i, j)</code> is taken at <code>(x0 + i * dx, y0 + j * dy)</code> and stored at the index <code>dest.position()</code> plus <code>j * nx + i</code>, so the result
+     * is the same as evaluating each sample individually.
+     * <p>
+     * This method will not increment the position of the given FloatBuffer.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param dest
+     *          will hold the <code>nx * ny</code> samples
+     * @return dest
+     */
+    public static FloatBuffer noiseGrid(float x0, float y0, float dx, float dy, int nx, int ny, FloatBuffer dest) {
+        return grid(false, x0, y0, 0.0f, dx, dy, 0.0f, nx, ny, 1, 0, 0.0f, 0.0f, false, dest);
+    }
+//#endif
+
+    /**
+     * Evaluate {@link #noise(float, float, float) 3D noise} on a 3D grid of samples and store them in <code>dest</code>.
+     * <p>
+     * The sample <code>(i, j, k)</code> is taken at <code>(x0 + i * dx, y0 + j * dy, z0 + k * dz)</code> and stored at index <code>(k * ny + j) * nx + i</code>, so the result
+     * is the same as evaluating each sample individually.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param z0
+     *          the z coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param dz
+     *          the distance between samples along z
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param nz
+     *          the number of samples along z
+     * @param dest
+     *          will hold the <code>nx * ny * nz</code> samples
+     * @return dest
+     */
+    public static float[] noiseGrid(float x0, float y0, float z0, float dx, float dy, float dz, int nx, int ny, int nz, float[] dest) {
+        return grid(true, x0, y0, z0, dx, dy, dz, nx, ny, nz, 0, 0.0f, 0.0f, false, dest);
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Evaluate {@link #noise(float, float, float) 3D noise} on a 3D grid of samples and store them in <code>dest</code>.
+     * <p>
+     * The sample <code>(i, j, k)</code> is taken at <code>(x0 + i * dx, y0 + j * dy, z0 + k * dz)</code> and stored at the index <code>dest.position()</code> plus <code>(k * ny + j) * nx + i</code>, so the result
+     * is the same as evaluating each sample individually.
+     * <p>
+     * This method will not increment the position of the given FloatBuffer.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param z0
+     *          the z coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param dz
+     *          the distance between samples along z
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param nz
+     *          the number of samples along z
+     * @param dest
+     *          will hold the <code>nx * ny * nz</code> samples
+     * @return dest
+     */
+    public static FloatBuffer noiseGrid(float x0, float y0, float z0, float dx, float dy, float dz, int nx, int ny, int nz, FloatBuffer dest) {
+        return grid(true, x0, y0, z0, dx, dy, dz, nx, ny, nz, 0, 0.0f, 0.0f, false, dest);
+    }
+//#endif
+
+    /**
+     * Evaluate {@link #fbm(float, float, int, float, float) 2D fBm noise} on a 2D grid of samples and store them in <code>dest</code>.
+     * <p>
+     * The sample <code>(i, j)</code> is taken at <code>(x0 + i * dx, y0 + j * dy)</code> and stored at index <code>j * nx + i</code>, so the result
+     * is the same as evaluating each sample individually.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves
+     * @param gain
+     *          the amplitude multiplier between successive octaves
+     * @param dest
+     *          will hold the <code>nx * ny</code> samples
+     * @return dest
+     */
+    public static float[] fbmGrid(float x0, float y0, float dx, float dy, int nx, int ny, int octaves, float lacunarity, float gain, float[] dest) {
+        return grid(false, x0, y0, 0.0f, dx, dy, 0.0f, nx, ny, 1, octaves, lacunarity, gain, false, dest);
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Evaluate {@link #fbm(float, float, int, float, float) 2D fBm noise} on a 2D grid of samples and store them in <code>dest</code>.
+     * <p>
+     * The sample <code>(i, j)</code> is taken at <code>(x0 + i * dx, y0 + j * dy)</code> and stored at the index <code>dest.position()</code> plus <code>j * nx + i</code>, so the result
+     * is the same as evaluating each sample individually.
+     * <p>
+     * This method will not increment the position of the given FloatBuffer.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves
+     * @param gain
+     *          the amplitude multiplier between successive octaves
+     * @param dest
+     *          will hold the <code>nx * ny</code> samples
+     * @return dest
+     */
+    public static FloatBuffer fbmGrid(float x0, float y0, float dx, float dy, int nx, int ny, int octaves, float lacunarity, float gain, FloatBuffer dest) {
+        return grid(false, x0, y0, 0.0f, dx, dy, 0.0f, nx, ny, 1, octaves, lacunarity, gain, false, dest);
+    }
+//#endif
+
+    /**
+     * Evaluate {@link #fbm(float, float, float, int, float, float) 3D fBm noise} on a 3D grid of samples and store them in <code>dest</code>.
+     * <p>
+     * The sample <code>(i, j, k)</code> is taken at <code>(x0 + i * dx, y0 + j * dy, z0 + k * dz)</code> and stored at index <code>(k * ny + j) * nx + i</code>, so the result
+     * is the same as evaluating each sample individually.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param z0
+     *          the z coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param dz
+     *          the distance between samples along z
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param nz
+     *          the number of samples along z
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves
+     * @param gain
+     *          the amplitude multiplier between successive octaves
+     * @param dest
+     *          will hold the <code>nx * ny * nz</code> samples
+     * @return dest
+     */
+    public static float[] fbmGrid(float x0, float y0, float z0, float dx, float dy, float dz, int nx, int ny, int nz, int octaves, float lacunarity, float gain, float[] dest) {
+        return grid(true, x0, y0, z0, dx, dy, dz, nx, ny, nz, octaves, lacunarity, gain, false, dest);
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Evaluate {@link #fbm(float, float, float, int, float, float) 3D fBm noise} on a 3D grid of samples and store them in <code>dest</code>.
+     * <p>
+     * The sample <code>(i, j, k)</code> is taken at <code>(x0 + i * dx, y0 + j * dy, z0 + k * dz)</code> and stored at the index <code>dest.position()</code> plus <code>(k * ny + j) * nx + i</code>, so the result
+     * is the same as evaluating each sample individually.
+     * <p>
+     * This method will not increment the position of the given FloatBuffer.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param z0
+     *          the z coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param dz
+     *          the distance between samples along z
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param nz
+     *          the number of samples along z
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves
+     * @param gain
+     *          the amplitude multiplier between successive octaves
+     * @param dest
+     *          will hold the <code>nx * ny * nz</code> samples
+     * @return dest
+     */
+    public static FloatBuffer fbmGrid(float x0, float y0, float z0, float dx, float dy, float dz, int nx, int ny, int nz, int octaves, float lacunarity, float gain, FloatBuffer dest) {
+        return grid(true, x0, y0, z0, dx, dy, dz, nx, ny, nz, octaves, lacunarity, gain, false, dest);
+    }
+//#endif
+
+    /**
+     * Evaluate {@link #ridged(float, float, int, float, float) 2D ridged noise} on a 2D grid of samples and store them in <code>dest</code>.
+     * <p>
+     * The sample <code>(i, j)</code> is taken at <code>(x0 + i * dx, y0 + j * dy)</code> and stored at index <code>j * nx + i</code>, so the result
+     * is the same as evaluating each sample individually.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves
+     * @param gain
+     *          the amplitude multiplier between successive octaves
+     * @param dest
+     *          will hold the <code>nx * ny</code> samples
+     * @return dest
+     */
+    public static float[] ridgedGrid(float x0, float y0, float dx, float dy, int nx, int ny, int octaves, float lacunarity, float gain, float[] dest) {
+        return grid(false, x0, y0, 0.0f, dx, dy, 0.0f, nx, ny, 1, octaves, lacunarity, gain, true, dest);
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Evaluate {@link #ridged(float, float, int, float, float) 2D ridged noise} on a 2D grid of samples and store them in <code>dest</code>.
+     * <p>
+     * The sample <code>(i, j)</code> is taken at <code>(x0 + i * dx, y0 + j * dy)</code> and stored at the index <code>dest.position()</code> plus <code>j * nx + i</code>, so the result
+     * is the same as evaluating each sample individually.
+     * <p>
+     * This method will not increment the position of the given FloatBuffer.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves
+     * @param gain
+     *          the amplitude multiplier between successive octaves
+     * @param dest
+     *          will hold the <code>nx * ny</code> samples
+     * @return dest
+     */
+    public static FloatBuffer ridgedGrid(float x0, float y0, float dx, float dy, int nx, int ny, int octaves, float lacunarity, float gain, FloatBuffer dest) {
+        return grid(false, x0, y0, 0.0f, dx, dy, 0.0f, nx, ny, 1, octaves, lacunarity, gain, true, dest);
+    }
+//#endif
+
+    /**
+     * Evaluate {@link #ridged(float, float, float, int, float, float) 3D ridged noise} on a 3D grid of samples and store them in <code>dest</code>.
+     * <p>
+     * The sample <code>(i, j, k)</code> is taken at <code>(x0 + i * dx, y0 + j * dy, z0 + k * dz)</code> and stored at index <code>(k * ny + j) * nx + i</code>, so the result
+     * is the same as evaluating each sample individually.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param z0
+     *          the z coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param dz
+     *          the distance between samples along z
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param nz
+     *          the number of samples along z
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves
+     * @param gain
+     *          the amplitude multiplier between successive octaves
+     * @param dest
+     *          will hold the <code>nx * ny * nz</code> samples
+     * @return dest
+     */
+    public static float[] ridgedGrid(float x0, float y0, float z0, float dx, float dy, float dz, int nx, int ny, int nz, int octaves, float lacunarity, float gain, float[] dest) {
+        return grid(true, x0, y0, z0, dx, dy, dz, nx, ny, nz, octaves, lacunarity, gain, true, dest);
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Evaluate {@link #ridged(float, float, float, int, float, float) 3D ridged noise} on a 3D grid of samples and store them in <code>dest</code>.
+     * <p>
+     * The sample <code>(i, j, k)</code> is taken at <code>(x0 + i * dx, y0 + j * dy, z0 + k * dz)</code> and stored at the index <code>dest.position()</code> plus <code>(k * ny + j) * nx + i</code>, so the result
+     * is the same as evaluating each sample individually.
+     * <p>
+     * This method will not increment the position of the given FloatBuffer.
+     * 
+     * @param x0
+     *          the x coordinate of the first sample
+     * @param y0
+     *          the y coordinate of the first sample
+     * @param z0
+     *          the z coordinate of the first sample
+     * @param dx
+     *          the distance between samples along x
+     * @param dy
+     *          the distance between samples along y
+     * @param dz
+     *          the distance between samples along z
+     * @param nx
+     *          the number of samples along x
+     * @param ny
+     *          the number of samples along y
+     * @param nz
+     *          the number of samples along z
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the frequency multiplier between successive octaves
+     * @param gain
+     *          the amplitude multiplier between successive octaves
+     * @param dest
+     *          will hold the <code>nx * ny * nz</code> samples
+     * @return dest
+     */
+    public static FloatBuffer ridgedGrid(float x0, float y0, float z0, float dx, float dy, float dz, int nx, int ny, int nz, int octaves, float lacunarity, float gain, FloatBuffer dest) {
+        return grid(true, x0, y0, z0, dx, dy, dz, nx, ny, nz, octaves, lacunarity, gain, true, dest);
+    }
+//#endif
+
+    /*
+     * Grid evaluation
+     */
+
+    // Per-thread row buffer of the grid methods, so that evaluating a grid does not allocate
+    private static final ThreadLocal SCRATCH = new ThreadLocal();
+
+//#ifdef __HAS_VECTOR_API__
+    // The permutation tables widened to int for the gathers of the vector kernels
+    static final int[] permInts = new int[512];
+    static final int[] permMod12Ints = new int[512];
+    static {
+        widenTables(perm, permMod12, permInts, permMod12Ints);
+    }
+
+    static void widenTables(byte[] perm, byte[] permMod12, int[] permInts, int[] permMod12Ints) {
+        for (int i = 0; i < 512; i++) {
+            permInts[i] = perm[i] & 0xFF;
+            permMod12Ints[i] = permMod12[i];
+        }
+    }
+//#endif
+
+    /**
+     * Compute noise for <code>n</code> samples at <code>((x0 + (c0 + c) * dx) * scale, y[, z])</code> for <code>c</code> in
+     * <code>[0..n)</code> and store them at <code>dest[off + c]</code>.
+     * <p>
+     * The samples are taken from <code>seeded</code>, or from this class when it is <code>null</code>.
+     */
+    private static void noiseRow(SeededSimplexNoise seeded, boolean is3d, float x0, float dx, int c0, float scale, float y, float z,
+            int n, float[] dest, int off) {
+        byte[] permTable = seeded != null ? seeded.perm : perm;
+        byte[] permMod12Table = seeded != null ? seeded.permMod12 : permMod12;
+        int c = 0;
+//#ifdef __HAS_VECTOR_API__
+        if (VectorApiCode.canUseVectorApi)
+            c = VectorApiCode.__SimplexNoise_noiseRow(seeded != null ? seeded.permInts : permInts,
+                    seeded != null ? seeded.permMod12Ints : permMod12Ints, is3d, x0, dx, c0, scale, y, z, n, dest, off);
+//#endif
+        if (is3d) {
+            for (; c < n; c++)
+                dest[off + c] = noise(permTable, permMod12Table, (x0 + (c0 + c) * dx) * scale, y, z);
+        } else {
+            for (; c < n; c++)
+                dest[off + c] = noise(permTable, permMod12Table, (x0 + (c0 + c) * dx) * scale, y);
+        }
+    }
+
+    /**
+     * Compute the samples <code>[c0..c0+n)</code> of the grid row at <code>(y, z)</code> (<code>is3d == false</code> for 2D)
+     * and store them at <code>dest[off..off+n)</code>.
+     * <p>
+     * With <code>octaves == 0</code> this is plain noise. Otherwise it is the fBm or ridged sum of the given number of
+     * octaves divided by <code>amplitudeSum</code>, and <code>tmp</code> must hold at least <code>n</code> elements from <code>tmpOff</code>.
+     * The samples are taken from <code>seeded</code>, or from this class when it is <code>null</code>.
+     */
+    static void gridRow(SeededSimplexNoise seeded, boolean is3d, float x0, float dx, int c0, int n, float y, float z,
+            int octaves, float lacunarity, float gain, boolean ridged, float amplitudeSum, float[] dest, int off, float[] tmp, int tmpOff) {
+        if (octaves == 0) {
+            noiseRow(seeded, is3d, x0, dx, c0, 1.0f, y, z, n, dest, off);
+            return;
+        }
+        for (int c = 0; c < n; c++)
+            dest[off + c] = 0.0f;
+        float frequency = 1.0f, amplitude = 1.0f;
+        for (int o = 0; o < octaves; o++) {
+            noiseRow(seeded, is3d, x0, dx, c0, frequency, y * frequency, z * frequency, n, tmp, tmpOff);
+            if (ridged) {
+                for (int c = 0; c < n; c++) {
+                    float v = 1.0f - Math.abs(tmp[tmpOff + c]);
+                    dest[off + c] += amplitude * (v * v);
+                }
+            } else {
+                for (int c = 0; c < n; c++)
+                    dest[off + c] += amplitude * tmp[tmpOff + c];
+            }
+            frequency *= lacunarity;
+            amplitude *= gain;
+        }
+        for (int c = 0; c < n; c++)
+            dest[off + c] = dest[off + c] / amplitudeSum;
+    }
+
+    /**
+     * Return a per-thread array of at least the given length. Its contents are undefined, and it must not be
+     * held on to after the calling method returns.
+     */
+    static float[] scratch(int length) {
+        float[] scratch = (float[]) SCRATCH.get();
+        if (scratch == null || scratch.length < length) {
+            scratch = new float[length];
+            SCRATCH.set(scratch);
+        }
+        return scratch;
+    }
+
+    static float amplitudeSum(int octaves, float gain) {
+        if (octaves < 1)
+            throw new IllegalArgumentException("octaves must be at least 1");
+        float sum = 0.0f, amplitude = 1.0f;
+        for (int o = 0; o < octaves; o++) {
+            sum += amplitude;
+            amplitude *= gain;
+        }
+        return sum;
+    }
+
+    private static float[] grid(boolean is3d, float x0, float y0, float z0, float dx, float dy, float dz, int nx, int ny, int nz,
+            int octaves, float lacunarity, float gain, boolean ridged, float[] dest) {
+        checkGrid(nx, ny, nz);
+        float amplitudeSum = octaves == 0 ? 1.0f : amplitudeSum(octaves, gain);
+        float[] tmp = octaves == 0 ? null : scratch(nx);
+        for (int k = 0, r = 0; k < nz; k++)
+            for (int j = 0; j < ny; j++, r++)
+                gridRow(null, is3d, x0, dx, 0, nx, y0 + j * dy, z0 + k * dz, octaves, lacunarity, gain, ridged, amplitudeSum, dest, r * nx, tmp, 0);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    private static FloatBuffer grid(boolean is3d, float x0, float y0, float z0, float dx, float dy, float dz, int nx, int ny, int nz,
+            int octaves, float lacunarity, float gain, boolean ridged, FloatBuffer dest) {
+        checkGrid(nx, ny, nz);
+        float amplitudeSum = octaves == 0 ? 1.0f : amplitudeSum(octaves, gain);
+        // the row is computed into [0, nx) and the octaves into [nx, 2 * nx)
+        float[] row = scratch(octaves == 0 ? nx : 2 * nx);
+        int pos = dest.position();
+        for (int k = 0, r = 0; k < nz; k++)
+            for (int j = 0; j < ny; j++, r++) {
+                gridRow(null, is3d, x0, dx, 0, nx, y0 + j * dy, z0 + k * dz, octaves, lacunarity, gain, ridged, amplitudeSum, row, 0, row, nx);
+                for (int c = 0, i = pos + r * nx; c < nx; c++, i++)
+                    dest.put(i, row[c]);
+            }
+        return dest;
+    }
+//#endif
+
+    private static void checkGrid(int nx, int ny, int nz) {
+        if (nx < 0 || ny < 0 || nz < 0)
+            throw new IllegalArgumentException("grid dimensions must not be negative");
+    }
+
 }
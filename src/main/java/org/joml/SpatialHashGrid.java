@@ -0,0 +1,297 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * Uniform grid of cubic cells over a set of points, stored in a hash table so that only occupied cells use memory,
+ * to quickly find all points within a given distance of a position or within an axis-aligned box.
+ * <p>
+ * The cell of a point is the integer vector obtained by dividing its coordinates by the cell size and rounding down,
+ * like {@link Vector3i#Vector3i(float, float, float, int) new Vector3i(x / cellSize, y / cellSize, z / cellSize, RoundingMode.FLOOR)}.
+ * The three cell coordinates are packed into a single <code>long</code> key with 21 bits per coordinate and mapped to
+ * the cell's range in an array of all points sorted by cell, using an open-addressing hash table without boxing.
+ * <p>
+ * The grid is meant to be {@link #build(float[], int) rebuilt} whenever the points move, such as once per simulation step.
+ * A rebuild is a counting sort of the points by cell, which takes linear time and does not allocate once the internal
+ * arrays have reached the number of points. Queries do not allocate either and write the indices of the found points
+ * into a caller-supplied array.
+ * <p>
+ * Choosing a cell size close to the typical query radius gives the best performance.
+ * <p>
+ * This class is not thread-safe when building, but concurrent queries on a grid that is not being rebuilt are safe.
+ */
+public class SpatialHashGrid {
+
+    private static final int MISSING = -1;
+
+    private final float cellSize;
+    private final float invCellSize;
+    private final LongIntHashMap cells = new LongIntHashMap(64);
+
+    /* start of the range of each cell in the sorted arrays, with one extra element for the end of the last cell */
+    private int[] cellStart = new int[17];
+    /* cell of each point in input order */
+    private int[] pointCell = new int[16];
+    /* the points sorted by cell and their indices in the array given to build() */
+    private float[] sorted = new float[48];
+    private int[] indices = new int[16];
+    private int count;
+    private int cellCount;
+
+    /**
+     * Create a new empty {@link SpatialHashGrid} with the given cell size.
+     * 
+     * @param cellSize
+     *          the edge length of each cubic cell
+     */
+    public SpatialHashGrid(float cellSize) {
+        if (!(cellSize > 0.0f))
+            throw new IllegalArgumentException("cellSize must be positive");
+        this.cellSize = cellSize;
+        this.invCellSize = 1.0f / cellSize;
+    }
+
+    /**
+     * @return the edge length of each cell
+     */
+    public float cellSize() {
+        return cellSize;
+    }
+
+    /**
+     * @return the number of points in the grid
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return the number of cells containing at least one point
+     */
+    public int cellCount() {
+        return cellCount;
+    }
+
+    /**
+     * Compute the coordinates of the cell containing the point <code>(x, y, z)</code> and store them in <code>dest</code>.
+     * 
+     * @param x
+     *          the x coordinate of the point
+     * @param y
+     *          the y coordinate of the point
+     * @param z
+     *          the z coordinate of the point
+     * @param dest
+     *          will hold the cell coordinates
+     * @return dest
+     */
+    public Vector3i cell(float x, float y, float z, Vector3i dest) {
+        return dest.set(cell(x), cell(y), cell(z));
+    }
+
+    private int cell(float v) {
+        return Math.roundUsing(v * invCellSize, RoundingMode.FLOOR);
+    }
+
+    private static long key(int x, int y, int z) {
+        return (x & 0x1FFFFFL) << 42 | (y & 0x1FFFFFL) << 21 | z & 0x1FFFFFL;
+    }
+
+    /**
+     * Replace all points of this grid with the first <code>count</code> points of the given array.
+     * <p>
+     * The point <code>i</code> has the coordinates <code>(positions[3*i], positions[3*i+1], positions[3*i+2])</code>
+     * and is reported by the queries with the index <code>i</code>. The coordinates are copied, so later changes of the
+     * array have no effect until the next rebuild.
+     * 
+     * @param positions
+     *          the point coordinates as consecutive <code>(x, y, z)</code> triples
+     * @param count
+     *          the number of points
+     */
+    public void build(float[] positions, int count) {
+        if (count < 0 || 3 * count > positions.length)
+            throw new IllegalArgumentException("count");
+        if (pointCell.length < count) {
+            int capacity = java.lang.Math.max(count, pointCell.length << 1);
+            pointCell = new int[capacity];
+            indices = new int[capacity];
+            sorted = new float[3 * capacity];
+        }
+        cells.clear();
+        int numCells = 0;
+        /* Assign each point to a cell and count the points per cell */
+        for (int i = 0; i < count; i++) {
+            long key = key(cell(positions[3 * i]), cell(positions[3 * i + 1]), cell(positions[3 * i + 2]));
+            int c = cells.get(key, MISSING);
+            if (c == MISSING) {
+                c = numCells++;
+                cells.put(key, c, MISSING);
+                if (c + 1 >= cellStart.length) {
+                    int[] newCellStart = new int[cellStart.length << 1];
+                    System.arraycopy(cellStart, 0, newCellStart, 0, c);
+                    cellStart = newCellStart;
+                }
+                cellStart[c] = 0;
+            }
+            pointCell[i] = c;
+            cellStart[c]++;
+        }
+        /* Exclusive prefix sum, giving the start of each cell */
+        int sum = 0;
+        for (int c = 0; c < numCells; c++) {
+            int n = cellStart[c];
+            cellStart[c] = sum;
+            sum += n;
+        }
+        cellStart[numCells] = sum;
+        for (int i = 0; i < count; i++) {
+            int s = cellStart[pointCell[i]]++;
+            indices[s] = i;
+            sorted[3 * s] = positions[3 * i];
+            sorted[3 * s + 1] = positions[3 * i + 1];
+            sorted[3 * s + 2] = positions[3 * i + 2];
+        }
+        /* The scatter advanced each start to the start of the next cell, so shift back by one */
+        for (int c = numCells; c > 0; c--)
+            cellStart[c] = cellStart[c - 1];
+        cellStart[0] = 0;
+        this.count = count;
+        this.cellCount = numCells;
+    }
+
+    /**
+     * Find all points whose distance to <code>(x, y, z)</code> is at most <code>radius</code> and store their indices in <code>dest</code>.
+     * <p>
+     * Cells are only visited when their bounds intersect the sphere according to
+     * {@link Intersectionf#testAabSphere(float, float, float, float, float, float, float, float, float, float)}.
+     * <p>
+     * If more points are found than fit into <code>dest</code>, only the first <code>dest.length</code> indices are stored,
+     * but the returned count still includes all found points.
+     * 
+     * @param x
+     *          the x coordinate of the sphere's center
+     * @param y
+     *          the y coordinate of the sphere's center
+     * @param z
+     *          the z coordinate of the sphere's center
+     * @param radius
+     *          the radius of the sphere
+     * @param dest
+     *          will hold the indices of the found points in no particular order
+     * @return the number of found points
+     */
+    public int queryRadius(float x, float y, float z, float radius, int[] dest) {
+        float radiusSquared = radius * radius;
+        int minX = cell(x - radius), minY = cell(y - radius), minZ = cell(z - radius);
+        int maxX = cell(x + radius), maxY = cell(y + radius), maxZ = cell(z + radius);
+        int found = 0;
+        if ((long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1) > cellCount) {
+            /* Visiting all cells in the range would be more work than testing all points */
+            for (int i = 0; i < count; i++)
+                found = testPoint(i, x, y, z, radiusSquared, dest, found);
+            return found;
+        }
+        /* Slightly enlarged cell bounds, so that rounding never rejects a cell containing a point on the sphere */
+        float pad = (Math.abs(x) + Math.abs(y) + Math.abs(z) + radius + cellSize) * 1E-6f, size = cellSize + 2.0f * pad;
+        for (int cz = minZ; cz <= maxZ; cz++) {
+            float z0 = cz * cellSize - pad;
+            for (int cy = minY; cy <= maxY; cy++) {
+                float y0 = cy * cellSize - pad;
+                for (int cx = minX; cx <= maxX; cx++) {
+                    float x0 = cx * cellSize - pad;
+                    if (!Intersectionf.testAabSphere(x0, y0, z0, x0 + size, y0 + size, z0 + size, x, y, z, radiusSquared))
+                        continue;
+                    int c = cells.get(key(cx, cy, cz), MISSING);
+                    if (c == MISSING)
+                        continue;
+                    for (int i = cellStart[c], end = cellStart[c + 1]; i < end; i++)
+                        found = testPoint(i, x, y, z, radiusSquared, dest, found);
+                }
+            }
+        }
+        return found;
+    }
+    private int testPoint(int i, float x, float y, float z, float radiusSquared, int[] dest, int found) {
+        float dx = sorted[3 * i] - x, dy = sorted[3 * i + 1] - y, dz = sorted[3 * i + 2] - z;
+        if (dx * dx + dy * dy + dz * dz > radiusSquared)
+            return found;
+        if (found < dest.length)
+            dest[found] = indices[i];
+        return found + 1;
+    }
+
+    /**
+     * Find all points within the axis-aligned box given as its minimum corner <code>(minX, minY, minZ)</code> and maximum
+     * corner <code>(maxX, maxY, maxZ)</code> and store their indices in <code>dest</code>.
+     * <p>
+     * If more points are found than fit into <code>dest</code>, only the first <code>dest.length</code> indices are stored,
+     * but the returned count still includes all found points.
+     * 
+     * @param minX
+     *          the x coordinate of the minimum corner
+     * @param minY
+     *          the y coordinate of the minimum corner
+     * @param minZ
+     *          the z coordinate of the minimum corner
+     * @param maxX
+     *          the x coordinate of the maximum corner
+     * @param maxY
+     *          the y coordinate of the maximum corner
+     * @param maxZ
+     *          the z coordinate of the maximum corner
+     * @param dest
+     *          will hold the indices of the found points in no particular order
+     * @return the number of found points
+     */
+    public int queryAab(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, int[] dest) {
+        int cMinX = cell(minX), cMinY = cell(minY), cMinZ = cell(minZ);
+        int cMaxX = cell(maxX), cMaxY = cell(maxY), cMaxZ = cell(maxZ);
+        int found = 0;
+        if ((long) (cMaxX - cMinX + 1) * (cMaxY - cMinY + 1) * (cMaxZ - cMinZ + 1) > cellCount) {
+            for (int i = 0; i < count; i++)
+                found = testPoint(i, minX, minY, minZ, maxX, maxY, maxZ, dest, found);
+            return found;
+        }
+        for (int cz = cMinZ; cz <= cMaxZ; cz++)
+            for (int cy = cMinY; cy <= cMaxY; cy++)
+                for (int cx = cMinX; cx <= cMaxX; cx++) {
+                    int c = cells.get(key(cx, cy, cz), MISSING);
+                    if (c == MISSING)
+                        continue;
+                    for (int i = cellStart[c], end = cellStart[c + 1]; i < end; i++)
+                        found = testPoint(i, minX, minY, minZ, maxX, maxY, maxZ, dest, found);
+                }
+        return found;
+    }
+    private int testPoint(int i, float minX, float minY, float minZ, float maxX, float maxY, float maxZ, int[] dest, int found) {
+        float x = sorted[3 * i], y = sorted[3 * i + 1], z = sorted[3 * i + 2];
+        if (x < minX || y < minY || z < minZ || x > maxX || y > maxY || z > maxZ)
+            return found;
+        if (found < dest.length)
+            dest[found] = indices[i];
+        return found + 1;
+    }
+
+}
@@ -0,0 +1,380 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * Sweep-and-prune broadphase which reports when the axis-aligned boxes of pairs of objects begin and end to overlap.
+ * <p>
+ * The minimum and maximum coordinates of all boxes are kept in sorted endpoint arrays along the x axis, or along all three
+ * axes. Each {@link #update(PairCallback) update} re-sorts these arrays with an insertion sort. Because objects usually
+ * move only a little between two updates, the arrays are almost sorted and the sort only performs the few swaps
+ * between endpoints that actually changed their order. A minimum endpoint moving below the maximum endpoint of
+ * another box makes that pair a candidate, and a maximum endpoint moving below the minimum endpoint of another
+ * box removes it. The candidates are then verified with
+ * {@link Intersectionf#testAabAab(float, float, float, float, float, float, float, float, float, float, float, float)},
+ * so an update takes time proportional to the number of boxes plus the number of candidate pairs.
+ * <p>
+ * Sorting along all three axes keeps the set of candidates equal to the set of overlapping pairs and is preferable
+ * when many boxes share the same range on the x axis. Sorting along the x axis only is cheaper when boxes are spread
+ * along that axis.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class SweepAndPrune {
+
+    /**
+     * Callback notified about pairs of proxies whose boxes begin or end to overlap.
+     */
+    public interface PairCallback {
+        /**
+         * Will be called when the boxes of the two given proxies overlap and did not overlap at the previous update.
+         * 
+         * @param proxyA
+         *          the identifier of the proxy with the smaller identifier
+         * @param proxyB
+         *          the identifier of the proxy with the larger identifier
+         */
+        void beginOverlap(int proxyA, int proxyB);
+
+        /**
+         * Will be called when the boxes of the two given proxies overlapped at the previous update and do not overlap anymore,
+         * or when one of the proxies was removed.
+         * 
+         * @param proxyA
+         *          the identifier of the proxy with the smaller identifier
+         * @param proxyB
+         *          the identifier of the proxy with the larger identifier
+         */
+        void endOverlap(int proxyA, int proxyB);
+    }
+
+    private static final int FREE = 0;
+    private static final int ACTIVE = 1;
+    private static final int REMOVED = 2;
+
+    private final int axes;
+
+    /* minX, minY, minZ, maxX, maxY, maxZ of each proxy */
+    private float[] boxes;
+    private int[] state;
+    /* next free proxy for free proxies */
+    private int[] nextFree;
+    private int freeList = -1;
+    private int proxyCount;
+    private int capacity;
+    private boolean hasRemoved;
+
+    /* sorted endpoint values and (proxy << 1 | isMax) per axis */
+    private final float[][] endpointValues;
+    private final int[][] endpointData;
+    private int endpointCount;
+
+    /* candidate pairs (min << 32 | max) to 1 if the boxes overlap, or 0 otherwise */
+    private final LongIntHashMap pairs = new LongIntHashMap(64);
+    private long[] removedPairs = new long[16];
+
+    /**
+     * Create a new {@link SweepAndPrune} which sorts the boxes along all three axes.
+     */
+    public SweepAndPrune() {
+        this(3);
+    }
+
+    /**
+     * Create a new {@link SweepAndPrune} which sorts the boxes along the given number of axes.
+     * 
+     * @param axes
+     *          either <code>1</code> to sort along the x axis only, or <code>3</code> to sort along all three axes
+     */
+    public SweepAndPrune(int axes) {
+        if (axes != 1 && axes != 3)
+            throw new IllegalArgumentException("axes must be 1 or 3");
+        this.axes = axes;
+        this.endpointValues = new float[axes][];
+        this.endpointData = new int[axes][];
+        allocate(16);
+    }
+
+    private void allocate(int newCapacity) {
+        boxes = growFloats(boxes, 6 * newCapacity);
+        state = growInts(state, newCapacity);
+        nextFree = growInts(nextFree, newCapacity);
+        for (int axis = 0; axis < axes; axis++) {
+            endpointValues[axis] = growFloats(endpointValues[axis], 2 * newCapacity);
+            endpointData[axis] = growInts(endpointData[axis], 2 * newCapacity);
+        }
+        for (int i = newCapacity - 1; i >= capacity; i--) {
+            nextFree[i] = freeList;
+            freeList = i;
+        }
+        capacity = newCapacity;
+    }
+    private static float[] growFloats(float[] array, int length) {
+        float[] newArray = new float[length];
+        if (array != null)
+            System.arraycopy(array, 0, newArray, 0, array.length);
+        return newArray;
+    }
+    private static int[] growInts(int[] array, int length) {
+        int[] newArray = new int[length];
+        if (array != null)
+            System.arraycopy(array, 0, newArray, 0, array.length);
+        return newArray;
+    }
+
+    private void checkProxy(int proxy) {
+        if (proxy < 0 || proxy >= capacity || state[proxy] != ACTIVE)
+            throw new IllegalArgumentException("invalid proxy: " + proxy);
+    }
+
+    /**
+     * @return the number of proxies, not counting removed proxies
+     */
+    public int proxyCount() {
+        return proxyCount;
+    }
+
+    /**
+     * Insert a new proxy with the axis-aligned box given as its minimum corner <code>(minX, minY, minZ)</code>
+     * and maximum corner <code>(maxX, maxY, maxZ)</code>.
+     * <p>
+     * The overlaps of the new proxy are reported by the next {@link #update(PairCallback) update}.
+     * 
+     * @param minX
+     *          the x coordinate of the minimum corner
+     * @param minY
+     *          the y coordinate of the minimum corner
+     * @param minZ
+     *          the z coordinate of the minimum corner
+     * @param maxX
+     *          the x coordinate of the maximum corner
+     * @param maxY
+     *          the y coordinate of the maximum corner
+     * @param maxZ
+     *          the z coordinate of the maximum corner
+     * @return the identifier of the new proxy
+     */
+    public int insert(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        if (freeList < 0)
+            allocate(capacity << 1);
+        int proxy = freeList;
+        freeList = nextFree[proxy];
+        state[proxy] = ACTIVE;
+        set(proxy, minX, minY, minZ, maxX, maxY, maxZ);
+        for (int axis = 0; axis < axes; axis++) {
+            /* Append at the end, the next update sorts the endpoints into place */
+            endpointData[axis][endpointCount] = proxy << 1;
+            endpointData[axis][endpointCount + 1] = proxy << 1 | 1;
+            endpointValues[axis][endpointCount] = Float.POSITIVE_INFINITY;
+            endpointValues[axis][endpointCount + 1] = Float.POSITIVE_INFINITY;
+        }
+        endpointCount += 2;
+        proxyCount++;
+        return proxy;
+    }
+
+    /**
+     * Set the box of the given proxy to the axis-aligned box given as its minimum corner <code>(minX, minY, minZ)</code>
+     * and maximum corner <code>(maxX, maxY, maxZ)</code>.
+     * <p>
+     * Changed overlaps are reported by the next {@link #update(PairCallback) update}.
+     * 
+     * @param proxy
+     *          the identifier of the proxy
+     * @param minX
+     *          the x coordinate of the minimum corner
+     * @param minY
+     *          the y coordinate of the minimum corner
+     * @param minZ
+     *          the z coordinate of the minimum corner
+     * @param maxX
+     *          the x coordinate of the maximum corner
+     * @param maxY
+     *          the y coordinate of the maximum corner
+     * @param maxZ
+     *          the z coordinate of the maximum corner
+     */
+    public void set(int proxy, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        checkProxy(proxy);
+        int b = 6 * proxy;
+        boxes[b] = minX;
+        boxes[b + 1] = minY;
+        boxes[b + 2] = minZ;
+        boxes[b + 3] = maxX;
+        boxes[b + 4] = maxY;
+        boxes[b + 5] = maxZ;
+    }
+
+    /**
+     * Store the box of the given proxy in <code>min</code> and <code>max</code>.
+     * 
+     * @param proxy
+     *          the identifier of the proxy
+     * @param min
+     *          will hold the minimum corner of the box
+     * @param max
+     *          will hold the maximum corner of the box
+     */
+    public void getAab(int proxy, Vector3f min, Vector3f max) {
+        checkProxy(proxy);
+        int b = 6 * proxy;
+        min.set(boxes[b], boxes[b + 1], boxes[b + 2]);
+        max.set(boxes[b + 3], boxes[b + 4], boxes[b + 5]);
+    }
+
+    /**
+     * Remove the given proxy.
+     * <p>
+     * The next {@link #update(PairCallback) update} reports the end of all overlaps of the proxy, after which its
+     * identifier may be returned by later insertions.
+     * 
+     * @param proxy
+     *          the identifier of the proxy
+     */
+    public void remove(int proxy) {
+        checkProxy(proxy);
+        state[proxy] = REMOVED;
+        hasRemoved = true;
+        proxyCount--;
+    }
+
+    /**
+     * Bring the sorted endpoints up to date with the current boxes of all proxies and notify the given callback about
+     * all pairs of proxies whose boxes began or ended to overlap since the previous update.
+     * 
+     * @param callback
+     *          will be notified about changed overlaps
+     */
+    public void update(PairCallback callback) {
+        if (hasRemoved)
+            purgeRemoved(callback);
+        for (int axis = 0; axis < axes; axis++) {
+            float[] values = endpointValues[axis];
+            int[] data = endpointData[axis];
+            for (int i = 0; i < endpointCount; i++)
+                values[i] = boxes[6 * (data[i] >>> 1) + axis + 3 * (data[i] & 1)];
+            sort(values, data, callback);
+        }
+        /* Verify all candidates against the full boxes */
+        long[] keys = pairs.keys;
+        int[] overlapping = pairs.values;
+        boolean[] used = pairs.used;
+        for (int i = 0; i < keys.length; i++) {
+            if (!used[i])
+                continue;
+            int a = (int) (keys[i] >>> 32), b = (int) keys[i];
+            int overlaps = testAabAab(a, b) ? 1 : 0;
+            if (overlaps == overlapping[i])
+                continue;
+            overlapping[i] = overlaps;
+            if (overlaps != 0)
+                callback.beginOverlap(a, b);
+            else
+                callback.endOverlap(a, b);
+        }
+    }
+
+    private boolean testAabAab(int a, int b) {
+        int i = 6 * a, j = 6 * b;
+        return Intersectionf.testAabAab(boxes[i], boxes[i + 1], boxes[i + 2], boxes[i + 3], boxes[i + 4], boxes[i + 5],
+                boxes[j], boxes[j + 1], boxes[j + 2], boxes[j + 3], boxes[j + 4], boxes[j + 5]);
+    }
+
+    private static long pairKey(int a, int b) {
+        return a < b ? (long) a << 32 | b : (long) b << 32 | a;
+    }
+
+    private void sort(float[] values, int[] data, PairCallback callback) {
+        for (int i = 1; i < endpointCount; i++) {
+            float value = values[i];
+            int endpoint = data[i];
+            boolean isMax = (endpoint & 1) != 0;
+            int j = i - 1;
+            for (; j >= 0; j--) {
+                float previousValue = values[j];
+                int previous = data[j];
+                /* At equal values minimum endpoints come first, so that touching boxes overlap */
+                if (previousValue < value || previousValue == value && (isMax || (previous & 1) == 0))
+                    break;
+                if (isMax != ((previous & 1) != 0)) {
+                    int a = endpoint >>> 1, b = previous >>> 1;
+                    if (isMax)
+                        /* The maximum of a moved below the minimum of b */
+                        removeCandidate(pairKey(a, b), callback);
+                    else if (axes == 1 || testAabAab(a, b))
+                        /* The minimum of a moved below the maximum of b */
+                        pairs.put(pairKey(a, b), 0, 0);
+                }
+                values[j + 1] = previousValue;
+                data[j + 1] = previous;
+            }
+            values[j + 1] = value;
+            data[j + 1] = endpoint;
+        }
+    }
+
+    private void removeCandidate(long key, PairCallback callback) {
+        if (pairs.remove(key, 0) != 0)
+            callback.endOverlap((int) (key >>> 32), (int) key);
+    }
+
+    private void purgeRemoved(PairCallback callback) {
+        long[] keys = pairs.keys;
+        boolean[] used = pairs.used;
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (!used[i] || state[(int) (keys[i] >>> 32)] != REMOVED && state[(int) keys[i]] != REMOVED)
+                continue;
+            if (count == removedPairs.length) {
+                long[] newRemovedPairs = new long[count << 1];
+                System.arraycopy(removedPairs, 0, newRemovedPairs, 0, count);
+                removedPairs = newRemovedPairs;
+            }
+            removedPairs[count++] = keys[i];
+        }
+        for (int i = 0; i < count; i++)
+            removeCandidate(removedPairs[i], callback);
+        for (int axis = 0; axis < axes; axis++) {
+            float[] values = endpointValues[axis];
+            int[] data = endpointData[axis];
+            int n = 0;
+            for (int i = 0; i < endpointCount; i++) {
+                if (state[data[i] >>> 1] == REMOVED)
+                    continue;
+                values[n] = values[i];
+                data[n++] = data[i];
+            }
+        }
+        for (int proxy = 0; proxy < capacity; proxy++) {
+            if (state[proxy] != REMOVED)
+                continue;
+            state[proxy] = FREE;
+            nextFree[proxy] = freeList;
+            freeList = proxy;
+        }
+        endpointCount = 2 * proxyCount;
+        hasRemoved = false;
+    }
+
+}
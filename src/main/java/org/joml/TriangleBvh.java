@@ -0,0 +1,969 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+//#ifdef __HAS_NIO__
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+//#endif
+
+/**
+ * Bounding volume hierarchy over the triangles of an indexed triangle mesh for fast ray, swept-sphere and closest-point queries against many triangles.
+ * <p>
+ * The hierarchy is built once from the vertex positions and triangle indices using the surface area heuristic (SAH)
+ * evaluated over a fixed number of bins along each axis. All nodes are stored in flat primitive arrays in depth-first
+ * order together with an escape index for each node, which is the index of the node to continue with when the subtree
+ * of that node is skipped. This allows all queries to walk the hierarchy without a traversal stack and therefore without
+ * allocating.
+ * <p>
+ * The vertex positions of the triangles are copied into the hierarchy in the order in which the leaves reference them,
+ * so later modifications of the arrays given to the constructor have no effect.
+ * <p>
+ * This class is immutable and thread-safe and can be used in a multithreaded environment when querying many rays concurrently.
+ */
+public class TriangleBvh {
+
+    /**
+     * The default maximum number of triangles in a leaf node.
+     */
+    public static final int DEFAULT_MAX_LEAF_SIZE = 4;
+
+    /* Number of bins per axis used to evaluate the surface area heuristic */
+    private static final int BINS = 16;
+
+    /* Relative enlargement of the far distance of a node to account for rounding errors in the slab test */
+    private static final float SLAB_TOLERANCE = 1.0f + 4.0f * 1.1920929E-7f;
+
+    /* minX, minY, minZ, maxX, maxY, maxZ of each node in depth-first order */
+    final float[] bounds;
+    /* first triangle, triangle count (0 for inner nodes) and escape index of each node */
+    final int[] nodes;
+    /* v0, v1 and v2 of each triangle in leaf order */
+    final float[] vertices;
+    /* index of each triangle in leaf order into the triangle list given to the constructor */
+    final int[] triangles;
+    final int nodeCount;
+    /* maximum number of inner nodes on any path from the root to a leaf */
+    final int depth;
+
+    /**
+     * Build a {@link TriangleBvh} over the triangles of the given indexed mesh using at most
+     * {@link #DEFAULT_MAX_LEAF_SIZE} triangles per leaf.
+     * 
+     * @see #TriangleBvh(float[], int[], int)
+     * 
+     * @param positions
+     *          the vertex positions as consecutive <code>(x, y, z)</code> triples
+     * @param indices
+     *          three vertex indices for each triangle
+     */
+    public TriangleBvh(float[] positions, int[] indices) {
+        this(positions, indices, DEFAULT_MAX_LEAF_SIZE);
+    }
+
+    /**
+     * Build a {@link TriangleBvh} over the triangles of the given indexed mesh.
+     * <p>
+     * The triangle <code>i</code> consists of the vertices with the indices <code>indices[3*i]</code>,
+     * <code>indices[3*i+1]</code> and <code>indices[3*i+2]</code>, and the vertex <code>j</code> has the position
+     * <code>(positions[3*j], positions[3*j+1], positions[3*j+2])</code>. All triangle indices reported by the queries
+     * refer to this numbering.
+     * 
+     * @param positions
+     *          the vertex positions as consecutive <code>(x, y, z)</code> triples
+     * @param indices
+     *          three vertex indices for each triangle
+     * @param maxLeafSize
+     *          nodes with at most this many triangles are not split any further
+     */
+    public TriangleBvh(float[] positions, int[] indices, int maxLeafSize) {
+        if (indices.length % 3 != 0)
+            throw new IllegalArgumentException("indices.length must be a multiple of 3");
+        if (maxLeafSize < 1)
+            throw new IllegalArgumentException("maxLeafSize must be at least 1");
+        int n = indices.length / 3;
+        int maxNodes = java.lang.Math.max(1, 2 * n - 1);
+        float[] triBounds = new float[6 * n];
+        float[] centroids = new float[3 * n];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            int i0 = indices[3 * i] * 3, i1 = indices[3 * i + 1] * 3, i2 = indices[3 * i + 2] * 3;
+            for (int a = 0; a < 3; a++) {
+                float p0 = positions[i0 + a], p1 = positions[i1 + a], p2 = positions[i2 + a];
+                float min = Math.min(Math.min(p0, p1), p2), max = Math.max(Math.max(p0, p1), p2);
+                triBounds[6 * i + a] = min;
+                triBounds[6 * i + 3 + a] = max;
+                centroids[3 * i + a] = (min + max) * 0.5f;
+            }
+            order[i] = i;
+        }
+
+        /*
+         * Build breadth-first into temporary arrays. The children of an inner node are stored next to each other,
+         * so every node is split after its parent and a single pass over the growing node list suffices.
+         */
+        float[] tmpBounds = new float[6 * maxNodes];
+        int[] first = new int[maxNodes], count = new int[maxNodes], left = new int[maxNodes];
+        int[] binCount = new int[BINS];
+        float[] binBounds = new float[6 * BINS];
+        float[] rightArea = new float[BINS];
+        int used = 1;
+        count[0] = n;
+        for (int node = 0; node < used; node++) {
+            int start = first[node], end = start + count[node];
+            float cMinX = Float.POSITIVE_INFINITY, cMinY = Float.POSITIVE_INFINITY, cMinZ = Float.POSITIVE_INFINITY;
+            float cMaxX = Float.NEGATIVE_INFINITY, cMaxY = Float.NEGATIVE_INFINITY, cMaxZ = Float.NEGATIVE_INFINITY;
+            int b = 6 * node;
+            tmpBounds[b] = tmpBounds[b + 1] = tmpBounds[b + 2] = Float.POSITIVE_INFINITY;
+            tmpBounds[b + 3] = tmpBounds[b + 4] = tmpBounds[b + 5] = Float.NEGATIVE_INFINITY;
+            for (int i = start; i < end; i++) {
+                int t = order[i];
+                growBounds(tmpBounds, b, triBounds, 6 * t);
+                float cx = centroids[3 * t], cy = centroids[3 * t + 1], cz = centroids[3 * t + 2];
+                cMinX = Math.min(cMinX, cx); cMinY = Math.min(cMinY, cy); cMinZ = Math.min(cMinZ, cz);
+                cMaxX = Math.max(cMaxX, cx); cMaxY = Math.max(cMaxY, cy); cMaxZ = Math.max(cMaxZ, cz);
+            }
+            if (count[node] <= maxLeafSize)
+                continue;
+            /* Find the bin boundary with the lowest SAH cost on any axis */
+            int bestAxis = -1, bestSplit = 0;
+            float bestCost = Float.POSITIVE_INFINITY;
+            for (int axis = 0; axis < 3; axis++) {
+                float cMin = axis == 0 ? cMinX : axis == 1 ? cMinY : cMinZ;
+                float cMax = axis == 0 ? cMaxX : axis == 1 ? cMaxY : cMaxZ;
+                if (!(cMax > cMin))
+                    continue;
+                float scale = BINS / (cMax - cMin);
+                for (int k = 0; k < BINS; k++) {
+                    binCount[k] = 0;
+                    binBounds[6 * k] = binBounds[6 * k + 1] = binBounds[6 * k + 2] = Float.POSITIVE_INFINITY;
+                    binBounds[6 * k + 3] = binBounds[6 * k + 4] = binBounds[6 * k + 5] = Float.NEGATIVE_INFINITY;
+                }
+                for (int i = start; i < end; i++) {
+                    int t = order[i];
+                    int k = bin(centroids[3 * t + axis], cMin, scale);
+                    binCount[k]++;
+                    growBounds(binBounds, 6 * k, triBounds, 6 * t);
+                }
+                float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+                float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+                for (int k = BINS - 1; k > 0; k--) {
+                    int o = 6 * k;
+                    minX = Math.min(minX, binBounds[o]); minY = Math.min(minY, binBounds[o + 1]); minZ = Math.min(minZ, binBounds[o + 2]);
+                    maxX = Math.max(maxX, binBounds[o + 3]); maxY = Math.max(maxY, binBounds[o + 4]); maxZ = Math.max(maxZ, binBounds[o + 5]);
+                    rightArea[k] = halfArea(minX, minY, minZ, maxX, maxY, maxZ);
+                }
+                minX = minY = minZ = Float.POSITIVE_INFINITY;
+                maxX = maxY = maxZ = Float.NEGATIVE_INFINITY;
+                int leftCount = 0;
+                for (int k = 0; k < BINS - 1; k++) {
+                    int o = 6 * k;
+                    minX = Math.min(minX, binBounds[o]); minY = Math.min(minY, binBounds[o + 1]); minZ = Math.min(minZ, binBounds[o + 2]);
+                    maxX = Math.max(maxX, binBounds[o + 3]); maxY = Math.max(maxY, binBounds[o + 4]); maxZ = Math.max(maxZ, binBounds[o + 5]);
+                    leftCount += binCount[k];
+                    int rightCount = count[node] - leftCount;
+                    if (leftCount == 0 || rightCount == 0)
+                        continue;
+                    float cost = leftCount * halfArea(minX, minY, minZ, maxX, maxY, maxZ) + rightCount * rightArea[k + 1];
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        bestAxis = axis;
+                        bestSplit = k + 1;
+                    }
+                }
+            }
+            if (bestAxis < 0)
+                /* All centroids coincide, so no bin boundary separates the triangles */
+                continue;
+            float cMin = bestAxis == 0 ? cMinX : bestAxis == 1 ? cMinY : cMinZ;
+            float cMax = bestAxis == 0 ? cMaxX : bestAxis == 1 ? cMaxY : cMaxZ;
+            float scale = BINS / (cMax - cMin);
+            int i = start, j = end - 1;
+            while (i <= j) {
+                if (bin(centroids[3 * order[i] + bestAxis], cMin, scale) < bestSplit) {
+                    i++;
+                } else {
+                    int tmp = order[i];
+                    order[i] = order[j];
+                    order[j--] = tmp;
+                }
+            }
+            left[node] = used;
+            first[used] = start;
+            count[used] = i - start;
+            first[used + 1] = i;
+            count[used + 1] = end - i;
+            count[node] = 0;
+            used += 2;
+        }
+
+        /* Subtree sizes, children always come after their parent */
+        int[] size = new int[used];
+        for (int node = used - 1; node >= 0; node--)
+            size[node] = count[node] != 0 || n == 0 ? 1 : 1 + size[left[node]] + size[left[node] + 1];
+
+        /* Lay out the nodes depth-first and record the escape index of each node */
+        this.nodeCount = used;
+        this.bounds = new float[6 * used];
+        this.nodes = new int[3 * used];
+        this.vertices = new float[9 * n];
+        this.triangles = new int[n];
+        int[] stack = new int[2 * used];
+        int sp = 0, next = 0, placed = 0;
+        stack[sp++] = 0;
+        stack[sp++] = used;
+        while (sp > 0) {
+            int escape = stack[--sp], node = stack[--sp];
+            int index = next++;
+            System.arraycopy(tmpBounds, 6 * node, bounds, 6 * index, 6);
+            nodes[3 * index + 2] = escape;
+            if (count[node] != 0 || n == 0) {
+                nodes[3 * index] = placed;
+                nodes[3 * index + 1] = count[node];
+                for (int i = first[node], end = first[node] + count[node]; i < end; i++, placed++) {
+                    int t = order[i];
+                    triangles[placed] = t;
+                    for (int v = 0; v < 3; v++)
+                        System.arraycopy(positions, 3 * indices[3 * t + v], vertices, 9 * placed + 3 * v, 3);
+                }
+            } else {
+                int l = left[node];
+                stack[sp++] = l + 1;
+                stack[sp++] = escape;
+                stack[sp++] = l;
+                stack[sp++] = index + 1 + size[l];
+            }
+        }
+
+        /* The left child of an inner node directly follows it and the right child is where the left subtree ends */
+        int[] nodeDepth = new int[used];
+        int maxDepth = 0;
+        for (int node = 0; node < used && n > 0; node++) {
+            if (nodes[3 * node + 1] != 0)
+                continue;
+            int d = nodeDepth[node] + 1;
+            nodeDepth[node + 1] = d;
+            nodeDepth[nodes[3 * (node + 1) + 2]] = d;
+            maxDepth = java.lang.Math.max(maxDepth, d);
+        }
+        this.depth = maxDepth;
+    }
+
+    private static int bin(float centroid, float min, float scale) {
+        int k = (int) ((centroid - min) * scale);
+        return k < BINS ? k : BINS - 1;
+    }
+    private static void growBounds(float[] dest, int d, float[] src, int s) {
+        dest[d] = Math.min(dest[d], src[s]);
+        dest[d + 1] = Math.min(dest[d + 1], src[s + 1]);
+        dest[d + 2] = Math.min(dest[d + 2], src[s + 2]);
+        dest[d + 3] = Math.max(dest[d + 3], src[s + 3]);
+        dest[d + 4] = Math.max(dest[d + 4], src[s + 4]);
+        dest[d + 5] = Math.max(dest[d + 5], src[s + 5]);
+    }
+    private static float halfArea(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        float dx = maxX - minX, dy = maxY - minY, dz = maxZ - minZ;
+        return dx * dy + dy * dz + dz * dx;
+    }
+
+    /**
+     * @return the number of triangles in this hierarchy
+     */
+    public int triangleCount() {
+        return triangles.length;
+    }
+
+    /**
+     * @return the number of nodes in this hierarchy
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @return the number of elements the traversal stacks given to
+     *         {@link #findClosestPoint(float, float, float, float, Vector3f, int[], int[], float[], Vector3f) findClosestPoint()}
+     *         must have at least
+     */
+    public int stackDepth() {
+        return depth;
+    }
+
+    /**
+     * Store the bounds of all triangles of this hierarchy in <code>min</code> and <code>max</code>.
+     * 
+     * @param min
+     *          will hold the minimum corner of the bounds
+     * @param max
+     *          will hold the maximum corner of the bounds
+     */
+    public void bounds(Vector3f min, Vector3f max) {
+        min.set(bounds[0], bounds[1], bounds[2]);
+        max.set(bounds[3], bounds[4], bounds[5]);
+    }
+
+    private static float reciprocal(float d) {
+        /* A finite value avoids NaN when a ray with a zero direction component starts on a node's boundary plane */
+        return d != 0.0f ? 1.0f / d : Float.MAX_VALUE;
+    }
+
+    /*
+     * Slab test of the node against the ray with the precomputed reciprocal direction, limited to [0, maxT].
+     */
+    private boolean testNode(int node, float originX, float originY, float originZ, float invDirX, float invDirY, float invDirZ, float maxT) {
+        int b = 6 * node;
+        float tx1 = (bounds[b] - originX) * invDirX, tx2 = (bounds[b + 3] - originX) * invDirX;
+        float ty1 = (bounds[b + 1] - originY) * invDirY, ty2 = (bounds[b + 4] - originY) * invDirY;
+        float tz1 = (bounds[b + 2] - originZ) * invDirZ, tz2 = (bounds[b + 5] - originZ) * invDirZ;
+        float tNear = Math.max(Math.max(Math.min(tx1, tx2), Math.min(ty1, ty2)), Math.max(Math.min(tz1, tz2), 0.0f));
+        float tFar = Math.min(Math.min(Math.max(tx1, tx2), Math.max(ty1, ty2)), Math.min(Math.max(tz1, tz2), maxT));
+        return tNear <= tFar * SLAB_TOLERANCE;
+    }
+
+    /**
+     * Determine the closest triangle intersected by the ray with the given <code>origin</code> and direction <code>dir</code>
+     * within the parameter range <code>[0, maxT]</code> of the ray equation <i>p(t) = origin + t * dir</i>.
+     * 
+     * @see #intersectRay(float, float, float, float, float, float, float, float, Vector3f)
+     * 
+     * @param origin
+     *          the ray's origin
+     * @param dir
+     *          the ray's direction
+     * @param maxT
+     *          the maximum value of the ray parameter <i>t</i> to consider
+     * @param epsilon
+     *          a small epsilon when testing rays that are almost parallel to a triangle
+     * @param result
+     *          will hold the parameter <i>t</i> and the barycentric coordinates <i>u</i> and <i>v</i> of the closest intersection
+     * @return the index of the closest intersected triangle; or <code>-1</code> if the ray does not intersect any triangle
+     */
+    public int intersectRay(Vector3fc origin, Vector3fc dir, float maxT, float epsilon, Vector3f result) {
+        return intersectRay(origin.x(), origin.y(), origin.z(), dir.x(), dir.y(), dir.z(), maxT, epsilon, result);
+    }
+
+    /**
+     * Determine the closest triangle intersected by the ray with the origin <code>(originX, originY, originZ)</code>
+     * and direction <code>(dirX, dirY, dirZ)</code> within the parameter range <code>[0, maxT]</code> of the ray
+     * equation <i>p(t) = origin + t * dir</i>.
+     * <p>
+     * Each triangle is tested via {@link Intersectionf#intersectRayTriangle(float, float, float, float, float, float, float, float, float, float, float, float, float, float, float, float)},
+     * so the winding order of the triangles is not taken into account. Subtrees whose bounds are entered beyond the
+     * closest intersection found so far are skipped.
+     * <p>
+     * If an intersection is found, then <code>result.x</code> will contain the value of the parameter <i>t</i> and
+     * <code>result.y</code> and <code>result.z</code> will contain the barycentric coordinates <i>u</i> and <i>v</i> of
+     * the intersection point with respect to the second and third vertex of the triangle, such that the point is
+     * <i>(1 - u - v) * v0 + u * v1 + v * v2</i>.
+     * 
+     * @param originX
+     *          the x coordinate of the ray's origin
+     * @param originY
+     *          the y coordinate of the ray's origin
+     * @param originZ
+     *          the z coordinate of the ray's origin
+     * @param dirX
+     *          the x coordinate of the ray's direction
+     * @param dirY
+     *          the y coordinate of the ray's direction
+     * @param dirZ
+     *          the z coordinate of the ray's direction
+     * @param maxT
+     *          the maximum value of the ray parameter <i>t</i> to consider
+     * @param epsilon
+     *          a small epsilon when testing rays that are almost parallel to a triangle
+     * @param result
+     *          will hold the parameter <i>t</i> and the barycentric coordinates <i>u</i> and <i>v</i> of the closest intersection
+     * @return the index of the closest intersected triangle; or <code>-1</code> if the ray does not intersect any triangle
+     */
+    public int intersectRay(float originX, float originY, float originZ, float dirX, float dirY, float dirZ, float maxT, float epsilon, Vector3f result) {
+        float invDirX = reciprocal(dirX), invDirY = reciprocal(dirY), invDirZ = reciprocal(dirZ);
+        float closestT = maxT;
+        int closest = -1;
+        int node = 0;
+        while (node < nodeCount) {
+            if (!testNode(node, originX, originY, originZ, invDirX, invDirY, invDirZ, closestT)) {
+                node = nodes[3 * node + 2];
+                continue;
+            }
+            int count = nodes[3 * node + 1];
+            if (count == 0) {
+                node++;
+                continue;
+            }
+            for (int i = nodes[3 * node], end = i + count; i < end; i++) {
+                int v = 9 * i;
+                float t = Intersectionf.intersectRayTriangle(originX, originY, originZ, dirX, dirY, dirZ,
+                        vertices[v], vertices[v + 1], vertices[v + 2], vertices[v + 3], vertices[v + 4], vertices[v + 5],
+                        vertices[v + 6], vertices[v + 7], vertices[v + 8], epsilon);
+                if (t >= 0.0f && t <= closestT) {
+                    closestT = t;
+                    closest = i;
+                }
+            }
+            node = nodes[3 * node + 2];
+        }
+        if (closest < 0)
+            return -1;
+        int v = 9 * closest;
+        float edge1X = vertices[v + 3] - vertices[v], edge1Y = vertices[v + 4] - vertices[v + 1], edge1Z = vertices[v + 5] - vertices[v + 2];
+        float edge2X = vertices[v + 6] - vertices[v], edge2Y = vertices[v + 7] - vertices[v + 1], edge2Z = vertices[v + 8] - vertices[v + 2];
+        float pvecX = dirY * edge2Z - dirZ * edge2Y, pvecY = dirZ * edge2X - dirX * edge2Z, pvecZ = dirX * edge2Y - dirY * edge2X;
+        float invDet = 1.0f / (edge1X * pvecX + edge1Y * pvecY + edge1Z * pvecZ);
+        float tvecX = originX - vertices[v], tvecY = originY - vertices[v + 1], tvecZ = originZ - vertices[v + 2];
+        float qvecX = tvecY * edge1Z - tvecZ * edge1Y, qvecY = tvecZ * edge1X - tvecX * edge1Z, qvecZ = tvecX * edge1Y - tvecY * edge1X;
+        result.x = closestT;
+        result.y = (tvecX * pvecX + tvecY * pvecY + tvecZ * pvecZ) * invDet;
+        result.z = (dirX * qvecX + dirY * qvecY + dirZ * qvecZ) * invDet;
+        return triangles[closest];
+    }
+
+    /**
+     * Test whether the ray with the given <code>origin</code> and direction <code>dir</code> intersects any triangle
+     * within the parameter range <code>[0, maxT]</code> of the ray equation <i>p(t) = origin + t * dir</i>.
+     * 
+     * @see #testRay(float, float, float, float, float, float, float, float)
+     * 
+     * @param origin
+     *          the ray's origin
+     * @param dir
+     *          the ray's direction
+     * @param maxT
+     *          the maximum value of the ray parameter <i>t</i> to consider
+     * @param epsilon
+     *          a small epsilon when testing rays that are almost parallel to a triangle
+     * @return <code>true</code> if the ray intersects any triangle; <code>false</code> otherwise
+     */
+    public boolean testRay(Vector3fc origin, Vector3fc dir, float maxT, float epsilon) {
+        return testRay(origin.x(), origin.y(), origin.z(), dir.x(), dir.y(), dir.z(), maxT, epsilon);
+    }
+
+    /**
+     * Test whether the ray with the origin <code>(originX, originY, originZ)</code> and direction <code>(dirX, dirY, dirZ)</code>
+     * intersects any triangle within the parameter range <code>[0, maxT]</code> of the ray equation <i>p(t) = origin + t * dir</i>.
+     * <p>
+     * The traversal stops at the first intersection found, which makes this method suitable for line-of-sight and shadow rays.
+     * When testing the line segment between two points <code>a</code> and <code>b</code>, use <code>b - a</code> as the
+     * direction and <code>1.0</code> as <code>maxT</code>.
+     * 
+     * @param originX
+     *          the x coordinate of the ray's origin
+     * @param originY
+     *          the y coordinate of the ray's origin
+     * @param originZ
+     *          the z coordinate of the ray's origin
+     * @param dirX
+     *          the x coordinate of the ray's direction
+     * @param dirY
+     *          the y coordinate of the ray's direction
+     * @param dirZ
+     *          the z coordinate of the ray's direction
+     * @param maxT
+     *          the maximum value of the ray parameter <i>t</i> to consider
+     * @param epsilon
+     *          a small epsilon when testing rays that are almost parallel to a triangle
+     * @return <code>true</code> if the ray intersects any triangle; <code>false</code> otherwise
+     */
+    public boolean testRay(float originX, float originY, float originZ, float dirX, float dirY, float dirZ, float maxT, float epsilon) {
+        float invDirX = reciprocal(dirX), invDirY = reciprocal(dirY), invDirZ = reciprocal(dirZ);
+        int node = 0;
+        while (node < nodeCount) {
+            if (!testNode(node, originX, originY, originZ, invDirX, invDirY, invDirZ, maxT)) {
+                node = nodes[3 * node + 2];
+                continue;
+            }
+            int count = nodes[3 * node + 1];
+            if (count == 0) {
+                node++;
+                continue;
+            }
+            for (int i = nodes[3 * node], end = i + count; i < end; i++) {
+                int v = 9 * i;
+                float t = Intersectionf.intersectRayTriangle(originX, originY, originZ, dirX, dirY, dirZ,
+                        vertices[v], vertices[v + 1], vertices[v + 2], vertices[v + 3], vertices[v + 4], vertices[v + 5],
+                        vertices[v + 6], vertices[v + 7], vertices[v + 8], epsilon);
+                if (t >= 0.0f && t <= maxT)
+                    return true;
+            }
+            node = nodes[3 * node + 2];
+        }
+        return false;
+    }
+
+    /**
+     * Determine the triangle that is hit first by the sphere with the given <code>center</code> and <code>radius</code>
+     * moving with the velocity <code>vel</code> within the time range <code>[0, maxT]</code>.
+     * 
+     * @see #intersectSweptSphere(float, float, float, float, float, float, float, float, float, Vector4f, int[])
+     * 
+     * @param center
+     *          the sphere's center at time <code>0</code>
+     * @param radius
+     *          the sphere's radius
+     * @param vel
+     *          the sphere's velocity
+     * @param maxT
+     *          the maximum time to consider
+     * @param epsilon
+     *          a small epsilon when testing spheres that move almost parallel to a triangle
+     * @param pointAndTime
+     *          will hold the contact point in the <code>(x, y, z)</code> components and the time of impact in the <code>w</code> component
+     * @param feature
+     *          if not <code>null</code>, then its first element will hold the {@link Intersectionf#POINT_ON_TRIANGLE_FACE POINT_ON_TRIANGLE_*}
+     *          code of the triangle feature that is hit
+     * @return the index of the triangle hit first; or <code>-1</code> if the moving sphere does not hit any triangle
+     */
+    public int intersectSweptSphere(Vector3fc center, float radius, Vector3fc vel, float maxT, float epsilon, Vector4f pointAndTime, int[] feature) {
+        return intersectSweptSphere(center.x(), center.y(), center.z(), radius, vel.x(), vel.y(), vel.z(), maxT, epsilon, pointAndTime, feature);
+    }
+
+    /**
+     * Determine the triangle that is hit first by the sphere with the center <code>(centerX, centerY, centerZ)</code> and
+     * <code>radius</code> moving with the velocity <code>(velX, velY, velZ)</code> within the time range <code>[0, maxT]</code>.
+     * <p>
+     * Only the triangles in leaves whose bounds overlap the axis-aligned box swept by the sphere are tested via
+     * {@link Intersectionf#intersectSweptSphereTriangle(float, float, float, float, float, float, float, float, float, float, float, float, float, float, float, float, float, float, Vector4f) Intersectionf.intersectSweptSphereTriangle()}.
+     * Whenever an earlier impact is found, the swept box is shrunk to end at that time, so that the remaining traversal
+     * only visits nodes that could still contain an earlier impact. For this reason <code>maxT</code> should be finite;
+     * when <code>(velX, velY, velZ)</code> is the displacement of the sphere in one step, <code>maxT</code> is typically <code>1.0</code>.
+     * <p>
+     * A sphere that already penetrates a triangle at time <code>0</code> yields an impact with a negative time. Such a
+     * triangle is reported as hit at time <code>0</code>, with the point on the triangle closest to the sphere's center as
+     * the contact point, so that the caller can resolve the penetration. Negative impacts of triangles that the sphere has
+     * already passed, and which it does not overlap anymore, are ignored.
+     * The triangles must be specified in counter-clockwise winding order.
+     * <p>
+     * <code>pointAndTime</code> and <code>feature</code> are only written to when a triangle is hit.
+     * <p>
+     * This method can be called from multiple threads concurrently. It allocates its temporary vectors; use
+     * {@link #intersectSweptSphere(float, float, float, float, float, float, float, float, float, Vector4f, int[], Vector4f, Vector3f) intersectSweptSphere()}
+     * with caller-supplied temporaries to repeat queries without allocating.
+     * 
+     * @param centerX
+     *          the x coordinate of the sphere's center at time <code>0</code>
+     * @param centerY
+     *          the y coordinate of the sphere's center at time <code>0</code>
+     * @param centerZ
+     *          the z coordinate of the sphere's center at time <code>0</code>
+     * @param radius
+     *          the sphere's radius
+     * @param velX
+     *          the x component of the sphere's velocity
+     * @param velY
+     *          the y component of the sphere's velocity
+     * @param velZ
+     *          the z component of the sphere's velocity
+     * @param maxT
+     *          the maximum time to consider
+     * @param epsilon
+     *          a small epsilon when testing spheres that move almost parallel to a triangle
+     * @param pointAndTime
+     *          will hold the contact point in the <code>(x, y, z)</code> components and the time of impact in the <code>w</code> component
+     * @param feature
+     *          if not <code>null</code>, then its first element will hold the {@link Intersectionf#POINT_ON_TRIANGLE_FACE POINT_ON_TRIANGLE_*}
+     *          code of the triangle feature that is hit
+     * @return the index of the triangle hit first; or <code>-1</code> if the moving sphere does not hit any triangle
+     */
+    public int intersectSweptSphere(float centerX, float centerY, float centerZ, float radius, float velX, float velY, float velZ,
+            float maxT, float epsilon, Vector4f pointAndTime, int[] feature) {
+        return intersectSweptSphere(centerX, centerY, centerZ, radius, velX, velY, velZ, maxT, epsilon, pointAndTime, feature,
+                new Vector4f(), new Vector3f());
+    }
+
+    /**
+     * Determine the triangle hit first by a sphere with the center <code>(centerX, centerY, centerZ)</code> at time <code>0</code>
+     * and radius <code>radius</code> moving with the velocity <code>(velX, velY, velZ)</code> within the time range <code>[0, maxT]</code>,
+     * using <code>tmp</code> and <code>tmpPoint</code> for intermediate results.
+     * <p>
+     * This method does not allocate. Every thread querying concurrently must use its own <code>tmp</code> and <code>tmpPoint</code>.
+     * 
+     * @see #intersectSweptSphere(float, float, float, float, float, float, float, float, float, Vector4f, int[])
+     * 
+     * @param centerX
+     *          the x coordinate of the sphere's center at time <code>0</code>
+     * @param centerY
+     *          the y coordinate of the sphere's center at time <code>0</code>
+     * @param centerZ
+     *          the z coordinate of the sphere's center at time <code>0</code>
+     * @param radius
+     *          the sphere's radius
+     * @param velX
+     *          the x component of the sphere's velocity
+     * @param velY
+     *          the y component of the sphere's velocity
+     * @param velZ
+     *          the z component of the sphere's velocity
+     * @param maxT
+     *          the maximum time to consider
+     * @param epsilon
+     *          a small epsilon when testing spheres that move almost parallel to a triangle
+     * @param pointAndTime
+     *          will hold the contact point in the <code>(x, y, z)</code> components and the time of impact in the <code>w</code> component;
+     *          only written to when a triangle is hit
+     * @param feature
+     *          if not <code>null</code>, then its first element will hold the {@link Intersectionf#POINT_ON_TRIANGLE_FACE POINT_ON_TRIANGLE_*}
+     *          code of the triangle feature that is hit
+     * @param tmp
+     *          will hold intermediate results; must not be <code>pointAndTime</code>
+     * @param tmpPoint
+     *          will hold intermediate results
+     * @return the index of the triangle hit first; or <code>-1</code> if the moving sphere does not hit any triangle
+     */
+    public int intersectSweptSphere(float centerX, float centerY, float centerZ, float radius, float velX, float velY, float velZ,
+            float maxT, float epsilon, Vector4f pointAndTime, int[] feature, Vector4f tmp, Vector3f tmpPoint) {
+        float closestT = maxT, pointX = 0.0f, pointY = 0.0f, pointZ = 0.0f;
+        int closest = -1, closestFeature = 0;
+        float endX = centerX + velX * closestT, endY = centerY + velY * closestT, endZ = centerZ + velZ * closestT;
+        float minX = Math.min(centerX, endX) - radius, minY = Math.min(centerY, endY) - radius, minZ = Math.min(centerZ, endZ) - radius;
+        float maxX = Math.max(centerX, endX) + radius, maxY = Math.max(centerY, endY) + radius, maxZ = Math.max(centerZ, endZ) + radius;
+        int node = 0;
+        while (node < nodeCount) {
+            int b = 6 * node;
+            if (bounds[b] > maxX || bounds[b + 1] > maxY || bounds[b + 2] > maxZ
+             || bounds[b + 3] < minX || bounds[b + 4] < minY || bounds[b + 5] < minZ) {
+                node = nodes[3 * node + 2];
+                continue;
+            }
+            int count = nodes[3 * node + 1];
+            if (count == 0) {
+                node++;
+                continue;
+            }
+            boolean hit = false;
+            for (int i = nodes[3 * node], end = i + count; i < end; i++) {
+                int v = 9 * i;
+                /*
+                 * The triangle test is always limited to maxT rather than the closest time found so far, because its
+                 * early-outs assume counter-clockwise triangles and would otherwise make the result depend on the
+                 * traversal order for spheres hitting the back of a triangle.
+                 */
+                int f = Intersectionf.intersectSweptSphereTriangle(centerX, centerY, centerZ, radius, velX, velY, velZ,
+                        vertices[v], vertices[v + 1], vertices[v + 2], vertices[v + 3], vertices[v + 4], vertices[v + 5],
+                        vertices[v + 6], vertices[v + 7], vertices[v + 8], epsilon, maxT, tmp);
+                if (f != 0 && tmp.w < 0.0f)
+                    f = penetration(v, centerX, centerY, centerZ, radius, tmp, tmpPoint);
+                if (f != 0 && tmp.w <= closestT) {
+                    closestT = tmp.w;
+                    pointX = tmp.x;
+                    pointY = tmp.y;
+                    pointZ = tmp.z;
+                    closest = i;
+                    closestFeature = f;
+                    hit = true;
+                }
+            }
+            if (hit) {
+                endX = centerX + velX * closestT;
+                endY = centerY + velY * closestT;
+                endZ = centerZ + velZ * closestT;
+                minX = Math.min(centerX, endX) - radius; minY = Math.min(centerY, endY) - radius; minZ = Math.min(centerZ, endZ) - radius;
+                maxX = Math.max(centerX, endX) + radius; maxY = Math.max(centerY, endY) + radius; maxZ = Math.max(centerZ, endZ) + radius;
+            }
+            node = nodes[3 * node + 2];
+        }
+        if (closest < 0)
+            return -1;
+        pointAndTime.x = pointX;
+        pointAndTime.y = pointY;
+        pointAndTime.z = pointZ;
+        pointAndTime.w = closestT;
+        if (feature != null)
+            feature[0] = closestFeature;
+        return triangles[closest];
+    }
+
+    /*
+     * Turns an impact with a negative time into an impact at time 0 when the sphere still overlaps the triangle starting at
+     * vertices[v], storing the closest point on the triangle and 0 into pointAndTime. Returns the feature of that point, or 0
+     * when the sphere does not overlap the triangle. closest receives the closest point in either case.
+     */
+    private int penetration(int v, float centerX, float centerY, float centerZ, float radius, Vector4f pointAndTime, Vector3f closest) {
+        int f = Intersectionf.findClosestPointOnTriangle(
+                vertices[v], vertices[v + 1], vertices[v + 2], vertices[v + 3], vertices[v + 4], vertices[v + 5],
+                vertices[v + 6], vertices[v + 7], vertices[v + 8], centerX, centerY, centerZ, closest);
+        float dx = closest.x - centerX, dy = closest.y - centerY, dz = closest.z - centerZ;
+        if (dx * dx + dy * dy + dz * dz > radius * radius)
+            return 0;
+        pointAndTime.set(closest.x, closest.y, closest.z, 0.0f);
+        return f;
+    }
+
+    /**
+     * Determine the point on the mesh closest to the given <code>point</code> within the distance <code>maxDistance</code>.
+     * 
+     * @see #findClosestPoint(float, float, float, float, Vector3f, int[])
+     * 
+     * @param point
+     *          the query point
+     * @param maxDistance
+     *          the maximum distance to consider
+     * @param result
+     *          will hold the closest point on the mesh
+     * @param feature
+     *          if not <code>null</code>, then its first element will hold the {@link Intersectionf#POINT_ON_TRIANGLE_FACE POINT_ON_TRIANGLE_*}
+     *          code of the triangle feature the closest point lies on
+     * @return the index of the triangle containing the closest point; or <code>-1</code> if no triangle is within <code>maxDistance</code>
+     */
+    public int findClosestPoint(Vector3fc point, float maxDistance, Vector3f result, int[] feature) {
+        return findClosestPoint(point.x(), point.y(), point.z(), maxDistance, result, feature);
+    }
+
+    /**
+     * Determine the point on the mesh closest to the point <code>(pX, pY, pZ)</code> within the distance <code>maxDistance</code>.
+     * <p>
+     * The hierarchy is traversed best-first: of the two children of each visited node the one whose bounds are closer to the
+     * point is visited first, and every node whose bounds are farther away than the closest triangle found so far is skipped.
+     * The triangles in the visited leaves are tested via
+     * {@link Intersectionf#findClosestPointOnTriangle(float, float, float, float, float, float, float, float, float, float, float, float, Vector3f) Intersectionf.findClosestPointOnTriangle()}.
+     * <p>
+     * A finite <code>maxDistance</code>, such as the snapping distance, lets the traversal skip all nodes farther away than that
+     * from the start. Use {@link Float#POSITIVE_INFINITY} to always find the closest point.
+     * <p>
+     * <code>result</code> and <code>feature</code> are only written to when a triangle is found.
+     * <p>
+     * This method can be called from multiple threads concurrently. It allocates a traversal stack whose size is the depth
+     * of the hierarchy; use {@link #findClosestPoint(float, float, float, float, Vector3f, int[], int[], float[], Vector3f) findClosestPoint()}
+     * with caller-supplied stacks to repeat queries without allocating, or
+     * {@link #findClosestPoints(float[], int, float, float[], int[], int[], ForkJoinPool) findClosestPoints()} to query many points
+     * with one stack per thread.
+     * 
+     * @param pX
+     *          the x coordinate of the query point
+     * @param pY
+     *          the y coordinate of the query point
+     * @param pZ
+     *          the z coordinate of the query point
+     * @param maxDistance
+     *          the maximum distance to consider
+     * @param result
+     *          will hold the closest point on the mesh
+     * @param feature
+     *          if not <code>null</code>, then its first element will hold the {@link Intersectionf#POINT_ON_TRIANGLE_FACE POINT_ON_TRIANGLE_*}
+     *          code of the triangle feature the closest point lies on
+     * @return the index of the triangle containing the closest point; or <code>-1</code> if no triangle is within <code>maxDistance</code>
+     */
+    public int findClosestPoint(float pX, float pY, float pZ, float maxDistance, Vector3f result, int[] feature) {
+        return findClosestPoint(pX, pY, pZ, maxDistance, result, feature, 0, new int[depth], new float[depth], new Vector3f());
+    }
+
+    /**
+     * Determine the point on the mesh closest to the point <code>(pX, pY, pZ)</code> within the distance <code>maxDistance</code>,
+     * using the given arrays as the traversal stack and <code>tmp</code> for intermediate results.
+     * <p>
+     * This method does not allocate. Every thread querying concurrently must use its own <code>stackNodes</code>,
+     * <code>stackDistances</code> and <code>tmp</code>.
+     * 
+     * @see #findClosestPoint(float, float, float, float, Vector3f, int[])
+     * 
+     * @param pX
+     *          the x coordinate of the query point
+     * @param pY
+     *          the y coordinate of the query point
+     * @param pZ
+     *          the z coordinate of the query point
+     * @param maxDistance
+     *          the maximum distance to consider
+     * @param result
+     *          will hold the closest point on the mesh; only written to when a triangle is found
+     * @param feature
+     *          if not <code>null</code>, then its first element will hold the {@link Intersectionf#POINT_ON_TRIANGLE_FACE POINT_ON_TRIANGLE_*}
+     *          code of the triangle feature the closest point lies on
+     * @param stackNodes
+     *          the node stack, with at least {@link #stackDepth()} elements
+     * @param stackDistances
+     *          the node distance stack, with at least {@link #stackDepth()} elements
+     * @param tmp
+     *          will hold intermediate results; must not be <code>result</code>
+     * @return the index of the triangle containing the closest point; or <code>-1</code> if no triangle is within <code>maxDistance</code>
+     */
+    public int findClosestPoint(float pX, float pY, float pZ, float maxDistance, Vector3f result, int[] feature,
+            int[] stackNodes, float[] stackDistances, Vector3f tmp) {
+        if (stackNodes.length < depth || stackDistances.length < depth)
+            throw new IllegalArgumentException("stacks must have at least " + depth + " elements");
+        return findClosestPoint(pX, pY, pZ, maxDistance, result, feature, 0, stackNodes, stackDistances, tmp);
+    }
+
+    private int findClosestPoint(float pX, float pY, float pZ, float maxDistance, Vector3f result, int[] feature, int featureIndex,
+            int[] stackNodes, float[] stackDistances, Vector3f tmp) {
+        if (triangles.length == 0)
+            return -1;
+        float best = maxDistance * maxDistance, closestX = 0.0f, closestY = 0.0f, closestZ = 0.0f;
+        int closest = -1, closestFeature = 0;
+        int sp = 0, node = 0;
+        float distance = distanceSquared(0, pX, pY, pZ);
+        while (true) {
+            if (distance <= best) {
+                int count = nodes[3 * node + 1];
+                if (count == 0) {
+                    int left = node + 1, right = nodes[3 * left + 2];
+                    float leftDistance = distanceSquared(left, pX, pY, pZ), rightDistance = distanceSquared(right, pX, pY, pZ);
+                    if (leftDistance <= rightDistance) {
+                        stackNodes[sp] = right;
+                        stackDistances[sp++] = rightDistance;
+                        node = left;
+                        distance = leftDistance;
+                    } else {
+                        stackNodes[sp] = left;
+                        stackDistances[sp++] = leftDistance;
+                        node = right;
+                        distance = rightDistance;
+                    }
+                    continue;
+                }
+                for (int i = nodes[3 * node], end = i + count; i < end; i++) {
+                    int v = 9 * i;
+                    int f = Intersectionf.findClosestPointOnTriangle(
+                            vertices[v], vertices[v + 1], vertices[v + 2], vertices[v + 3], vertices[v + 4], vertices[v + 5],
+                            vertices[v + 6], vertices[v + 7], vertices[v + 8], pX, pY, pZ, tmp);
+                    float dx = tmp.x - pX, dy = tmp.y - pY, dz = tmp.z - pZ;
+                    float d = dx * dx + dy * dy + dz * dz;
+                    if (d <= best) {
+                        best = d;
+                        closestX = tmp.x;
+                        closestY = tmp.y;
+                        closestZ = tmp.z;
+                        closest = i;
+                        closestFeature = f;
+                    }
+                }
+            }
+            if (sp == 0)
+                break;
+            node = stackNodes[--sp];
+            distance = stackDistances[sp];
+        }
+        if (closest < 0)
+            return -1;
+        result.x = closestX;
+        result.y = closestY;
+        result.z = closestZ;
+        if (feature != null)
+            feature[featureIndex] = closestFeature;
+        return triangles[closest];
+    }
+
+    /*
+     * Squared distance between the point and the bounds of the node; zero if the point lies inside.
+     */
+    private float distanceSquared(int node, float pX, float pY, float pZ) {
+        int b = 6 * node;
+        float dx = Math.max(Math.max(bounds[b] - pX, pX - bounds[b + 3]), 0.0f);
+        float dy = Math.max(Math.max(bounds[b + 1] - pY, pY - bounds[b + 4]), 0.0f);
+        float dz = Math.max(Math.max(bounds[b + 2] - pZ, pZ - bounds[b + 5]), 0.0f);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Determine the closest points on the mesh for the first <code>count</code> points in <code>points</code>, optionally in parallel
+     * on the given {@link ForkJoinPool}.
+     * <p>
+     * For the query point <code>i</code> given as <code>(points[3*i], points[3*i+1], points[3*i+2])</code> this stores the result of
+     * {@link #findClosestPoint(float, float, float, float, Vector3f, int[]) findClosestPoint()} as the closest point in
+     * <code>closestPoints[3*i..3*i+2]</code>, the triangle index in <code>triangleIndices[i]</code> and the feature code in
+     * <code>features[i]</code>. Points without any triangle within <code>maxDistance</code> get the triangle index <code>-1</code>
+     * and leave their elements in <code>closestPoints</code> and <code>features</code> unchanged.
+     * <p>
+     * When <code>pool</code> is not <code>null</code>, the points are split into chunks that are processed by the pool's worker
+     * threads, and this method returns once all points have been processed. Otherwise all points are processed in the calling thread,
+     * even when that thread is itself a worker of some {@link ForkJoinPool}, so that passing <code>null</code> never forks work into a
+     * pool the caller did not choose.
+     * 
+     * @param points
+     *          the query points as consecutive <code>(x, y, z)</code> triples
+     * @param count
+     *          the number of query points
+     * @param maxDistance
+     *          the maximum distance to consider
+     * @param closestPoints
+     *          will hold the closest points as consecutive <code>(x, y, z)</code> triples
+     * @param triangleIndices
+     *          will hold the index of the triangle containing each closest point; or <code>-1</code>
+     * @param features
+     *          if not <code>null</code>, then will hold the {@link Intersectionf#POINT_ON_TRIANGLE_FACE POINT_ON_TRIANGLE_*} code of each closest point
+     * @param pool
+     *          the pool to run the queries on; or <code>null</code> to run them in the calling thread
+     */
+    public void findClosestPoints(float[] points, int count, float maxDistance, float[] closestPoints, int[] triangleIndices, int[] features,
+            ForkJoinPool pool) {
+        if (count < 0 || points.length < 3 * count || closestPoints.length < 3 * count || triangleIndices.length < count
+                || features != null && features.length < count)
+            throw new IllegalArgumentException("arrays are too small for " + count + " points");
+        ClosestPointsTask task = new ClosestPointsTask(this, points, 0, count, maxDistance, closestPoints, triangleIndices, features, pool != null);
+        if (pool != null)
+            pool.invoke(task);
+        else
+            task.compute();
+    }
+
+    private static final class ClosestPointsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        /* Number of points below which a task is not split further */
+        private static final int GRAIN = 256;
+        private final TriangleBvh bvh;
+        private final float[] points, closestPoints;
+        private final int[] triangleIndices, features;
+        private final int start, end;
+        private final float maxDistance;
+        /* Whether to split into subtasks; only when running on the pool given to findClosestPoints() */
+        private final boolean split;
+
+        ClosestPointsTask(TriangleBvh bvh, float[] points, int start, int end, float maxDistance, float[] closestPoints,
+                int[] triangleIndices, int[] features, boolean split) {
+            this.bvh = bvh;
+            this.points = points;
+            this.start = start;
+            this.end = end;
+            this.maxDistance = maxDistance;
+            this.closestPoints = closestPoints;
+            this.triangleIndices = triangleIndices;
+            this.features = features;
+            this.split = split;
+        }
+
+        protected void compute() {
+            if (split && end - start > GRAIN) {
+                int mid = (start + end) >>> 1;
+                invokeAll(new ClosestPointsTask(bvh, points, start, mid, maxDistance, closestPoints, triangleIndices, features, true),
+                          new ClosestPointsTask(bvh, points, mid, end, maxDistance, closestPoints, triangleIndices, features, true));
+                return;
+            }
+            Vector3f result = new Vector3f(), tmp = new Vector3f();
+            int[] stackNodes = new int[bvh.depth];
+            float[] stackDistances = new float[bvh.depth];
+            for (int i = start; i < end; i++) {
+                int triangle = bvh.findClosestPoint(points[3 * i], points[3 * i + 1], points[3 * i + 2], maxDistance,
+                        result, features, i, stackNodes, stackDistances, tmp);
+                triangleIndices[i] = triangle;
+                if (triangle >= 0) {
+                    closestPoints[3 * i] = result.x;
+                    closestPoints[3 * i + 1] = result.y;
+                    closestPoints[3 * i + 2] = result.z;
+                }
+            }
+        }
+    }
+
+//#endif
+}
@@ -27,6 +27,9 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
 //#ifdef __HAS_NIO__
 import java.nio.ByteBuffer;
 import java.nio.DoubleBuffer;
@@ -427,6 +430,25 @@ public class Vector2d implements Externalizable, Cloneable, Vector2dc {
         MemUtil.INSTANCE.get(this, index, buffer);
         return this;
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+
+    /**
+     * Read this vector from the supplied {@link MemorySegment} starting at the specified
+     * byte offset.
+     * <p>
+     * The segment bounds are checked once for all 16 bytes before any value is accessed.
+     * 
+     * @param byteOffset
+     *          the offset in bytes into the MemorySegment
+     * @param segment
+     *          values will be read in <code>x, y</code> order
+     * @return this
+     */
+    public Vector2d set(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.get(this, 0L, segment.asSlice(byteOffset, 16));
+        return this;
+    }
+//#endif
 
     /**
      * Read this vector from the supplied {@link DoubleBuffer} at the current
@@ -471,7 +493,7 @@ public class Vector2d implements Externalizable, Cloneable, Vector2dc {
      * Set the values of this vector by reading 2 double values from off-heap memory,
      * starting at the given address.
      * <p>
-     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`, unless the java.lang.foreign backend is in use.
      * <p>
      * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
      * 
@@ -480,6 +502,12 @@ public class Vector2d implements Externalizable, Cloneable, Vector2dc {
      * @return this
      */
     public Vector2d setFromAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.get(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.get(this, address);
@@ -550,6 +578,12 @@ public class Vector2d implements Externalizable, Cloneable, Vector2dc {
         MemUtil.INSTANCE.put(this, index, buffer);
         return buffer;
     }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    public MemorySegment get(long byteOffset, MemorySegment segment) {
+        MemUtil.MemUtilFFM.put(this, 0L, segment.asSlice(byteOffset, 16));
+        return segment;
+    }
+//#endif
 
     public DoubleBuffer get(DoubleBuffer buffer) {
         MemUtil.INSTANCE.put(this, buffer.position(), buffer);
@@ -564,6 +598,12 @@ public class Vector2d implements Externalizable, Cloneable, Vector2dc {
 
 //#ifdef __HAS_UNSAFE__
     public Vector2dc getToAddress(long address) {
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (MemUtil.INSTANCE instanceof MemUtil.MemUtilFFM) {
+            MemUtil.MemUtilFFM.put(this, address);
+            return this;
+        }
+//#endif
         if (Options.NO_UNSAFE)
             throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
         MemUtil.MemUtilUnsafe.put(this, address);
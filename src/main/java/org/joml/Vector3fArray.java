@@ -0,0 +1,581 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * A fixed-size collection of 3-component float vectors stored as a structure of arrays, with one
+ * primitive array per component.
+ * <p>
+ * Compared to an array of {@link Vector3f} objects this avoids the per-object header and reference, and it lets
+ * the bulk operations run as simple counted loops over primitive arrays, which the JIT compiler can auto-vectorize.
+ * <p>
+ * All bulk operations process the first {@link #size()} elements. A <code>dest</code> container may be
+ * <code>this</code> or one of the operands.
+ */
+public class Vector3fArray {
+
+    /**
+     * The x components of all vectors.
+     */
+    public final float[] x;
+    /**
+     * The y components of all vectors.
+     */
+    public final float[] y;
+    /**
+     * The z components of all vectors.
+     */
+    public final float[] z;
+
+    /**
+     * Create a new {@link Vector3fArray} holding <code>size</code> vectors, all initialized to <code>(0, 0, 0)</code>.
+     * 
+     * @param size
+     *          the number of vectors
+     */
+    public Vector3fArray(int size) {
+        this.x = new float[size];
+        this.y = new float[size];
+        this.z = new float[size];
+    }
+
+    /**
+     * Create a new {@link Vector3fArray} using the given component arrays as storage (without copying them).
+     * 
+     * @param x
+     *          the x components
+     * @param y
+     *          the y components
+     * @param z
+     *          the z components
+     */
+    public Vector3fArray(float[] x, float[] y, float[] z) {
+        if (y.length != x.length || z.length != x.length)
+            throw new IllegalArgumentException("component arrays must have the same length");
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Return the number of vectors in this container.
+     * 
+     * @return the number of vectors
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * Store the vector at the given index into <code>dest</code>.
+     * 
+     * @param index
+     *          the index of the vector
+     * @param dest
+     *          will hold the vector
+     * @return dest
+     */
+    public Vector3f get(int index, Vector3f dest) {
+        dest.x = x[index];
+        dest.y = y[index];
+        dest.z = z[index];
+        return dest;
+    }
+
+    /**
+     * Set the vector at the given index to the value of <code>v</code>.
+     * 
+     * @param index
+     *          the index of the vector
+     * @param v
+     *          the new value
+     * @return this
+     */
+    public Vector3fArray set(int index, Vector3fc v) {
+        return set(index, v.x(), v.y(), v.z());
+    }
+
+    /**
+     * Set the vector at the given index to <code>(x, y, z)</code>.
+     * 
+     * @param index
+     *          the index of the vector
+     * @param x
+     *          the x component
+     * @param y
+     *          the y component
+     * @param z
+     *          the z component
+     * @return this
+     */
+    public Vector3fArray set(int index, float x, float y, float z) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        return this;
+    }
+
+    /**
+     * Set all vectors to the vectors of <code>src</code>.
+     * 
+     * @param src
+     *          the source vectors
+     * @return this
+     */
+    public Vector3fArray set(Vector3fArray src) {
+        int n = x.length;
+        System.arraycopy(src.x, 0, x, 0, n);
+        System.arraycopy(src.y, 0, y, 0, n);
+        System.arraycopy(src.z, 0, z, 0, n);
+        return this;
+    }
+
+    /**
+     * Add the vectors of <code>v</code> component-wise to the vectors of this container.
+     * 
+     * @param v
+     *          the vectors to add
+     * @return this
+     */
+    public Vector3fArray add(Vector3fArray v) {
+        return add(v, this);
+    }
+
+    /**
+     * Add the vectors of <code>v</code> component-wise to the vectors of this container and store the result in <code>dest</code>.
+     * 
+     * @param v
+     *          the vectors to add
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray add(Vector3fArray v, Vector3fArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, vx = v.x, vy = v.y, vz = v.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            dx[i] = x[i] + vx[i];
+            dy[i] = y[i] + vy[i];
+            dz[i] = z[i] + vz[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Subtract the vectors of <code>v</code> component-wise from the vectors of this container.
+     * 
+     * @param v
+     *          the vectors to subtract
+     * @return this
+     */
+    public Vector3fArray sub(Vector3fArray v) {
+        return sub(v, this);
+    }
+
+    /**
+     * Subtract the vectors of <code>v</code> component-wise from the vectors of this container and store the result in <code>dest</code>.
+     * 
+     * @param v
+     *          the vectors to subtract
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray sub(Vector3fArray v, Vector3fArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, vx = v.x, vy = v.y, vz = v.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            dx[i] = x[i] - vx[i];
+            dy[i] = y[i] - vy[i];
+            dz[i] = z[i] - vz[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Multiply the vectors of this container component-wise by the vectors of <code>v</code>.
+     * 
+     * @param v
+     *          the vectors to multiply by
+     * @return this
+     */
+    public Vector3fArray mul(Vector3fArray v) {
+        return mul(v, this);
+    }
+
+    /**
+     * Multiply the vectors of this container component-wise by the vectors of <code>v</code> and store the result in <code>dest</code>.
+     * 
+     * @param v
+     *          the vectors to multiply by
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray mul(Vector3fArray v, Vector3fArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, vx = v.x, vy = v.y, vz = v.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            dx[i] = x[i] * vx[i];
+            dy[i] = y[i] * vy[i];
+            dz[i] = z[i] * vz[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Multiply all vectors of this container by the given scalar.
+     * 
+     * @param scalar
+     *          the scalar to multiply by
+     * @return this
+     */
+    public Vector3fArray mul(float scalar) {
+        return mul(scalar, this);
+    }
+
+    /**
+     * Multiply all vectors of this container by the given scalar and store the result in <code>dest</code>.
+     * 
+     * @param scalar
+     *          the scalar to multiply by
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray mul(float scalar, Vector3fArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            dx[i] = x[i] * scalar;
+            dy[i] = y[i] * scalar;
+            dz[i] = z[i] * scalar;
+        }
+        return dest;
+    }
+
+    /**
+     * Add the component-wise multiplication of <code>a * b</code> to the vectors of this container.
+     * 
+     * @param a
+     *          the first multiplicands
+     * @param b
+     *          the second multiplicands
+     * @return this
+     */
+    public Vector3fArray fma(Vector3fArray a, Vector3fArray b) {
+        return fma(a, b, this);
+    }
+
+    /**
+     * Add the component-wise multiplication of <code>a * b</code> to the vectors of this container
+     * and store the result in <code>dest</code>.
+     * 
+     * @param a
+     *          the first multiplicands
+     * @param b
+     *          the second multiplicands
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray fma(Vector3fArray a, Vector3fArray b, Vector3fArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, ax = a.x, ay = a.y, az = a.z, bx = b.x, by = b.y, bz = b.z;
+        float[] dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            dx[i] = Math.fma(ax[i], bx[i], x[i]);
+            dy[i] = Math.fma(ay[i], by[i], y[i]);
+            dz[i] = Math.fma(az[i], bz[i], z[i]);
+        }
+        return dest;
+    }
+
+    /**
+     * Add the vectors of <code>b</code> multiplied by the scalar <code>a</code> to the vectors of this container.
+     * 
+     * @param a
+     *          the scalar multiplicand
+     * @param b
+     *          the vectors to multiply
+     * @return this
+     */
+    public Vector3fArray fma(float a, Vector3fArray b) {
+        return fma(a, b, this);
+    }
+
+    /**
+     * Add the vectors of <code>b</code> multiplied by the scalar <code>a</code> to the vectors of this container
+     * and store the result in <code>dest</code>.
+     * 
+     * @param a
+     *          the scalar multiplicand
+     * @param b
+     *          the vectors to multiply
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray fma(float a, Vector3fArray b, Vector3fArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, bx = b.x, by = b.y, bz = b.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            dx[i] = Math.fma(a, bx[i], x[i]);
+            dy[i] = Math.fma(a, by[i], y[i]);
+            dz[i] = Math.fma(a, bz[i], z[i]);
+        }
+        return dest;
+    }
+
+    /**
+     * Normalize all vectors of this container.
+     * 
+     * @return this
+     */
+    public Vector3fArray normalize() {
+        return normalize(this);
+    }
+
+    /**
+     * Normalize all vectors of this container and store the result in <code>dest</code>.
+     * 
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray normalize(Vector3fArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            float vx = x[i], vy = y[i], vz = z[i];
+            float scalar = Math.invsqrt(Math.fma(vx, vx, Math.fma(vy, vy, vz * vz)));
+            dx[i] = vx * scalar;
+            dy[i] = vy * scalar;
+            dz[i] = vz * scalar;
+        }
+        return dest;
+    }
+
+    /**
+     * Linearly interpolate the vectors of this container and <code>other</code> using the given interpolation factor <code>t</code>.
+     * <p>
+     * If <code>t</code> is <code>0.0</code> then the result is <code>this</code>. If the interpolation factor is <code>1.0</code>
+     * then the result is <code>other</code>.
+     * 
+     * @param other
+     *          the other vectors
+     * @param t
+     *          the interpolation factor between 0.0 and 1.0
+     * @return this
+     */
+    public Vector3fArray lerp(Vector3fArray other, float t) {
+        return lerp(other, t, this);
+    }
+
+    /**
+     * Linearly interpolate the vectors of this container and <code>other</code> using the given interpolation factor <code>t</code>
+     * and store the result in <code>dest</code>.
+     * <p>
+     * If <code>t</code> is <code>0.0</code> then the result is <code>this</code>. If the interpolation factor is <code>1.0</code>
+     * then the result is <code>other</code>.
+     * 
+     * @param other
+     *          the other vectors
+     * @param t
+     *          the interpolation factor between 0.0 and 1.0
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray lerp(Vector3fArray other, float t, Vector3fArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, ox = other.x, oy = other.y, oz = other.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            dx[i] = Math.fma(ox[i] - x[i], t, x[i]);
+            dy[i] = Math.fma(oy[i] - y[i], t, y[i]);
+            dz[i] = Math.fma(oz[i] - z[i], t, z[i]);
+        }
+        return dest;
+    }
+
+    /**
+     * Compute the dot product of each vector of this container with the corresponding vector of <code>v</code>
+     * and store the results in <code>dest</code>.
+     * 
+     * @param v
+     *          the other vectors
+     * @param dest
+     *          will hold the dot products
+     * @return dest
+     */
+    public float[] dot(Vector3fArray v, float[] dest) {
+        float[] x = this.x, y = this.y, z = this.z, vx = v.x, vy = v.y, vz = v.z;
+        for (int i = 0, n = x.length; i < n; i++)
+            dest[i] = Math.fma(x[i], vx[i], Math.fma(y[i], vy[i], z[i] * vz[i]));
+        return dest;
+    }
+
+    /**
+     * Compute the length of each vector of this container and store the results in <code>dest</code>.
+     * 
+     * @param dest
+     *          will hold the lengths
+     * @return dest
+     */
+    public float[] length(float[] dest) {
+        float[] x = this.x, y = this.y, z = this.z;
+        for (int i = 0, n = x.length; i < n; i++)
+            dest[i] = Math.sqrt(Math.fma(x[i], x[i], Math.fma(y[i], y[i], z[i] * z[i])));
+        return dest;
+    }
+
+    /**
+     * Compute the cross product of each vector of this container with the corresponding vector of <code>v</code>.
+     * 
+     * @param v
+     *          the other vectors
+     * @return this
+     */
+    public Vector3fArray cross(Vector3fArray v) {
+        return cross(v, this);
+    }
+
+    /**
+     * Compute the cross product of each vector of this container with the corresponding vector of <code>v</code>
+     * and store the result in <code>dest</code>.
+     * 
+     * @param v
+     *          the other vectors
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray cross(Vector3fArray v, Vector3fArray dest) {
+        float[] x = this.x, y = this.y, z = this.z, vx = v.x, vy = v.y, vz = v.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            float ax = x[i], ay = y[i], az = z[i], bx = vx[i], by = vy[i], bz = vz[i];
+            dx[i] = Math.fma(ay, bz, -az * by);
+            dy[i] = Math.fma(az, bx, -ax * bz);
+            dz[i] = Math.fma(ax, by, -ay * bx);
+        }
+        return dest;
+    }
+
+    /**
+     * Multiply the given 4x4 matrix <code>mat</code> with all vectors of this container, treating them as positions
+     * with a <code>w</code> component of <code>1.0</code>.
+     * <p>
+     * This method assumes the <code>w</code> component of the resulting vectors to be <code>1.0</code>, which is the case
+     * for {@link Matrix4fc#isAffine() affine} matrices.
+     * 
+     * @param mat
+     *          the matrix to multiply with
+     * @return this
+     */
+    public Vector3fArray mulPosition(Matrix4fc mat) {
+        return mulPosition(mat, this);
+    }
+
+    /**
+     * Multiply the given 4x4 matrix <code>mat</code> with all vectors of this container, treating them as positions
+     * with a <code>w</code> component of <code>1.0</code>, and store the result in <code>dest</code>.
+     * <p>
+     * This method assumes the <code>w</code> component of the resulting vectors to be <code>1.0</code>, which is the case
+     * for {@link Matrix4fc#isAffine() affine} matrices.
+     * 
+     * @param mat
+     *          the matrix to multiply with
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray mulPosition(Matrix4fc mat, Vector3fArray dest) {
+        float m00 = mat.m00(), m01 = mat.m01(), m02 = mat.m02();
+        float m10 = mat.m10(), m11 = mat.m11(), m12 = mat.m12();
+        float m20 = mat.m20(), m21 = mat.m21(), m22 = mat.m22();
+        float m30 = mat.m30(), m31 = mat.m31(), m32 = mat.m32();
+        float[] x = this.x, y = this.y, z = this.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            float vx = x[i], vy = y[i], vz = z[i];
+            dx[i] = Math.fma(m00, vx, Math.fma(m10, vy, Math.fma(m20, vz, m30)));
+            dy[i] = Math.fma(m01, vx, Math.fma(m11, vy, Math.fma(m21, vz, m31)));
+            dz[i] = Math.fma(m02, vx, Math.fma(m12, vy, Math.fma(m22, vz, m32)));
+        }
+        return dest;
+    }
+
+    /**
+     * Multiply the given 4x4 matrix <code>mat</code> with all vectors of this container, treating them as directions
+     * with a <code>w</code> component of <code>0.0</code>.
+     * 
+     * @param mat
+     *          the matrix to multiply with
+     * @return this
+     */
+    public Vector3fArray mulDirection(Matrix4fc mat) {
+        return mulDirection(mat, this);
+    }
+
+    /**
+     * Multiply the given 4x4 matrix <code>mat</code> with all vectors of this container, treating them as directions
+     * with a <code>w</code> component of <code>0.0</code>, and store the result in <code>dest</code>.
+     * 
+     * @param mat
+     *          the matrix to multiply with
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray mulDirection(Matrix4fc mat, Vector3fArray dest) {
+        float m00 = mat.m00(), m01 = mat.m01(), m02 = mat.m02();
+        float m10 = mat.m10(), m11 = mat.m11(), m12 = mat.m12();
+        float m20 = mat.m20(), m21 = mat.m21(), m22 = mat.m22();
+        float[] x = this.x, y = this.y, z = this.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            float vx = x[i], vy = y[i], vz = z[i];
+            dx[i] = Math.fma(m00, vx, Math.fma(m10, vy, m20 * vz));
+            dy[i] = Math.fma(m01, vx, Math.fma(m11, vy, m21 * vz));
+            dz[i] = Math.fma(m02, vx, Math.fma(m12, vy, m22 * vz));
+        }
+        return dest;
+    }
+
+    /**
+     * Multiply the given 4x4 matrix <code>mat</code> with all vectors of this container, treating them as positions
+     * with a <code>w</code> component of <code>1.0</code>, and divide the results by their <code>w</code> component.
+     * 
+     * @param mat
+     *          the matrix to multiply with
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fArray mulProject(Matrix4fc mat, Vector3fArray dest) {
+        float m00 = mat.m00(), m01 = mat.m01(), m02 = mat.m02(), m03 = mat.m03();
+        float m10 = mat.m10(), m11 = mat.m11(), m12 = mat.m12(), m13 = mat.m13();
+        float m20 = mat.m20(), m21 = mat.m21(), m22 = mat.m22(), m23 = mat.m23();
+        float m30 = mat.m30(), m31 = mat.m31(), m32 = mat.m32(), m33 = mat.m33();
+        float[] x = this.x, y = this.y, z = this.z, dx = dest.x, dy = dest.y, dz = dest.z;
+        for (int i = 0, n = x.length; i < n; i++) {
+            float vx = x[i], vy = y[i], vz = z[i];
+            float invW = 1.0f / Math.fma(m03, vx, Math.fma(m13, vy, Math.fma(m23, vz, m33)));
+            dx[i] = Math.fma(m00, vx, Math.fma(m10, vy, Math.fma(m20, vz, m30))) * invW;
+            dy[i] = Math.fma(m01, vx, Math.fma(m11, vy, Math.fma(m21, vz, m31))) * invW;
+            dz[i] = Math.fma(m02, vx, Math.fma(m12, vy, Math.fma(m22, vz, m32))) * invW;
+        }
+        return dest;
+    }
+}
@@ -0,0 +1,501 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+//#ifdef __HAS_VECTOR_API__
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+//#endif
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+import static jdk.incubator.vector.FloatVector.SPECIES_128;
+import static jdk.incubator.vector.FloatVector.SPECIES_256;
+
+/**
+ * Matrix4f, FrustumIntersection, RayPacketAabIntersection and SimplexNoise kernels based on the incubating Vector API (jdk.incubator.vector).
+ * <p>
+ * Whether the kernels are used is decided once at class initialization: the jdk.incubator.vector module must be
+ * resolved at runtime (<code>--add-modules jdk.incubator.vector</code>), the preferred float species must be at least
+ * 128 bits wide and {@link Options#USE_VECTOR_API} must be set.
+ */
+class VectorApiCode {
+    static final boolean canUseVectorApi;
+
+    static {
+        boolean _canUseVectorApi = false;
+        try {
+            if (!Options.USE_VECTOR_API)
+                throw new AssertionError("not enabled via joml.useVectorApi");
+            if (!Kernels.isSupported())
+                throw new AssertionError("preferred vector species is narrower than 128 bits");
+            _canUseVectorApi = true;
+        } catch (Throwable e) {
+            if (Options.DEBUG) {
+                System.out.println("[JOML] Vector API not available, because: " + e.getClass().getName() + ": " + e.getMessage());
+            }
+        }
+        canUseVectorApi = _canUseVectorApi;
+    }
+
+    static void __Matrix4f_mul(Matrix4f a, Matrix4f b, Matrix4f r) {
+        Kernels.mul(a, b, r);
+    }
+    static void __Matrix4f_invert(Matrix4f a, Matrix4f r) {
+        Kernels.invert(a, r);
+    }
+    static void __Matrix4f_transpose(Matrix4f a, Matrix4f r) {
+        Kernels.transpose(a, r);
+    }
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    static void __Matrix4f_get(Matrix4f a, int index, ByteBuffer buffer) {
+        Kernels.get(a, index, buffer);
+    }
+//#endif
+    static int __FrustumIntersection_testAabs(Vector4f[] planes, float[] minX, float[] minY, float[] minZ,
+            float[] maxX, float[] maxY, float[] maxZ, int count, long[] dest) {
+        return Kernels.testAabs(planes, minX, minY, minZ, maxX, maxY, maxZ, count, dest);
+    }
+    static int __RayPacketAabIntersection_test(RayPacketAabIntersection p, float minX, float minY, float minZ,
+            float maxX, float maxY, float maxZ) {
+        return Kernels.testPacket(p, minX, minY, minZ, maxX, maxY, maxZ);
+    }
+    static int __FrustumIntersection_testSpheres(Vector4f[] planes, float[] x, float[] y, float[] z, float[] r, int count, long[] dest) {
+        return Kernels.testSpheres(planes, x, y, z, r, count, dest);
+    }
+    static int __SimplexNoise_noiseRow(int[] perm, int[] permMod12, boolean is3d, float x0, float dx, int c0, float scale,
+            float y, float z, int n, float[] dest, int off) {
+        if (is3d)
+            return Kernels.noiseRow3(perm, permMod12, x0, dx, c0, scale, y, z, n, dest, off);
+        return Kernels.noiseRow2(perm, permMod12, x0, dx, c0, scale, y, n, dest, off);
+    }
+
+    /**
+     * Holds everything that references jdk.incubator.vector types, so that a missing module only fails the
+     * initialization of this class and not of {@link VectorApiCode}.
+     */
+    private static final class Kernels {
+        /*
+         * VectorShuffles must be static final fields. Creating them inline in the kernels is a lot slower.
+         */
+        private static final VectorShuffle<Float> s0000 = SPECIES_128.shuffleFromValues(0, 0, 0, 0);
+        private static final VectorShuffle<Float> s1111 = SPECIES_128.shuffleFromValues(1, 1, 1, 1);
+        private static final VectorShuffle<Float> s2222 = SPECIES_128.shuffleFromValues(2, 2, 2, 2);
+        private static final VectorShuffle<Float> s3333 = SPECIES_128.shuffleFromValues(3, 3, 3, 3);
+        private static final VectorShuffle<Float> s0415 = SPECIES_128.shuffleFromValues(0, 4, 1, 5);
+        private static final VectorShuffle<Float> s2637 = SPECIES_128.shuffleFromValues(2, 6, 3, 7);
+        private static final VectorShuffle<Float> s2301 = SPECIES_128.shuffleFromValues(2, 3, 0, 1);
+        private static final VectorShuffle<Float> s1032 = SPECIES_128.shuffleFromValues(1, 0, 3, 2);
+        private static final VectorShuffle<Float> s0145 = SPECIES_128.shuffleFromValues(0, 1, 4, 5);
+        private static final VectorShuffle<Float> s2367 = SPECIES_128.shuffleFromValues(2, 3, 6, 7);
+        private static final VectorShuffle<Float> s0246 = SPECIES_128.shuffleFromValues(0, 2, 4, 6);
+        private static final VectorShuffle<Float> s1357 = SPECIES_128.shuffleFromValues(1, 3, 5, 7);
+        private static final VectorShuffle<Float> s00004444 = SPECIES_256.shuffleFromValues(0, 0, 0, 0, 4, 4, 4, 4);
+        private static final VectorShuffle<Float> s11115555 = SPECIES_256.shuffleFromValues(1, 1, 1, 1, 5, 5, 5, 5);
+        private static final VectorShuffle<Float> s22226666 = SPECIES_256.shuffleFromValues(2, 2, 2, 2, 6, 6, 6, 6);
+        private static final VectorShuffle<Float> s33337777 = SPECIES_256.shuffleFromValues(3, 3, 3, 3, 7, 7, 7, 7);
+        private static final VectorShuffle<Float> s01230123 = SPECIES_256.shuffleFromValues(0, 1, 2, 3, 0, 1, 2, 3);
+        private static final VectorShuffle<Float> s45674567 = SPECIES_256.shuffleFromValues(4, 5, 6, 7, 4, 5, 6, 7);
+
+        private static final boolean USE_256 = FloatVector.SPECIES_PREFERRED.vectorBitSize() >= 256;
+
+        static boolean isSupported() {
+            return FloatVector.SPECIES_PREFERRED.vectorBitSize() >= 128;
+        }
+
+        /**
+         * Per-thread staging area for the matrix kernels: elements <code>[0, 16)</code> hold the first operand and
+         * elements <code>[16, 32)</code> the second operand and the result.
+         */
+        private static final ThreadLocal<float[]> SCRATCH = new ThreadLocal<float[]>() {
+            protected float[] initialValue() {
+                return new float[32];
+            }
+        };
+
+        static void mul(Matrix4f a, Matrix4f b, Matrix4f r) {
+            float[] es = SCRATCH.get();
+            MemUtil.INSTANCE.copy(a, es, 0);
+            MemUtil.INSTANCE.copy(b, es, 16);
+            if (USE_256)
+                mul256(es);
+            else
+                mul128(es);
+            MemUtil.INSTANCE.copy(es, 16, r);
+        }
+        /**
+         * Computes <code>a * b</code>, with <code>a</code> in <code>es[0, 16)</code> and <code>b</code> in <code>es[16, 32)</code>,
+         * and stores the result into <code>es[16, 32)</code>.
+         * <p>
+         * Adapted from: https://stackoverflow.com/questions/18499971/efficient-4x4-matrix-multiplication-c-vs-assembly#answer-18508113
+         */
+        private static void mul128(float[] es) {
+            FloatVector col0 = FloatVector.fromArray(SPECIES_128, es, 0);
+            FloatVector col1 = FloatVector.fromArray(SPECIES_128, es, 4);
+            FloatVector col2 = FloatVector.fromArray(SPECIES_128, es, 8);
+            FloatVector col3 = FloatVector.fromArray(SPECIES_128, es, 12);
+            for (int i = 16; i < 32; i += 4) {
+                FloatVector c = FloatVector.fromArray(SPECIES_128, es, i);
+                c.rearrange(s0000).fma(col0,
+                c.rearrange(s1111).fma(col1,
+                c.rearrange(s2222).fma(col2,
+                c.rearrange(s3333).mul(col3)))).intoArray(es, i);
+            }
+        }
+        /**
+         * Computes <code>a * b</code>, with <code>a</code> in <code>es[0, 16)</code> and <code>b</code> in <code>es[16, 32)</code>,
+         * and stores the result into <code>es[16, 32)</code>.
+         * <p>
+         * Adapted from: https://stackoverflow.com/questions/19806222/matrix-vector-multiplication-in-avx-not-proportionately-faster-than-in-sse#answer-46058667
+         */
+        private static void mul256(float[] es) {
+            FloatVector t0 = FloatVector.fromArray(SPECIES_256, es, 16);
+            FloatVector t1 = FloatVector.fromArray(SPECIES_256, es, 24);
+            FloatVector u0 = FloatVector.fromArray(SPECIES_256, es, 0);
+            FloatVector u1 = FloatVector.fromArray(SPECIES_256, es, 8);
+            FloatVector u0r00 = u0.rearrange(s01230123);
+            FloatVector u1r00 = u1.rearrange(s01230123);
+            FloatVector u0r11 = u0.rearrange(s45674567);
+            FloatVector u1r11 = u1.rearrange(s45674567);
+            t0.rearrange(s00004444).fma(u0r00, t0.rearrange(s11115555).mul(u0r11))
+              .add(t0.rearrange(s33337777).fma(u1r11, t0.rearrange(s22226666).mul(u1r00)))
+              .intoArray(es, 16);
+            t1.rearrange(s00004444).fma(u0r00, t1.rearrange(s11115555).mul(u0r11))
+              .add(t1.rearrange(s33337777).fma(u1r11, t1.rearrange(s22226666).mul(u1r00)))
+              .intoArray(es, 24);
+        }
+
+        static void transpose(Matrix4f a, Matrix4f r) {
+            float[] es = SCRATCH.get();
+            MemUtil.INSTANCE.copy(a, es, 0);
+            FloatVector col0 = FloatVector.fromArray(SPECIES_128, es, 0);
+            FloatVector col1 = FloatVector.fromArray(SPECIES_128, es, 4);
+            FloatVector col2 = FloatVector.fromArray(SPECIES_128, es, 8);
+            FloatVector col3 = FloatVector.fromArray(SPECIES_128, es, 12);
+            FloatVector tmp0 = col0.rearrange(s0145, col1);
+            FloatVector tmp2 = col0.rearrange(s2367, col1);
+            FloatVector tmp1 = col2.rearrange(s0145, col3);
+            FloatVector tmp3 = col2.rearrange(s2367, col3);
+            tmp0.rearrange(s0246, tmp1).intoArray(es, 0);
+            tmp0.rearrange(s1357, tmp1).intoArray(es, 4);
+            tmp2.rearrange(s0246, tmp3).intoArray(es, 8);
+            tmp2.rearrange(s1357, tmp3).intoArray(es, 12);
+            MemUtil.INSTANCE.copy(es, 0, r);
+        }
+
+        /*
+         * Adapted from: https://github.com/niswegmann/small-matrix-inverse/blob/master/invert4x4_llvm.h
+         */
+        static void invert(Matrix4f a, Matrix4f r) {
+            float[] es = SCRATCH.get();
+            MemUtil.INSTANCE.copy(a, es, 0);
+            FloatVector col0 = FloatVector.fromArray(SPECIES_128, es, 0);
+            FloatVector col1 = FloatVector.fromArray(SPECIES_128, es, 4);
+            FloatVector col2 = FloatVector.fromArray(SPECIES_128, es, 8);
+            FloatVector col3 = FloatVector.fromArray(SPECIES_128, es, 12);
+            FloatVector tmp1 = col0.rearrange(s0415, col2);
+            FloatVector row1 = col1.rearrange(s0415, col3);
+            FloatVector row0 = tmp1.rearrange(s0415, row1);
+            row1 = tmp1.rearrange(s2637, row1);
+            tmp1 = col0.rearrange(s2637, col2);
+            FloatVector row3 = col1.rearrange(s2637, col3);
+            FloatVector row2 = tmp1.rearrange(s0415, row3);
+            row3 = tmp1.rearrange(s2637, row3);
+            row1 = row1.rearrange(s2301);
+            row3 = row3.rearrange(s2301);
+            tmp1 = row2.mul(row3).rearrange(s1032);
+            col0 = row1.mul(tmp1);
+            col1 = row0.mul(tmp1);
+            tmp1 = tmp1.rearrange(s2301);
+            col0 = row1.fma(tmp1, col0.neg());
+            col1 = row0.fma(tmp1, col1.neg()).rearrange(s2301);
+            tmp1 = row1.mul(row2).rearrange(s1032);
+            col0 = row3.fma(tmp1, col0);
+            col3 = row0.mul(tmp1);
+            tmp1 = tmp1.rearrange(s2301);
+            col0 = col0.sub(row3.mul(tmp1));
+            col3 = row0.fma(tmp1, col3.neg()).rearrange(s2301);
+            tmp1 = row1.rearrange(s2301).mul(row3).rearrange(s1032);
+            row2 = row2.rearrange(s2301);
+            col0 = row2.fma(tmp1, col0);
+            col2 = row0.mul(tmp1);
+            tmp1 = tmp1.rearrange(s2301);
+            col0 = col0.sub(row2.mul(tmp1));
+            col2 = row0.fma(tmp1, col2.neg()).rearrange(s2301);
+            tmp1 = row0.mul(row1).rearrange(s1032);
+            col2 = row3.fma(tmp1, col2);
+            col3 = row2.fma(tmp1, col3.neg());
+            tmp1 = tmp1.rearrange(s2301);
+            col2 = row3.fma(tmp1, col2.neg());
+            col3 = col3.sub(row2.mul(tmp1));
+            tmp1 = row0.mul(row3).rearrange(s1032);
+            col1 = col1.sub(row2.mul(tmp1));
+            col2 = row1.fma(tmp1, col2);
+            tmp1 = tmp1.rearrange(s2301);
+            col1 = row2.fma(tmp1, col1);
+            col2 = col2.sub(row1.mul(tmp1));
+            tmp1 = row0.mul(row2).rearrange(s1032);
+            col1 = row3.fma(tmp1, col1);
+            col3 = col3.sub(row1.mul(tmp1));
+            tmp1 = tmp1.rearrange(s2301);
+            col1 = col1.sub(row3.mul(tmp1));
+            col3 = row1.fma(tmp1, col3);
+            FloatVector det = row0.mul(col0);
+            det = det.rearrange(s2301).add(det);
+            det = det.rearrange(s1032).add(det);
+            det = FloatVector.broadcast(SPECIES_128, 1.0f).div(det);
+            col0.mul(det).intoArray(es, 0);
+            col1.mul(det).intoArray(es, 4);
+            col2.mul(det).intoArray(es, 8);
+            col3.mul(det).intoArray(es, 12);
+            MemUtil.INSTANCE.copy(es, 0, r);
+        }
+
+        private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+        static int testPacket(RayPacketAabIntersection p, float minX, float minY, float minZ,
+                float maxX, float maxY, float maxZ) {
+            if (p.width() == 8 && USE_256)
+                return (int) testPacket(SPECIES_256, p, 0, minX, minY, minZ, maxX, maxY, maxZ);
+            long mask = testPacket(SPECIES_128, p, 0, minX, minY, minZ, maxX, maxY, maxZ);
+            if (p.width() == 8)
+                mask |= testPacket(SPECIES_128, p, 4, minX, minY, minZ, maxX, maxY, maxZ) << 4;
+            return (int) mask;
+        }
+        private static long testPacket(VectorSpecies<Float> species, RayPacketAabIntersection p, int offset,
+                float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+            FloatVector tNear = FloatVector.zero(species);
+            FloatVector tFar = FloatVector.fromArray(species, p.maxT, offset);
+            for (int axis = 0; axis < 3; axis++) {
+                float[] origin = axis == 0 ? p.originX : axis == 1 ? p.originY : p.originZ;
+                float[] invDir = axis == 0 ? p.invDirX : axis == 1 ? p.invDirY : p.invDirZ;
+                float min = axis == 0 ? minX : axis == 1 ? minY : minZ;
+                float max = axis == 0 ? maxX : axis == 1 ? maxY : maxZ;
+                FloatVector o = FloatVector.fromArray(species, origin, offset);
+                FloatVector inv = FloatVector.fromArray(species, invDir, offset);
+                FloatVector t0 = o.neg().add(min).mul(inv), t1 = o.neg().add(max).mul(inv);
+                VectorMask<Float> negative = inv.compare(VectorOperators.LT, 0.0f);
+                FloatVector near = t0.blend(t1, negative), far = t1.blend(t0, negative);
+                // NaN distances compare false and so never replace the current bound
+                tNear = tNear.blend(near, near.compare(VectorOperators.GT, tNear));
+                tFar = tFar.blend(far, far.compare(VectorOperators.LT, tFar));
+            }
+            return tNear.compare(VectorOperators.LE, tFar).toLong();
+        }
+
+        /*
+         * The frustum kernels test whole blocks of 64 elements, one vector of lanes at a time, and return the number
+         * of elements tested. The arithmetic matches the scalar tests in FrustumIntersection exactly.
+         */
+        static int testAabs(Vector4f[] planes, float[] minX, float[] minY, float[] minZ,
+                float[] maxX, float[] maxY, float[] maxZ, int count, long[] dest) {
+            int lanes = SPECIES.length(), end = count & ~63;
+            for (int base = 0; base < end; base += 64) {
+                long bits = 0L;
+                for (int bit = 0; bit < 64; bit += lanes) {
+                    int i = base + bit;
+                    FloatVector x0 = FloatVector.fromArray(SPECIES, minX, i), x1 = FloatVector.fromArray(SPECIES, maxX, i);
+                    FloatVector y0 = FloatVector.fromArray(SPECIES, minY, i), y1 = FloatVector.fromArray(SPECIES, maxY, i);
+                    FloatVector z0 = FloatVector.fromArray(SPECIES, minZ, i), z1 = FloatVector.fromArray(SPECIES, maxZ, i);
+                    VectorMask<Float> visible = aabPlane(planes[0], x0, y0, z0, x1, y1, z1);
+                    for (int p = 1; p < 6; p++)
+                        visible = visible.and(aabPlane(planes[p], x0, y0, z0, x1, y1, z1));
+                    bits |= visible.toLong() << bit;
+                }
+                dest[base >>> 6] = bits;
+            }
+            return end;
+        }
+        private static VectorMask<Float> aabPlane(Vector4f p, FloatVector x0, FloatVector y0, FloatVector z0,
+                FloatVector x1, FloatVector y1, FloatVector z1) {
+            return (p.x < 0 ? x0 : x1).mul(p.x)
+                    .add((p.y < 0 ? y0 : y1).mul(p.y))
+                    .add((p.z < 0 ? z0 : z1).mul(p.z))
+                    .compare(VectorOperators.GE, -p.w);
+        }
+
+        static int testSpheres(Vector4f[] planes, float[] x, float[] y, float[] z, float[] r, int count, long[] dest) {
+            int lanes = SPECIES.length(), end = count & ~63;
+            for (int base = 0; base < end; base += 64) {
+                long bits = 0L;
+                for (int bit = 0; bit < 64; bit += lanes) {
+                    int i = base + bit;
+                    FloatVector cx = FloatVector.fromArray(SPECIES, x, i);
+                    FloatVector cy = FloatVector.fromArray(SPECIES, y, i);
+                    FloatVector cz = FloatVector.fromArray(SPECIES, z, i);
+                    FloatVector nr = FloatVector.fromArray(SPECIES, r, i).neg();
+                    VectorMask<Float> visible = spherePlane(planes[0], cx, cy, cz, nr);
+                    for (int p = 1; p < 6; p++)
+                        visible = visible.and(spherePlane(planes[p], cx, cy, cz, nr));
+                    bits |= visible.toLong() << bit;
+                }
+                dest[base >>> 6] = bits;
+            }
+            return end;
+        }
+        private static VectorMask<Float> spherePlane(Vector4f p, FloatVector x, FloatVector y, FloatVector z, FloatVector negR) {
+            return x.mul(p.x).add(y.mul(p.y)).add(z.mul(p.z)).add(p.w).compare(VectorOperators.GE, negR);
+        }
+
+        /*
+         * Simplex noise, lane for lane the same operations as SimplexNoise.noise() so that the results are bit-identical.
+         * Table lookups are gathers through an index map.
+         */
+        private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+        /* Lane indices 0, 1, 2, ... of the sample offsets within a row */
+        private static final IntVector IOTA = IntVector.zero(INT_SPECIES).addIndex(1);
+        /* Per-thread index map for the gathers of the noise kernels */
+        private static final ThreadLocal<int[]> INDEX_MAP = new ThreadLocal<int[]>() {
+            protected int[] initialValue() {
+                return new int[INT_SPECIES.length()];
+            }
+        };
+        private static final float[] GRAD3_X = {1, -1, 1, -1, 1, -1, 1, -1, 0, 0, 0, 0};
+        private static final float[] GRAD3_Y = {1, 1, -1, -1, 0, 0, 0, 0, 1, -1, 1, -1};
+        private static final float[] GRAD3_Z = {0, 0, 0, 0, 1, 1, -1, -1, 1, 1, -1, -1};
+
+        static int noiseRow2(int[] perm, int[] permMod12, float x0, float dx, int c0, float scale,
+                float y, int n, float[] dest, int off) {
+            int lanes = SPECIES.length(), end = n - n % lanes;
+            int[] indexMap = INDEX_MAP.get();
+            FloatVector yv = FloatVector.broadcast(SPECIES, y);
+            for (int c = 0; c < end; c += lanes) {
+                FloatVector xv = toFloat(IOTA.add(c0 + c)).mul(dx).add(x0).mul(scale);
+                FloatVector s = xv.add(y).mul(SimplexNoise.F2);
+                IntVector i = floor(xv.add(s)), j = floor(s.add(y));
+                FloatVector t = toFloat(i.add(j)).mul(SimplexNoise.G2);
+                FloatVector px0 = xv.sub(toFloat(i).sub(t)), py0 = yv.sub(toFloat(j).sub(t));
+                VectorMask<Float> xy = px0.compare(VectorOperators.GT, py0), yx = xy.not();
+                FloatVector px1 = px0.sub(1.0f, xy).add(SimplexNoise.G2), py1 = py0.sub(1.0f, yx).add(SimplexNoise.G2);
+                FloatVector px2 = px0.sub(1.0f).add(2.0f * SimplexNoise.G2), py2 = py0.sub(1.0f).add(2.0f * SimplexNoise.G2);
+                IntVector ii = i.and(255), jj = j.and(255);
+                VectorMask<Integer> i1 = xy.cast(INT_SPECIES), j1 = yx.cast(INT_SPECIES);
+                IntVector gi0 = gather(permMod12, ii.add(gather(perm, jj, indexMap)), indexMap);
+                IntVector gi1 = gather(permMod12, ii.add(1, i1).add(gather(perm, jj.add(1, j1), indexMap)), indexMap);
+                IntVector gi2 = gather(permMod12, ii.add(1).add(gather(perm, jj.add(1), indexMap)), indexMap);
+                FloatVector n0 = corner2(px0, py0, gi0, indexMap);
+                FloatVector n1 = corner2(px1, py1, gi1, indexMap);
+                FloatVector n2 = corner2(px2, py2, gi2, indexMap);
+                n0.add(n1).add(n2).mul(70.0f).intoArray(dest, off + c);
+            }
+            return end;
+        }
+        static int noiseRow3(int[] perm, int[] permMod12, float x0, float dx, int c0, float scale,
+                float y, float z, int n, float[] dest, int off) {
+            int lanes = SPECIES.length(), end = n - n % lanes;
+            int[] indexMap = INDEX_MAP.get();
+            FloatVector yv = FloatVector.broadcast(SPECIES, y), zv = FloatVector.broadcast(SPECIES, z);
+            for (int c = 0; c < end; c += lanes) {
+                FloatVector xv = toFloat(IOTA.add(c0 + c)).mul(dx).add(x0).mul(scale);
+                FloatVector s = xv.add(y).add(z).mul(SimplexNoise.F3);
+                IntVector i = floor(xv.add(s)), j = floor(s.add(y)), k = floor(s.add(z));
+                FloatVector t = toFloat(i.add(j).add(k)).mul(SimplexNoise.G3);
+                FloatVector px0 = xv.sub(toFloat(i).sub(t)), py0 = yv.sub(toFloat(j).sub(t)), pz0 = zv.sub(toFloat(k).sub(t));
+                VectorMask<Float> xy = px0.compare(VectorOperators.GE, py0);
+                VectorMask<Float> yz = py0.compare(VectorOperators.GE, pz0);
+                VectorMask<Float> xz = px0.compare(VectorOperators.GE, pz0);
+                VectorMask<Float> i1 = xy.and(yz.or(xz)), j1 = xy.not().and(yz), k1 = yz.not().and(xy.and(xz).not());
+                VectorMask<Float> i2 = xy.or(yz.and(xz)), j2 = xy.not().or(yz), k2 = yz.not().or(xy.or(xz).not());
+                FloatVector px1 = px0.sub(1.0f, i1).add(SimplexNoise.G3);
+                FloatVector py1 = py0.sub(1.0f, j1).add(SimplexNoise.G3);
+                FloatVector pz1 = pz0.sub(1.0f, k1).add(SimplexNoise.G3);
+                FloatVector px2 = px0.sub(1.0f, i2).add(2.0f * SimplexNoise.G3);
+                FloatVector py2 = py0.sub(1.0f, j2).add(2.0f * SimplexNoise.G3);
+                FloatVector pz2 = pz0.sub(1.0f, k2).add(2.0f * SimplexNoise.G3);
+                FloatVector px3 = px0.sub(1.0f).add(3.0f * SimplexNoise.G3);
+                FloatVector py3 = py0.sub(1.0f).add(3.0f * SimplexNoise.G3);
+                FloatVector pz3 = pz0.sub(1.0f).add(3.0f * SimplexNoise.G3);
+                IntVector ii = i.and(255), jj = j.and(255), kk = k.and(255);
+                IntVector gi0 = hash3(perm, permMod12, ii, jj, kk, indexMap);
+                IntVector gi1 = hash3(perm, permMod12, ii.add(1, i1.cast(INT_SPECIES)), jj.add(1, j1.cast(INT_SPECIES)),
+                        kk.add(1, k1.cast(INT_SPECIES)), indexMap);
+                IntVector gi2 = hash3(perm, permMod12, ii.add(1, i2.cast(INT_SPECIES)), jj.add(1, j2.cast(INT_SPECIES)),
+                        kk.add(1, k2.cast(INT_SPECIES)), indexMap);
+                IntVector gi3 = hash3(perm, permMod12, ii.add(1), jj.add(1), kk.add(1), indexMap);
+                FloatVector n0 = corner3(px0, py0, pz0, gi0, indexMap);
+                FloatVector n1 = corner3(px1, py1, pz1, gi1, indexMap);
+                FloatVector n2 = corner3(px2, py2, pz2, gi2, indexMap);
+                FloatVector n3 = corner3(px3, py3, pz3, gi3, indexMap);
+                n0.add(n1).add(n2).add(n3).mul(32.0f).intoArray(dest, off + c);
+            }
+            return end;
+        }
+        private static FloatVector toFloat(IntVector v) {
+            return (FloatVector) v.convert(VectorOperators.I2F, 0);
+        }
+        private static IntVector floor(FloatVector v) {
+            IntVector t = (IntVector) v.convert(VectorOperators.F2I, 0);
+            return t.sub(1, v.compare(VectorOperators.LT, toFloat(t)).cast(INT_SPECIES));
+        }
+        private static IntVector gather(int[] table, IntVector index, int[] indexMap) {
+            index.intoArray(indexMap, 0);
+            return IntVector.fromArray(INT_SPECIES, table, 0, indexMap, 0);
+        }
+        private static IntVector hash3(int[] perm, int[] permMod12, IntVector i, IntVector j, IntVector k, int[] indexMap) {
+            return gather(permMod12, i.add(gather(perm, j.add(gather(perm, k, indexMap)), indexMap)), indexMap);
+        }
+        private static FloatVector corner2(FloatVector x, FloatVector y, IntVector gi, int[] indexMap) {
+            FloatVector t = FloatVector.broadcast(SPECIES, 0.5f).sub(x.mul(x)).sub(y.mul(y));
+            VectorMask<Float> outside = t.compare(VectorOperators.LT, 0.0f);
+            gi.intoArray(indexMap, 0);
+            FloatVector gx = FloatVector.fromArray(SPECIES, GRAD3_X, 0, indexMap, 0);
+            FloatVector gy = FloatVector.fromArray(SPECIES, GRAD3_Y, 0, indexMap, 0);
+            t = t.mul(t);
+            return t.mul(t).mul(gx.mul(x).add(gy.mul(y))).blend(0.0f, outside);
+        }
+        private static FloatVector corner3(FloatVector x, FloatVector y, FloatVector z, IntVector gi, int[] indexMap) {
+            FloatVector t = FloatVector.broadcast(SPECIES, 0.6f).sub(x.mul(x)).sub(y.mul(y)).sub(z.mul(z));
+            VectorMask<Float> outside = t.compare(VectorOperators.LT, 0.0f);
+            gi.intoArray(indexMap, 0);
+            FloatVector gx = FloatVector.fromArray(SPECIES, GRAD3_X, 0, indexMap, 0);
+            FloatVector gy = FloatVector.fromArray(SPECIES, GRAD3_Y, 0, indexMap, 0);
+            FloatVector gz = FloatVector.fromArray(SPECIES, GRAD3_Z, 0, indexMap, 0);
+            t = t.mul(t);
+            return t.mul(t).mul(gx.mul(x).add(gy.mul(y)).add(gz.mul(z))).blend(0.0f, outside);
+        }
+
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        static void get(Matrix4f a, int index, ByteBuffer buffer) {
+            float[] es = SCRATCH.get();
+            MemUtil.INSTANCE.copy(a, es, 0);
+            MemorySegment ms = MemorySegment.ofBuffer(buffer);
+            long offset = index - buffer.position();
+            if (USE_256) {
+                FloatVector.fromArray(SPECIES_256, es, 0).intoMemorySegment(ms, offset, buffer.order());
+                FloatVector.fromArray(SPECIES_256, es, 8).intoMemorySegment(ms, offset + 32, buffer.order());
+            } else {
+                for (int i = 0; i < 4; i++)
+                    FloatVector.fromArray(SPECIES_128, es, i << 2).intoMemorySegment(ms, offset + (i << 4), buffer.order());
+            }
+        }
+//#endif
+    }
+}
+//#endif
@@ -0,0 +1,363 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_VECTOR_API__
+package org.joml.experimental;
+
+import java.text.NumberFormat;
+
+import org.joml.Matrix4f;
+import org.joml.Matrix4fc;
+import org.joml.Options;
+import org.joml.Runtime;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorShuffle;
+
+import static jdk.incubator.vector.FloatVector.SPECIES_128;
+import static jdk.incubator.vector.FloatVector.SPECIES_256;
+
+/**
+ * 4x4 matrix backed by a Java primitive float array in column-major order.
+ * <p>
+ * Multiplication, transformation, transposition and inversion are computed lane-parallel with the Vector API,
+ * using 256-bit vectors for multiplication when the platform prefers them and 128-bit vectors otherwise.
+ */
+public class Matrix4fa {
+    /*
+     * VectorShuffles must be static final fields. Creating them inline in the methods is a lot slower.
+     */
+    private static final VectorShuffle<Float> s0000 = SPECIES_128.shuffleFromValues(0, 0, 0, 0);
+    private static final VectorShuffle<Float> s1111 = SPECIES_128.shuffleFromValues(1, 1, 1, 1);
+    private static final VectorShuffle<Float> s2222 = SPECIES_128.shuffleFromValues(2, 2, 2, 2);
+    private static final VectorShuffle<Float> s3333 = SPECIES_128.shuffleFromValues(3, 3, 3, 3);
+    private static final VectorShuffle<Float> s0415 = SPECIES_128.shuffleFromValues(0, 4, 1, 5);
+    private static final VectorShuffle<Float> s2637 = SPECIES_128.shuffleFromValues(2, 6, 3, 7);
+    private static final VectorShuffle<Float> s2301 = SPECIES_128.shuffleFromValues(2, 3, 0, 1);
+    private static final VectorShuffle<Float> s1032 = SPECIES_128.shuffleFromValues(1, 0, 3, 2);
+    private static final VectorShuffle<Float> s0145 = SPECIES_128.shuffleFromValues(0, 1, 4, 5);
+    private static final VectorShuffle<Float> s2367 = SPECIES_128.shuffleFromValues(2, 3, 6, 7);
+    private static final VectorShuffle<Float> s0246 = SPECIES_128.shuffleFromValues(0, 2, 4, 6);
+    private static final VectorShuffle<Float> s1357 = SPECIES_128.shuffleFromValues(1, 3, 5, 7);
+    private static final VectorShuffle<Float> s00004444 = SPECIES_256.shuffleFromValues(0, 0, 0, 0, 4, 4, 4, 4);
+    private static final VectorShuffle<Float> s11115555 = SPECIES_256.shuffleFromValues(1, 1, 1, 1, 5, 5, 5, 5);
+    private static final VectorShuffle<Float> s22226666 = SPECIES_256.shuffleFromValues(2, 2, 2, 2, 6, 6, 6, 6);
+    private static final VectorShuffle<Float> s33337777 = SPECIES_256.shuffleFromValues(3, 3, 3, 3, 7, 7, 7, 7);
+    private static final VectorShuffle<Float> s01230123 = SPECIES_256.shuffleFromValues(0, 1, 2, 3, 0, 1, 2, 3);
+    private static final VectorShuffle<Float> s45674567 = SPECIES_256.shuffleFromValues(4, 5, 6, 7, 4, 5, 6, 7);
+    private static final boolean USE_256 = FloatVector.SPECIES_PREFERRED.vectorBitSize() >= 256;
+
+    final float[] arr = new float[16];
+
+    public Matrix4fa() {
+        arr[0] = 1;
+        arr[5] = 1;
+        arr[10] = 1;
+        arr[15] = 1;
+    }
+
+    public Matrix4fa(float m00, float m01, float m02, float m03,
+                     float m10, float m11, float m12, float m13,
+                     float m20, float m21, float m22, float m23,
+                     float m30, float m31, float m32, float m33) {
+        arr[0] = m00;
+        arr[1] = m01;
+        arr[2] = m02;
+        arr[3] = m03;
+        arr[4] = m10;
+        arr[5] = m11;
+        arr[6] = m12;
+        arr[7] = m13;
+        arr[8] = m20;
+        arr[9] = m21;
+        arr[10] = m22;
+        arr[11] = m23;
+        arr[12] = m30;
+        arr[13] = m31;
+        arr[14] = m32;
+        arr[15] = m33;
+    }
+
+    public Matrix4fa(Matrix4fa m) {
+        System.arraycopy(m.arr, 0, arr, 0, 16);
+    }
+
+    public Matrix4fa(Matrix4fc m) {
+        m.get(arr);
+    }
+
+    public float get(int column, int row) {
+        return arr[(column << 2) + row];
+    }
+
+    public Matrix4fa set(Matrix4fa m) {
+        System.arraycopy(m.arr, 0, arr, 0, 16);
+        return this;
+    }
+
+    public Matrix4fa set(Matrix4fc m) {
+        m.get(arr);
+        return this;
+    }
+
+    public Matrix4f get(Matrix4f dest) {
+        return dest.set(arr);
+    }
+
+    public float[] get(float[] dest, int offset) {
+        System.arraycopy(arr, 0, dest, offset, 16);
+        return dest;
+    }
+
+    public Matrix4fa identity() {
+        FloatVector zero = FloatVector.zero(SPECIES_128);
+        zero.withLane(0, 1.0f).intoArray(arr, 0);
+        zero.withLane(1, 1.0f).intoArray(arr, 4);
+        zero.withLane(2, 1.0f).intoArray(arr, 8);
+        zero.withLane(3, 1.0f).intoArray(arr, 12);
+        return this;
+    }
+
+    public Matrix4fa mul(Matrix4fa right) {
+        return mul(right, this);
+    }
+
+    public Matrix4fa mul(Matrix4fa right, Matrix4fa dest) {
+        if (USE_256)
+            return mul256(right, dest);
+        return mul128(right, dest);
+    }
+    private Matrix4fa mul128(Matrix4fa right, Matrix4fa dest) {
+        /*
+         * Adapted from:
+         * https://stackoverflow.com/questions/18499971/efficient-4x4-matrix-multiplication-c-vs-assembly#answer-18508113
+         */
+        FloatVector col0 = FloatVector.fromArray(SPECIES_128, arr, 0);
+        FloatVector col1 = FloatVector.fromArray(SPECIES_128, arr, 4);
+        FloatVector col2 = FloatVector.fromArray(SPECIES_128, arr, 8);
+        FloatVector col3 = FloatVector.fromArray(SPECIES_128, arr, 12);
+        for (int i = 0; i < 16; i += 4) {
+            FloatVector c = FloatVector.fromArray(SPECIES_128, right.arr, i);
+            c.rearrange(s0000).fma(col0,
+            c.rearrange(s1111).fma(col1,
+            c.rearrange(s2222).fma(col2,
+            c.rearrange(s3333).mul(col3)))).intoArray(dest.arr, i);
+        }
+        return dest;
+    }
+    private Matrix4fa mul256(Matrix4fa right, Matrix4fa dest) {
+        /*
+         * Adapted from:
+         * https://stackoverflow.com/questions/19806222/matrix-vector-multiplication-in-avx-not-proportionately-faster-than-in-sse#answer-46058667
+         */
+        FloatVector t0 = FloatVector.fromArray(SPECIES_256, right.arr, 0);
+        FloatVector t1 = FloatVector.fromArray(SPECIES_256, right.arr, 8);
+        FloatVector u0 = FloatVector.fromArray(SPECIES_256, arr, 0);
+        FloatVector u1 = FloatVector.fromArray(SPECIES_256, arr, 8);
+        FloatVector u0r00 = u0.rearrange(s01230123);
+        FloatVector u1r00 = u1.rearrange(s01230123);
+        FloatVector u0r11 = u0.rearrange(s45674567);
+        FloatVector u1r11 = u1.rearrange(s45674567);
+        FloatVector r0 = t0.rearrange(s00004444).fma(u0r00, t0.rearrange(s11115555).mul(u0r11))
+                .add(t0.rearrange(s33337777).fma(u1r11, t0.rearrange(s22226666).mul(u1r00)));
+        FloatVector r1 = t1.rearrange(s00004444).fma(u0r00, t1.rearrange(s11115555).mul(u0r11))
+                .add(t1.rearrange(s33337777).fma(u1r11, t1.rearrange(s22226666).mul(u1r00)));
+        r0.intoArray(dest.arr, 0);
+        r1.intoArray(dest.arr, 8);
+        return dest;
+    }
+
+    public Vector4fa transform(Vector4fa v) {
+        return transform(v, v);
+    }
+
+    public Vector4fa transform(Vector4fa v, Vector4fa dest) {
+        FloatVector c = FloatVector.fromArray(SPECIES_128, v.arr, 0);
+        c.rearrange(s0000).fma(FloatVector.fromArray(SPECIES_128, arr, 0),
+        c.rearrange(s1111).fma(FloatVector.fromArray(SPECIES_128, arr, 4),
+        c.rearrange(s2222).fma(FloatVector.fromArray(SPECIES_128, arr, 8),
+        c.rearrange(s3333).mul(FloatVector.fromArray(SPECIES_128, arr, 12))))).intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa transformPosition(Vector3fa v) {
+        return transformPosition(v, v);
+    }
+
+    public Vector3fa transformPosition(Vector3fa v, Vector3fa dest) {
+        FloatVector c = FloatVector.fromArray(SPECIES_128, v.arr, 0);
+        c.rearrange(s0000).fma(FloatVector.fromArray(SPECIES_128, arr, 0),
+        c.rearrange(s1111).fma(FloatVector.fromArray(SPECIES_128, arr, 4),
+        c.rearrange(s2222).fma(FloatVector.fromArray(SPECIES_128, arr, 8),
+        FloatVector.fromArray(SPECIES_128, arr, 12)))).blend(0.0f, Vector3fa.PADDING).intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa transformDirection(Vector3fa v) {
+        return transformDirection(v, v);
+    }
+
+    public Vector3fa transformDirection(Vector3fa v, Vector3fa dest) {
+        FloatVector c = FloatVector.fromArray(SPECIES_128, v.arr, 0);
+        c.rearrange(s0000).fma(FloatVector.fromArray(SPECIES_128, arr, 0),
+        c.rearrange(s1111).fma(FloatVector.fromArray(SPECIES_128, arr, 4),
+        c.rearrange(s2222).mul(FloatVector.fromArray(SPECIES_128, arr, 8)))).blend(0.0f, Vector3fa.PADDING).intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Matrix4fa transpose() {
+        return transpose(this);
+    }
+
+    public Matrix4fa transpose(Matrix4fa dest) {
+        FloatVector col0 = FloatVector.fromArray(SPECIES_128, arr, 0);
+        FloatVector col1 = FloatVector.fromArray(SPECIES_128, arr, 4);
+        FloatVector col2 = FloatVector.fromArray(SPECIES_128, arr, 8);
+        FloatVector col3 = FloatVector.fromArray(SPECIES_128, arr, 12);
+        // _MM_TRANSPOSE4_PS
+        FloatVector tmp0 = col0.rearrange(s0145, col1);
+        FloatVector tmp2 = col0.rearrange(s2367, col1);
+        FloatVector tmp1 = col2.rearrange(s0145, col3);
+        FloatVector tmp3 = col2.rearrange(s2367, col3);
+        tmp0.rearrange(s0246, tmp1).intoArray(dest.arr, 0);
+        tmp0.rearrange(s1357, tmp1).intoArray(dest.arr, 4);
+        tmp2.rearrange(s0246, tmp3).intoArray(dest.arr, 8);
+        tmp2.rearrange(s1357, tmp3).intoArray(dest.arr, 12);
+        return dest;
+    }
+
+    public Matrix4fa invert() {
+        return invert(this);
+    }
+
+    public Matrix4fa invert(Matrix4fa dest) {
+        /*
+         * Adapted from: https://github.com/niswegmann/small-matrix-inverse/blob/master/invert4x4_llvm.h
+         */
+        FloatVector col0 = FloatVector.fromArray(SPECIES_128, arr, 0);
+        FloatVector col1 = FloatVector.fromArray(SPECIES_128, arr, 4);
+        FloatVector col2 = FloatVector.fromArray(SPECIES_128, arr, 8);
+        FloatVector col3 = FloatVector.fromArray(SPECIES_128, arr, 12);
+        FloatVector tmp1 = col0.rearrange(s0415, col2);
+        FloatVector row1 = col1.rearrange(s0415, col3);
+        FloatVector row0 = tmp1.rearrange(s0415, row1);
+        row1 = tmp1.rearrange(s2637, row1);
+        tmp1 = col0.rearrange(s2637, col2);
+        FloatVector row3 = col1.rearrange(s2637, col3);
+        FloatVector row2 = tmp1.rearrange(s0415, row3);
+        row3 = tmp1.rearrange(s2637, row3);
+        row1 = row1.rearrange(s2301);
+        row3 = row3.rearrange(s2301);
+        tmp1 = row2.mul(row3).rearrange(s1032);
+        col0 = row1.mul(tmp1);
+        col1 = row0.mul(tmp1);
+        tmp1 = tmp1.rearrange(s2301);
+        col0 = row1.fma(tmp1, col0.neg());
+        col1 = row0.fma(tmp1, col1.neg()).rearrange(s2301);
+        tmp1 = row1.mul(row2).rearrange(s1032);
+        col0 = row3.fma(tmp1, col0);
+        col3 = row0.mul(tmp1);
+        tmp1 = tmp1.rearrange(s2301);
+        col0 = col0.sub(row3.mul(tmp1));
+        col3 = row0.fma(tmp1, col3.neg()).rearrange(s2301);
+        tmp1 = row1.rearrange(s2301).mul(row3).rearrange(s1032);
+        row2 = row2.rearrange(s2301);
+        col0 = row2.fma(tmp1, col0);
+        col2 = row0.mul(tmp1);
+        tmp1 = tmp1.rearrange(s2301);
+        col0 = col0.sub(row2.mul(tmp1));
+        col2 = row0.fma(tmp1, col2.neg()).rearrange(s2301);
+        tmp1 = row0.mul(row1).rearrange(s1032);
+        col2 = row3.fma(tmp1, col2);
+        col3 = row2.fma(tmp1, col3.neg());
+        tmp1 = tmp1.rearrange(s2301);
+        col2 = row3.fma(tmp1, col2.neg());
+        col3 = col3.sub(row2.mul(tmp1));
+        tmp1 = row0.mul(row3).rearrange(s1032);
+        col1 = col1.sub(row2.mul(tmp1));
+        col2 = row1.fma(tmp1, col2);
+        tmp1 = tmp1.rearrange(s2301);
+        col1 = row2.fma(tmp1, col1);
+        col2 = col2.sub(row1.mul(tmp1));
+        tmp1 = row0.mul(row2).rearrange(s1032);
+        col1 = row3.fma(tmp1, col1);
+        col3 = col3.sub(row1.mul(tmp1));
+        tmp1 = tmp1.rearrange(s2301);
+        col1 = col1.sub(row3.mul(tmp1));
+        col3 = row1.fma(tmp1, col3);
+        FloatVector det = row0.mul(col0);
+        det = det.rearrange(s2301).add(det);
+        det = det.rearrange(s1032).add(det);
+        det = FloatVector.broadcast(SPECIES_128, 1.0f).div(det);
+        col0.mul(det).intoArray(dest.arr, 0);
+        col1.mul(det).intoArray(dest.arr, 4);
+        col2.mul(det).intoArray(dest.arr, 8);
+        col3.mul(det).intoArray(dest.arr, 12);
+        return dest;
+    }
+
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        for (int i = 0; i < 16; i++)
+            result = prime * result + Float.floatToIntBits(arr[i]);
+        return result;
+    }
+
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        Matrix4fa other = (Matrix4fa) obj;
+        for (int i = 0; i < 16; i++)
+            if (Float.floatToIntBits(arr[i]) != Float.floatToIntBits(other.arr[i]))
+                return false;
+        return true;
+    }
+
+    public boolean equals(Matrix4fa m, float delta) {
+        if (this == m)
+            return true;
+        if (m == null)
+            return false;
+        for (int i = 0; i < 16; i++)
+            if (!Runtime.equals(arr[i], m.arr[i], delta))
+                return false;
+        return true;
+    }
+
+    public String toString() {
+        return Runtime.formatNumbers(toString(Options.NUMBER_FORMAT));
+    }
+
+    public String toString(NumberFormat formatter) {
+        return Runtime.format(arr[0], formatter) + " " + Runtime.format(arr[4], formatter) + " " + Runtime.format(arr[8], formatter) + " " + Runtime.format(arr[12], formatter) + "\n"
+             + Runtime.format(arr[1], formatter) + " " + Runtime.format(arr[5], formatter) + " " + Runtime.format(arr[9], formatter) + " " + Runtime.format(arr[13], formatter) + "\n"
+             + Runtime.format(arr[2], formatter) + " " + Runtime.format(arr[6], formatter) + " " + Runtime.format(arr[10], formatter) + " " + Runtime.format(arr[14], formatter) + "\n"
+             + Runtime.format(arr[3], formatter) + " " + Runtime.format(arr[7], formatter) + " " + Runtime.format(arr[11], formatter) + " " + Runtime.format(arr[15], formatter) + "\n";
+    }
+}
+//#endif
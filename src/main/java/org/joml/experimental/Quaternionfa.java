@@ -0,0 +1,271 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_VECTOR_API__
+package org.joml.experimental;
+
+import java.text.NumberFormat;
+
+import org.joml.Math;
+import org.joml.Options;
+import org.joml.Quaternionf;
+import org.joml.Quaternionfc;
+import org.joml.Runtime;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+
+import static jdk.incubator.vector.FloatVector.SPECIES_128;
+
+/**
+ * Quaternion backed by a Java primitive float array in <code>(x, y, z, w)</code> order.
+ * <p>
+ * Multiplication and vector transformation are computed lane-parallel with the Vector API using
+ * {@link FloatVector#SPECIES_128}.
+ */
+public class Quaternionfa {
+    private static final VectorShuffle<Float> s0000 = SPECIES_128.shuffleFromValues(0, 0, 0, 0);
+    private static final VectorShuffle<Float> s1111 = SPECIES_128.shuffleFromValues(1, 1, 1, 1);
+    private static final VectorShuffle<Float> s2222 = SPECIES_128.shuffleFromValues(2, 2, 2, 2);
+    private static final VectorShuffle<Float> s3333 = SPECIES_128.shuffleFromValues(3, 3, 3, 3);
+    private static final VectorShuffle<Float> s3210 = SPECIES_128.shuffleFromValues(3, 2, 1, 0);
+    private static final VectorShuffle<Float> s2301 = SPECIES_128.shuffleFromValues(2, 3, 0, 1);
+    private static final VectorShuffle<Float> s1032 = SPECIES_128.shuffleFromValues(1, 0, 3, 2);
+    private static final VectorShuffle<Float> s1203 = SPECIES_128.shuffleFromValues(1, 2, 0, 3);
+    private static final VectorShuffle<Float> s2013 = SPECIES_128.shuffleFromValues(2, 0, 1, 3);
+    /*
+     * Signs of the x, y and z terms of the Hamilton product when the other quaternion is permuted by
+     * s3210, s2301 and s1032, respectively.
+     */
+    private static final FloatVector SIGN_X = FloatVector.fromArray(SPECIES_128, new float[] {1, -1, 1, -1}, 0);
+    private static final FloatVector SIGN_Y = FloatVector.fromArray(SPECIES_128, new float[] {1, 1, -1, -1}, 0);
+    private static final FloatVector SIGN_Z = FloatVector.fromArray(SPECIES_128, new float[] {-1, 1, 1, -1}, 0);
+    private static final FloatVector CONJUGATE = FloatVector.fromArray(SPECIES_128, new float[] {-1, -1, -1, 1}, 0);
+
+    final float[] arr = new float[4];
+
+    public Quaternionfa() {
+        arr[3] = 1;
+    }
+
+    public Quaternionfa(float x, float y, float z, float w) {
+        arr[0] = x;
+        arr[1] = y;
+        arr[2] = z;
+        arr[3] = w;
+    }
+
+    public Quaternionfa(Quaternionfa q) {
+        System.arraycopy(q.arr, 0, arr, 0, 4);
+    }
+
+    public Quaternionfa(Quaternionfc q) {
+        set(q);
+    }
+
+    public float x() {
+        return arr[0];
+    }
+
+    public float y() {
+        return arr[1];
+    }
+
+    public float z() {
+        return arr[2];
+    }
+
+    public float w() {
+        return arr[3];
+    }
+
+    public Quaternionfa set(float x, float y, float z, float w) {
+        arr[0] = x;
+        arr[1] = y;
+        arr[2] = z;
+        arr[3] = w;
+        return this;
+    }
+
+    public Quaternionfa set(Quaternionfa q) {
+        System.arraycopy(q.arr, 0, arr, 0, 4);
+        return this;
+    }
+
+    public Quaternionfa set(Quaternionfc q) {
+        return set(q.x(), q.y(), q.z(), q.w());
+    }
+
+    public Quaternionf get(Quaternionf dest) {
+        return dest.set(arr[0], arr[1], arr[2], arr[3]);
+    }
+
+    public Quaternionfa identity() {
+        FloatVector.zero(SPECIES_128).withLane(3, 1.0f).intoArray(arr, 0);
+        return this;
+    }
+
+    public Quaternionfa mul(Quaternionfa q) {
+        return mul(q, this);
+    }
+
+    public Quaternionfa mul(Quaternionfa q, Quaternionfa dest) {
+        FloatVector a = FloatVector.fromArray(SPECIES_128, arr, 0);
+        FloatVector b = FloatVector.fromArray(SPECIES_128, q.arr, 0);
+        a.rearrange(s3333).mul(b)
+         .add(a.rearrange(s0000).mul(b.rearrange(s3210)).fma(SIGN_X,
+              a.rearrange(s1111).mul(b.rearrange(s2301)).fma(SIGN_Y,
+              a.rearrange(s2222).mul(b.rearrange(s1032)).mul(SIGN_Z))))
+         .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Quaternionfa conjugate() {
+        return conjugate(this);
+    }
+
+    public Quaternionfa conjugate(Quaternionfa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .mul(CONJUGATE)
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public float lengthSquared() {
+        FloatVector a = FloatVector.fromArray(SPECIES_128, arr, 0);
+        return a.mul(a).reduceLanes(VectorOperators.ADD);
+    }
+
+    public Quaternionfa normalize() {
+        return normalize(this);
+    }
+
+    public Quaternionfa normalize(Quaternionfa dest) {
+        FloatVector a = FloatVector.fromArray(SPECIES_128, arr, 0);
+        a.mul(Math.invsqrt(a.mul(a).reduceLanes(VectorOperators.ADD))).intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    /**
+     * Transform the <code>(x, y, z)</code> components of the given vector by this unit quaternion.
+     * The <code>w</code> component of the vector is left unchanged.
+     * 
+     * @param v
+     *          the vector to transform
+     * @return v
+     */
+    public Vector4fa transform(Vector4fa v) {
+        return transform(v, v);
+    }
+
+    /**
+     * Transform the <code>(x, y, z)</code> components of the given vector by this unit quaternion
+     * and store the result in <code>dest</code>. The <code>w</code> component is copied unchanged.
+     * 
+     * @param v
+     *          the vector to transform
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector4fa transform(Vector4fa v, Vector4fa dest) {
+        // v' = v + w * t + cross(q.xyz, t), with t = 2 * cross(q.xyz, v)
+        // the w lane of both cross products is w*w' - w*w' = 0, so the w component of v passes through
+        FloatVector q = FloatVector.fromArray(SPECIES_128, arr, 0);
+        FloatVector p = FloatVector.fromArray(SPECIES_128, v.arr, 0);
+        FloatVector q1203 = q.rearrange(s1203);
+        FloatVector q2013 = q.rearrange(s2013);
+        FloatVector t = q1203.mul(p.rearrange(s2013)).sub(q2013.mul(p.rearrange(s1203))).mul(2.0f);
+        q1203.mul(t.rearrange(s2013)).sub(q2013.mul(t.rearrange(s1203)))
+             .add(q.rearrange(s3333).fma(t, p))
+             .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    /**
+     * Transform the given vector by this unit quaternion.
+     * 
+     * @param v
+     *          the vector to transform
+     * @return v
+     */
+    public Vector3fa transform(Vector3fa v) {
+        return transform(v, v);
+    }
+
+    /**
+     * Transform the given vector by this unit quaternion and store the result in <code>dest</code>.
+     * 
+     * @param v
+     *          the vector to transform
+     * @param dest
+     *          will hold the result
+     * @return dest
+     */
+    public Vector3fa transform(Vector3fa v, Vector3fa dest) {
+        // same as transform(Vector4fa, Vector4fa): the zero padding lane of v passes through unchanged
+        FloatVector q = FloatVector.fromArray(SPECIES_128, arr, 0);
+        FloatVector p = FloatVector.fromArray(SPECIES_128, v.arr, 0);
+        FloatVector q1203 = q.rearrange(s1203);
+        FloatVector q2013 = q.rearrange(s2013);
+        FloatVector t = q1203.mul(p.rearrange(s2013)).sub(q2013.mul(p.rearrange(s1203))).mul(2.0f);
+        q1203.mul(t.rearrange(s2013)).sub(q2013.mul(t.rearrange(s1203)))
+             .add(q.rearrange(s3333).fma(t, p))
+             .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Float.floatToIntBits(arr[0]);
+        result = prime * result + Float.floatToIntBits(arr[1]);
+        result = prime * result + Float.floatToIntBits(arr[2]);
+        result = prime * result + Float.floatToIntBits(arr[3]);
+        return result;
+    }
+
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        Quaternionfa other = (Quaternionfa) obj;
+        for (int i = 0; i < 4; i++)
+            if (Float.floatToIntBits(arr[i]) != Float.floatToIntBits(other.arr[i]))
+                return false;
+        return true;
+    }
+
+    public String toString() {
+        return Runtime.formatNumbers(toString(Options.NUMBER_FORMAT));
+    }
+
+    public String toString(NumberFormat formatter) {
+        return "(" + Runtime.format(arr[0], formatter) + " " + Runtime.format(arr[1], formatter) + " " + Runtime.format(arr[2], formatter) + " " + Runtime.format(arr[3], formatter) + ")";
+    }
+}
+//#endif
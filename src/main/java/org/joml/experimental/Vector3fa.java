@@ -0,0 +1,368 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_VECTOR_API__
+package org.joml.experimental;
+
+import java.text.NumberFormat;
+
+import org.joml.Math;
+import org.joml.Options;
+import org.joml.Runtime;
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+
+import static jdk.incubator.vector.FloatVector.SPECIES_128;
+
+/**
+ * 3D vector backed by a Java primitive float array.
+ * <p>
+ * The array has a fourth padding element, which is always zero, so that all component-wise operations can be computed
+ * lane-parallel with the Vector API using {@link FloatVector#SPECIES_128}. Operations that could produce a non-zero
+ * value in the padding lane clear it before storing.
+ */
+public class Vector3fa {
+    /*
+     * VectorShuffles and VectorMasks must be static final fields. Creating them inline in the methods is a lot slower.
+     */
+    private static final VectorShuffle<Float> s1203 = SPECIES_128.shuffleFromValues(1, 2, 0, 3);
+    private static final VectorShuffle<Float> s2013 = SPECIES_128.shuffleFromValues(2, 0, 1, 3);
+    static final VectorMask<Float> PADDING = VectorMask.fromValues(SPECIES_128, false, false, false, true);
+
+    final float[] arr = new float[4];
+
+    public Vector3fa() {
+    }
+
+    public Vector3fa(float x, float y, float z) {
+        arr[0] = x;
+        arr[1] = y;
+        arr[2] = z;
+    }
+
+    public Vector3fa(Vector3fa v) {
+        System.arraycopy(v.arr, 0, arr, 0, 3);
+    }
+
+    public Vector3fa(Vector3fc v) {
+        set(v);
+    }
+
+    public float x() {
+        return arr[0];
+    }
+
+    public float y() {
+        return arr[1];
+    }
+
+    public float z() {
+        return arr[2];
+    }
+
+    public Vector3fa set(float x, float y, float z) {
+        arr[0] = x;
+        arr[1] = y;
+        arr[2] = z;
+        return this;
+    }
+
+    public Vector3fa set(Vector3fa v) {
+        System.arraycopy(v.arr, 0, arr, 0, 3);
+        return this;
+    }
+
+    public Vector3fa set(Vector3fc v) {
+        return set(v.x(), v.y(), v.z());
+    }
+
+    public Vector3f get(Vector3f dest) {
+        return dest.set(arr[0], arr[1], arr[2]);
+    }
+
+    public float[] get(float[] dest, int offset) {
+        System.arraycopy(arr, 0, dest, offset, 3);
+        return dest;
+    }
+
+    public Vector3fa zero() {
+        FloatVector.zero(SPECIES_128).intoArray(arr, 0);
+        return this;
+    }
+
+    public Vector3fa add(Vector3fa v) {
+        return add(v, this);
+    }
+
+    public Vector3fa add(Vector3fa v, Vector3fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .add(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa sub(Vector3fa v) {
+        return sub(v, this);
+    }
+
+    public Vector3fa sub(Vector3fa v, Vector3fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .sub(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa mul(Vector3fa v) {
+        return mul(v, this);
+    }
+
+    public Vector3fa mul(Vector3fa v, Vector3fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .mul(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa mul(float scalar) {
+        return mul(scalar, this);
+    }
+
+    public Vector3fa mul(float scalar, Vector3fa dest) {
+        // 0 * Infinity and 0 * NaN would leave NaN in the padding lane
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .mul(scalar)
+                .blend(0.0f, PADDING)
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa div(Vector3fa v) {
+        return div(v, this);
+    }
+
+    public Vector3fa div(Vector3fa v, Vector3fa dest) {
+        // the padding lane computes 0 / 0
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .div(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .blend(0.0f, PADDING)
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa div(float scalar) {
+        return div(scalar, this);
+    }
+
+    public Vector3fa div(float scalar, Vector3fa dest) {
+        return mul(1.0f / scalar, dest);
+    }
+
+    public Vector3fa fma(Vector3fa a, Vector3fa b) {
+        return fma(a, b, this);
+    }
+
+    public Vector3fa fma(Vector3fa a, Vector3fa b, Vector3fa dest) {
+        FloatVector.fromArray(SPECIES_128, a.arr, 0)
+                .fma(FloatVector.fromArray(SPECIES_128, b.arr, 0), FloatVector.fromArray(SPECIES_128, arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa fma(float a, Vector3fa b) {
+        return fma(a, b, this);
+    }
+
+    public Vector3fa fma(float a, Vector3fa b, Vector3fa dest) {
+        FloatVector.fromArray(SPECIES_128, b.arr, 0)
+                .fma(FloatVector.broadcast(SPECIES_128, a), FloatVector.fromArray(SPECIES_128, arr, 0))
+                .blend(0.0f, PADDING)
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa negate() {
+        return negate(this);
+    }
+
+    public Vector3fa negate(Vector3fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .neg()
+                .blend(0.0f, PADDING)
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa absolute() {
+        return absolute(this);
+    }
+
+    public Vector3fa absolute(Vector3fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .abs()
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa min(Vector3fa v) {
+        return min(v, this);
+    }
+
+    public Vector3fa min(Vector3fa v, Vector3fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .min(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa max(Vector3fa v) {
+        return max(v, this);
+    }
+
+    public Vector3fa max(Vector3fa v, Vector3fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .max(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa lerp(Vector3fa other, float t) {
+        return lerp(other, t, this);
+    }
+
+    public Vector3fa lerp(Vector3fa other, float t, Vector3fa dest) {
+        FloatVector a = FloatVector.fromArray(SPECIES_128, arr, 0);
+        FloatVector.fromArray(SPECIES_128, other.arr, 0)
+                .sub(a)
+                .fma(FloatVector.broadcast(SPECIES_128, t), a)
+                .blend(0.0f, PADDING)
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector3fa cross(Vector3fa v) {
+        return cross(v, this);
+    }
+
+    public Vector3fa cross(Vector3fa v, Vector3fa dest) {
+        // (a.yzx * b.zxy - a.zxy * b.yzx); the padding lane computes 0 * 0 - 0 * 0
+        FloatVector a = FloatVector.fromArray(SPECIES_128, arr, 0);
+        FloatVector b = FloatVector.fromArray(SPECIES_128, v.arr, 0);
+        a.rearrange(s1203).mul(b.rearrange(s2013))
+         .sub(a.rearrange(s2013).mul(b.rearrange(s1203)))
+         .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public float dot(Vector3fa v) {
+        return FloatVector.fromArray(SPECIES_128, arr, 0)
+                .mul(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .reduceLanes(VectorOperators.ADD);
+    }
+
+    public float lengthSquared() {
+        return dot(this);
+    }
+
+    public float length() {
+        return Math.sqrt(lengthSquared());
+    }
+
+    public float distanceSquared(Vector3fa v) {
+        FloatVector d = FloatVector.fromArray(SPECIES_128, arr, 0)
+                .sub(FloatVector.fromArray(SPECIES_128, v.arr, 0));
+        return d.mul(d).reduceLanes(VectorOperators.ADD);
+    }
+
+    public float distance(Vector3fa v) {
+        return Math.sqrt(distanceSquared(v));
+    }
+
+    public Vector3fa normalize() {
+        return normalize(this);
+    }
+
+    public Vector3fa normalize(Vector3fa dest) {
+        FloatVector a = FloatVector.fromArray(SPECIES_128, arr, 0);
+        float invLength = Math.invsqrt(a.mul(a).reduceLanes(VectorOperators.ADD));
+        a.mul(invLength).blend(0.0f, PADDING).intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Float.floatToIntBits(arr[0]);
+        result = prime * result + Float.floatToIntBits(arr[1]);
+        result = prime * result + Float.floatToIntBits(arr[2]);
+        return result;
+    }
+
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        Vector3fa other = (Vector3fa) obj;
+        return equals(other.arr[0], other.arr[1], other.arr[2]);
+    }
+
+    public boolean equals(Vector3fa v, float delta) {
+        if (this == v)
+            return true;
+        if (v == null)
+            return false;
+        if (!Runtime.equals(arr[0], v.arr[0], delta))
+            return false;
+        if (!Runtime.equals(arr[1], v.arr[1], delta))
+            return false;
+        if (!Runtime.equals(arr[2], v.arr[2], delta))
+            return false;
+        return true;
+    }
+
+    public boolean equals(float x, float y, float z) {
+        if (Float.floatToIntBits(arr[0]) != Float.floatToIntBits(x))
+            return false;
+        if (Float.floatToIntBits(arr[1]) != Float.floatToIntBits(y))
+            return false;
+        if (Float.floatToIntBits(arr[2]) != Float.floatToIntBits(z))
+            return false;
+        return true;
+    }
+
+    public String toString() {
+        return Runtime.formatNumbers(toString(Options.NUMBER_FORMAT));
+    }
+
+    public String toString(NumberFormat formatter) {
+        return "(" + Runtime.format(arr[0], formatter) + " " + Runtime.format(arr[1], formatter) + " " + Runtime.format(arr[2], formatter) + ")";
+    }
+}
+//#endif
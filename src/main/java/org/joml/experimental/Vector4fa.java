@@ -26,18 +26,26 @@ package org.joml.experimental;
 
 import java.text.NumberFormat;
 
+import org.joml.Math;
 import org.joml.Options;
 import org.joml.Runtime;
+import org.joml.Vector4f;
+import org.joml.Vector4fc;
 
 import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+
+import static jdk.incubator.vector.FloatVector.SPECIES_128;
 
 /**
  * 4D vector backed by a Java primitive float array.
+ * <p>
+ * All component-wise operations are computed lane-parallel with the Vector API using {@link FloatVector#SPECIES_128}.
  * 
  * @author Kai Burjack
  */
 public class Vector4fa {
-    private final float[] arr = new float[4];
+    final float[] arr = new float[4];
 
     public Vector4fa() {
         arr[3] = 1;
@@ -50,13 +58,238 @@ public class Vector4fa {
         arr[3] = w;
     }
 
-    public Vector4fa add(Vector4fa v) {
-        FloatVector.fromArray(FloatVector.SPECIES_128, arr, 0)
-                .add(FloatVector.fromArray(FloatVector.SPECIES_128, v.arr, 0))
-                .intoArray(arr, 0);
+    public Vector4fa(Vector4fa v) {
+        System.arraycopy(v.arr, 0, arr, 0, 4);
+    }
+
+    public Vector4fa(Vector4fc v) {
+        set(v);
+    }
+
+    public float x() {
+        return arr[0];
+    }
+
+    public float y() {
+        return arr[1];
+    }
+
+    public float z() {
+        return arr[2];
+    }
+
+    public float w() {
+        return arr[3];
+    }
+
+    public Vector4fa set(float x, float y, float z, float w) {
+        arr[0] = x;
+        arr[1] = y;
+        arr[2] = z;
+        arr[3] = w;
+        return this;
+    }
+
+    public Vector4fa set(Vector4fa v) {
+        System.arraycopy(v.arr, 0, arr, 0, 4);
         return this;
     }
 
+    public Vector4fa set(Vector4fc v) {
+        return set(v.x(), v.y(), v.z(), v.w());
+    }
+
+    public Vector4f get(Vector4f dest) {
+        return dest.set(arr[0], arr[1], arr[2], arr[3]);
+    }
+
+    public float[] get(float[] dest, int offset) {
+        System.arraycopy(arr, 0, dest, offset, 4);
+        return dest;
+    }
+
+    public Vector4fa zero() {
+        FloatVector.zero(SPECIES_128).intoArray(arr, 0);
+        return this;
+    }
+
+    public Vector4fa add(Vector4fa v) {
+        return add(v, this);
+    }
+
+    public Vector4fa add(Vector4fa v, Vector4fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .add(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector4fa sub(Vector4fa v) {
+        return sub(v, this);
+    }
+
+    public Vector4fa sub(Vector4fa v, Vector4fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .sub(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector4fa mul(Vector4fa v) {
+        return mul(v, this);
+    }
+
+    public Vector4fa mul(Vector4fa v, Vector4fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .mul(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector4fa mul(float scalar) {
+        return mul(scalar, this);
+    }
+
+    public Vector4fa mul(float scalar, Vector4fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .mul(scalar)
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector4fa div(Vector4fa v) {
+        return div(v, this);
+    }
+
+    public Vector4fa div(Vector4fa v, Vector4fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .div(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector4fa div(float scalar) {
+        return div(scalar, this);
+    }
+
+    public Vector4fa div(float scalar, Vector4fa dest) {
+        return mul(1.0f / scalar, dest);
+    }
+
+    public Vector4fa fma(Vector4fa a, Vector4fa b) {
+        return fma(a, b, this);
+    }
+
+    public Vector4fa fma(Vector4fa a, Vector4fa b, Vector4fa dest) {
+        FloatVector.fromArray(SPECIES_128, a.arr, 0)
+                .fma(FloatVector.fromArray(SPECIES_128, b.arr, 0), FloatVector.fromArray(SPECIES_128, arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector4fa fma(float a, Vector4fa b) {
+        return fma(a, b, this);
+    }
+
+    public Vector4fa fma(float a, Vector4fa b, Vector4fa dest) {
+        FloatVector.fromArray(SPECIES_128, b.arr, 0)
+                .fma(FloatVector.broadcast(SPECIES_128, a), FloatVector.fromArray(SPECIES_128, arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector4fa negate() {
+        return negate(this);
+    }
+
+    public Vector4fa negate(Vector4fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .neg()
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector4fa absolute() {
+        return absolute(this);
+    }
+
+    public Vector4fa absolute(Vector4fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .abs()
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector4fa min(Vector4fa v) {
+        return min(v, this);
+    }
+
+    public Vector4fa min(Vector4fa v, Vector4fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .min(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector4fa max(Vector4fa v) {
+        return max(v, this);
+    }
+
+    public Vector4fa max(Vector4fa v, Vector4fa dest) {
+        FloatVector.fromArray(SPECIES_128, arr, 0)
+                .max(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public Vector4fa lerp(Vector4fa other, float t) {
+        return lerp(other, t, this);
+    }
+
+    public Vector4fa lerp(Vector4fa other, float t, Vector4fa dest) {
+        FloatVector a = FloatVector.fromArray(SPECIES_128, arr, 0);
+        FloatVector.fromArray(SPECIES_128, other.arr, 0)
+                .sub(a)
+                .fma(FloatVector.broadcast(SPECIES_128, t), a)
+                .intoArray(dest.arr, 0);
+        return dest;
+    }
+
+    public float dot(Vector4fa v) {
+        return FloatVector.fromArray(SPECIES_128, arr, 0)
+                .mul(FloatVector.fromArray(SPECIES_128, v.arr, 0))
+                .reduceLanes(VectorOperators.ADD);
+    }
+
+    public float lengthSquared() {
+        return dot(this);
+    }
+
+    public float length() {
+        return Math.sqrt(lengthSquared());
+    }
+
+    public float distanceSquared(Vector4fa v) {
+        FloatVector d = FloatVector.fromArray(SPECIES_128, arr, 0)
+                .sub(FloatVector.fromArray(SPECIES_128, v.arr, 0));
+        return d.mul(d).reduceLanes(VectorOperators.ADD);
+    }
+
+    public float distance(Vector4fa v) {
+        return Math.sqrt(distanceSquared(v));
+    }
+
+    public Vector4fa normalize() {
+        return normalize(this);
+    }
+
+    public Vector4fa normalize(Vector4fa dest) {
+        FloatVector a = FloatVector.fromArray(SPECIES_128, arr, 0);
+        float invLength = Math.invsqrt(a.mul(a).reduceLanes(VectorOperators.ADD));
+        a.mul(invLength).intoArray(dest.arr, 0);
+        return dest;
+    }
+
     public int hashCode() {
         final int prime = 31;
         int result = 1;
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_VECTOR_API__
+package org.joml.experimental.test;
+
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+import org.joml.experimental.Matrix4fa;
+import org.joml.experimental.Vector3fa;
+import org.joml.experimental.Vector4fa;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Matrix4faTest {
+    private static Matrix4f general() {
+        return new Matrix4f()
+                .perspective(1.2f, 1.5f, 0.1f, 100.0f)
+                .rotateXYZ(0.1f, 0.2f, 0.3f)
+                .translate(1, 2, 3);
+    }
+
+    @Test
+    void testMul() {
+        Matrix4f a = general();
+        Matrix4f b = new Matrix4f().rotateY(0.4f).scale(2, 3, 4).translate(-1, 0, 5);
+        Matrix4f expected = new Matrix4f(a).mul(b);
+        Matrix4fa r = new Matrix4fa(a).mul(new Matrix4fa(b));
+        assertTrue(expected.equals(r.get(new Matrix4f()), 1E-5f));
+    }
+
+    @Test
+    void testTransform() {
+        Matrix4f a = general();
+        Vector4f expected = a.transform(new Vector4f(1, -2, 3, 1));
+        Vector4fa v = new Matrix4fa(a).transform(new Vector4fa(1, -2, 3, 1));
+        assertTrue(expected.equals(v.get(new Vector4f()), 1E-5f));
+    }
+
+    @Test
+    void testTransformPositionAndDirection() {
+        Matrix4f a = new Matrix4f().rotateXYZ(0.1f, 0.2f, 0.3f).translate(1, 2, 3).scale(2);
+        Matrix4fa m = new Matrix4fa(a);
+        Vector3f p = a.transformPosition(new Vector3f(1, -2, 3));
+        assertTrue(m.transformPosition(new Vector3fa(1, -2, 3)).equals(new Vector3fa(p), 1E-5f));
+        Vector3f d = a.transformDirection(new Vector3f(1, -2, 3));
+        assertTrue(m.transformDirection(new Vector3fa(1, -2, 3)).equals(new Vector3fa(d), 1E-5f));
+    }
+
+    @Test
+    void testTranspose() {
+        Matrix4f a = general();
+        Matrix4fa t = new Matrix4fa(a).transpose();
+        assertTrue(new Matrix4f(a).transpose().equals(t.get(new Matrix4f()), 0));
+        assertEquals(new Matrix4fa(a), t.transpose(new Matrix4fa()));
+    }
+
+    @Test
+    void testInvert() {
+        Matrix4f a = general();
+        Matrix4fa m = new Matrix4fa(a);
+        Matrix4fa inv = new Matrix4fa(m).invert();
+        assertTrue(new Matrix4f(a).invert().equals(inv.get(new Matrix4f()), 1E-3f));
+        assertTrue(new Matrix4fa().equals(inv.mul(m), 1E-5f));
+    }
+}
+//#endif
@@ -0,0 +1,76 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_VECTOR_API__
+package org.joml.experimental.test;
+
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.joml.experimental.Quaternionfa;
+import org.joml.experimental.Vector3fa;
+import org.joml.experimental.Vector4fa;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuaternionfaTest {
+    @Test
+    void testMul() {
+        Quaternionf a = new Quaternionf().rotateXYZ(0.1f, 0.7f, -0.3f);
+        Quaternionf b = new Quaternionf().rotateAxis(1.2f, 1, 2, 3);
+        Quaternionf expected = new Quaternionf(a).mul(b);
+        Quaternionf actual = new Quaternionfa(a).mul(new Quaternionfa(b)).get(new Quaternionf());
+        assertEquals(expected.x, actual.x, 1E-6f);
+        assertEquals(expected.y, actual.y, 1E-6f);
+        assertEquals(expected.z, actual.z, 1E-6f);
+        assertEquals(expected.w, actual.w, 1E-6f);
+    }
+
+    @Test
+    void testTransform() {
+        Quaternionf q = new Quaternionf().rotateAxis(1.2f, 1, 2, 3);
+        Vector3f expected = q.transform(new Vector3f(4, -5, 6));
+        Vector4fa v = new Quaternionfa(q).transform(new Vector4fa(4, -5, 6, 7));
+        assertTrue(expected.equals(new Vector3f(v.x(), v.y(), v.z()), 1E-5f));
+        assertEquals(7, v.w(), 0);
+    }
+
+    @Test
+    void testTransformVector3fa() {
+        Quaternionf q = new Quaternionf().rotateAxis(1.2f, 1, 2, 3);
+        Vector3f expected = q.transform(new Vector3f(4, -5, 6));
+        Vector3fa v = new Quaternionfa(q).transform(new Vector3fa(4, -5, 6));
+        assertTrue(v.equals(new Vector3fa(expected), 1E-5f));
+    }
+
+    @Test
+    void testConjugate() {
+        Quaternionfa q = new Quaternionfa(new Quaternionf().rotateAxis(1.2f, 1, 2, 3));
+        Quaternionfa r = new Quaternionfa(q).mul(new Quaternionfa(q).conjugate());
+        assertEquals(0, r.x(), 1E-6f);
+        assertEquals(0, r.y(), 1E-6f);
+        assertEquals(0, r.z(), 1E-6f);
+        assertEquals(1, r.w(), 1E-6f);
+    }
+}
+//#endif
@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_VECTOR_API__
+package org.joml.experimental.test;
+
+import org.joml.Vector3f;
+import org.joml.experimental.Vector3fa;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Vector3faTest {
+    @Test
+    void testArithmetic() {
+        Vector3fa a = new Vector3fa(1, 2, 3);
+        Vector3fa b = new Vector3fa(2, 4, 6);
+        assertEquals(new Vector3fa(3, 6, 9), new Vector3fa(a).add(b));
+        assertEquals(new Vector3fa(-1, -2, -3), new Vector3fa(a).sub(b));
+        assertEquals(new Vector3fa(2, 8, 18), new Vector3fa(a).mul(b));
+        assertEquals(new Vector3fa(0.5f, 0.5f, 0.5f), new Vector3fa(a).div(b));
+        assertEquals(new Vector3fa(3, 6, 9), new Vector3fa(a).mul(3));
+        assertEquals(new Vector3fa(3, 10, 21), new Vector3fa(a).fma(a, b));
+        assertEquals(new Vector3fa(1, 2, 3), new Vector3fa(-1, 2, -3).absolute());
+        assertEquals(new Vector3fa(1, 2, 3), new Vector3fa(a).min(b));
+        assertEquals(new Vector3fa(1.5f, 3, 4.5f), new Vector3fa(a).lerp(b, 0.5f));
+    }
+
+    @Test
+    void testPaddingStaysZero() {
+        Vector3fa a = new Vector3fa(1, 2, 3);
+        // the padding lane would compute 0 / 0 and 0 * Infinity here
+        Vector3fa d = new Vector3fa(a).div(new Vector3fa(1, 2, 3));
+        assertEquals(3, d.dot(d), 0);
+        Vector3fa m = new Vector3fa(a).mul(Float.POSITIVE_INFINITY);
+        assertEquals(Float.POSITIVE_INFINITY, m.lengthSquared(), 0);
+        Vector3fa l = new Vector3fa(a).lerp(new Vector3fa(2, 3, 4), Float.POSITIVE_INFINITY);
+        assertEquals(Float.POSITIVE_INFINITY, l.lengthSquared(), 0);
+    }
+
+    @Test
+    void testCross() {
+        Vector3f expected = new Vector3f(1, -2, 3).cross(-4, 5, 6);
+        Vector3fa actual = new Vector3fa(1, -2, 3).cross(new Vector3fa(-4, 5, 6));
+        assertEquals(new Vector3fa(expected), actual);
+    }
+
+    @Test
+    void testDotAndNormalize() {
+        Vector3fa a = new Vector3fa(1, 2, 3);
+        assertEquals(14, a.dot(a), 0);
+        assertEquals(14, a.lengthSquared(), 0);
+        assertEquals(5, new Vector3fa(4, 0, 0).distance(new Vector3fa(1, 4, 0)), 0);
+        Vector3fa n = new Vector3fa(a).normalize();
+        assertEquals(1, n.length(), 1E-6f);
+        assertTrue(n.equals(new Vector3fa(a).div(a.length()), 1E-6f));
+    }
+}
+//#endif
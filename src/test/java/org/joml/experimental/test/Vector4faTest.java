@@ -36,5 +36,29 @@ class Vector4faTest {
         v1.add(new Vector4fa(3, 4, 5, 6));
         assertEquals(new Vector4fa(4, 6, 8, 10), v1);
     }
+
+    @Test
+    void testArithmetic() {
+        Vector4fa a = new Vector4fa(1, 2, 3, 4);
+        Vector4fa b = new Vector4fa(2, 4, 6, 8);
+        assertEquals(new Vector4fa(-1, -2, -3, -4), new Vector4fa(a).sub(b));
+        assertEquals(new Vector4fa(2, 8, 18, 32), new Vector4fa(a).mul(b));
+        assertEquals(new Vector4fa(0.5f, 0.5f, 0.5f, 0.5f), new Vector4fa(a).div(b));
+        assertEquals(new Vector4fa(3, 6, 9, 12), new Vector4fa(a).mul(3));
+        assertEquals(new Vector4fa(3, 10, 21, 36), new Vector4fa(a).fma(a, b));
+        assertEquals(new Vector4fa(1, 2, 3, 4), new Vector4fa(-1, 2, -3, 4).absolute());
+        assertEquals(new Vector4fa(1, 2, 3, 4), new Vector4fa(a).min(b));
+        assertEquals(new Vector4fa(1.5f, 3, 4.5f, 6), new Vector4fa(a).lerp(b, 0.5f));
+    }
+
+    @Test
+    void testDotAndNormalize() {
+        Vector4fa a = new Vector4fa(1, 2, 3, 4);
+        assertEquals(30, a.dot(a), 0);
+        assertEquals(30, a.lengthSquared(), 0);
+        Vector4fa n = new Vector4fa(a).normalize();
+        assertEquals(1, n.length(), 1E-6f);
+        assertTrue(n.equals(new Vector4fa(a).div(a.length()), 1E-6f));
+    }
 }
 //#endif
\ No newline at end of file
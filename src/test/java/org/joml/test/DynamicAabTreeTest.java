@@ -0,0 +1,181 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.joml.*;
+import org.joml.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DynamicAabTree} class.
+ */
+class DynamicAabTreeTest {
+    private static final int N = 300;
+    private static final float MARGIN = 0.25f;
+
+    private final Random rnd = new Random(4711L);
+    private final float[] boxes = new float[6 * N];
+    private final int[] proxies = new int[N];
+
+    private void randomBox(int i) {
+        float x = rnd.nextFloat() * 50, y = rnd.nextFloat() * 50, z = rnd.nextFloat() * 50, s = 0.5f + rnd.nextFloat() * 2;
+        boxes[6 * i] = x;
+        boxes[6 * i + 1] = y;
+        boxes[6 * i + 2] = z;
+        boxes[6 * i + 3] = x + s;
+        boxes[6 * i + 4] = y + s;
+        boxes[6 * i + 5] = z + s;
+    }
+
+    private DynamicAabTree build() {
+        DynamicAabTree tree = new DynamicAabTree(MARGIN);
+        for (int i = 0; i < N; i++) {
+            randomBox(i);
+            proxies[i] = tree.insert(boxes[6 * i], boxes[6 * i + 1], boxes[6 * i + 2], boxes[6 * i + 3], boxes[6 * i + 4], boxes[6 * i + 5], i);
+        }
+        return tree;
+    }
+
+    private boolean fatOverlaps(DynamicAabTree tree, int i, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        Vector3f min = new Vector3f(), max = new Vector3f();
+        tree.getFatAab(proxies[i], min, max);
+        return Intersectionf.testAabAab(min.x, min.y, min.z, max.x, max.y, max.z, minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    private Set<Integer> queryAab(final DynamicAabTree tree, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        final Set<Integer> found = new HashSet<>();
+        tree.queryAab(minX, minY, minZ, maxX, maxY, maxZ, proxy -> {
+            assertTrue(found.add(tree.userData(proxy)));
+            return true;
+        });
+        return found;
+    }
+
+    @Test
+    void testAabQueryAfterMovesAndRemovals() {
+        DynamicAabTree tree = build();
+        assertEquals(N, tree.proxyCount());
+        assertTrue(tree.height() < 20, "height " + tree.height());
+        for (int step = 0; step < 5; step++) {
+            for (int i = 0; i < N; i++) {
+                if (proxies[i] < 0)
+                    continue;
+                if (step == 2 && i % 3 == 0) {
+                    tree.remove(proxies[i]);
+                    proxies[i] = -1;
+                    continue;
+                }
+                float d = (rnd.nextFloat() - 0.5f) * (i % 2 == 0 ? 0.1f : 5);
+                for (int k = 0; k < 6; k++)
+                    boxes[6 * i + k] += d;
+                tree.move(proxies[i], boxes[6 * i], boxes[6 * i + 1], boxes[6 * i + 2], boxes[6 * i + 3], boxes[6 * i + 4], boxes[6 * i + 5]);
+            }
+            for (int q = 0; q < 20; q++) {
+                float x = rnd.nextFloat() * 50, y = rnd.nextFloat() * 50, z = rnd.nextFloat() * 50;
+                Set<Integer> found = queryAab(tree, x, y, z, x + 6, y + 6, z + 6);
+                for (int i = 0; i < N; i++) {
+                    boolean expected = proxies[i] >= 0 && fatOverlaps(tree, i, x, y, z, x + 6, y + 6, z + 6);
+                    assertEquals(expected, found.contains(i));
+                    if (proxies[i] >= 0)
+                        /* the fat box always contains the actual box */
+                        assertTrue(fatOverlaps(tree, i, boxes[6 * i], boxes[6 * i + 1], boxes[6 * i + 2], boxes[6 * i], boxes[6 * i + 1], boxes[6 * i + 2]));
+                }
+            }
+        }
+        assertEquals(N - N / 3, tree.proxyCount());
+        assertTrue(tree.height() < 20, "height " + tree.height());
+    }
+
+    @Test
+    void testMoveWithinMargin() {
+        DynamicAabTree tree = new DynamicAabTree(1.0f);
+        int proxy = tree.insert(0, 0, 0, 1, 1, 1, 7);
+        assertFalse(tree.move(proxy, 0.5f, 0.5f, 0.5f, 1.5f, 1.5f, 1.5f));
+        assertTrue(tree.move(proxy, 1.5f, 0, 0, 2.5f, 1, 1));
+        Vector3f min = new Vector3f(), max = new Vector3f();
+        tree.getFatAab(proxy, min, max);
+        assertEquals(new Vector3f(0.5f, -1, -1), min);
+        assertEquals(new Vector3f(3.5f, 2, 2), max);
+        assertEquals(7, tree.userData(proxy));
+        tree.remove(proxy);
+        assertEquals(0, tree.proxyCount());
+        assertThrows(IllegalArgumentException.class, () -> tree.remove(proxy));
+    }
+
+    @Test
+    void testPairsMatchBruteForce() {
+        DynamicAabTree tree = build();
+        final Set<Long> pairs = new HashSet<>();
+        tree.queryPairs((a, b) -> {
+            assertTrue(a < b);
+            assertTrue(pairs.add(Long.valueOf(((long) tree.userData(a) << 32) | tree.userData(b))));
+        });
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < N; i++)
+            for (int j = 0; j < N; j++) {
+                if (proxies[i] >= proxies[j])
+                    continue;
+                Vector3f min = new Vector3f(), max = new Vector3f();
+                tree.getFatAab(proxies[j], min, max);
+                if (fatOverlaps(tree, i, min.x, min.y, min.z, max.x, max.y, max.z))
+                    expected.add(Long.valueOf(((long) i << 32) | j));
+            }
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, pairs);
+    }
+
+    @Test
+    void testSphereAndRayQueries() {
+        final DynamicAabTree tree = build();
+        final Set<Integer> found = new HashSet<>();
+        tree.querySphere(25, 25, 25, 8, proxy -> found.add(tree.userData(proxy)));
+        Vector3f min = new Vector3f(), max = new Vector3f();
+        for (int i = 0; i < N; i++) {
+            tree.getFatAab(proxies[i], min, max);
+            assertEquals(Intersectionf.testAabSphere(min, max, new Vector3f(25, 25, 25), 64), found.contains(i));
+        }
+        found.clear();
+        tree.queryRay(-1, 25, 25, 1, 0.1f, 0, 40, (proxy, maxT) -> {
+            found.add(tree.userData(proxy));
+            return maxT;
+        });
+        Vector2f t = new Vector2f();
+        for (int i = 0; i < N; i++) {
+            tree.getFatAab(proxies[i], min, max);
+            boolean expected = Intersectionf.intersectRayAab(-1, 25, 25, 1, 0.1f, 0, min.x, min.y, min.z, max.x, max.y, max.z, t) && t.x <= 40;
+            assertEquals(expected, found.contains(i));
+        }
+        final int[] count = new int[1];
+        tree.queryRay(-1, 25, 25, 1, 0.1f, 0, 40, (proxy, maxT) -> {
+            count[0]++;
+            return -1;
+        });
+        assertEquals(found.isEmpty() ? 0 : 1, count[0]);
+    }
+}
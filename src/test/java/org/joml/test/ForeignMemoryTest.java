@@ -0,0 +1,191 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+package org.joml.test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import org.joml.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ * Tests for reading and writing JOML objects from/to memory managed by java.lang.foreign.
+ */
+class ForeignMemoryTest {
+    /**
+     * Whether the selected MemUtil backend supports raw addresses. The NIO fallback, which is chosen for example with
+     * <code>-Djoml.nounsafe</code> but without <code>-Djoml.forceFfm</code>, throws {@link UnsupportedOperationException}.
+     */
+    private static boolean supportsAddresses() {
+        try (Arena arena = Arena.ofConfined()) {
+            new Vector3i().getToAddress(arena.allocate(12).address());
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    @Test
+    void testMatrix4fAddressRoundtrip() {
+        assumeTrue(supportsAddresses(), "MemUtil backend does not support raw addresses");
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(16 * 4 + 4);
+            Matrix4f m = new Matrix4f().rotateXYZ(0.1f, 0.2f, 0.3f).translate(1, 2, 3);
+            m.getToAddress(segment.address() + 4);
+            for (int i = 0; i < 16; i++)
+                assertEquals(m.get(i >>> 2, i & 3), segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, 4 + (i << 2)));
+            Matrix4f r = new Matrix4f().setFromAddress(segment.address() + 4);
+            assertEquals(m, r);
+        }
+    }
+
+    @Test
+    void testMatrix4x3fTransposedAddressRoundtrip() {
+        assumeTrue(supportsAddresses(), "MemUtil backend does not support raw addresses");
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(12 * 4);
+            Matrix4x3f m = new Matrix4x3f().rotateXYZ(0.1f, 0.2f, 0.3f).translate(1, 2, 3);
+            m.getTransposedToAddress(segment.address());
+            float[] columnMajor = m.get(new float[12]);
+            for (int row = 0; row < 3; row++)
+                for (int column = 0; column < 4; column++)
+                    assertEquals(columnMajor[column * 3 + row], segment.get(ValueLayout.JAVA_FLOAT, (row * 4 + column) << 2));
+            assertEquals(m, new Matrix4x3f().setTransposedFromAddress(segment.address()));
+        }
+    }
+
+    @Test
+    void testMatrix3dAddressRoundtrip() {
+        assumeTrue(supportsAddresses(), "MemUtil backend does not support raw addresses");
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(9 * 8);
+            Matrix3d m = new Matrix3d().rotateXYZ(0.1, 0.2, 0.3);
+            m.getToAddress(segment.address());
+            assertEquals(m.m21(), segment.get(ValueLayout.JAVA_DOUBLE, 7 * 8));
+            assertEquals(m, new Matrix3d().setFromAddress(segment.address()));
+        }
+    }
+
+    @Test
+    void testVectorAddressRoundtrip() {
+        assumeTrue(supportsAddresses(), "MemUtil backend does not support raw addresses");
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(64);
+            new Vector3i(1, -2, 3).getToAddress(segment.address());
+            assertEquals(-2, segment.get(ValueLayout.JAVA_INT, 4));
+            assertEquals(new Vector3i(1, -2, 3), new Vector3i().setFromAddress(segment.address()));
+            new Vector4d(1.5, 2.5, 3.5, 4.5).getToAddress(segment.address());
+            assertEquals(4.5, segment.get(ValueLayout.JAVA_DOUBLE, 24));
+            assertEquals(new Vector4d(1.5, 2.5, 3.5, 4.5), new Vector4d().setFromAddress(segment.address()));
+            new Vector2L(Long.MIN_VALUE, Long.MAX_VALUE).getToAddress(segment.address());
+            assertEquals(new Vector2L(Long.MIN_VALUE, Long.MAX_VALUE), new Vector2L().setFromAddress(segment.address()));
+        }
+    }
+
+    @Test
+    void testMatrix4fSegmentRoundtrip() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(16 * 4 + 4);
+            Matrix4f m = new Matrix4f().rotateXYZ(0.1f, 0.2f, 0.3f).translate(1, 2, 3);
+            assertSame(segment, m.get(4, segment));
+            for (int i = 0; i < 16; i++)
+                assertEquals(m.get(i >>> 2, i & 3), segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, 4 + (i << 2)));
+            assertEquals(m, new Matrix4f().set(4, segment));
+        }
+    }
+
+    @Test
+    void testMatrixSegmentOutOfBounds() {
+        MemorySegment segment = MemorySegment.ofArray(new float[15]);
+        assertThrows(IndexOutOfBoundsException.class, () -> new Matrix4f().get(0, segment));
+        for (int i = 0; i < 15; i++)
+            assertEquals(0.0f, segment.getAtIndex(ValueLayout.JAVA_FLOAT, i));
+        assertThrows(IndexOutOfBoundsException.class, () -> new Matrix4x3f().set(16, segment));
+    }
+
+    @Test
+    void testHeapSegmentRoundtrip() {
+        MemorySegment segment = MemorySegment.ofArray(new byte[128]);
+        Matrix4x3f m4x3 = new Matrix4x3f().rotateXYZ(0.1f, 0.2f, 0.3f).translate(1, 2, 3);
+        assertEquals(m4x3, new Matrix4x3f().set(3, m4x3.get(3, segment)));
+        Matrix3f m3 = new Matrix3f().rotateXYZ(0.1f, 0.2f, 0.3f);
+        assertEquals(m3, new Matrix3f().set(5, m3.get(5, segment)));
+        Matrix3x2f m3x2 = new Matrix3x2f().rotate(0.4f).translate(1, 2);
+        assertEquals(m3x2, new Matrix3x2f().set(7, m3x2.get(7, segment)));
+        Matrix2f m2 = new Matrix2f().rotate(0.4f);
+        assertEquals(m2, new Matrix2f().set(1, m2.get(1, segment)));
+    }
+
+    @Test
+    void testVectorSegmentRoundtrip() {
+        MemorySegment segment = MemorySegment.ofArray(new byte[64]);
+        assertEquals(new Vector2f(1, 2), new Vector2f().set(1, new Vector2f(1, 2).get(1, segment)));
+        assertEquals(new Vector2d(1, 2), new Vector2d().set(2, new Vector2d(1, 2).get(2, segment)));
+        assertEquals(new Vector2i(1, 2), new Vector2i().set(3, new Vector2i(1, 2).get(3, segment)));
+        assertEquals(new Vector3f(1, 2, 3), new Vector3f().set(4, new Vector3f(1, 2, 3).get(4, segment)));
+        assertEquals(new Vector3d(1, 2, 3), new Vector3d().set(5, new Vector3d(1, 2, 3).get(5, segment)));
+        assertEquals(new Vector3i(1, 2, 3), new Vector3i().set(6, new Vector3i(1, 2, 3).get(6, segment)));
+        assertEquals(new Vector4f(1, 2, 3, 4), new Vector4f().set(7, new Vector4f(1, 2, 3, 4).get(7, segment)));
+        assertEquals(new Vector4d(1, 2, 3, 4), new Vector4d().set(8, new Vector4d(1, 2, 3, 4).get(8, segment)));
+        assertEquals(new Vector4i(1, 2, 3, 4), new Vector4i().set(9, new Vector4i(1, 2, 3, 4).get(9, segment)));
+        new Vector3f(1, 2, 3).get(40, segment);
+        assertEquals(2.0f, segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, 44));
+    }
+
+    @Test
+    void testQuaternionSegmentRoundtrip() {
+        MemorySegment segment = MemorySegment.ofArray(new double[8]);
+        Quaternionf qf = new Quaternionf().rotateXYZ(0.1f, 0.2f, 0.3f);
+        assertEquals(qf, new Quaternionf().set(4, qf.get(4, segment)));
+        assertEquals(qf.w, segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, 16));
+        Quaterniond qd = new Quaterniond().rotateXYZ(0.1, 0.2, 0.3);
+        assertEquals(qd, new Quaterniond().set(32, qd.get(32, segment)));
+        assertThrows(IndexOutOfBoundsException.class, () -> qd.get(40, segment));
+    }
+
+    @Test
+    void testInterfaceBlockLayoutSegment() {
+        int[] types = { InterfaceBlockLayout.MAT3X2, InterfaceBlockLayout.FLOAT, InterfaceBlockLayout.MAT4X3 };
+        InterfaceBlockLayout layout = new InterfaceBlockLayout(InterfaceBlockLayout.STD140, types, new int[] { 0, 2, 0 });
+        assertEquals(48, layout.offset(1));
+        assertEquals(80, layout.offset(2));
+        Object[] values = { new Matrix3x2f(1, 2, 3, 4, 5, 6), new float[] { 7, 8 },
+                new Matrix4x3f(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12) };
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(8 + layout.size());
+            layout.put(values, 8L, segment);
+            assertEquals(5, segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, 8 + 32), 0);
+            assertEquals(6, segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, 8 + 36), 0);
+            assertEquals(8, segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, 8 + 64), 0);
+            assertEquals(12, segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, 8 + 80 + 56), 0);
+            assertThrows(IndexOutOfBoundsException.class, () -> layout.put(values, 16L, segment));
+        }
+    }
+}
+//#endif
@@ -97,4 +97,54 @@ class FrustumIntersectionTest {
         assertEquals(Matrix4fc.PLANE_NX, c.intersectAab(-6.1f, 0, -3, -5, 2, -2, FrustumIntersection.PLANE_MASK_NX));
         assertEquals(Matrix4fc.PLANE_NX, c.intersectAab(-6.1f, 0, -3, -5, 2, -2, ~0, Matrix4fc.PLANE_NX));
     }
+
+    @Test
+    void testAabsMatchesTestAab() {
+        FrustumIntersection fi = new FrustumIntersection(new Matrix4f().perspective(Math.toRadians(70), 1.3f, 0.1f, 100.0f)
+                .lookAt(1, 2, 3, -4, 0, -20, 0, 1, 0));
+        java.util.Random rnd = new java.util.Random(17);
+        for (int count : new int[] {0, 1, 63, 64, 65, 200, 256}) {
+            float[] minX = new float[count], minY = new float[count], minZ = new float[count];
+            float[] maxX = new float[count], maxY = new float[count], maxZ = new float[count];
+            for (int i = 0; i < count; i++) {
+                minX[i] = rnd.nextFloat() * 100 - 50; maxX[i] = minX[i] + rnd.nextFloat() * 4;
+                minY[i] = rnd.nextFloat() * 100 - 50; maxY[i] = minY[i] + rnd.nextFloat() * 4;
+                minZ[i] = rnd.nextFloat() * 100 - 90; maxZ[i] = minZ[i] + rnd.nextFloat() * 4;
+            }
+            long[] bits = new long[(count + 63) / 64];
+            java.util.Arrays.fill(bits, -1L);
+            assertSame(bits, fi.testAabs(minX, minY, minZ, maxX, maxY, maxZ, count, bits));
+            for (int i = 0; i < bits.length * 64; i++) {
+                boolean expected = i < count && fi.testAab(minX[i], minY[i], minZ[i], maxX[i], maxY[i], maxZ[i]);
+                assertEquals(expected, (bits[i >>> 6] & 1L << i) != 0, "box " + i);
+            }
+        }
+    }
+
+    @Test
+    void testSpheresMatchesTestSphere() {
+        FrustumIntersection fi = new FrustumIntersection(new Matrix4f().ortho(-10, 10, -5, 5, 1, 30)
+                .rotateY(0.4f));
+        java.util.Random rnd = new java.util.Random(23);
+        for (int count : new int[] {0, 5, 64, 130}) {
+            float[] x = new float[count], y = new float[count], z = new float[count], r = new float[count];
+            for (int i = 0; i < count; i++) {
+                x[i] = rnd.nextFloat() * 40 - 20;
+                y[i] = rnd.nextFloat() * 20 - 10;
+                z[i] = rnd.nextFloat() * -40;
+                r[i] = rnd.nextFloat() * 2;
+            }
+            long[] bits = new long[(count + 63) / 64];
+            fi.testSpheres(x, y, z, r, count, bits);
+            for (int i = 0; i < count; i++)
+                assertEquals(fi.testSphere(x[i], y[i], z[i], r[i]), (bits[i >>> 6] & 1L << i) != 0, "sphere " + i);
+        }
+    }
+
+    @Test
+    void testAabsRejectsSmallDest() {
+        FrustumIntersection fi = new FrustumIntersection(new Matrix4f());
+        float[] a = new float[65];
+        assertThrows(IllegalArgumentException.class, () -> fi.testAabs(a, a, a, a, a, a, 65, new long[1]));
+    }
 }
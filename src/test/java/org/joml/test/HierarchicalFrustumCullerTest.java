@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import java.util.Arrays;
+
+import org.joml.*;
+import org.joml.Math;
+import org.joml.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link HierarchicalFrustumCuller} class.
+ */
+class HierarchicalFrustumCullerTest {
+    @Test
+    void testCullMatchesPerObjectTest() {
+        Random rnd = new Random(3L);
+        int n = 2000;
+        DynamicAabTree tree = new DynamicAabTree(0.0f);
+        int[] proxies = new int[n];
+        for (int i = 0; i < n; i++) {
+            float x = rnd.nextFloat() * 200 - 100, y = rnd.nextFloat() * 40 - 20, z = rnd.nextFloat() * 200 - 100;
+            proxies[i] = tree.insert(x, y, z, x + 1, y + 1, z + 1, i);
+        }
+        HierarchicalFrustumCuller culler = new HierarchicalFrustumCuller(tree);
+        FrustumIntersection frustum = new FrustumIntersection();
+        int[] visible = new int[n];
+        Vector3f min = new Vector3f(), max = new Vector3f();
+        for (int frame = 0; frame < 20; frame++) {
+            frustum.set(new Matrix4f().perspective(Math.toRadians(60), 1.5f, 0.1f, 80).rotateY(frame * 0.2f));
+            int count = culler.cull(frustum, visible);
+            int[] expected = new int[n];
+            int expectedCount = 0;
+            for (int i = 0; i < n; i++) {
+                tree.getFatAab(proxies[i], min, max);
+                if (frustum.testAab(min, max))
+                    expected[expectedCount++] = i;
+            }
+            assertTrue(expectedCount > 0 && expectedCount < n);
+            assertEquals(expectedCount, count);
+            int[] actual = Arrays.copyOf(visible, count);
+            Arrays.sort(actual);
+            assertArrayEquals(Arrays.copyOf(expected, expectedCount), actual);
+            /* move a few objects between frames */
+            for (int i = frame; i < n; i += 50) {
+                float x = rnd.nextFloat() * 200 - 100, z = rnd.nextFloat() * 200 - 100;
+                tree.move(proxies[i], x, 0, z, x + 1, 1, z + 1);
+            }
+        }
+    }
+
+    @Test
+    void testEmptyAndSmallDestination() {
+        DynamicAabTree tree = new DynamicAabTree();
+        HierarchicalFrustumCuller culler = new HierarchicalFrustumCuller(tree);
+        FrustumIntersection frustum = new FrustumIntersection(new Matrix4f().ortho(-10, 10, -10, 10, -10, 10));
+        assertEquals(0, culler.cull(frustum, new int[1]));
+        for (int i = 0; i < 5; i++)
+            tree.insert(i, 0, 0, i + 0.5f, 0.5f, 0.5f, 10 + i);
+        tree.insert(50, 0, 0, 51, 1, 1, 99);
+        int[] dest = new int[2];
+        assertEquals(5, culler.cull(frustum, dest));
+        assertTrue(dest[0] >= 10 && dest[0] < 15);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.joml.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link InterfaceBlockLayout} class.
+ */
+class InterfaceBlockLayoutTest {
+    private static final int[] TYPES = {
+        InterfaceBlockLayout.FLOAT, InterfaceBlockLayout.VEC3, InterfaceBlockLayout.MAT3,
+        InterfaceBlockLayout.VEC2, InterfaceBlockLayout.MAT4X3, InterfaceBlockLayout.FLOAT
+    };
+    private static final int[] LENGTHS = { 0, 0, 0, 3, 0, 0 };
+
+    @Test
+    void testStd140Offsets() {
+        InterfaceBlockLayout layout = new InterfaceBlockLayout(InterfaceBlockLayout.STD140, TYPES, LENGTHS);
+        assertEquals(6, layout.memberCount());
+        assertEquals(0, layout.offset(0));
+        assertEquals(16, layout.offset(1));
+        assertEquals(32, layout.offset(2));
+        assertEquals(80, layout.offset(3));
+        assertEquals(16, layout.arrayStride(3));
+        assertEquals(128, layout.offset(4));
+        assertEquals(192, layout.offset(5));
+        assertEquals(0, layout.arrayStride(5));
+        assertEquals(208, layout.size());
+    }
+
+    @Test
+    void testStd430Offsets() {
+        InterfaceBlockLayout layout = new InterfaceBlockLayout(InterfaceBlockLayout.STD430, TYPES, LENGTHS);
+        assertEquals(0, layout.offset(0));
+        assertEquals(16, layout.offset(1));
+        assertEquals(32, layout.offset(2));
+        assertEquals(80, layout.offset(3));
+        assertEquals(8, layout.arrayStride(3));
+        assertEquals(112, layout.offset(4));
+        assertEquals(176, layout.offset(5));
+        assertEquals(192, layout.size());
+    }
+
+    @Test
+    void testScalarArrayAndMat2Offsets() {
+        int[] types = { InterfaceBlockLayout.INT, InterfaceBlockLayout.FLOAT, InterfaceBlockLayout.MAT2 };
+        int[] lengths = { 0, 2, 0 };
+        InterfaceBlockLayout std140 = new InterfaceBlockLayout(InterfaceBlockLayout.STD140, types, lengths);
+        assertEquals(16, std140.offset(1));
+        assertEquals(16, std140.arrayStride(1));
+        assertEquals(48, std140.offset(2));
+        assertEquals(80, std140.size());
+        InterfaceBlockLayout std430 = new InterfaceBlockLayout(InterfaceBlockLayout.STD430, types, lengths);
+        assertEquals(4, std430.offset(1));
+        assertEquals(4, std430.arrayStride(1));
+        assertEquals(16, std430.offset(2));
+        assertEquals(32, std430.size());
+    }
+
+    @Test
+    void testPutStd140() {
+        InterfaceBlockLayout layout = new InterfaceBlockLayout(InterfaceBlockLayout.STD140, TYPES, LENGTHS);
+        Matrix3f m3 = new Matrix3f(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        Matrix4x3f m43 = new Matrix4x3f(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+        Object[] values = {
+            new Float(0.5f), new Vector3f(1, 2, 3), m3,
+            new Vector2fc[] { new Vector2f(1, 2), new Vector2f(3, 4), new Vector2f(5, 6) },
+            m43, new Float(7.5f)
+        };
+        ByteBuffer bb = ByteBuffer.allocateDirect(16 + layout.size()).order(ByteOrder.nativeOrder());
+        bb.position(16);
+        layout.put(values, bb);
+        assertEquals(16, bb.position());
+        int base = 16;
+        assertEquals(0.5f, bb.getFloat(base), 0);
+        assertEquals(3, bb.getFloat(base + 16 + 8), 0);
+        assertEquals(4, bb.getFloat(base + 32 + 16), 0);
+        assertEquals(9, bb.getFloat(base + 32 + 40), 0);
+        assertEquals(3, bb.getFloat(base + 80 + 16), 0);
+        assertEquals(6, bb.getFloat(base + 80 + 36), 0);
+        assertEquals(10, bb.getFloat(base + 128 + 48), 0);
+        assertEquals(12, bb.getFloat(base + 128 + 56), 0);
+        assertEquals(7.5f, bb.getFloat(base + 192), 0);
+    }
+
+    @Test
+    void testPutStd430Mat2AndArrays() {
+        int[] types = { InterfaceBlockLayout.MAT2, InterfaceBlockLayout.INT, InterfaceBlockLayout.VEC4 };
+        InterfaceBlockLayout layout = new InterfaceBlockLayout(InterfaceBlockLayout.STD430, types, new int[] { 0, 3, 0 });
+        Object[] values = { new Matrix2f(1, 2, 3, 4), new int[] { 5, 6, 7 }, new Quaternionf(8, 9, 10, 11) };
+        ByteBuffer bb = ByteBuffer.allocateDirect(layout.size()).order(ByteOrder.nativeOrder());
+        layout.put(values, 0, bb);
+        for (int i = 0; i < 4; i++)
+            assertEquals(i + 1, bb.getFloat(i << 2), 0);
+        for (int i = 0; i < 3; i++)
+            assertEquals(i + 5, bb.getInt(16 + (i << 2)));
+        assertEquals(32, layout.offset(2));
+        for (int i = 0; i < 4; i++)
+            assertEquals(i + 8, bb.getFloat(32 + (i << 2)), 0);
+    }
+
+    @Test
+    void testPutChecksRangeAndValues() {
+        InterfaceBlockLayout layout = new InterfaceBlockLayout(InterfaceBlockLayout.STD140, new int[] { InterfaceBlockLayout.MAT4 });
+        ByteBuffer bb = ByteBuffer.allocateDirect(64).order(ByteOrder.nativeOrder());
+        Object[] values = { new Matrix4f() };
+        assertThrows(IndexOutOfBoundsException.class, () -> layout.put(values, 4, bb));
+        assertThrows(IllegalArgumentException.class, () -> layout.put(new Object[0], 0, bb));
+        assertThrows(IllegalArgumentException.class, () -> new InterfaceBlockLayout(InterfaceBlockLayout.STD140,
+                new int[] { InterfaceBlockLayout.VEC2 }, new int[] { 2 }).put(new Object[] { new Vector2fc[1] }, 0, bb));
+    }
+}
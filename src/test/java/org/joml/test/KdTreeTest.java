@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import java.util.Arrays;
+
+import org.joml.*;
+import org.joml.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link KdTreef} and {@link KdTreed} classes.
+ */
+class KdTreeTest {
+    private static float distanceSquared(float[] points, int dims, int i, float x, float y, float z) {
+        float dx = points[dims * i] - x, dy = points[dims * i + 1] - y, dz = dims == 3 ? points[dims * i + 2] - z : 0;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static void testQueries(int dims) {
+        Random rnd = new Random(dims);
+        int n = 1500;
+        float[] points = new float[dims * n];
+        for (int i = 0; i < points.length; i++)
+            points[i] = rnd.nextFloat() * 100;
+        /* duplicates and points on a common plane */
+        for (int i = 0; i < 100; i++)
+            points[dims * i] = 50;
+        System.arraycopy(points, 0, points, dims * 100, dims * 10);
+        KdTreef tree = new KdTreef(points, n, dims);
+        assertEquals(n, tree.size());
+        assertEquals(dims, tree.dimensions());
+        int k = 7;
+        int[] knn = new int[k];
+        float[] knnDistances = new float[k];
+        int[] within = new int[n];
+        float[] all = new float[n];
+        for (int q = 0; q < 200; q++) {
+            float x = rnd.nextFloat() * 120 - 10, y = rnd.nextFloat() * 120 - 10, z = rnd.nextFloat() * 120 - 10;
+            for (int i = 0; i < n; i++)
+                all[i] = distanceSquared(points, dims, i, x, y, z);
+            float[] sorted = all.clone();
+            Arrays.sort(sorted);
+            int nearest = tree.nearest(x, y, z, Float.POSITIVE_INFINITY);
+            assertEquals(sorted[0], all[nearest], 0);
+            assertEquals(k, tree.nearest(x, y, z, k, knn, knnDistances));
+            for (int i = 0; i < k; i++) {
+                assertEquals(sorted[i], knnDistances[i], 0);
+                assertEquals(all[knn[i]], knnDistances[i], 0);
+            }
+            float r = rnd.nextFloat() * 15;
+            int expected = 0;
+            for (int i = 0; i < n; i++)
+                if (all[i] <= r * r)
+                    expected++;
+            int found = tree.withinRadius(x, y, z, r, within);
+            assertEquals(expected, found);
+            for (int i = 0; i < found; i++)
+                assertTrue(all[within[i]] <= r * r);
+            assertEquals(sorted[0] <= r * r ? nearest : -1, tree.nearest(x, y, z, r) < 0 ? -1 : nearest);
+        }
+    }
+
+    @Test
+    void test2D() {
+        testQueries(2);
+    }
+
+    @Test
+    void test3D() {
+        testQueries(3);
+    }
+
+    @Test
+    void testSmallAndDouble() {
+        KdTreef empty = new KdTreef(new float[0], 0, 3);
+        assertEquals(-1, empty.nearest(new Vector3f()));
+        assertEquals(0, empty.nearest(0, 0, 0, 3, new int[3], new float[3]));
+        double[] points = { 0, 0, 0, 1, 0, 0, 0, 2, 0, 5, 5, 5 };
+        KdTreed tree = new KdTreed(points, 4, 3);
+        assertEquals(1, tree.nearest(new Vector3d(0.9, 0.1, 0)));
+        int[] indices = new int[5];
+        double[] distances = new double[5];
+        assertEquals(4, tree.nearest(0, 0, 0, 5, indices, distances));
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, Arrays.copyOf(indices, 4));
+        assertArrayEquals(new double[] { 0, 1, 4, 75 }, Arrays.copyOf(distances, 4), 0);
+        assertEquals(3, tree.withinRadius(0, 0, 0, 2, indices));
+        KdTreed tree2 = new KdTreed(new double[] { 0, 0, 3, 4 }, 2, 2);
+        assertEquals(1, tree2.nearest(new Vector2d(2.6, 2.6)));
+        assertEquals(-1, tree2.nearest(1.5, 1.5, 99, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new KdTreed(points, 4, 4));
+    }
+}
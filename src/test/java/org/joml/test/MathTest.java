@@ -153,4 +153,63 @@ class MathTest {
         assertEquals(-1, Math.roundUsing(-0.9f, RoundingMode.HALF_EVEN));
         assertEquals(-1, Math.roundUsing(-1.0f, RoundingMode.HALF_EVEN));
     }
+
+    private static void assertUlp1(double expected, float actual) {
+        float e = (float) expected;
+        if (Float.isNaN(e)) {
+            assertTrue(Float.isNaN(actual));
+            return;
+        }
+        if (e == actual)
+            return;
+        assertTrue(java.lang.Math.abs(Float.floatToIntBits(e) - Float.floatToIntBits(actual)) <= 1, "expected " + e + " but was " + actual);
+    }
+
+    @Test
+    void testSinCosArrays() {
+        int n = 5000;
+        float[] in = new float[n];
+        java.util.Random rnd = new java.util.Random(3);
+        for (int i = 0; i < n; i++)
+            in[i] = (rnd.nextFloat() - 0.5f) * (i < 4000 ? 200.0f : 1E6f);
+        // a chunk with arguments that need the fallback
+        in[4500] = 3E7f;
+        in[4600] = Float.NaN;
+        in[4700] = Float.POSITIVE_INFINITY;
+        in[4800] = 1E-30f;
+        float[] sin = new float[n], cos = new float[n], sin2 = new float[n], cos2 = new float[n];
+        Math.sin(in, sin, n);
+        Math.cos(in, cos, n);
+        Math.sincos(in, sin2, cos2, n);
+        for (int i = 0; i < n; i++) {
+            assertUlp1(java.lang.Math.sin(in[i]), sin[i]);
+            assertUlp1(java.lang.Math.cos(in[i]), cos[i]);
+            assertEquals(Float.floatToIntBits(sin[i]), Float.floatToIntBits(sin2[i]));
+            assertEquals(Float.floatToIntBits(cos[i]), Float.floatToIntBits(cos2[i]));
+        }
+    }
+
+    @Test
+    void testSinCosArraysInPlace() {
+        int n = 100;
+        float[] in = new float[n];
+        for (int i = 0; i < n; i++)
+            in[i] = i * 0.37f - 15.0f;
+        float[] a = in.clone(), b = in.clone(), cos = new float[n], sin = new float[n];
+        Math.sin(a, a, n - 1);
+        Math.sincos(b, b, cos, n);
+        for (int i = 0; i < n - 1; i++) {
+            assertUlp1(java.lang.Math.sin(in[i]), a[i]);
+            assertEquals(a[i], b[i], 0.0f);
+            assertUlp1(java.lang.Math.cos(in[i]), cos[i]);
+        }
+        assertEquals(in[n - 1], a[n - 1], 0.0f);
+        b = in.clone();
+        Math.sincos(b, sin, b, n);
+        for (int i = 0; i < n; i++) {
+            assertUlp1(java.lang.Math.sin(in[i]), sin[i]);
+            assertUlp1(java.lang.Math.cos(in[i]), b[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> Math.sin(in, new float[n - 1], n));
+    }
 }
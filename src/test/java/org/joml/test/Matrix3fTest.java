@@ -23,6 +23,10 @@
  */
 package org.joml.test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
 import org.joml.*;
 import org.junit.jupiter.api.Test;
 
@@ -95,4 +99,29 @@ class Matrix3fTest {
         assertMatrix3fEquals(new Matrix3f().zero().set(2, 1, 3), new Matrix3f(0, 0, 0, 0, 0, 0, 0, 3, 0), 0);
         assertMatrix3fEquals(new Matrix3f().zero().set(2, 2, 3), new Matrix3f(0, 0, 0, 0, 0, 0, 0, 0, 3), 0);
     }
+
+    @Test
+    void testGetAll3x4() {
+        Matrix3f[] src = { new Matrix3f().rotateX(0.1f), new Matrix3f().rotateY(0.2f) };
+        ByteBuffer bb = ByteBuffer.allocateDirect(2 * 48).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < bb.capacity(); i++)
+            bb.put(i, (byte) -1);
+        Matrix3f.getAll3x4(src, 0, 2, bb, 48);
+        for (int i = 0; i < 2; i++)
+            for (int column = 0; column < 3; column++) {
+                for (int row = 0; row < 3; row++)
+                    assertEquals(src[i].get(column, row), bb.getFloat(i * 48 + column * 16 + row * 4));
+                assertEquals(0.0f, bb.getFloat(i * 48 + column * 16 + 12));
+            }
+    }
+
+    @Test
+    void testGetAll3x4List() {
+        Matrix3f[] src = { new Matrix3f().rotateX(0.1f), new Matrix3f().rotateY(0.2f), new Matrix3f().rotateZ(0.3f) };
+        ByteBuffer expected = ByteBuffer.allocateDirect(2 * 48).order(ByteOrder.nativeOrder());
+        ByteBuffer actual = ByteBuffer.allocateDirect(2 * 48).order(ByteOrder.nativeOrder());
+        Matrix3f.getAll3x4(src, 1, 2, expected, 48);
+        Matrix3f.getAll3x4(Arrays.asList(src), 1, 2, actual, 48);
+        assertEquals(expected, actual);
+    }
 }
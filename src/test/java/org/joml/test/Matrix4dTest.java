@@ -642,4 +642,37 @@ class Matrix4dTest {
                 10.0);
         assertMatrix4dEquals(m1, m2, 1E-6);
     }
+
+    @Test
+    void testTransformPositions() {
+        Matrix4d m = new Matrix4d().translate(1, 2, 3).rotateXYZ(0.1, 0.2, 0.3).scale(2);
+        double[] src = {1, 2, 3, 0, -4, 5, 6, 0};
+        double[] dest = new double[6];
+        m.transformPositions(src, 0, 4, dest, 0, 3, 2);
+        assertEquals(m.transformPosition(new Vector3d(1, 2, 3)), new Vector3d(dest[0], dest[1], dest[2]));
+        assertEquals(m.transformPosition(new Vector3d(-4, 5, 6)), new Vector3d(dest[3], dest[4], dest[5]));
+        m.transformDirections(src, 0, 4, dest, 0, 3, 1);
+        assertEquals(m.transformDirection(new Vector3d(1, 2, 3)), new Vector3d(dest[0], dest[1], dest[2]));
+    }
+
+    @Test
+    void testTransformProjectArray() {
+        Matrix4d m = new Matrix4d().perspective(Math.toRadians(60), 1.5, 0.1, 100.0).lookAt(1, 2, 5, 0, 0, 0, 0, 1, 0);
+        double[] src = {1, 2, 3, 0, -4, 5, -6, 0, 0.5, -0.25, 2, 0};
+        double[] dest = new double[10];
+        m.transformProject(src, 0, 4, dest, 1, 3, 3);
+        Vector3d v = new Vector3d();
+        for (int i = 0; i < 3; i++) {
+            m.transformProject(src[4 * i], src[4 * i + 1], src[4 * i + 2], v);
+            assertEquals(v.x, dest[1 + 3 * i], 1E-12);
+            assertEquals(v.y, dest[2 + 3 * i], 1E-12);
+            assertEquals(v.z, dest[3 + 3 * i], 1E-12);
+        }
+        double[] xyz = {-4, 5, -6};
+        m.transformProject(xyz, 0, 1);
+        m.transformProject(-4, 5, -6, v);
+        assertEquals(v.x, xyz[0], 1E-12);
+        assertEquals(v.y, xyz[1], 1E-12);
+        assertEquals(v.z, xyz[2], 1E-12);
+    }
 }
@@ -23,9 +23,17 @@
  */
 package org.joml.test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.joml.Matrix3f;
 import org.joml.Matrix4f;
 import org.joml.Matrix4fc;
+import org.joml.Matrix4x3f;
 import org.joml.Vector3f;
 import org.joml.Vector4f;
 import org.joml.Math;
@@ -670,4 +678,162 @@ class Matrix4fTest {
                 10.0f);
         assertMatrix4fEquals(m1, m2, 1E-6f);
     }
+
+    @Test
+    void testTransformPositions() {
+        Matrix4f m = new Matrix4f().translate(1, 2, 3).rotateXYZ(0.1f, 0.2f, 0.3f).scale(2);
+        float[] src = {1, 2, 3, 0, -4, 5, 6, 0};
+        float[] dest = new float[7];
+        m.transformPositions(src, 0, 4, dest, 1, 3, 2);
+        Vector3f v0 = m.transformPosition(new Vector3f(1, 2, 3));
+        Vector3f v1 = m.transformPosition(new Vector3f(-4, 5, 6));
+        assertEquals(v0, new Vector3f(dest[1], dest[2], dest[3]));
+        assertEquals(v1, new Vector3f(dest[4], dest[5], dest[6]));
+        float[] xyz = {1, 2, 3};
+        new Matrix4f().translation(1, 2, 3).transformPositions(xyz, 0, 1);
+        assertEquals(new Vector3f(2, 4, 6), new Vector3f(xyz[0], xyz[1], xyz[2]));
+        m.transformDirections(xyz, 0, 1);
+        assertEquals(m.transformDirection(new Vector3f(2, 4, 6)), new Vector3f(xyz[0], xyz[1], xyz[2]));
+    }
+
+    @Test
+    void testTransformProjectArray() {
+        Matrix4f m = new Matrix4f().perspective(1.0f, 1.5f, 0.1f, 100.0f).lookAt(1, 2, 3, 0, 0, 0, 0, 1, 0);
+        float[] xyz = {0.5f, -1, 2, 3, 0.25f, -2};
+        m.transformProject(xyz, 0, 2);
+        assertEquals(m.transformProject(new Vector3f(0.5f, -1, 2)), new Vector3f(xyz[0], xyz[1], xyz[2]));
+        assertEquals(m.transformProject(new Vector3f(3, 0.25f, -2)), new Vector3f(xyz[3], xyz[4], xyz[5]));
+    }
+
+    @Test
+    void testTransformPositionsInterleavedBuffer() {
+        Matrix4f m = new Matrix4f().translate(1, 2, 3).rotateXYZ(0.1f, 0.2f, 0.3f).scale(2);
+        float[] vertices = {1, 2, 3, 0, 0, 1, -4, 5, 6, 1, 0, 0};
+        FloatBuffer direct = ByteBuffer.allocateDirect(vertices.length << 2).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        FloatBuffer heap = FloatBuffer.allocate(vertices.length);
+        FloatBuffer[] buffers = {direct, heap};
+        for (int i = 0; i < buffers.length; i++) {
+            FloatBuffer fb = buffers[i];
+            fb.put(vertices).flip();
+            m.transformPositions(fb, fb, 2, 6);
+            fb.position(3);
+            m.transformDirections(fb, fb, 2, 6);
+            fb.position(0);
+            assertEquals(m.transformPosition(new Vector3f(1, 2, 3)), new Vector3f(fb.get(0), fb.get(1), fb.get(2)));
+            assertEquals(m.transformDirection(new Vector3f(0, 0, 1)), new Vector3f(fb.get(3), fb.get(4), fb.get(5)));
+            assertEquals(m.transformPosition(new Vector3f(-4, 5, 6)), new Vector3f(fb.get(6), fb.get(7), fb.get(8)));
+            assertEquals(m.transformDirection(new Vector3f(1, 0, 0)), new Vector3f(fb.get(9), fb.get(10), fb.get(11)));
+        }
+    }
+
+    @Test
+    void testTransformPositionsByteBuffer() {
+        Matrix4f m = new Matrix4f().translate(1, 2, 3).rotateXYZ(0.1f, 0.2f, 0.3f).scale(2);
+        ByteBuffer bb = ByteBuffer.allocateDirect(24).order(ByteOrder.nativeOrder());
+        bb.putFloat(0, 1).putFloat(4, 2).putFloat(8, 3).putFloat(12, -4).putFloat(16, 5).putFloat(20, 6);
+        bb.position(12);
+        m.transformPositions(bb, bb, 2, -12);
+        assertEquals(12, bb.position());
+        assertEquals(m.transformPosition(new Vector3f(1, 2, 3)), new Vector3f(bb.getFloat(0), bb.getFloat(4), bb.getFloat(8)));
+        assertEquals(m.transformPosition(new Vector3f(-4, 5, 6)), new Vector3f(bb.getFloat(12), bb.getFloat(16), bb.getFloat(20)));
+    }
+
+    @Test
+    void testTransformPositionsBufferBounds() {
+        Matrix4f m = new Matrix4f().translation(1, 2, 3);
+        ByteBuffer bb = ByteBuffer.allocateDirect(24).order(ByteOrder.nativeOrder());
+        FloatBuffer fb = bb.asFloatBuffer();
+        bb.position(16);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(bb, bb, 2, -12));
+        bb.position(4);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(bb, bb, 2, 12));
+        fb.position(4);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(fb, fb, 2, -3));
+        fb.position(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(fb, fb, 2, 3));
+        for (int i = 0; i < bb.capacity(); i++)
+            assertEquals(0, bb.get(i));
+    }
+
+    @Test
+    void testMulGenericMatchesComponentwise() {
+        Matrix4f a = new Matrix4f(1, 2, 3, 4, 0, 6, 7, 8, 9, 1, 11, 12, 13, 0, 15, 17);
+        Matrix4f b = new Matrix4f(2, 0, 1, 0, 0, 3, 0, 1, 1, 0, 1, 0, 4, 5, 6, 1);
+        Matrix4f r = new Matrix4f(a).mul(b);
+        for (int c = 0; c < 4; c++) {
+            for (int row = 0; row < 4; row++) {
+                float e = 0;
+                for (int k = 0; k < 4; k++)
+                    e += a.get(k, row) * b.get(c, k);
+                assertEquals(e, r.get(c, row), 1E-5f);
+            }
+        }
+        assertMatrix4fEquals(new Matrix4f(), new Matrix4f(a).invert().mul(a), 1E-5f);
+        assertMatrix4fEquals(a, new Matrix4f(a).transpose().transpose(), 0);
+    }
+
+    @Test
+    void testGetByteBufferIndex() {
+        Matrix4f m = new Matrix4f(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16);
+        ByteBuffer bb = ByteBuffer.allocateDirect(80).order(ByteOrder.nativeOrder());
+        bb.position(8);
+        m.get(4, bb);
+        assertEquals(8, bb.position());
+        for (int i = 0; i < 16; i++)
+            assertEquals(i + 1, bb.getFloat(4 + (i << 2)), 0);
+        m.get(bb);
+        for (int i = 0; i < 16; i++)
+            assertEquals(i + 1, bb.getFloat(8 + (i << 2)), 0);
+    }
+
+    @Test
+    void testGetAll() {
+        Matrix4f[] src = new Matrix4f[5];
+        for (int i = 0; i < src.length; i++)
+            src[i] = new Matrix4f().rotateXYZ(0.1f * i, 0.2f, 0.3f).translate(i, 2, 3);
+        ByteBuffer bb = ByteBuffer.allocateDirect(8 + 3 * 80).order(ByteOrder.nativeOrder());
+        bb.position(8);
+        Matrix4f.getAll(src, 1, 3, bb, 80);
+        assertEquals(8, bb.position());
+        for (int i = 0; i < 3; i++)
+            assertEquals(src[1 + i], new Matrix4f().set(8 + i * 80, bb));
+        Matrix4f.getAllTransposed(src, 1, 3, bb, 80);
+        for (int i = 0; i < 3; i++)
+            assertEquals(new Matrix4f(src[1 + i]).transpose(), new Matrix4f().set(8 + i * 80, bb));
+    }
+
+    @Test
+    void testGetAllValidatesOnce() {
+        Matrix4f[] src = { new Matrix4f(), new Matrix4f(), new Matrix4f() };
+        ByteBuffer bb = ByteBuffer.allocateDirect(2 * 64 + 60).order(ByteOrder.nativeOrder());
+        assertThrows(IndexOutOfBoundsException.class, () -> Matrix4f.getAll(src, 0, 3, bb, 64));
+        for (int i = 0; i < bb.capacity(); i++)
+            assertEquals(0, bb.get(i));
+        assertThrows(IndexOutOfBoundsException.class, () -> Matrix4f.getAll(src, 2, 2, bb, 64));
+        assertThrows(IllegalArgumentException.class, () -> Matrix4f.getAll(src, 0, 2, bb, 32));
+        Matrix4f.getAll(src, 3, 0, bb, 64);
+    }
+
+    @Test
+    void testGetAllList() {
+        Matrix4f[] src = new Matrix4f[4];
+        for (int i = 0; i < src.length; i++)
+            src[i] = new Matrix4f().rotateXYZ(0.1f * i, 0.2f, 0.3f).translate(i, 2, 3);
+        List<Matrix4f> list = new ArrayList<>(Arrays.asList(src));
+        ByteBuffer expected = ByteBuffer.allocateDirect(8 + 3 * 80).order(ByteOrder.nativeOrder());
+        ByteBuffer actual = ByteBuffer.allocateDirect(8 + 3 * 80).order(ByteOrder.nativeOrder());
+        expected.position(8);
+        actual.position(8);
+        Matrix4f.getAll(src, 1, 3, expected, 80);
+        Matrix4f.getAll(list, 1, 3, actual, 80);
+        assertEquals(8, actual.position());
+        assertEquals(expected, actual);
+        Matrix4f.getAllTransposed(src, 1, 3, expected, 80);
+        Matrix4f.getAllTransposed(list, 1, 3, actual, 80);
+        assertEquals(expected, actual);
+        assertThrows(IndexOutOfBoundsException.class, () -> Matrix4f.getAll(list, 2, 3, actual, 80));
+        List<Object> mixed = new ArrayList<>(list);
+        mixed.set(2, new Matrix4x3f());
+        assertThrows(ArrayStoreException.class, () -> Matrix4f.getAll(mixed, 1, 3, actual, 80));
+    }
 }
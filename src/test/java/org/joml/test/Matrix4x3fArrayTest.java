@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Matrix4x3f;
+import org.joml.Matrix4x3fArray;
+import org.joml.Quaternionf;
+import org.joml.QuaternionfArray;
+import org.joml.Vector3f;
+import org.joml.Vector3fArray;
+import org.junit.jupiter.api.Test;
+
+import static org.joml.test.TestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link Matrix4x3fArray} class.
+ */
+class Matrix4x3fArrayTest {
+
+    private static final Matrix4x3f[] A = {
+        new Matrix4x3f().translate(1, 2, 3).rotateXYZ(0.1f, 0.2f, 0.3f),
+        new Matrix4x3f().scale(2, 3, 4).rotateY(1.0f),
+        new Matrix4x3f(),
+        new Matrix4x3f().rotate(0.7f, 0.70710677f, 0.70710677f, 0).translate(-5, 0, 2)
+    };
+
+    private static Matrix4x3fArray create() {
+        Matrix4x3fArray a = new Matrix4x3fArray(A.length);
+        for (int i = 0; i < A.length; i++)
+            a.set(i, A[i]);
+        return a;
+    }
+
+    private static void assertMatrix4x3fEquals(Matrix4x3f expected, Matrix4x3f actual, float delta) {
+        assertTrue(expected.equals(actual, delta), "expected:\n" + expected + "\nactual:\n" + actual);
+    }
+
+    @Test
+    void testIdentity() {
+        Matrix4x3fArray a = new Matrix4x3fArray(3);
+        Matrix4x3f m = new Matrix4x3f();
+        for (int i = 0; i < 3; i++)
+            assertMatrix4x3fEquals(new Matrix4x3f(), a.get(i, m.scale(2)), 0);
+    }
+
+    @Test
+    void testMul() {
+        Matrix4x3fArray a = create();
+        Matrix4x3fArray b = new Matrix4x3fArray(A.length);
+        for (int i = 0; i < A.length; i++)
+            b.set(i, A[A.length - 1 - i]);
+        Matrix4x3f c = new Matrix4x3f().rotateZ(0.4f).translate(0, 1, 0);
+        Matrix4x3fArray mul = a.mul(b, new Matrix4x3fArray(A.length));
+        Matrix4x3fArray mulC = a.mul(c, new Matrix4x3fArray(A.length));
+        Matrix4x3fArray mulLocal = a.mulLocal(c, new Matrix4x3fArray(A.length));
+        Matrix4x3f m = new Matrix4x3f();
+        for (int i = 0; i < A.length; i++) {
+            assertMatrix4x3fEquals(new Matrix4x3f(A[i]).mul(A[A.length - 1 - i]), mul.get(i, m), 1E-6f);
+            assertMatrix4x3fEquals(new Matrix4x3f(A[i]).mul(c), mulC.get(i, m), 1E-6f);
+            assertMatrix4x3fEquals(new Matrix4x3f(c).mul(A[i]), mulLocal.get(i, m), 1E-6f);
+        }
+        a.mul(b);
+        for (int i = 0; i < A.length; i++)
+            assertMatrix4x3fEquals(new Matrix4x3f(A[i]).mul(A[A.length - 1 - i]), a.get(i, m), 1E-6f);
+    }
+
+    @Test
+    void testTranslationRotateScale() {
+        int n = 3;
+        Vector3fArray t = new Vector3fArray(n), s = new Vector3fArray(n);
+        QuaternionfArray q = new QuaternionfArray(n);
+        for (int i = 0; i < n; i++) {
+            t.set(i, i, 2 * i, -i);
+            s.set(i, 1 + i, 2, 0.5f);
+            q.set(i, new Quaternionf().rotateXYZ(0.1f * i, 0.2f, -0.3f * i));
+        }
+        Matrix4x3fArray a = new Matrix4x3fArray(n).translationRotateScale(t, q, s);
+        Matrix4x3f m = new Matrix4x3f();
+        for (int i = 0; i < n; i++) {
+            Matrix4x3f expected = new Matrix4x3f().translationRotateScale(
+                    t.get(i, new Vector3f()), q.get(i, new Quaternionf()), s.get(i, new Vector3f()));
+            assertMatrix4x3fEquals(expected, a.get(i, m), 0);
+        }
+    }
+
+    @Test
+    void testTransform() {
+        Vector3fArray v = new Vector3fArray(A.length);
+        for (int i = 0; i < A.length; i++)
+            v.set(i, i + 1, -2 * i, 0.5f * i);
+        Matrix4x3fArray a = create();
+        Vector3fArray pos = a.transformPosition(v, new Vector3fArray(A.length));
+        Vector3fArray dir = a.transformDirection(v, new Vector3fArray(A.length));
+        Vector3f r = new Vector3f();
+        for (int i = 0; i < A.length; i++) {
+            assertVector3fEquals(A[i].transformPosition(v.get(i, new Vector3f())), pos.get(i, r), 1E-6f);
+            assertVector3fEquals(A[i].transformDirection(v.get(i, new Vector3f())), dir.get(i, r), 1E-6f);
+        }
+    }
+}
@@ -23,12 +23,19 @@
  */
 package org.joml.test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.List;
+
 import org.joml.Matrix4x3f;
 import org.joml.Vector3f;
 import org.joml.Math;
 import org.junit.jupiter.api.Test;
 
 import static org.joml.test.TestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Tests for the {@link Matrix4x3f} class.
@@ -204,4 +211,95 @@ class Matrix4x3fTest {
         assertMatrix4x3fEquals(m, n, 1E-6f);
     }
 
+    @Test
+    void testTransformPositions() {
+        Matrix4x3f m = new Matrix4x3f().translate(1, 2, 3).rotateXYZ(0.1f, 0.2f, 0.3f).scale(2);
+        float[] xyz = {1, 2, 3, -4, 5, 6};
+        m.transformPositions(xyz, 0, 2);
+        assertVector3fEquals(m.transformPosition(new Vector3f(1, 2, 3)), new Vector3f(xyz[0], xyz[1], xyz[2]), 0.0f);
+        assertVector3fEquals(m.transformPosition(new Vector3f(-4, 5, 6)), new Vector3f(xyz[3], xyz[4], xyz[5]), 0.0f);
+        float[] dest = new float[3];
+        m.transformDirections(new float[] {1, 2, 3}, 0, 3, dest, 0, 3, 1);
+        assertVector3fEquals(m.transformDirection(new Vector3f(1, 2, 3)), new Vector3f(dest[0], dest[1], dest[2]), 0.0f);
+    }
+
+    @Test
+    void testTransformPositionsBuffer() {
+        Matrix4x3f m = new Matrix4x3f().translate(1, 2, 3).rotateXYZ(0.1f, 0.2f, 0.3f).scale(2);
+        ByteBuffer bb = ByteBuffer.allocateDirect(24).order(ByteOrder.nativeOrder());
+        FloatBuffer fb = bb.asFloatBuffer();
+        fb.put(0, 1).put(1, 2).put(2, 3).put(3, -4).put(4, 5).put(5, 6);
+        fb.position(3);
+        m.transformPositions(fb, fb, 2, -3);
+        assertEquals(3, fb.position());
+        assertVector3fEquals(m.transformPosition(new Vector3f(1, 2, 3)), new Vector3f(fb.get(0), fb.get(1), fb.get(2)), 1E-6f);
+        assertVector3fEquals(m.transformPosition(new Vector3f(-4, 5, 6)), new Vector3f(fb.get(3), fb.get(4), fb.get(5)), 1E-6f);
+        fb.put(0, 1).put(1, 2).put(2, 3).put(3, -4).put(4, 5).put(5, 6);
+        bb.position(0);
+        m.transformDirections(bb, bb, 2, 12);
+        assertEquals(0, bb.position());
+        assertVector3fEquals(m.transformDirection(new Vector3f(1, 2, 3)), new Vector3f(bb.getFloat(0), bb.getFloat(4), bb.getFloat(8)), 1E-6f);
+        assertVector3fEquals(m.transformDirection(new Vector3f(-4, 5, 6)), new Vector3f(bb.getFloat(12), bb.getFloat(16), bb.getFloat(20)), 1E-6f);
+    }
+
+    @Test
+    void testTransformPositionsBufferBounds() {
+        Matrix4x3f m = new Matrix4x3f().translation(1, 2, 3);
+        ByteBuffer bb = ByteBuffer.allocateDirect(24).order(ByteOrder.nativeOrder());
+        FloatBuffer fb = bb.asFloatBuffer();
+        bb.position(16);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(bb, bb, 2, -12));
+        bb.position(4);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(bb, bb, 2, 12));
+        fb.position(4);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(fb, fb, 2, -3));
+        fb.position(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformDirections(fb, fb, 2, 3));
+        for (int i = 0; i < bb.capacity(); i++)
+            assertEquals(0, bb.get(i));
+    }
+
+    @Test
+    void testGetAll() {
+        Matrix4x3f[] src = new Matrix4x3f[3];
+        for (int i = 0; i < src.length; i++)
+            src[i] = new Matrix4x3f().rotateXYZ(0.1f * i, 0.2f, 0.3f).translate(i, 2, 3);
+        ByteBuffer bb = ByteBuffer.allocateDirect(3 * 64).order(ByteOrder.nativeOrder());
+        ByteBuffer expected = ByteBuffer.allocateDirect(64).order(ByteOrder.nativeOrder());
+        Matrix4x3f.getAll(src, 0, 3, bb, 48);
+        for (int i = 0; i < 3; i++)
+            assertEquals(src[i], new Matrix4x3f().set(i * 48, bb));
+        Matrix4x3f.getAllTransposed(src, 0, 3, bb, 48);
+        for (int i = 0; i < 3; i++) {
+            src[i].getTransposed(0, expected);
+            for (int j = 0; j < 48; j += 4)
+                assertEquals(expected.getFloat(j), bb.getFloat(i * 48 + j));
+        }
+        Matrix4x3f.getAll4x4(src, 0, 3, bb, 64);
+        for (int i = 0; i < 3; i++) {
+            src[i].get4x4(0, expected);
+            for (int j = 0; j < 64; j += 4)
+                assertEquals(expected.getFloat(j), bb.getFloat(i * 64 + j));
+        }
+        assertEquals(1.0f, bb.getFloat(64 + 60));
+    }
+
+    @Test
+    void testGetAllList() {
+        Matrix4x3f[] src = new Matrix4x3f[3];
+        for (int i = 0; i < src.length; i++)
+            src[i] = new Matrix4x3f().rotateXYZ(0.1f * i, 0.2f, 0.3f).translate(i, 2, 3);
+        List<Matrix4x3f> list = Arrays.asList(src);
+        ByteBuffer expected = ByteBuffer.allocateDirect(3 * 64).order(ByteOrder.nativeOrder());
+        ByteBuffer actual = ByteBuffer.allocateDirect(3 * 64).order(ByteOrder.nativeOrder());
+        Matrix4x3f.getAll(src, 0, 3, expected, 48);
+        Matrix4x3f.getAll(list, 0, 3, actual, 48);
+        assertEquals(expected, actual);
+        Matrix4x3f.getAllTransposed(src, 0, 3, expected, 48);
+        Matrix4x3f.getAllTransposed(list, 0, 3, actual, 48);
+        assertEquals(expected, actual);
+        Matrix4x3f.getAll4x4(src, 0, 3, expected, 64);
+        Matrix4x3f.getAll4x4(list, 0, 3, actual, 64);
+        assertEquals(expected, actual);
+    }
 }
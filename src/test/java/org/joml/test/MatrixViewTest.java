@@ -0,0 +1,119 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+package org.joml.test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import org.joml.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link Matrix4fView} and {@link Matrix4x3fView}.
+ */
+class MatrixViewTest {
+    @Test
+    void testMatrix4fViewReadsSegment() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(3 * 64);
+            Matrix4f m = new Matrix4f().perspective(1.0f, 1.5f, 0.1f, 100.0f).lookAt(1, 2, 3, 0, 0, 0, 0, 1, 0);
+            m.get(64, segment);
+            Matrix4fView view = new Matrix4fView(segment, 64);
+            assertEquals(m.m00(), view.m00());
+            assertEquals(m.m23(), view.m23());
+            assertEquals(m.m32(), view.get(3, 2));
+            assertEquals(m.m32(), view.getRowColumn(2, 3));
+            assertEquals(m, view.get(new Matrix4f()));
+            assertEquals(m.invert(new Matrix4f()), view.invert(new Matrix4f()));
+            assertEquals(m.transformPosition(new Vector3f(1, 2, 3)), view.transformPosition(new Vector3f(1, 2, 3)));
+            assertEquals(new Matrix4f().mul(m), new Matrix4f().mul(view));
+        }
+    }
+
+    @Test
+    void testMatrix4fViewWritesSegment() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(64);
+            Matrix4fView view = new Matrix4fView(segment, 0).identity();
+            assertEquals(new Matrix4f(), new Matrix4f().set(0, segment));
+            view.translate(1, 2, 3).m01(5.0f).set(3, 3, 2.0f);
+            Matrix4f expected = new Matrix4f().translate(1, 2, 3).m01(5.0f).m33(2.0f);
+            assertEquals(expected, new Matrix4f().set(0, segment));
+            Matrix4f r = new Matrix4f().rotateXYZ(0.1f, 0.2f, 0.3f);
+            view.mul(r);
+            assertEquals(expected.mul(r, new Matrix4f()), view.get(new Matrix4f()));
+            view.set(r);
+            assertEquals(r, new Matrix4f().set(0, segment));
+            assertThrows(IndexOutOfBoundsException.class, () -> view.set(4, 0, 1.0f));
+        }
+    }
+
+    @Test
+    void testMatrix4fViewReposition() {
+        try (Arena arena = Arena.ofConfined()) {
+            int count = 8;
+            MemorySegment segment = arena.allocate(count * 64L);
+            for (int i = 0; i < count; i++)
+                new Matrix4f().translation(i, 0, 0).get(i * 64L, segment);
+            Matrix4f transform = new Matrix4f().scaling(2.0f);
+            Matrix4fView view = new Matrix4fView(segment, 0L);
+            for (long offset = 0L; offset < segment.byteSize(); offset += 64)
+                view.reposition(offset).mul(transform);
+            for (int i = 0; i < count; i++)
+                assertEquals(new Matrix4f().translation(i, 0, 0).scale(2.0f), new Matrix4f().set(i * 64L, segment));
+            assertThrows(IndexOutOfBoundsException.class, () -> view.reposition(count * 64L - 60));
+        }
+    }
+
+    @Test
+    void testMatrix4fViewCopyToSegment() {
+        MemorySegment src = MemorySegment.ofArray(new float[16]);
+        MemorySegment dst = MemorySegment.ofArray(new float[20]);
+        Matrix4f m = new Matrix4f().rotateXYZ(0.1f, 0.2f, 0.3f);
+        m.get(0, src);
+        new Matrix4fView(src, 0).get(16, dst);
+        assertEquals(m, new Matrix4f().set(16, dst));
+    }
+
+    @Test
+    void testMatrix4x3fView() {
+        MemorySegment segment = MemorySegment.ofArray(new float[24]);
+        Matrix4x3f m = new Matrix4x3f().rotateXYZ(0.1f, 0.2f, 0.3f).translate(1, 2, 3);
+        m.get(48, segment);
+        Matrix4x3fView view = new Matrix4x3fView(segment, 48);
+        assertEquals(m.m12(), view.m12());
+        assertEquals(m.m31(), view.m31());
+        assertEquals(m, view.get(new Matrix4x3f()));
+        assertEquals(m.transformPosition(new Vector3f(1, 2, 3)), view.transformPosition(new Vector3f(1, 2, 3)));
+        view.reposition(0).set(m).scale(2, 3, 4).m30(7.0f);
+        assertEquals(new Matrix4x3f(m).scale(2, 3, 4).m30(7.0f), new Matrix4x3f().set(0, segment));
+        view.set(3, 2, 9.0f);
+        assertEquals(9.0f, view.m32());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.set(0, 3, 1.0f));
+    }
+}
+//#endif
@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.joml.ParallelNoiseGenerator;
+import org.joml.SeededSimplexNoise;
+import org.joml.SimplexNoise;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ParallelNoiseGenerator} class.
+ */
+class ParallelNoiseGeneratorTest {
+
+    @Test
+    void testGenerate3dMatchesFbmGrid() {
+        int nx = 29, ny = 13, nz = 7, offset = 5, n = nx * ny * nz;
+        float[] expected = SimplexNoise.fbmGrid(0.3f, -1.2f, 4.5f, 0.07f, 0.11f, 0.13f, nx, ny, nz, 4, 2.0f, 0.5f, new float[n]);
+        FloatBuffer fb = ByteBuffer.allocateDirect((n + 2 * offset) * 4).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        for (int i = 0; i < fb.capacity(); i++)
+            fb.put(i, -42.0f);
+        fb.position(offset);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            new ParallelNoiseGenerator(pool).fbm(4, 2.0f, 0.5f).tileSize(100)
+                .generate(0.3f, -1.2f, 4.5f, 0.07f, 0.11f, 0.13f, nx, ny, nz, fb);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(offset, fb.position());
+        for (int i = 0; i < offset; i++) {
+            assertEquals(-42.0f, fb.get(i), 0.0f);
+            assertEquals(-42.0f, fb.get(offset + n + i), 0.0f);
+        }
+        for (int i = 0; i < n; i++)
+            assertEquals(expected[i], fb.get(offset + i), 0.0f);
+    }
+
+    @Test
+    void testGenerate2dWithSeededNoise() {
+        SeededSimplexNoise noise = new SeededSimplexNoise(42L);
+        int nx = 70, ny = 45;
+        FloatBuffer fb = FloatBuffer.allocate(nx * ny);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            new ParallelNoiseGenerator(pool, noise).ridged(3, 2.0f, 0.5f).tileSize(64).generate(-2.0f, 3.0f, 0.05f, 0.09f, nx, ny, fb);
+        } finally {
+            pool.shutdown();
+        }
+        for (int j = 0; j < ny; j++)
+            for (int i = 0; i < nx; i++)
+                assertEquals(noise.ridged(-2.0f + i * 0.05f, 3.0f + j * 0.09f, 3, 2.0f, 0.5f), fb.get(j * nx + i), 0.0f);
+    }
+
+    @Test
+    void testCancel() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        final CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+        try {
+            ForkJoinTask<?> blocker = pool.submit(() -> {
+                started.countDown();
+                release.await();
+                return null;
+            });
+            started.await();
+            FloatBuffer fb = FloatBuffer.allocate(64 * 64 * 64);
+            ForkJoinTask<?> task = new ParallelNoiseGenerator(pool).submit(0, 0, 0, 0.1f, 0.1f, 0.1f, 64, 64, 64, fb);
+            assertTrue(task.cancel(true));
+            release.countDown();
+            blocker.join();
+            assertThrows(CancellationException.class, task::join);
+            assertTrue(task.isCancelled());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testDestTooSmall() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            ParallelNoiseGenerator generator = new ParallelNoiseGenerator(pool);
+            assertThrows(IllegalArgumentException.class, () -> generator.generate(0, 0, 1, 1, 10, 10, FloatBuffer.allocate(99)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
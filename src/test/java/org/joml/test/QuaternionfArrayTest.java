@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Quaternionf;
+import org.joml.QuaternionfArray;
+import org.joml.Vector3f;
+import org.joml.Vector3fArray;
+import org.junit.jupiter.api.Test;
+
+import static org.joml.test.TestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link QuaternionfArray} class.
+ */
+class QuaternionfArrayTest {
+
+    private static final Quaternionf[] A = {
+        new Quaternionf().rotateXYZ(0.1f, 0.2f, 0.3f),
+        new Quaternionf().rotateAxis(1.2f, 1, 2, 3),
+        new Quaternionf(),
+        new Quaternionf().rotateY(-2.5f)
+    };
+    private static final Quaternionf[] B = {
+        new Quaternionf().rotateZ(1.0f),
+        new Quaternionf().rotateXYZ(-0.5f, 0.7f, 0.1f),
+        new Quaternionf().rotateAxis(0.3f, 0, 1, 1),
+        new Quaternionf().rotateX(2.5f)
+    };
+
+    private static QuaternionfArray create(Quaternionf[] qs) {
+        QuaternionfArray a = new QuaternionfArray(qs.length);
+        for (int i = 0; i < qs.length; i++)
+            a.set(i, qs[i]);
+        return a;
+    }
+
+    private static void assertQuaternionEquals(Quaternionf expected, Quaternionf actual, float delta) {
+        assertEquals(expected.x, actual.x, delta);
+        assertEquals(expected.y, actual.y, delta);
+        assertEquals(expected.z, actual.z, delta);
+        assertEquals(expected.w, actual.w, delta);
+    }
+
+    @Test
+    void testMul() {
+        QuaternionfArray a = create(A), b = create(B);
+        QuaternionfArray mul = a.mul(b, new QuaternionfArray(A.length));
+        QuaternionfArray mulSingle = a.mul(B[1], new QuaternionfArray(A.length));
+        QuaternionfArray premul = a.premul(B[1], new QuaternionfArray(A.length));
+        Quaternionf q = new Quaternionf();
+        for (int i = 0; i < A.length; i++) {
+            assertQuaternionEquals(new Quaternionf(A[i]).mul(B[i]), mul.get(i, q), 0);
+            assertQuaternionEquals(new Quaternionf(A[i]).mul(B[1]), mulSingle.get(i, q), 0);
+            assertQuaternionEquals(new Quaternionf(A[i]).premul(B[1]), premul.get(i, q), 1E-7f);
+        }
+    }
+
+    @Test
+    void testConjugateNormalizeNlerp() {
+        QuaternionfArray a = create(A), b = create(B);
+        QuaternionfArray conj = a.conjugate(new QuaternionfArray(A.length));
+        QuaternionfArray nlerp = a.nlerp(b, 0.3f, new QuaternionfArray(A.length));
+        QuaternionfArray norm = create(A).mul(B[0]).normalize();
+        Quaternionf q = new Quaternionf();
+        for (int i = 0; i < A.length; i++) {
+            assertQuaternionEquals(new Quaternionf(A[i]).conjugate(), conj.get(i, q), 0);
+            assertQuaternionEquals(new Quaternionf(A[i]).nlerp(B[i], 0.3f), nlerp.get(i, q), 0);
+            assertQuaternionEquals(new Quaternionf(A[i]).mul(B[0]).normalize(), norm.get(i, q), 0);
+        }
+    }
+
+    @Test
+    void testTransform() {
+        Vector3fArray v = new Vector3fArray(A.length);
+        for (int i = 0; i < A.length; i++)
+            v.set(i, i + 1, -2 * i, 0.5f * i);
+        Vector3fArray r = create(A).transform(v, new Vector3fArray(A.length));
+        Vector3f t = new Vector3f();
+        for (int i = 0; i < A.length; i++)
+            assertVector3fEquals(A[i].transform(v.get(i, new Vector3f())), r.get(i, t), 0);
+    }
+}
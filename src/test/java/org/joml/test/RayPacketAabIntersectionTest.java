@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import java.util.Random;
+
+import org.joml.RayAabIntersection;
+import org.joml.RayPacketAabIntersection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RayPacketAabIntersection} class.
+ */
+class RayPacketAabIntersectionTest {
+
+    @Test
+    void testMatchesRayAabIntersection() {
+        Random rnd = new Random(5);
+        for (int width : new int[] {4, 8}) {
+            RayPacketAabIntersection packet = new RayPacketAabIntersection(width);
+            RayAabIntersection[] rays = new RayAabIntersection[width];
+            for (int round = 0; round < 200; round++) {
+                for (int i = 0; i < width; i++) {
+                    float ox = rnd.nextFloat() * 10 - 5, oy = rnd.nextFloat() * 10 - 5, oz = rnd.nextFloat() * 10 - 5;
+                    float dx = rnd.nextFloat() * 2 - 1, dy = rnd.nextFloat() * 2 - 1, dz = rnd.nextFloat() * 2 - 1;
+                    packet.set(i, ox, oy, oz, dx, dy, dz);
+                    rays[i] = new RayAabIntersection(ox, oy, oz, dx, dy, dz);
+                }
+                for (int b = 0; b < 50; b++) {
+                    float minX = rnd.nextFloat() * 10 - 5, minY = rnd.nextFloat() * 10 - 5, minZ = rnd.nextFloat() * 10 - 5;
+                    float maxX = minX + rnd.nextFloat() * 3, maxY = minY + rnd.nextFloat() * 3, maxZ = minZ + rnd.nextFloat() * 3;
+                    int expected = 0;
+                    for (int i = 0; i < width; i++)
+                        expected |= (rays[i].test(minX, minY, minZ, maxX, maxY, maxZ) ? 1 : 0) << i;
+                    assertEquals(expected, packet.test(minX, minY, minZ, maxX, maxY, maxZ));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testAxisAlignedRays() {
+        RayPacketAabIntersection packet = new RayPacketAabIntersection(4);
+        packet.set(0, -1, 0, 0, 1, 0, 0);
+        packet.set(1, 0, 1, 0, 0, -1, 0);
+        packet.set(2, 0, 0, -1, 0, 0, 1);
+        packet.set(3, 2, 2, 2, 0, 0, 1);
+        assertEquals(0b0111, packet.test(-0.5f, -0.5f, -0.5f, 0.5f, 0.5f, 0.5f));
+        // origins lying exactly on a slab plane must not produce NaN
+        packet.set(3, 0.5f, 0, -1, 0, 0, 1);
+        assertEquals(0b1111, packet.test(-0.5f, -0.5f, -0.5f, 0.5f, 0.5f, 0.5f));
+        packet.set(3, -0.5f, 0, 1, -0.0f, 0, -1);
+        assertEquals(0b1111, packet.test(-0.5f, -0.5f, -0.5f, 0.5f, 0.5f, 0.5f));
+        packet.set(3, -0.5001f, 0, 1, 0, 0, -1);
+        assertEquals(0b0111, packet.test(-0.5f, -0.5f, -0.5f, 0.5f, 0.5f, 0.5f));
+    }
+
+    @Test
+    void testMaxTAndInactiveLanes() {
+        RayPacketAabIntersection packet = new RayPacketAabIntersection(8);
+        for (int i = 0; i < 8; i++)
+            packet.set(i, 0, 0, -10, 0, 0, 1);
+        assertEquals(0xFF, packet.test(-1, -1, -1, 1, 1, 1));
+        packet.setMaxT(2, 8.5f);
+        packet.clear(5);
+        assertEquals(0xFF & ~(1 << 2) & ~(1 << 5), packet.test(-1, -1, -1, 1, 1, 1));
+        assertEquals(0xFF & ~(1 << 5), packet.test(-1, -1, -2, 1, 1, 1));
+        packet.clear();
+        assertEquals(0, packet.test(-1, -1, -1, 1, 1, 1));
+    }
+
+    @Test
+    void testInvalidWidth() {
+        assertThrows(IllegalArgumentException.class, () -> new RayPacketAabIntersection(6));
+    }
+}
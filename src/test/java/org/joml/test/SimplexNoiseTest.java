@@ -0,0 +1,236 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.joml.SeededSimplexNoise;
+import org.joml.SimplexNoise;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SimplexNoise} and {@link SeededSimplexNoise} classes.
+ */
+class SimplexNoiseTest {
+
+    @Test
+    void testNoiseGrid2MatchesNoise() {
+        float x0 = -3.7f, y0 = 12.1f, dx = 0.173f, dy = 0.41f;
+        int nx = 37, ny = 11;
+        float[] dest = SimplexNoise.noiseGrid(x0, y0, dx, dy, nx, ny, new float[nx * ny]);
+        for (int j = 0; j < ny; j++)
+            for (int i = 0; i < nx; i++)
+                assertEquals(SimplexNoise.noise(x0 + i * dx, y0 + j * dy), dest[j * nx + i]);
+    }
+
+    @Test
+    void testNoiseGrid3MatchesNoise() {
+        float x0 = 5.2f, y0 = -1.3f, z0 = 100.7f, dx = 0.137f, dy = 0.29f, dz = 0.53f;
+        int nx = 29, ny = 7, nz = 5;
+        float[] dest = SimplexNoise.noiseGrid(x0, y0, z0, dx, dy, dz, nx, ny, nz, new float[nx * ny * nz]);
+        for (int k = 0; k < nz; k++)
+            for (int j = 0; j < ny; j++)
+                for (int i = 0; i < nx; i++)
+                    assertEquals(SimplexNoise.noise(x0 + i * dx, y0 + j * dy, z0 + k * dz), dest[(k * ny + j) * nx + i]);
+    }
+
+    @Test
+    void testFbmAndRidgedGridsMatchScalar() {
+        float x0 = -20.5f, y0 = 3.25f, z0 = -0.75f, dx = 0.31f, dy = 0.19f, dz = 0.7f;
+        int nx = 17, ny = 6, nz = 3;
+        float[] fbm2 = SimplexNoise.fbmGrid(x0, y0, dx, dy, nx, ny, 5, 2.0f, 0.5f, new float[nx * ny]);
+        float[] ridged2 = SimplexNoise.ridgedGrid(x0, y0, dx, dy, nx, ny, 4, 1.9f, 0.6f, new float[nx * ny]);
+        float[] fbm3 = SimplexNoise.fbmGrid(x0, y0, z0, dx, dy, dz, nx, ny, nz, 5, 2.0f, 0.5f, new float[nx * ny * nz]);
+        float[] ridged3 = SimplexNoise.ridgedGrid(x0, y0, z0, dx, dy, dz, nx, ny, nz, 3, 2.1f, 0.45f, new float[nx * ny * nz]);
+        for (int k = 0; k < nz; k++)
+            for (int j = 0; j < ny; j++)
+                for (int i = 0; i < nx; i++) {
+                    float x = x0 + i * dx, y = y0 + j * dy, z = z0 + k * dz;
+                    if (k == 0) {
+                        assertEquals(SimplexNoise.fbm(x, y, 5, 2.0f, 0.5f), fbm2[j * nx + i]);
+                        float r = SimplexNoise.ridged(x, y, 4, 1.9f, 0.6f);
+                        assertEquals(r, ridged2[j * nx + i]);
+                        assertTrue(r >= 0.0f && r <= 1.0f);
+                    }
+                    assertEquals(SimplexNoise.fbm(x, y, z, 5, 2.0f, 0.5f), fbm3[(k * ny + j) * nx + i]);
+                    assertEquals(SimplexNoise.ridged(x, y, z, 3, 2.1f, 0.45f), ridged3[(k * ny + j) * nx + i]);
+                }
+    }
+
+    @Test
+    void testGridIntoFloatBuffer() {
+        int nx = 13, ny = 4, nz = 3;
+        float[] expected = SimplexNoise.fbmGrid(1, 2, 3, 0.5f, 0.25f, 0.125f, nx, ny, nz, 3, 2.0f, 0.5f, new float[nx * ny * nz]);
+        FloatBuffer fb = ByteBuffer.allocateDirect(4 * (nx * ny * nz + 2)).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        fb.position(2);
+        SimplexNoise.fbmGrid(1, 2, 3, 0.5f, 0.25f, 0.125f, nx, ny, nz, 3, 2.0f, 0.5f, fb);
+        assertEquals(2, fb.position());
+        for (int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], fb.get(2 + i));
+        float[] expected2 = SimplexNoise.noiseGrid(-1, 4, 0.3f, 0.2f, nx, ny, new float[nx * ny]);
+        SimplexNoise.noiseGrid(-1, 4, 0.3f, 0.2f, nx, ny, fb);
+        for (int i = 0; i < expected2.length; i++)
+            assertEquals(expected2[i], fb.get(2 + i));
+    }
+
+    @Test
+    void testInvalidOctaves() {
+        assertThrows(IllegalArgumentException.class, () -> SimplexNoise.fbm(1, 2, 0, 2.0f, 0.5f));
+    }
+
+    @Test
+    void testSeededNoiseIsDeterministic() {
+        SeededSimplexNoise a = new SeededSimplexNoise(1234L), b = new SeededSimplexNoise(1234L);
+        assertEquals(1234L, a.seed());
+        java.util.Random rnd = new java.util.Random(7);
+        for (int i = 0; i < 1000; i++) {
+            float x = (rnd.nextFloat() - 0.5f) * 100, y = (rnd.nextFloat() - 0.5f) * 100;
+            float z = (rnd.nextFloat() - 0.5f) * 100, w = (rnd.nextFloat() - 0.5f) * 100;
+            assertEquals(a.noise(x, y), b.noise(x, y), 0.0f);
+            assertEquals(a.noise(x, y, z), b.noise(x, y, z), 0.0f);
+            assertEquals(a.noise(x, y, z, w), b.noise(x, y, z, w), 0.0f);
+            float v = a.noise(x, y, z);
+            assertTrue(v >= -1.0f && v <= 1.0f);
+        }
+    }
+
+    @Test
+    void testDifferentSeedsProduceDifferentNoise() {
+        SeededSimplexNoise a = new SeededSimplexNoise(1L), b = new SeededSimplexNoise(2L);
+        java.util.Random rnd = new java.util.Random(11);
+        int different = 0;
+        for (int i = 0; i < 1000; i++) {
+            float x = rnd.nextFloat() * 50, y = rnd.nextFloat() * 50, z = rnd.nextFloat() * 50;
+            if (a.noise(x, y, z) != b.noise(x, y, z))
+                different++;
+        }
+        assertTrue(different > 900, "only " + different + " samples differ");
+    }
+
+    @Test
+    void testSeededNoiseConcurrentUse() throws Exception {
+        final SeededSimplexNoise noise = new SeededSimplexNoise(99L);
+        final int n = 10000;
+        final float[] expected = new float[n];
+        for (int i = 0; i < n; i++)
+            expected[i] = noise.fbm(i * 0.031f, i * 0.017f, 0.5f, 4, 2.0f, 0.5f);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < n; i++)
+                        if (noise.fbm(i * 0.031f, i * 0.017f, 0.5f, 4, 2.0f, 0.5f) != expected[i])
+                            return Boolean.FALSE;
+                    return Boolean.TRUE;
+                }));
+            }
+            for (Future<Boolean> result : results)
+                assertTrue(result.get().booleanValue());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testNoiseWithGradientMatchesFiniteDifferences() {
+        java.util.Random rnd = new java.util.Random(5);
+        Vector3f v3 = new Vector3f();
+        Vector4f v4 = new Vector4f();
+        int skipped = 0;
+        for (int i = 0; i < 2000; i++) {
+            float x = (rnd.nextFloat() - 0.5f) * 20, y = (rnd.nextFloat() - 0.5f) * 20, z = (rnd.nextFloat() - 0.5f) * 20;
+            SimplexNoise.noiseWithGradient(x, y, v3);
+            assertEquals(SimplexNoise.noise(x, y), v3.z, 0.0f);
+            skipped += assertGradient(v3.x, h -> SimplexNoise.noise(x + (float) h, y));
+            skipped += assertGradient(v3.y, h -> SimplexNoise.noise(x, y + (float) h));
+            SimplexNoise.noiseWithGradient(x, y, z, v4);
+            assertEquals(SimplexNoise.noise(x, y, z), v4.w, 0.0f);
+            skipped += assertGradient(v4.x, h -> SimplexNoise.noise(x + (float) h, y, z));
+            skipped += assertGradient(v4.y, h -> SimplexNoise.noise(x, y + (float) h, z));
+            skipped += assertGradient(v4.z, h -> SimplexNoise.noise(x, y, z + (float) h));
+        }
+        assertTrue(skipped < 100, skipped + " samples skipped");
+    }
+
+    /**
+     * Compare the analytic derivative against central differences of the noise along one axis and return 1 if the
+     * sample had to be skipped.
+     * <p>
+     * 3D noise has small discontinuities at simplex boundaries, because the radius of the corner contributions reaches
+     * slightly beyond the neighboring simplices. When one of them lies within the step size, central differences with
+     * two different step sizes disagree and the sample is skipped.
+     */
+    private static int assertGradient(float analytic, java.util.function.DoubleUnaryOperator noise) {
+        float h = 1E-3f, q = h * 0.25f;
+        float coarse = (float) (noise.applyAsDouble(h) - noise.applyAsDouble(-h)) / (2 * h);
+        float fine = (float) (noise.applyAsDouble(q) - noise.applyAsDouble(-q)) / (2 * q);
+        float scale = java.lang.Math.max(1.0f, java.lang.Math.abs(fine));
+        if (java.lang.Math.abs(coarse - fine) > 2E-3f * scale)
+            return 1;
+        assertEquals(fine, analytic, 1E-2f * scale);
+        return 0;
+    }
+
+    @Test
+    void testNoiseWithGradientArrays() {
+        int n = 50;
+        float[] x = new float[n], y = new float[n], z = new float[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i * 0.37f;
+            y[i] = -i * 0.21f;
+            z[i] = 3.0f + i * 0.05f;
+        }
+        float[] value = new float[n], gx = new float[n], gy = new float[n], gz = new float[n];
+        SimplexNoise.noiseWithGradient(x, y, z, n, value, gx, gy, gz);
+        Vector4f v4 = new Vector4f();
+        for (int i = 0; i < n; i++) {
+            SimplexNoise.noiseWithGradient(x[i], y[i], z[i], v4);
+            assertEquals(v4.x, gx[i], 0.0f);
+            assertEquals(v4.y, gy[i], 0.0f);
+            assertEquals(v4.z, gz[i], 0.0f);
+            assertEquals(v4.w, value[i], 0.0f);
+        }
+        SimplexNoise.noiseWithGradient(x, y, n, value, gx, gy);
+        Vector3f v3 = new Vector3f();
+        for (int i = 0; i < n; i++) {
+            SimplexNoise.noiseWithGradient(x[i], y[i], v3);
+            assertEquals(v3.x, gx[i], 0.0f);
+            assertEquals(v3.y, gy[i], 0.0f);
+            assertEquals(v3.z, value[i], 0.0f);
+        }
+        assertThrows(IllegalArgumentException.class, () -> SimplexNoise.noiseWithGradient(x, y, n + 1, value, gx, gy));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import java.util.Arrays;
+
+import org.joml.*;
+import org.joml.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SpatialHashGrid} class.
+ */
+class SpatialHashGridTest {
+    private static float[] randomPoints(Random rnd, int count) {
+        float[] positions = new float[3 * count];
+        for (int i = 0; i < positions.length; i++)
+            positions[i] = rnd.nextFloat() * 40 - 20;
+        return positions;
+    }
+
+    private static int[] sortedPrefix(int[] array, int count) {
+        int[] result = Arrays.copyOf(array, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    @Test
+    void testRadiusAndAabQueriesMatchBruteForce() {
+        Random rnd = new Random(99L);
+        SpatialHashGrid grid = new SpatialHashGrid(2.0f);
+        int[] found = new int[4000];
+        int[] expected = new int[4000];
+        for (int rebuild = 0; rebuild < 3; rebuild++) {
+            int count = 1000 + 1000 * rebuild;
+            float[] positions = randomPoints(rnd, count);
+            grid.build(positions, count);
+            assertEquals(count, grid.size());
+            assertTrue(grid.cellCount() > 1 && grid.cellCount() <= count);
+            for (int q = 0; q < 50; q++) {
+                float x = rnd.nextFloat() * 40 - 20, y = rnd.nextFloat() * 40 - 20, z = rnd.nextFloat() * 40 - 20;
+                float r = q == 0 ? 100 : rnd.nextFloat() * 5;
+                int n = 0;
+                for (int i = 0; i < count; i++) {
+                    float dx = positions[3 * i] - x, dy = positions[3 * i + 1] - y, dz = positions[3 * i + 2] - z;
+                    if (dx * dx + dy * dy + dz * dz <= r * r)
+                        expected[n++] = i;
+                }
+                assertEquals(n, grid.queryRadius(x, y, z, r, found));
+                assertArrayEquals(Arrays.copyOf(expected, n), sortedPrefix(found, n));
+                n = 0;
+                for (int i = 0; i < count; i++) {
+                    float px = positions[3 * i], py = positions[3 * i + 1], pz = positions[3 * i + 2];
+                    if (px >= x && py >= y && pz >= z && px <= x + r && py <= y + 2 * r && pz <= z + r)
+                        expected[n++] = i;
+                }
+                assertEquals(n, grid.queryAab(x, y, z, x + r, y + 2 * r, z + r, found));
+                assertArrayEquals(Arrays.copyOf(expected, n), sortedPrefix(found, n));
+            }
+        }
+    }
+
+    @Test
+    void testCellsAndSmallDestination() {
+        SpatialHashGrid grid = new SpatialHashGrid(0.5f);
+        assertEquals(new Vector3i(-1, 0, 3), grid.cell(-0.25f, 0.25f, 1.75f, new Vector3i()));
+        float[] positions = { 0.1f, 0.1f, 0.1f, 0.2f, 0.2f, 0.2f, 0.3f, 0.3f, 0.3f, -0.1f, 0, 0 };
+        grid.build(positions, 4);
+        assertEquals(2, grid.cellCount());
+        int[] dest = new int[2];
+        assertEquals(4, grid.queryRadius(0, 0, 0, 1, dest));
+        assertEquals(1, grid.queryAab(-1, -1, -1, 0, 0, 0, dest));
+        assertEquals(3, dest[0]);
+        grid.build(positions, 0);
+        assertEquals(0, grid.queryRadius(0, 0, 0, 1, dest));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.joml.*;
+import org.joml.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SweepAndPrune} class.
+ */
+class SweepAndPruneTest {
+    private static final int N = 200;
+
+    private static long key(int a, int b) {
+        return (long) a << 32 | b;
+    }
+
+    private static void simulate(int axes) {
+        Random rnd = new Random(axes);
+        SweepAndPrune sap = new SweepAndPrune(axes);
+        float[] pos = new float[3 * N];
+        int[] proxies = new int[N];
+        final Set<Long> overlapping = new HashSet<>();
+        SweepAndPrune.PairCallback callback = new SweepAndPrune.PairCallback() {
+            public void beginOverlap(int a, int b) {
+                assertTrue(a < b);
+                assertTrue(overlapping.add(Long.valueOf(key(a, b))));
+            }
+            public void endOverlap(int a, int b) {
+                assertTrue(overlapping.remove(Long.valueOf(key(a, b))));
+            }
+        };
+        for (int i = 0; i < N; i++) {
+            for (int k = 0; k < 3; k++)
+                pos[3 * i + k] = rnd.nextFloat() * 30;
+            proxies[i] = sap.insert(pos[3 * i], pos[3 * i + 1], pos[3 * i + 2], pos[3 * i] + 2, pos[3 * i + 1] + 2, pos[3 * i + 2] + 2);
+        }
+        for (int step = 0; step < 30; step++) {
+            for (int i = 0; i < N; i++) {
+                if (step == 10 && i % 7 == 0) {
+                    sap.remove(proxies[i]);
+                    proxies[i] = -1;
+                } else if (step == 20 && proxies[i] < 0) {
+                    proxies[i] = sap.insert(pos[3 * i], pos[3 * i + 1], pos[3 * i + 2], pos[3 * i] + 2, pos[3 * i + 1] + 2, pos[3 * i + 2] + 2);
+                }
+                if (proxies[i] < 0)
+                    continue;
+                for (int k = 0; k < 3; k++)
+                    pos[3 * i + k] += (rnd.nextFloat() - 0.5f) * 0.8f;
+                sap.set(proxies[i], pos[3 * i], pos[3 * i + 1], pos[3 * i + 2], pos[3 * i] + 2, pos[3 * i + 1] + 2, pos[3 * i + 2] + 2);
+            }
+            sap.update(callback);
+            Set<Long> expected = new HashSet<>();
+            Vector3f minA = new Vector3f(), maxA = new Vector3f(), minB = new Vector3f(), maxB = new Vector3f();
+            for (int i = 0; i < N; i++) {
+                if (proxies[i] < 0)
+                    continue;
+                sap.getAab(proxies[i], minA, maxA);
+                for (int j = 0; j < N; j++) {
+                    if (proxies[j] < 0 || proxies[i] >= proxies[j])
+                        continue;
+                    sap.getAab(proxies[j], minB, maxB);
+                    if (Intersectionf.testAabAab(minA, maxA, minB, maxB))
+                        expected.add(Long.valueOf(key(proxies[i], proxies[j])));
+                }
+            }
+            assertFalse(expected.isEmpty());
+            assertEquals(expected, overlapping, "step " + step);
+        }
+        assertEquals(N, sap.proxyCount());
+    }
+
+    @Test
+    void testThreeAxes() {
+        simulate(3);
+    }
+
+    @Test
+    void testOneAxis() {
+        simulate(1);
+    }
+
+    @Test
+    void testTouchingAndRemoval() {
+        SweepAndPrune sap = new SweepAndPrune();
+        final int[] events = new int[2];
+        SweepAndPrune.PairCallback callback = new SweepAndPrune.PairCallback() {
+            public void beginOverlap(int a, int b) {
+                events[0]++;
+            }
+            public void endOverlap(int a, int b) {
+                events[1]++;
+            }
+        };
+        int a = sap.insert(0, 0, 0, 1, 1, 1);
+        int b = sap.insert(1, 0, 0, 2, 1, 1);
+        sap.update(callback);
+        assertEquals(1, events[0]);
+        sap.set(b, 1.5f, 0, 0, 2.5f, 1, 1);
+        sap.update(callback);
+        assertEquals(1, events[1]);
+        sap.set(b, 0.5f, 0.5f, 0.5f, 1.5f, 1.5f, 1.5f);
+        sap.update(callback);
+        assertEquals(2, events[0]);
+        sap.remove(a);
+        assertThrows(IllegalArgumentException.class, () -> sap.set(a, 0, 0, 0, 1, 1, 1));
+        sap.update(callback);
+        assertEquals(2, events[1]);
+        assertEquals(1, sap.proxyCount());
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.*;
+import org.joml.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link TriangleBvh} class.
+ */
+class TriangleBvhTest {
+    private static final float EPSILON = 1E-6f;
+
+    static float[] randomPositions(Random rnd, int triangles) {
+        float[] positions = new float[9 * triangles];
+        for (int i = 0; i < triangles; i++) {
+            float cx = rnd.nextFloat() * 20 - 10, cy = rnd.nextFloat() * 20 - 10, cz = rnd.nextFloat() * 20 - 10;
+            for (int j = 0; j < 9; j++)
+                positions[9 * i + j] = (j % 3 == 0 ? cx : j % 3 == 1 ? cy : cz) + rnd.nextFloat() - 0.5f;
+        }
+        return positions;
+    }
+
+    static int[] sequentialIndices(int triangles) {
+        int[] indices = new int[3 * triangles];
+        for (int i = 0; i < indices.length; i++)
+            indices[i] = i;
+        return indices;
+    }
+
+    private static float bruteForce(float[] p, float ox, float oy, float oz, float dx, float dy, float dz, float maxT, int[] triangle) {
+        float closest = maxT;
+        triangle[0] = -1;
+        for (int i = 0; i < p.length / 9; i++) {
+            int v = 9 * i;
+            float t = Intersectionf.intersectRayTriangle(ox, oy, oz, dx, dy, dz, p[v], p[v + 1], p[v + 2], p[v + 3], p[v + 4], p[v + 5],
+                    p[v + 6], p[v + 7], p[v + 8], EPSILON);
+            if (t >= 0.0f && t <= closest) {
+                closest = t;
+                triangle[0] = i;
+            }
+        }
+        return closest;
+    }
+
+    @Test
+    void testClosestHitMatchesBruteForce() {
+        Random rnd = new Random(12345L);
+        float[] positions = randomPositions(rnd, 2000);
+        TriangleBvh bvh = new TriangleBvh(positions, sequentialIndices(2000));
+        assertEquals(2000, bvh.triangleCount());
+        assertTrue(bvh.nodeCount() > 1);
+        Vector3f result = new Vector3f();
+        int[] expected = new int[1];
+        int hits = 0;
+        for (int r = 0; r < 500; r++) {
+            float ox = rnd.nextFloat() * 30 - 15, oy = rnd.nextFloat() * 30 - 15, oz = rnd.nextFloat() * 30 - 15;
+            float dx = -ox + rnd.nextFloat() * 4 - 2, dy = -oy + rnd.nextFloat() * 4 - 2, dz = -oz + rnd.nextFloat() * 4 - 2;
+            if (r % 10 == 0) {
+                dx = 0;
+                dy = 0;
+            }
+            float t = bruteForce(positions, ox, oy, oz, dx, dy, dz, Float.POSITIVE_INFINITY, expected);
+            int tri = bvh.intersectRay(ox, oy, oz, dx, dy, dz, Float.POSITIVE_INFINITY, EPSILON, result);
+            assertEquals(expected[0], tri);
+            assertEquals(expected[0] >= 0, bvh.testRay(ox, oy, oz, dx, dy, dz, Float.POSITIVE_INFINITY, EPSILON));
+            if (tri >= 0) {
+                hits++;
+                assertEquals(t, result.x, 0.0f);
+                int v = 9 * tri;
+                float w = 1 - result.y - result.z;
+                assertEquals(ox + t * dx, w * positions[v] + result.y * positions[v + 3] + result.z * positions[v + 6], 1E-3f);
+                assertEquals(oz + t * dz, w * positions[v + 2] + result.y * positions[v + 5] + result.z * positions[v + 8], 1E-3f);
+            }
+        }
+        assertTrue(hits > 100);
+    }
+
+    @Test
+    void testMaxT() {
+        float[] positions = { -1, -1, 2, 1, -1, 2, 0, 1, 2, -1, -1, 5, 1, -1, 5, 0, 1, 5 };
+        int[] indices = { 0, 1, 2, 3, 4, 5 };
+        TriangleBvh bvh = new TriangleBvh(positions, indices, 1);
+        assertEquals(3, bvh.nodeCount());
+        Vector3f result = new Vector3f();
+        assertEquals(0, bvh.intersectRay(new Vector3f(0, 0, 0), new Vector3f(0, 0, 1), 10, EPSILON, result));
+        assertEquals(2, result.x, 1E-6f);
+        assertEquals(1, bvh.intersectRay(new Vector3f(0, 0, 3), new Vector3f(0, 0, 1), 10, EPSILON, result));
+        assertEquals(-1, bvh.intersectRay(new Vector3f(0, 0, 0), new Vector3f(0, 0, 1), 1.5f, EPSILON, result));
+        assertTrue(bvh.testRay(0, 0, 0, 0, 0, 1, 2.5f, EPSILON));
+        assertFalse(bvh.testRay(0, 0, 0, 0, 0, 1, 1.5f, EPSILON));
+        assertFalse(bvh.testRay(0, 0, 0, 0, 0, -1, 10, EPSILON));
+    }
+
+    @Test
+    void testSharedVerticesAndBounds() {
+        /* 10x10 grid of quads in the xz plane */
+        int n = 10;
+        float[] positions = new float[3 * (n + 1) * (n + 1)];
+        for (int z = 0; z <= n; z++)
+            for (int x = 0; x <= n; x++) {
+                int v = 3 * (z * (n + 1) + x);
+                positions[v] = x;
+                positions[v + 2] = z;
+            }
+        int[] indices = new int[6 * n * n];
+        for (int z = 0, i = 0; z < n; z++)
+            for (int x = 0; x < n; x++) {
+                int v = z * (n + 1) + x;
+                indices[i++] = v; indices[i++] = v + n + 1; indices[i++] = v + 1;
+                indices[i++] = v + 1; indices[i++] = v + n + 1; indices[i++] = v + n + 2;
+            }
+        TriangleBvh bvh = new TriangleBvh(positions, indices);
+        Vector3f min = new Vector3f(), max = new Vector3f();
+        bvh.bounds(min, max);
+        assertEquals(new Vector3f(0, 0, 0), min);
+        assertEquals(new Vector3f(n, 0, n), max);
+        Vector3f result = new Vector3f();
+        int tri = bvh.intersectRay(3.25f, 5, 7.5f, 0, -1, 0, Float.POSITIVE_INFINITY, EPSILON, result);
+        assertEquals(2 * (7 * n + 3), tri);
+        assertEquals(5, result.x, 1E-6f);
+        assertFalse(bvh.testRay(3.25f, 5, 7.5f, 0, 1, 0, Float.POSITIVE_INFINITY, EPSILON));
+    }
+
+    @Test
+    void testEmpty() {
+        TriangleBvh bvh = new TriangleBvh(new float[0], new int[0]);
+        assertEquals(0, bvh.triangleCount());
+        assertEquals(-1, bvh.intersectRay(0, 0, 0, 1, 0, 0, Float.POSITIVE_INFINITY, EPSILON, new Vector3f()));
+        assertFalse(bvh.testRay(0, 0, 0, 1, 0, 0, Float.POSITIVE_INFINITY, EPSILON));
+    }
+
+    @Test
+    void testSweptSphereMatchesBruteForce() {
+        Random rnd = new Random(777L);
+        float[] p = randomPositions(rnd, 1500);
+        TriangleBvh bvh = new TriangleBvh(p, sequentialIndices(1500));
+        Vector4f pointAndTime = new Vector4f(), expectedPoint = new Vector4f(), tmp = new Vector4f(), scratchPointAndTime = new Vector4f();
+        Vector3f onTriangle = new Vector3f();
+        int[] feature = new int[1], scratchFeature = new int[1];
+        int hits = 0;
+        for (int k = 0; k < 300; k++) {
+            float cx = rnd.nextFloat() * 24 - 12, cy = rnd.nextFloat() * 24 - 12, cz = rnd.nextFloat() * 24 - 12;
+            float vx = rnd.nextFloat() * 6 - 3, vy = rnd.nextFloat() * 6 - 3, vz = rnd.nextFloat() * 6 - 3;
+            float radius = 0.1f + rnd.nextFloat() * 0.5f;
+            float closest = 1.0f;
+            int expected = -1, expectedFeature = 0;
+            for (int i = 0; i < p.length / 9; i++) {
+                int v = 9 * i;
+                int f = Intersectionf.intersectSweptSphereTriangle(cx, cy, cz, radius, vx, vy, vz, p[v], p[v + 1], p[v + 2],
+                        p[v + 3], p[v + 4], p[v + 5], p[v + 6], p[v + 7], p[v + 8], EPSILON, 1.0f, tmp);
+                if (f != 0 && tmp.w < 0.0f) {
+                    // already penetrating: a hit at time 0 iff the sphere still overlaps the triangle
+                    f = Intersectionf.findClosestPointOnTriangle(p[v], p[v + 1], p[v + 2],
+                            p[v + 3], p[v + 4], p[v + 5], p[v + 6], p[v + 7], p[v + 8], cx, cy, cz, onTriangle);
+                    if (onTriangle.distanceSquared(cx, cy, cz) > radius * radius)
+                        f = 0;
+                    tmp.set(onTriangle, 0.0f);
+                }
+                if (f != 0 && tmp.w <= closest) {
+                    closest = tmp.w;
+                    expected = i;
+                    expectedFeature = f;
+                    expectedPoint.set(tmp);
+                }
+            }
+            int actual = bvh.intersectSweptSphere(cx, cy, cz, radius, vx, vy, vz, 1.0f, EPSILON, pointAndTime, feature);
+            assertEquals(expected, actual);
+            assertEquals(actual, bvh.intersectSweptSphere(cx, cy, cz, radius, vx, vy, vz, 1.0f, EPSILON, scratchPointAndTime, scratchFeature,
+                    tmp, onTriangle));
+            if (actual >= 0) {
+                assertEquals(pointAndTime, scratchPointAndTime);
+                assertEquals(feature[0], scratchFeature[0]);
+            }
+            if (expected >= 0) {
+                hits++;
+                assertEquals(expectedFeature, feature[0]);
+                assertEquals(expectedPoint.w, pointAndTime.w, 1E-6f);
+                assertEquals(expectedPoint.x, pointAndTime.x, 1E-5f);
+                assertEquals(expectedPoint.y, pointAndTime.y, 1E-5f);
+                assertEquals(expectedPoint.z, pointAndTime.z, 1E-5f);
+            }
+        }
+        assertTrue(hits > 0);
+    }
+
+    @Test
+    void testSweptSphereFallingOntoFloor() {
+        // 10x10 quads in the XZ plane at y = 0, counter-clockwise when viewed from above
+        float[] positions = new float[11 * 11 * 3];
+        for (int z = 0; z <= 10; z++)
+            for (int x = 0; x <= 10; x++) {
+                int v = 3 * (z * 11 + x);
+                positions[v] = x;
+                positions[v + 2] = z;
+            }
+        int[] indices = new int[10 * 10 * 6];
+        for (int z = 0, i = 0; z < 10; z++)
+            for (int x = 0; x < 10; x++) {
+                int v = z * 11 + x;
+                indices[i++] = v; indices[i++] = v + 11; indices[i++] = v + 1;
+                indices[i++] = v + 1; indices[i++] = v + 11; indices[i++] = v + 12;
+            }
+        TriangleBvh bvh = new TriangleBvh(positions, indices);
+        Vector4f pointAndTime = new Vector4f();
+        int[] feature = new int[1];
+        int triangle = bvh.intersectSweptSphere(new Vector3f(3.3f, 2, 4.6f), 0.5f, new Vector3f(0, -3, 0), 1.0f, EPSILON, pointAndTime, feature);
+        assertTrue(triangle >= 0);
+        assertEquals(Intersectionf.POINT_ON_TRIANGLE_FACE, feature[0]);
+        assertEquals(0.5f, pointAndTime.w, 1E-6f);
+        assertEquals(3.3f, pointAndTime.x, 1E-6f);
+        assertEquals(0.0f, pointAndTime.y, 1E-6f);
+        assertEquals(4.6f, pointAndTime.z, 1E-6f);
+        assertEquals(-1, bvh.intersectSweptSphere(3.3f, 2, 4.6f, 0.5f, 0, -3, 0, 0.4f, EPSILON, pointAndTime, null));
+        // a miss leaves pointAndTime and feature untouched
+        assertEquals(new Vector4f(3.3f, 0, 4.6f, 0.5f), pointAndTime);
+        assertEquals(-1, bvh.intersectSweptSphere(3.3f, 2, 4.6f, 0.5f, 0, 3, 0, 1.0f, EPSILON, pointAndTime, feature));
+        assertEquals(new Vector4f(3.3f, 0, 4.6f, 0.5f), pointAndTime);
+        assertEquals(Intersectionf.POINT_ON_TRIANGLE_FACE, feature[0]);
+        // a sphere already sunk into the floor is reported at time 0
+        assertEquals(triangle, bvh.intersectSweptSphere(3.3f, 0.3f, 4.6f, 0.5f, 0, -3, 0, 1.0f, EPSILON, pointAndTime, feature));
+        assertEquals(Intersectionf.POINT_ON_TRIANGLE_FACE, feature[0]);
+        assertEquals(0.0f, pointAndTime.w, 0.0f);
+        assertEquals(3.3f, pointAndTime.x, 1E-6f);
+        assertEquals(0.0f, pointAndTime.y, 1E-6f);
+        assertEquals(4.6f, pointAndTime.z, 1E-6f);
+    }
+
+    private static float bruteForceClosestPoint(float[] p, float x, float y, float z, Vector3f closest, int[] triangleAndFeature) {
+        float best = Float.POSITIVE_INFINITY;
+        Vector3f tmp = new Vector3f();
+        for (int i = 0; i < p.length / 9; i++) {
+            int v = 9 * i;
+            int f = Intersectionf.findClosestPointOnTriangle(p[v], p[v + 1], p[v + 2], p[v + 3], p[v + 4], p[v + 5],
+                    p[v + 6], p[v + 7], p[v + 8], x, y, z, tmp);
+            float d = tmp.distanceSquared(x, y, z);
+            if (d < best) {
+                best = d;
+                closest.set(tmp);
+                triangleAndFeature[0] = i;
+                triangleAndFeature[1] = f;
+            }
+        }
+        return (float) java.lang.Math.sqrt(best);
+    }
+
+    @Test
+    void testClosestPointMatchesBruteForce() {
+        Random rnd = new Random(4242L);
+        float[] p = randomPositions(rnd, 2000);
+        TriangleBvh bvh = new TriangleBvh(p, sequentialIndices(2000));
+        Vector3f result = new Vector3f(), expected = new Vector3f(), tmp = new Vector3f();
+        int[] feature = new int[1], expectedTriangleAndFeature = new int[2];
+        int[] stackNodes = new int[bvh.stackDepth()];
+        float[] stackDistances = new float[bvh.stackDepth()];
+        for (int k = 0; k < 300; k++) {
+            float x = rnd.nextFloat() * 30 - 15, y = rnd.nextFloat() * 30 - 15, z = rnd.nextFloat() * 30 - 15;
+            float distance = bruteForceClosestPoint(p, x, y, z, expected, expectedTriangleAndFeature);
+            int triangle = bvh.findClosestPoint(new Vector3f(x, y, z), Float.POSITIVE_INFINITY, result, feature);
+            assertEquals(distance, result.distance(x, y, z), 1E-5f);
+            assertEquals(expectedTriangleAndFeature[0], triangle);
+            assertEquals(expectedTriangleAndFeature[1], feature[0]);
+            Vector3f previous = new Vector3f(result);
+            assertEquals(-1, bvh.findClosestPoint(x, y, z, distance * 0.99f, result, feature));
+            assertEquals(previous, result);
+            assertEquals(expectedTriangleAndFeature[1], feature[0]);
+            assertEquals(triangle, bvh.findClosestPoint(x, y, z, distance * 1.01f, result.zero(), null, stackNodes, stackDistances, tmp));
+            assertEquals(distance, result.distance(x, y, z), 1E-5f);
+        }
+    }
+
+//#ifdef __HAS_NIO__
+    @Test
+    void testClosestPointsBatch() {
+        Random rnd = new Random(99L);
+        float[] p = randomPositions(rnd, 1000);
+        TriangleBvh bvh = new TriangleBvh(p, sequentialIndices(1000));
+        int count = 3000;
+        float[] points = new float[3 * count];
+        for (int i = 0; i < points.length; i++)
+            points[i] = rnd.nextFloat() * 30 - 15;
+        float[] closest = new float[3 * count], parallelClosest = new float[3 * count];
+        int[] triangles = new int[count], parallelTriangles = new int[count];
+        int[] features = new int[count], parallelFeatures = new int[count];
+        bvh.findClosestPoints(points, count, 2.0f, closest, triangles, features, null);
+        java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(4);
+        try {
+            bvh.findClosestPoints(points, count, 2.0f, parallelClosest, parallelTriangles, parallelFeatures, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(triangles, parallelTriangles);
+        assertArrayEquals(features, parallelFeatures);
+        assertTrue(java.util.Arrays.equals(closest, parallelClosest));
+        Vector3f result = new Vector3f();
+        int[] feature = new int[1];
+        int misses = 0;
+        for (int i = 0; i < count; i++) {
+            int triangle = bvh.findClosestPoint(points[3 * i], points[3 * i + 1], points[3 * i + 2], 2.0f, result, feature);
+            assertEquals(triangle, triangles[i]);
+            if (triangle < 0) {
+                misses++;
+                continue;
+            }
+            assertEquals(feature[0], features[i]);
+            assertEquals(result.x, closest[3 * i]);
+            assertEquals(result.y, closest[3 * i + 1]);
+            assertEquals(result.z, closest[3 * i + 2]);
+        }
+        assertTrue(misses > 0 && misses < count);
+    }
+//#endif
+}
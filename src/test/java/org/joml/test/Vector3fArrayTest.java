@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector3fArray;
+import org.junit.jupiter.api.Test;
+
+import static org.joml.test.TestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link Vector3fArray} class.
+ */
+class Vector3fArrayTest {
+
+    private static Vector3fArray create(Vector3f[] vs) {
+        Vector3fArray a = new Vector3fArray(vs.length);
+        for (int i = 0; i < vs.length; i++)
+            a.set(i, vs[i]);
+        return a;
+    }
+
+    private static final Vector3f[] A = {
+        new Vector3f(1, 2, 3), new Vector3f(-4, 5, 0.5f), new Vector3f(0, 0, 7), new Vector3f(3, -1, -2), new Vector3f(0.1f, 0.2f, 0.3f)
+    };
+    private static final Vector3f[] B = {
+        new Vector3f(2, 0, 1), new Vector3f(1, 1, 1), new Vector3f(-3, 4, 2), new Vector3f(0, 5, -1), new Vector3f(9, 8, 7)
+    };
+
+    @Test
+    void testComponentWise() {
+        Vector3fArray a = create(A), b = create(B);
+        Vector3fArray add = new Vector3fArray(A.length), sub = new Vector3fArray(A.length);
+        Vector3fArray mul = new Vector3fArray(A.length), fma = create(A), lerp = new Vector3fArray(A.length);
+        a.add(b, add);
+        a.sub(b, sub);
+        a.mul(b, mul);
+        fma.fma(a, b);
+        a.lerp(b, 0.25f, lerp);
+        Vector3f v = new Vector3f();
+        for (int i = 0; i < A.length; i++) {
+            assertVector3fEquals(new Vector3f(A[i]).add(B[i]), add.get(i, v), 0);
+            assertVector3fEquals(new Vector3f(A[i]).sub(B[i]), sub.get(i, v), 0);
+            assertVector3fEquals(new Vector3f(A[i]).mul(B[i]), mul.get(i, v), 0);
+            assertVector3fEquals(new Vector3f(A[i]).fma(A[i], B[i]), fma.get(i, v), 0);
+            assertVector3fEquals(new Vector3f(A[i]).lerp(B[i], 0.25f), lerp.get(i, v), 0);
+        }
+    }
+
+    @Test
+    void testDotCrossNormalize() {
+        Vector3fArray a = create(A), b = create(B);
+        float[] dots = a.dot(b, new float[A.length]);
+        Vector3fArray cross = a.cross(b, new Vector3fArray(A.length));
+        Vector3fArray norm = a.normalize(new Vector3fArray(A.length));
+        float[] lengths = norm.length(new float[A.length]);
+        Vector3f v = new Vector3f();
+        for (int i = 0; i < A.length; i++) {
+            assertEquals(A[i].dot(B[i]), dots[i], 0);
+            assertVector3fEquals(new Vector3f(A[i]).cross(B[i]), cross.get(i, v), 0);
+            assertVector3fEquals(new Vector3f(A[i]).normalize(), norm.get(i, v), 0);
+            assertEquals(1.0f, lengths[i], 1E-6f);
+        }
+    }
+
+    @Test
+    void testMulPositionDirectionProject() {
+        Matrix4f m = new Matrix4f().translate(1, 2, 3).rotateXYZ(0.1f, 0.2f, 0.3f).scale(2);
+        Matrix4f p = new Matrix4f().perspective(1.0f, 1.5f, 0.1f, 100.0f).mul(m);
+        Vector3fArray a = create(A);
+        Vector3fArray pos = a.mulPosition(m, new Vector3fArray(A.length));
+        Vector3fArray dir = a.mulDirection(m, new Vector3fArray(A.length));
+        Vector3fArray proj = a.mulProject(p, new Vector3fArray(A.length));
+        a.mulPosition(m);
+        Vector3f v = new Vector3f();
+        for (int i = 0; i < A.length; i++) {
+            assertVector3fEquals(new Vector3f(A[i]).mulPosition(m), pos.get(i, v), 0);
+            assertVector3fEquals(new Vector3f(A[i]).mulPosition(m), a.get(i, v), 0);
+            assertVector3fEquals(new Vector3f(A[i]).mulDirection(m), dir.get(i, v), 0);
+            assertVector3fEquals(new Vector3f(A[i]).mulProject(p), proj.get(i, v), 1E-5f);
+        }
+    }
+}
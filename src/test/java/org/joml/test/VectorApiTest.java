@@ -0,0 +1,210 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2024 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.joml.FrustumIntersection;
+import org.joml.Intersectionf;
+import org.joml.Matrix4d;
+import org.joml.Matrix4f;
+import org.joml.RayPacketAabIntersection;
+import org.joml.SimplexNoise;
+import org.junit.jupiter.api.Test;
+
+import static org.joml.test.TestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the methods that dispatch to Vector API kernels against scalar reference results.
+ * <p>
+ * The kernels are only used when the tests run with <code>-Djoml.useVectorApi=true</code>, which the
+ * <code>testVectorApi</code> task of the experimental build profile does. Without it, this class checks the
+ * scalar code paths against the same references.
+ */
+class VectorApiTest {
+    private static Matrix4f randomMatrix(Random rnd) {
+        Matrix4f m = new Matrix4f();
+        for (int c = 0; c < 4; c++)
+            for (int r = 0; r < 4; r++)
+                m.setRowColumn(r, c, rnd.nextFloat() * 2.0f - 1.0f + (r == c ? 4.0f : 0.0f));
+        return m;
+    }
+
+    private static Matrix4f toFloat(Matrix4d m) {
+        return new Matrix4f(m);
+    }
+
+    @Test
+    void testMatrix4fMul() {
+        Random rnd = new Random(1L);
+        for (int i = 0; i < 100; i++) {
+            Matrix4f a = randomMatrix(rnd), b = randomMatrix(rnd);
+            Matrix4f expected = toFloat(new Matrix4d(a).mul(new Matrix4d(b)));
+            assertMatrix4fEquals(expected, a.mul(b, new Matrix4f()), 1E-4f);
+            assertMatrix4fEquals(expected, new Matrix4f(a).mul(b), 1E-4f);
+            Matrix4f r = new Matrix4f(b);
+            assertMatrix4fEquals(expected, a.mul(r, r), 1E-4f);
+        }
+    }
+
+    @Test
+    void testMatrix4fMulSelf() {
+        Random rnd = new Random(2L);
+        Matrix4f a = randomMatrix(rnd);
+        Matrix4f expected = toFloat(new Matrix4d(a).mul(new Matrix4d(a)));
+        assertMatrix4fEquals(expected, a.mul(a), 1E-4f);
+    }
+
+    @Test
+    void testMatrix4fInvert() {
+        Random rnd = new Random(3L);
+        for (int i = 0; i < 100; i++) {
+            Matrix4f a = randomMatrix(rnd);
+            Matrix4f expected = toFloat(new Matrix4d(a).invert());
+            assertMatrix4fEquals(expected, a.invert(new Matrix4f()), 1E-5f);
+            assertMatrix4fEquals(expected, a.invert(), 1E-5f);
+        }
+    }
+
+    @Test
+    void testMatrix4fTranspose() {
+        Random rnd = new Random(4L);
+        for (int i = 0; i < 100; i++) {
+            Matrix4f a = randomMatrix(rnd);
+            Matrix4f t = a.transpose(new Matrix4f());
+            for (int c = 0; c < 4; c++)
+                for (int r = 0; r < 4; r++)
+                    assertEquals(a.getRowColumn(r, c), t.getRowColumn(c, r), 0.0f);
+            assertMatrix4fEquals(t, new Matrix4f(a).transpose(), 0.0f);
+        }
+    }
+
+    @Test
+    void testMatrix4fGetByteBuffer() {
+        Random rnd = new Random(5L);
+        Matrix4f a = randomMatrix(rnd);
+        float[] expected = new float[16];
+        a.get(expected);
+        ByteOrder[] orders = { ByteOrder.nativeOrder(), ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN };
+        for (int o = 0; o < orders.length; o++) {
+            ByteBuffer bb = ByteBuffer.allocateDirect(4 + 16 * 4 + 4).order(orders[o]);
+            bb.position(4);
+            a.get(bb);
+            assertEquals(4, bb.position());
+            assertEquals(0.0f, bb.getFloat(0), 0.0f);
+            for (int i = 0; i < 16; i++)
+                assertEquals(expected[i], bb.getFloat(4 + 4 * i), 0.0f);
+            assertEquals(0.0f, bb.getFloat(4 + 16 * 4), 0.0f);
+            ByteBuffer at = ByteBuffer.allocateDirect(16 * 4 + 8).order(orders[o]);
+            a.get(8, at);
+            for (int i = 0; i < 16; i++)
+                assertEquals(expected[i], at.getFloat(8 + 4 * i), 0.0f);
+        }
+    }
+
+    @Test
+    void testFrustumIntersectionTestAabs() {
+        Random rnd = new Random(6L);
+        FrustumIntersection fi = new FrustumIntersection(new Matrix4f()
+                .perspective((float) java.lang.Math.toRadians(60), 1.5f, 0.1f, 100.0f)
+                .lookAt(1, 2, 10, 0, 0, 0, 0, 1, 0));
+        int count = 300;
+        float[] minX = new float[count], minY = new float[count], minZ = new float[count];
+        float[] maxX = new float[count], maxY = new float[count], maxZ = new float[count];
+        for (int i = 0; i < count; i++) {
+            minX[i] = rnd.nextFloat() * 40 - 20;
+            minY[i] = rnd.nextFloat() * 40 - 20;
+            minZ[i] = rnd.nextFloat() * 40 - 20;
+            maxX[i] = minX[i] + rnd.nextFloat() * 2;
+            maxY[i] = minY[i] + rnd.nextFloat() * 2;
+            maxZ[i] = minZ[i] + rnd.nextFloat() * 2;
+        }
+        long[] bits = fi.testAabs(minX, minY, minZ, maxX, maxY, maxZ, count, new long[(count + 63) / 64]);
+        for (int i = 0; i < count; i++)
+            assertEquals(fi.testAab(minX[i], minY[i], minZ[i], maxX[i], maxY[i], maxZ[i]), (bits[i >>> 6] & 1L << i) != 0L);
+    }
+
+    @Test
+    void testFrustumIntersectionTestSpheres() {
+        Random rnd = new Random(7L);
+        FrustumIntersection fi = new FrustumIntersection(new Matrix4f()
+                .perspective((float) java.lang.Math.toRadians(60), 1.5f, 0.1f, 100.0f)
+                .lookAt(1, 2, 10, 0, 0, 0, 0, 1, 0));
+        int count = 300;
+        float[] x = new float[count], y = new float[count], z = new float[count], r = new float[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = rnd.nextFloat() * 40 - 20;
+            y[i] = rnd.nextFloat() * 40 - 20;
+            z[i] = rnd.nextFloat() * 40 - 20;
+            r[i] = rnd.nextFloat() * 2;
+        }
+        long[] bits = fi.testSpheres(x, y, z, r, count, new long[(count + 63) / 64]);
+        for (int i = 0; i < count; i++)
+            assertEquals(fi.testSphere(x[i], y[i], z[i], r[i]), (bits[i >>> 6] & 1L << i) != 0L);
+    }
+
+    @Test
+    void testRayPacketAabIntersection() {
+        Random rnd = new Random(8L);
+        for (int width = 4; width <= 8; width += 4) {
+            RayPacketAabIntersection p = new RayPacketAabIntersection(width);
+            float[][] rays = new float[width][6];
+            for (int lane = 0; lane < width; lane++) {
+                float[] ray = rays[lane];
+                for (int k = 0; k < 6; k++)
+                    ray[k] = rnd.nextFloat() * 2 - 1;
+                p.set(lane, ray[0], ray[1], ray[2], ray[3], ray[4], ray[5]);
+            }
+            for (int i = 0; i < 200; i++) {
+                float minX = rnd.nextFloat() * 4 - 2, minY = rnd.nextFloat() * 4 - 2, minZ = rnd.nextFloat() * 4 - 2;
+                float maxX = minX + rnd.nextFloat(), maxY = minY + rnd.nextFloat(), maxZ = minZ + rnd.nextFloat();
+                int mask = p.test(minX, minY, minZ, maxX, maxY, maxZ);
+                for (int lane = 0; lane < width; lane++) {
+                    float[] ray = rays[lane];
+                    boolean expected = Intersectionf.testRayAab(ray[0], ray[1], ray[2], ray[3], ray[4], ray[5],
+                            minX, minY, minZ, maxX, maxY, maxZ);
+                    assertEquals(expected, (mask & 1 << lane) != 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSimplexNoiseGrid() {
+        int nx = 37, ny = 5, nz = 3;
+        float[] grid2 = SimplexNoise.noiseGrid(-3.2f, 1.7f, 0.173f, 0.29f, nx, ny, new float[nx * ny]);
+        for (int j = 0; j < ny; j++)
+            for (int i = 0; i < nx; i++)
+                assertEquals(SimplexNoise.noise(-3.2f + i * 0.173f, 1.7f + j * 0.29f), grid2[j * nx + i], 1E-6f);
+        float[] grid3 = SimplexNoise.noiseGrid(-3.2f, 1.7f, 0.4f, 0.173f, 0.29f, 0.31f, nx, ny, nz, new float[nx * ny * nz]);
+        for (int k = 0; k < nz; k++)
+            for (int j = 0; j < ny; j++)
+                for (int i = 0; i < nx; i++)
+                    assertEquals(SimplexNoise.noise(-3.2f + i * 0.173f, 1.7f + j * 0.29f, 0.4f + k * 0.31f),
+                            grid3[(k * ny + j) * nx + i], 1E-6f);
+    }
+}